@@ -0,0 +1,139 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.codec.Codec;
+import ca.genovese.coffeecats.codec.Codecs;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to write and read a List of a million Integers with the Codecs, against
+ * ObjectOutputStream and ObjectInputStream.
+ *
+ * <p>List is not Serializable, so ObjectOutputStream is given an ArrayList copy of it, and
+ * the copy is counted in the time to write. Run with {@code -prof gc} to compare allocation
+ * per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CodecBenchmark {
+  /**
+   * The number of items.
+   */
+  private static final int SIZE = 1000000;
+
+  /**
+   * The Codec for the List.
+   */
+  private static final Codec<List<Integer>> CODEC = Codecs.list(Codecs.intCodec);
+
+  /**
+   * The items.
+   */
+  private List<Integer> list;
+
+  /**
+   * The items written with the Codec.
+   */
+  private byte[] encoded;
+
+  /**
+   * The items written with ObjectOutputStream.
+   */
+  private byte[] serialized;
+
+  /**
+   * Build the items, and write them both ways.
+   *
+   * @throws IOException never, as the streams are in memory
+   */
+  @Setup
+  public void setup() throws IOException {
+    final ListBuilder<Integer> builder = new ListBuilder<>(SIZE);
+
+    for (int i = 0; i < SIZE; i++) {
+      builder.add(i * 7919 % SIZE - SIZE / 2);
+    }
+
+    list = builder.build();
+    encoded = writeCodec().toByteArray();
+    serialized = writeSerialization().toByteArray();
+  }
+
+  /**
+   * Write the List with the Codec.
+   *
+   * @return the bytes written
+   * @throws IOException never, as the stream is in memory
+   */
+  @Benchmark
+  public ByteArrayOutputStream writeCodec() throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Codecs.encode(CODEC, list, Channels.newChannel(bytes));
+    return bytes;
+  }
+
+  /**
+   * Write an ArrayList copy of the List with ObjectOutputStream.
+   *
+   * @return the bytes written
+   * @throws IOException never, as the stream is in memory
+   */
+  @Benchmark
+  public ByteArrayOutputStream writeSerialization() throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+    try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+      out.writeObject(new ArrayList<>(list.asJava()));
+    }
+
+    return bytes;
+  }
+
+  /**
+   * Read the List with the Codec.
+   *
+   * @return the List
+   * @throws IOException never, as the stream is in memory
+   */
+  @Benchmark
+  public List<Integer> readCodec() throws IOException {
+    return Codecs.decode(CODEC, Channels.newChannel(new ByteArrayInputStream(encoded)));
+  }
+
+  /**
+   * Read the ArrayList with ObjectInputStream.
+   *
+   * @return the ArrayList
+   * @throws IOException            never, as the stream is in memory
+   * @throws ClassNotFoundException never, as ArrayList and Integer are always loaded
+   */
+  @Benchmark
+  public Object readSerialization() throws IOException, ClassNotFoundException {
+    try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(serialized))) {
+      return in.readObject();
+    }
+  }
+}
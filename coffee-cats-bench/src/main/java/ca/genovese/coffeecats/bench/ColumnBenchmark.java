@@ -0,0 +1,159 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.column.Column;
+import ca.genovese.coffeecats.data.column.ColumnPair;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.std.ColumnPairInstance;
+import ca.genovese.coffeecats.std.ListInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and memory per record to build, sum and map a sequence of (int, double) records,
+ * as a List of Tuple2s against a ColumnPair of an int column and a double column.
+ *
+ * <p>Each operation is one record, so run with {@code -prof gc} and gc.alloc.rate.norm is
+ * the memory allocated per record.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ColumnBenchmark {
+  /**
+   * The number of records.
+   */
+  private static final int SIZE = 1000;
+
+  /**
+   * The first id, outside the Integer cache.
+   */
+  private static final int OFFSET = 1000;
+
+  /**
+   * The records as a List of Tuple2s.
+   */
+  private List<Tuple2<Integer, Double>> tuples;
+
+  /**
+   * The records as a ColumnPair.
+   */
+  private ColumnPair<Integer, Double> columns;
+
+  /**
+   * Build the records both ways.
+   */
+  @Setup
+  public void setup() {
+    tuples = tupleList();
+    columns = columnPair();
+  }
+
+  /**
+   * Build the records as a List of Tuple2s.
+   *
+   * @return the List
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public List<Tuple2<Integer, Double>> tupleList() {
+    List<Tuple2<Integer, Double>> list = List.of();
+
+    for (int i = OFFSET + SIZE - 1; i >= OFFSET; i--) {
+      list = List.cons(new Tuple2<>(i, i * 0.5), list);
+    }
+
+    return list;
+  }
+
+  /**
+   * Build the records as a ColumnPair.
+   *
+   * @return the ColumnPair
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public ColumnPair<Integer, Double> columnPair() {
+    final int[] ids = new int[SIZE];
+    final double[] values = new double[SIZE];
+
+    for (int i = 0; i < SIZE; i++) {
+      ids[i] = OFFSET + i;
+      values[i] = ids[i] * 0.5;
+    }
+
+    return ColumnPair.zip(Column.ofInts(ids), Column.ofDoubles(values));
+  }
+
+  /**
+   * Sum the second values of the List of Tuple2s.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public double sumTupleList() {
+    double sum = 0;
+
+    for (final Tuple2<Integer, Double> t : tuples) {
+      sum += t.getB();
+    }
+
+    return sum;
+  }
+
+  /**
+   * Sum the second values of the ColumnPair, unboxed.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public double sumColumnPair() {
+    final Column<Double> values = columns.second();
+    double sum = 0;
+
+    for (int i = 0; i < values.size(); i++) {
+      sum += values.getDouble(i);
+    }
+
+    return sum;
+  }
+
+  /**
+   * Halve the second values of the List of Tuple2s, through ListInstance.
+   *
+   * @return the mapped List
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public Kind<List, Tuple2<Integer, Double>> mapTupleList() {
+    return ListInstance.listInstance.map(tuples, t -> new Tuple2<>(t.getA(), t.getB() / 2));
+  }
+
+  /**
+   * Halve the second values of the ColumnPair, through ColumnPairInstance.
+   *
+   * @return the mapped ColumnPair
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public Kind<ColumnPair, Double> mapColumnPair() {
+    return ColumnPairInstance.columnPairInstance.map(columns, (Double d) -> d / 2);
+  }
+}
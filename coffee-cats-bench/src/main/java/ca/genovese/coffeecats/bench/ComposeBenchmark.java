@@ -0,0 +1,161 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.std.ListInstance;
+import ca.genovese.coffeecats.std.OptionInstance;
+import ca.genovese.coffeecats.structures.CovariantFunctor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Three level functor compositions, mapped by the FusedComposite produced by
+ * composing the known instances and by the nested CovariantFunctor.Composite.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ComposeBenchmark {
+  /**
+   * The number of items in the outer List.
+   */
+  @Param({"1000", "100000"})
+  private int size;
+
+  /**
+   * A {@code List<Option<Option<Integer>>>} where a third of each Option layer is None.
+   */
+  private Kind<Kind<Kind<List, Option>, Option>, Integer> options;
+
+  /**
+   * A {@code List<Option<List<Integer>>>} where a third of the Options are None.
+   */
+  private Kind<Kind<Kind<List, Option>, List>, Integer> lists;
+
+  /**
+   * The fused CovariantFunctor for {@code List<Option<Option<?>>>}.
+   */
+  private CovariantFunctor<Kind<Kind<List, Option>, Option>> fusedOptions;
+
+  /**
+   * The nested CovariantFunctor for {@code List<Option<Option<?>>>}.
+   */
+  private CovariantFunctor<Kind<Kind<List, Option>, Option>> nestedOptions;
+
+  /**
+   * The fused CovariantFunctor for {@code List<Option<List<?>>>}.
+   */
+  private CovariantFunctor<Kind<Kind<List, Option>, List>> fusedLists;
+
+  /**
+   * The nested CovariantFunctor for {@code List<Option<List<?>>>}.
+   */
+  private CovariantFunctor<Kind<Kind<List, Option>, List>> nestedLists;
+
+  /**
+   * The function mapped over the innermost values.
+   */
+  private final Function<Integer, Integer> inc = i -> i + 1;
+
+  /**
+   * Hide an instance behind a plain CovariantFunctor, so that composing it uses CovariantFunctor.Composite.
+   *
+   * @param f   the instance to hide
+   * @param <F> the data type
+   * @return a CovariantFunctor which maps with f
+   */
+  private static <F> CovariantFunctor<F> nested(final CovariantFunctor<F> f) {
+    return new CovariantFunctor<F>() {
+      @Override
+      public <A, B> Kind<F, B> map(final Kind<F, A> fa, final Function<A, B> g) {
+        return f.map(fa, g);
+      }
+    };
+  }
+
+  /**
+   * Build the values and the functors.
+   */
+  @Setup(Level.Trial)
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    List<Option<Option<Integer>>> os = List.of();
+    List<Option<List<Integer>>> ls = List.of();
+
+    for (int i = size; i > 0; i--) {
+      os = List.cons(i % 3 == 0 ? Option.none() : Option.some(i % 3 == 1 ? Option.none() : Option.some(i)), os);
+      ls = List.cons(i % 3 == 0 ? Option.none() : Option.some(List.of(i, i + 1, i + 2)), ls);
+    }
+
+    options = (Kind) os;
+    lists = (Kind) ls;
+
+    fusedOptions = ListInstance.listInstance.compose(OptionInstance.optionInstance)
+        .compose(OptionInstance.optionInstance);
+    nestedOptions = nested(ListInstance.listInstance).compose(nested(OptionInstance.optionInstance))
+        .compose(nested(OptionInstance.optionInstance));
+    fusedLists = ListInstance.listInstance.compose(OptionInstance.optionInstance)
+        .compose(ListInstance.listInstance);
+    nestedLists = nested(ListInstance.listInstance).compose(nested(OptionInstance.optionInstance))
+        .compose(nested(ListInstance.listInstance));
+  }
+
+  /**
+   * Map {@code List<Option<Option<Integer>>>} with the fused traversal.
+   *
+   * @return the mapped value
+   */
+  @Benchmark
+  public Object fusedListOptionOption() {
+    return fusedOptions.map(options, inc);
+  }
+
+  /**
+   * Map {@code List<Option<Option<Integer>>>} layer by layer.
+   *
+   * @return the mapped value
+   */
+  @Benchmark
+  public Object nestedListOptionOption() {
+    return nestedOptions.map(options, inc);
+  }
+
+  /**
+   * Map {@code List<Option<List<Integer>>>} with the fused traversal.
+   *
+   * @return the mapped value
+   */
+  @Benchmark
+  public Object fusedListOptionList() {
+    return fusedLists.map(lists, inc);
+  }
+
+  /**
+   * Map {@code List<Option<List<Integer>>>} layer by layer.
+   *
+   * @return the mapped value
+   */
+  @Benchmark
+  public Object nestedListOptionList() {
+    return nestedLists.map(lists, inc);
+  }
+}
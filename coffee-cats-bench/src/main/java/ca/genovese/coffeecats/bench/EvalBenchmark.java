@@ -0,0 +1,98 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.either.Either;
+import ca.genovese.coffeecats.data.eval.Eval;
+import ca.genovese.coffeecats.std.EvalInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to build and evaluate chains of Eval maps and flatMaps of increasing depth,
+ * directly and through EvalInstance.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EvalBenchmark {
+  /**
+   * The number of steps in each chain.
+   */
+  @Param({"1000", "100000"})
+  private int depth;
+
+  /**
+   * Evaluate a chain of maps.
+   *
+   * @return the value of the chain
+   */
+  @Benchmark
+  public Integer mapChain() {
+    Eval<Integer> eval = Eval.now(0);
+
+    for (int i = 0; i < depth; i++) {
+      eval = eval.map(x -> x + 1);
+    }
+
+    return eval.value();
+  }
+
+  /**
+   * Evaluate a chain of flatMaps.
+   *
+   * @return the value of the chain
+   */
+  @Benchmark
+  public Integer flatMapChain() {
+    Eval<Integer> eval = Eval.now(0);
+
+    for (int i = 0; i < depth; i++) {
+      eval = eval.flatMap(x -> Eval.now(x + 1));
+    }
+
+    return eval.value();
+  }
+
+  /**
+   * Evaluate a memoized chain of maps twice.
+   *
+   * @return the value of the chain
+   */
+  @Benchmark
+  public Integer memoizedMapChain() {
+    Eval<Integer> eval = Eval.now(0);
+
+    for (int i = 0; i < depth; i++) {
+      eval = eval.map(x -> x + 1);
+    }
+
+    final Eval<Integer> memoized = eval.memoize();
+    return memoized.value() + memoized.value();
+  }
+
+  /**
+   * Evaluate a loop of depth steps with EvalInstance.tailRecM.
+   *
+   * @return the value of the loop
+   */
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public Integer tailRecM() {
+    return ((Eval<Integer>) EvalInstance.evalInstance.<Integer, Integer>tailRecM(0, i ->
+        Eval.now(i < depth ? Either.left(i + 1) : Either.right(i)))).value();
+  }
+}
@@ -0,0 +1,110 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.gen.FunctionalRandom;
+import ca.genovese.coffeecats.gen.Gen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to generate values of a million elements, with the bulk generators
+ * and with a chain of flatMaps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GenBenchmark {
+  /**
+   * The number of elements in each generated value.
+   */
+  @Param({"1000000"})
+  private int size;
+
+  /**
+   * The generator threaded through each benchmark.
+   */
+  private final FunctionalRandom rnd = FunctionalRandom.seeded(42L);
+
+  /**
+   * A Gen summing size ints through a chain of size flatMaps.
+   */
+  private Gen<Long> chain;
+
+  /**
+   * Build the chain of flatMaps.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    Gen<Long> g = Gen.unit(0L);
+
+    for (int i = 0; i < size; i++) {
+      g = g.flatMap(sum -> Gen.intGen.map(x -> sum + x));
+    }
+
+    chain = g;
+  }
+
+  /**
+   * Generate a List of Integers.
+   *
+   * @return the generated value
+   */
+  @Benchmark
+  public Object listOfN() {
+    return Gen.intGen.listOfN(size).run(rnd);
+  }
+
+  /**
+   * Generate an array of Integers.
+   *
+   * @return the generated value
+   */
+  @Benchmark
+  public Object arrayOfN() {
+    return Gen.intGen.arrayOfN(size, Integer[]::new).run(rnd);
+  }
+
+  /**
+   * Generate an int[].
+   *
+   * @return the generated value
+   */
+  @Benchmark
+  public Object intArrayOfN() {
+    return Gen.intArrayOfN(size).run(rnd);
+  }
+
+  /**
+   * Generate a long[].
+   *
+   * @return the generated value
+   */
+  @Benchmark
+  public Object longArrayOfN() {
+    return Gen.longArrayOfN(size).run(rnd);
+  }
+
+  /**
+   * Run a chain of flatMaps, one per element.
+   *
+   * @return the generated value
+   */
+  @Benchmark
+  public Object flatMapChain() {
+    return chain.run(rnd);
+  }
+}
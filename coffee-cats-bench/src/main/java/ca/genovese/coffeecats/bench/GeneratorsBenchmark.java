@@ -0,0 +1,99 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.gen.FunctionalRandom;
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Generators;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to generate large datasets with the Generators library, for use as benchmark inputs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GeneratorsBenchmark {
+  /**
+   * The number of elements in each generated value.
+   */
+  @Param({"1000000", "10000000"})
+  private int size;
+
+  /**
+   * The generator threaded through each benchmark.
+   */
+  private final FunctionalRandom rnd = FunctionalRandom.seeded(42L);
+
+  /**
+   * Generate a List of Integers in bulk.
+   *
+   * @return the generated value
+   */
+  @Benchmark
+  public Object intListOfN() {
+    return Generators.intListOfN(size).run(rnd);
+  }
+
+  /**
+   * Generate a double[].
+   *
+   * @return the generated value
+   */
+  @Benchmark
+  public Object doubleArrayOfN() {
+    return Generators.doubleArrayOfN(size).run(rnd);
+  }
+
+  /**
+   * Generate a byte[].
+   *
+   * @return the generated value
+   */
+  @Benchmark
+  public Object byteArrayOfN() {
+    return Generators.byteArrayOfN(size).run(rnd);
+  }
+
+  /**
+   * Generate a String of printable ASCII characters.
+   *
+   * @return the generated value
+   */
+  @Benchmark
+  public Object asciiStringOfN() {
+    return Generators.asciiStringOfN(size).run(rnd);
+  }
+
+  /**
+   * Generate a List of Options, one element at a time.
+   *
+   * @return the generated value
+   */
+  @Benchmark
+  public Object listOfOptions() {
+    return Generators.optionOf(Gen.intGen).listOfN(size).run(rnd);
+  }
+
+  /**
+   * Generate an Eval at the end of a chain of flatMaps.
+   *
+   * @return the generated value
+   */
+  @Benchmark
+  public Object evalChain() {
+    return Generators.evalOf(Gen.intGen, size).run(rnd);
+  }
+}
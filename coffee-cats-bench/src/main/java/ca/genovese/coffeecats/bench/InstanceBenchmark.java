@@ -0,0 +1,162 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListView;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.gen.FunctionalRandom;
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Generators;
+import ca.genovese.coffeecats.std.DoubleInstance;
+import ca.genovese.coffeecats.std.IntegerInstance;
+import ca.genovese.coffeecats.std.ListViewInstance;
+import ca.genovese.coffeecats.std.LongInstance;
+import ca.genovese.coffeecats.std.OptionInstance;
+import ca.genovese.coffeecats.std.Tuple2Instance;
+import ca.genovese.coffeecats.structures.Monoid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for combineAll with each of the Monoid instances, and for mapping a ListView,
+ * so that every instance in coffee-cats-instances has a benchmark.
+ *
+ * <p>ListInstance, EvalInstance and OptionInstance are covered in more detail by
+ * ListBenchmark, EvalBenchmark and OptionBenchmark, and ParallelListInstance by ParallelMapBenchmark.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstanceBenchmark {
+  /**
+   * The number of values to combine.
+   */
+  @Param({"1000", "100000"})
+  private int size;
+
+  /**
+   * The Monoid for pairs of Integers and Longs.
+   */
+  private final Monoid<Tuple2<Integer, Long>> tuple2Monoid =
+      Tuple2Instance.tuple2Instance.monoid(IntegerInstance.integerInstance, LongInstance.longInstance);
+
+  /**
+   * The Monoid for optional Integers.
+   */
+  private final Monoid<Option<Integer>> optionMonoid = OptionInstance.optionInstance.monoid(IntegerInstance.integerInstance);
+
+  /**
+   * Random Integers.
+   */
+  private List<Integer> ints;
+
+  /**
+   * Random Longs.
+   */
+  private List<Long> longs;
+
+  /**
+   * Random Doubles.
+   */
+  private List<Double> doubles;
+
+  /**
+   * Random pairs of an Integer and a Long.
+   */
+  private List<Tuple2<Integer, Long>> tuples;
+
+  /**
+   * Random optional Integers.
+   */
+  private List<Option<Integer>> options;
+
+  /**
+   * Build the inputs.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    final FunctionalRandom rnd = FunctionalRandom.seeded(42L);
+
+    ints = Generators.intListOfN(size).run(rnd).getB();
+    longs = Gen.longGen.listOfN(size).run(rnd).getB();
+    doubles = Generators.doubleGen.listOfN(size).run(rnd).getB();
+    tuples = Generators.tuple2(Gen.intGen, Gen.longGen).listOfN(size).run(rnd).getB();
+    options = Generators.optionOf(Gen.intGen).listOfN(size).run(rnd).getB();
+  }
+
+  /**
+   * Sum the Integers.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public Integer integerCombineAll() {
+    return IntegerInstance.integerInstance.combineAll(ints);
+  }
+
+  /**
+   * Sum the Longs.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public Long longCombineAll() {
+    return LongInstance.longInstance.combineAll(longs);
+  }
+
+  /**
+   * Sum the Doubles.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public Double doubleCombineAll() {
+    return DoubleInstance.doubleInstance.combineAll(doubles);
+  }
+
+  /**
+   * Sum the pairs.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public Tuple2<Integer, Long> tuple2CombineAll() {
+    return tuple2Monoid.combineAll(tuples);
+  }
+
+  /**
+   * Sum the optional Integers.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public Option<Integer> optionCombineAll() {
+    return optionMonoid.combineAll(options);
+  }
+
+  /**
+   * Map a view of the Integers with ListViewInstance and force it.
+   *
+   * @return the mapped List
+   */
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public List<Integer> listViewMap() {
+    return ((ListView<Integer>) ListViewInstance.listViewInstance.map(ints.view(), x -> x + 1)).force();
+  }
+}
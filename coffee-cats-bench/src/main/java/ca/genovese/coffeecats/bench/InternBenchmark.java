@@ -0,0 +1,153 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.intern.Interner;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to intern config fragments, to compare them before and after interning, and to
+ * intern them from several threads into a shared Interner.
+ *
+ * <p>There are FRAGMENTS fragments, each a List of 8 Tuple2s of a String and an Option,
+ * built anew from one of TEMPLATES templates, so most are equal to others but share nothing
+ * with them.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InternBenchmark {
+  /**
+   * The number of fragments.
+   */
+  private static final int FRAGMENTS = 10000;
+
+  /**
+   * The number of distinct fragments.
+   */
+  private static final int TEMPLATES = 100;
+
+  /**
+   * The fragments, as built.
+   */
+  private List<Tuple2<String, Option<Integer>>>[] fragments;
+
+  /**
+   * The fragments, interned.
+   */
+  private List<Tuple2<String, Option<Integer>>>[] interned;
+
+  /**
+   * An Interner holding every distinct fragment, shared between threads.
+   */
+  private Interner shared;
+
+  /**
+   * Build and intern the fragments.
+   */
+  @Setup
+  @SuppressWarnings("unchecked")
+  public void setup() {
+    fragments = new List[FRAGMENTS];
+    interned = new List[FRAGMENTS];
+    shared = new Interner();
+
+    for (int i = 0; i < FRAGMENTS; i++) {
+      fragments[i] = fragment(i % TEMPLATES);
+      interned[i] = shared.intern(fragments[i]);
+    }
+  }
+
+  /**
+   * Build a fragment anew from a template.
+   *
+   * @param template the number of the template
+   * @return the fragment
+   */
+  static List<Tuple2<String, Option<Integer>>> fragment(final int template) {
+    final ListBuilder<Tuple2<String, Option<Integer>>> builder = new ListBuilder<>();
+
+    for (int i = 0; i < 8; i++) {
+      final Option<Integer> value = (template + i) % 3 == 0 ? Option.none() : Option.some(template % (i + 2));
+      builder.add(new Tuple2<>(new StringBuilder("key-").append(i).toString(), value));
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Intern every fragment into a new Interner.
+   *
+   * @return the Interner
+   */
+  @Benchmark
+  @OutputTimeUnit(TimeUnit.MICROSECONDS)
+  public Interner internAll() {
+    final Interner interner = new Interner();
+
+    for (final List<Tuple2<String, Option<Integer>>> fragment : fragments) {
+      interner.intern(fragment);
+    }
+
+    return interner;
+  }
+
+  /**
+   * Compare two equal fragments which share nothing, with equals.
+   *
+   * @return true
+   */
+  @Benchmark
+  public boolean equalsBuilt() {
+    return fragments[0].equals(fragments[TEMPLATES]);
+  }
+
+  /**
+   * Compare two equal interned fragments, with equals, which stops at the shared reference.
+   *
+   * @return true
+   */
+  @Benchmark
+  public boolean equalsInterned() {
+    return interned[0].equals(interned[TEMPLATES]);
+  }
+
+  /**
+   * Intern a random fragment, from four threads, into an Interner which already holds it.
+   *
+   * @return the interned fragment
+   */
+  @Benchmark
+  @Threads(4)
+  public List<Tuple2<String, Option<Integer>>> concurrentIntern() {
+    return shared.intern(fragments[ThreadLocalRandom.current().nextInt(FRAGMENTS)]);
+  }
+
+  /**
+   * Intern a random fragment, from one thread, into an Interner which already holds it.
+   *
+   * @return the interned fragment
+   */
+  @Benchmark
+  public List<Tuple2<String, Option<Integer>>> singleIntern() {
+    return shared.intern(fragments[ThreadLocalRandom.current().nextInt(FRAGMENTS)]);
+  }
+}
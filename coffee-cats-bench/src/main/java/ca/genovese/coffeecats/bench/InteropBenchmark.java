@@ -0,0 +1,153 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Time to pass Lists of 1000 items to and from java.util, by copying them against using
+ * the zero-copy adapters.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InteropBenchmark {
+  /**
+   * The number of items.
+   */
+  private static final int SIZE = 1000;
+
+  /**
+   * The number of items read by the benchmarks which only read the start of a List.
+   */
+  private static final int PREFIX = 10;
+
+  /**
+   * The items as a List.
+   */
+  private List<Integer> list;
+
+  /**
+   * The items as a java.util.ArrayList.
+   */
+  private ArrayList<Integer> arrayList;
+
+  /**
+   * Build the items both ways.
+   */
+  @Setup
+  public void setup() {
+    arrayList = new ArrayList<>();
+
+    for (int i = 0; i < SIZE; i++) {
+      arrayList.add(i * 7919 % SIZE);
+    }
+
+    list = new ListBuilder<Integer>(SIZE).addAll(arrayList).build();
+  }
+
+  /**
+   * Pass a List to Collections.max by copying it into an ArrayList.
+   *
+   * @return the largest item
+   */
+  @Benchmark
+  public Integer maxOfCopy() {
+    final ArrayList<Integer> copy = new ArrayList<>();
+
+    for (final Integer i : list) {
+      copy.add(i);
+    }
+
+    return Collections.max(copy);
+  }
+
+  /**
+   * Pass a List to Collections.max through asJava.
+   *
+   * @return the largest item
+   */
+  @Benchmark
+  public Integer maxOfView() {
+    return Collections.max(list.asJava());
+  }
+
+  /**
+   * Sum the first few items of an ArrayList after copying all of it into a List.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public int prefixOfCopy() {
+    return sumPrefix(new ListBuilder<Integer>(SIZE).addAll(arrayList).build());
+  }
+
+  /**
+   * Sum the first few items of an ArrayList through fromJava.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public int prefixOfFromJava() {
+    return sumPrefix(List.fromJava(arrayList));
+  }
+
+  /**
+   * Collect a stream into a List by collecting it into a java.util.List and copying that.
+   *
+   * @return the List
+   */
+  @Benchmark
+  public List<Integer> collectViaJava() {
+    return new ListBuilder<Integer>(SIZE).addAll(IntStream.range(0, SIZE).boxed().collect(Collectors.toList()))
+        .build();
+  }
+
+  /**
+   * Collect a stream into a List with List.collector.
+   *
+   * @return the List
+   */
+  @Benchmark
+  public List<Integer> collectToList() {
+    return IntStream.range(0, SIZE).boxed().collect(List.collector());
+  }
+
+  /**
+   * Sum the first PREFIX items of a List.
+   *
+   * @param is the List
+   * @return the sum
+   */
+  private static int sumPrefix(final List<Integer> is) {
+    List<Integer> rest = is;
+    int sum = 0;
+
+    for (int i = 0; i < PREFIX; i++) {
+      sum += rest.getHead();
+      rest = rest.getTail();
+    }
+
+    return sum;
+  }
+}
@@ -0,0 +1,156 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import ca.genovese.coffeecats.gen.FunctionalRandom;
+import ca.genovese.coffeecats.gen.Generators;
+import ca.genovese.coffeecats.std.ListInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to build, map, flatMap, append, reverse and compare Lists of increasing length.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ListBenchmark {
+  /**
+   * The number of elements in each List.
+   */
+  @Param({"1000", "100000"})
+  private int size;
+
+  /**
+   * A List of size random Integers.
+   */
+  private List<Integer> list;
+
+  /**
+   * A List equal to list, sharing none of its cells.
+   */
+  private List<Integer> copy;
+
+  /**
+   * The elements of list, in an array.
+   */
+  private Integer[] array;
+
+  /**
+   * Build the inputs.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    list = Generators.intListOfN(size).run(FunctionalRandom.seeded(42L)).getB();
+    copy = list.reverse().reverse();
+    array = new Integer[size];
+
+    int i = 0;
+    for (final Integer a : list) {
+      array[i++] = a;
+    }
+  }
+
+  /**
+   * Build a List from an array with List.of.
+   *
+   * @return the List
+   */
+  @Benchmark
+  public List<Integer> buildOf() {
+    return List.of(array);
+  }
+
+  /**
+   * Build a List in order with a ListBuilder.
+   *
+   * @return the List
+   */
+  @Benchmark
+  public List<Integer> buildBuilder() {
+    final ListBuilder<Integer> builder = new ListBuilder<>();
+
+    for (final Integer a : array) {
+      builder.add(a);
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Map over the List with ListInstance.
+   *
+   * @return the mapped List
+   */
+  @Benchmark
+  public Object map() {
+    return ListInstance.listInstance.map(list, x -> x + 1);
+  }
+
+  /**
+   * FlatMap over the List with ListInstance, doubling every element.
+   *
+   * @return the flatMapped List
+   */
+  @Benchmark
+  public Object flatMap() {
+    return ListInstance.listInstance.flatMap(list, x -> List.of(x, x));
+  }
+
+  /**
+   * Append the List to itself.
+   *
+   * @return the appended List
+   */
+  @Benchmark
+  public List<Integer> append() {
+    return list.append(list);
+  }
+
+  /**
+   * Reverse the List.
+   *
+   * @return the reversed List
+   */
+  @Benchmark
+  public List<Integer> reverse() {
+    return list.reverse();
+  }
+
+  /**
+   * Compare the List with an equal List, element by element.
+   *
+   * @return true
+   */
+  @Benchmark
+  public boolean equalsCopy() {
+    return list.equals(copy);
+  }
+
+  /**
+   * Hash the List.
+   *
+   * @return the hash code
+   */
+  @Benchmark
+  public int hashCodeList() {
+    return list.hashCode();
+  }
+}
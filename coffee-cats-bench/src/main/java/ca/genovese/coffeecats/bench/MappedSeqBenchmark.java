@@ -0,0 +1,161 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.codec.Codec;
+import ca.genovese.coffeecats.codec.Codecs;
+import ca.genovese.coffeecats.codec.MappedSeq;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to start using a List of a million Strings stored in a file, by decoding all of it
+ * against opening it as a MappedSeq.
+ *
+ * <p>Each iteration is a single call, as a process starting would make. The files are in the
+ * page cache after the first call, so this measures the work of the JVM rather than of the
+ * disk. Opening a MappedSeq in a tight loop would exhaust the process's memory mappings
+ * before the garbage collector released them.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 20)
+@Measurement(iterations = 50)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappedSeqBenchmark {
+  /**
+   * The number of items.
+   */
+  private static final int SIZE = 1000000;
+
+  /**
+   * The Codec for the List.
+   */
+  private static final Codec<List<String>> CODEC = Codecs.list(Codecs.stringCodec);
+
+  /**
+   * The List written with the Codec.
+   */
+  private Path encoded;
+
+  /**
+   * The List written as a MappedSeq.
+   */
+  private Path mapped;
+
+  /**
+   * Write the items both ways.
+   *
+   * @throws IOException if the temporary files can not be written
+   */
+  @Setup
+  public void setup() throws IOException {
+    final ListBuilder<String> builder = new ListBuilder<>(SIZE);
+
+    for (int i = 0; i < SIZE; i++) {
+      builder.add("item-" + i * 7919 % SIZE);
+    }
+
+    final List<String> list = builder.build();
+    encoded = Files.createTempFile("encoded", ".bin");
+    mapped = Files.createTempFile("mapped", ".seq");
+
+    try (FileChannel channel = FileChannel.open(encoded, StandardOpenOption.WRITE)) {
+      Codecs.encode(CODEC, list, channel);
+    }
+
+    MappedSeq.write(list, Codecs.stringCodec, mapped);
+  }
+
+  /**
+   * Delete the files.
+   *
+   * @throws IOException if the files can not be deleted
+   */
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.delete(encoded);
+    Files.delete(mapped);
+  }
+
+  /**
+   * Decode the whole List, and read its first item.
+   *
+   * @return the first item
+   * @throws IOException if the file can not be read
+   */
+  @Benchmark
+  public String firstOfDecoded() throws IOException {
+    try (FileChannel channel = FileChannel.open(encoded, StandardOpenOption.READ)) {
+      return Codecs.decode(CODEC, channel).getHead();
+    }
+  }
+
+  /**
+   * Open the MappedSeq, and read its first item.
+   *
+   * @return the first item
+   * @throws IOException if the file can not be mapped
+   */
+  @Benchmark
+  public String firstOfMapped() throws IOException {
+    return MappedSeq.open(mapped, Codecs.stringCodec).getHead();
+  }
+
+  /**
+   * Decode the whole List, and read every item.
+   *
+   * @return the total length of the items
+   * @throws IOException if the file can not be read
+   */
+  @Benchmark
+  public long allOfDecoded() throws IOException {
+    try (FileChannel channel = FileChannel.open(encoded, StandardOpenOption.READ)) {
+      return totalLength(Codecs.decode(CODEC, channel));
+    }
+  }
+
+  /**
+   * Open the MappedSeq, and read every item.
+   *
+   * @return the total length of the items
+   * @throws IOException if the file can not be mapped
+   */
+  @Benchmark
+  public long allOfMapped() throws IOException {
+    return totalLength(MappedSeq.open(mapped, Codecs.stringCodec));
+  }
+
+  /**
+   * Add up the lengths of some Strings.
+   *
+   * @param ss the Strings
+   * @return the total length
+   */
+  private static long totalLength(final Iterable<String> ss) {
+    long total = 0;
+
+    for (final String s : ss) {
+      total += s.length();
+    }
+
+    return total;
+  }
+}
@@ -0,0 +1,129 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.std.IntegerInstance;
+import ca.genovese.coffeecats.std.ListInstance;
+import ca.genovese.coffeecats.structures.Monoid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of Monoid.combineAll against Monoid.combineAllParallel
+ * for increasing input sizes and ForkJoinPool parallelism.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MonoidBenchmark {
+  /**
+   * The number of values to combine.
+   */
+  @Param({"1000", "100000", "1000000"})
+  private int size;
+
+  /**
+   * The parallelism of the ForkJoinPool used by combineAllParallel.
+   */
+  @Param({"1", "2", "4", "8", "16"})
+  private int threads;
+
+  /**
+   * The Integers to sum.
+   */
+  private List<Integer> ints;
+
+  /**
+   * Small Lists to concatenate.
+   */
+  private List<List<Integer>> lists;
+
+  /**
+   * The pool used by combineAllParallel.
+   */
+  private ForkJoinPool pool;
+
+  /**
+   * Build the inputs and the pool.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    List<Integer> is = List.of();
+    List<List<Integer>> ls = List.of();
+
+    for (int i = size; i > 0; i--) {
+      is = List.cons(i, is);
+      ls = List.cons(List.of(i), ls);
+    }
+
+    ints = is;
+    lists = ls;
+    pool = new ForkJoinPool(threads);
+  }
+
+  /**
+   * Shut down the pool.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  /**
+   * Sum the Integers on the calling thread.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public Integer sumSequential() {
+    return IntegerInstance.integerInstance.combineAll(ints);
+  }
+
+  /**
+   * Sum the Integers on the pool.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public Integer sumParallel() {
+    return IntegerInstance.integerInstance.combineAllParallel(ints, pool);
+  }
+
+  /**
+   * Concatenate the Lists on the calling thread.
+   *
+   * @return the concatenation
+   */
+  @Benchmark
+  public List<Integer> concatSequential() {
+    final Monoid<List<Integer>> m = ListInstance.listInstance.monoid();
+    return m.combineAll(lists);
+  }
+
+  /**
+   * Concatenate the Lists on the pool.
+   *
+   * @return the concatenation
+   */
+  @Benchmark
+  public List<Integer> concatParallel() {
+    final Monoid<List<Integer>> m = ListInstance.listInstance.monoid();
+    return m.combineAllParallel(lists, pool);
+  }
+}
@@ -0,0 +1,122 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import ca.genovese.coffeecats.data.offheap.LongSeq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time for a full garbage collection, and to sum every value, while a large dataset of
+ * longs is held as a List on the heap against as a LongSeq off it.
+ *
+ * <p>The full collection stands for the pauses the dataset causes: the collector has to
+ * mark, and may move, every Cons and Long of the List, but only one small object for the
+ * LongSeq. Run with {@code -p size=100000000 -jvmArgs -Xmx8g} for 10^8 values.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OffHeapBenchmark {
+  /**
+   * The number of values.
+   */
+  @Param({"10000000"})
+  private int size;
+
+  /**
+   * Where the values are held, list or offheap.
+   */
+  @Param({"list", "offheap"})
+  private String storage;
+
+  /**
+   * The values, if they are held in a List.
+   */
+  private List<Long> list;
+
+  /**
+   * The values, if they are held in a LongSeq.
+   */
+  private LongSeq seq;
+
+  /**
+   * Build the values.
+   */
+  @Setup
+  public void setup() {
+    if ("list".equals(storage)) {
+      final ListBuilder<Long> builder = new ListBuilder<>(size);
+
+      for (long i = 0; i < size; i++) {
+        builder.add(i * 7919);
+      }
+
+      list = builder.build();
+    } else {
+      final LongSeq.Builder builder = LongSeq.builder(size);
+
+      for (long i = 0; i < size; i++) {
+        builder.add(i * 7919);
+      }
+
+      seq = builder.build();
+    }
+  }
+
+  /**
+   * Release the LongSeq.
+   */
+  @TearDown
+  public void tearDown() {
+    if (seq != null) {
+      seq.close();
+    }
+  }
+
+  /**
+   * Run a full garbage collection with the values live.
+   *
+   * @return the values, so that they stay live
+   */
+  @Benchmark
+  public Object fullGc() {
+    System.gc();
+    return list != null ? list : seq;
+  }
+
+  /**
+   * Sum the values.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public long sum() {
+    if (list != null) {
+      long sum = 0;
+
+      for (final Long l : list) {
+        sum += l;
+      }
+
+      return sum;
+    }
+
+    return seq.foldLeft(0L, Long::sum);
+  }
+}
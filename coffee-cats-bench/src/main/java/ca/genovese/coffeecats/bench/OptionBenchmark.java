@@ -0,0 +1,84 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.std.OptionInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to run chains of maps and flatMaps over Some and None through OptionInstance.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptionBenchmark {
+  /**
+   * The number of steps in each chain.
+   */
+  @Param({"10", "1000"})
+  private int length;
+
+  /**
+   * Map over a Some length times.
+   *
+   * @return the final Option
+   */
+  @Benchmark
+  public Kind<Option, Integer> mapChainSome() {
+    Kind<Option, Integer> option = Option.some(0);
+
+    for (int i = 0; i < length; i++) {
+      option = OptionInstance.optionInstance.map(option, x -> x + 1);
+    }
+
+    return option;
+  }
+
+  /**
+   * Map over a None length times.
+   *
+   * @return the final Option
+   */
+  @Benchmark
+  public Kind<Option, Integer> mapChainNone() {
+    Kind<Option, Integer> option = Option.none();
+
+    for (int i = 0; i < length; i++) {
+      option = OptionInstance.optionInstance.map(option, x -> x + 1);
+    }
+
+    return option;
+  }
+
+  /**
+   * FlatMap over a Some length times.
+   *
+   * @return the final Option
+   */
+  @Benchmark
+  public Kind<Option, Integer> flatMapChainSome() {
+    Kind<Option, Integer> option = Option.some(0);
+
+    for (int i = 0; i < length; i++) {
+      option = OptionInstance.optionInstance.flatMap(option, x -> Option.some(x + 1));
+    }
+
+    return option;
+  }
+}
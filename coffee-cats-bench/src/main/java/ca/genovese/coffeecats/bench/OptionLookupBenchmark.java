@@ -0,0 +1,152 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.std.OptionInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.CompilerControl;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static ca.genovese.coffeecats.data.option.Option.none;
+import static ca.genovese.coffeecats.data.option.Option.some;
+
+/**
+ * Time to run a typical chain of lookups, finding a name by id, normalising it, and finding
+ * an email by name, through the methods on Option, against the same chain through
+ * OptionInstance, for an id which is found and one which is not.
+ *
+ * <p>Each step is a method which is not inlined, as it would be in a larger program, so the
+ * Options passed between the steps escape and are really allocated. Run with {@code -prof gc}
+ * to compare allocation per operation. The chain through OptionInstance has to express filter
+ * and orElse with flatMap and isDefined.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OptionLookupBenchmark {
+  /**
+   * The id to look up, 1 is found and -1 is not.
+   */
+  @Param({"1", "-1"})
+  private int id;
+
+  /**
+   * Names by id.
+   */
+  private final Map<Integer, String> names = new HashMap<>();
+
+  /**
+   * Emails by name.
+   */
+  private final Map<String, String> emails = new HashMap<>();
+
+  /**
+   * The Option returned when there is no email.
+   */
+  private final Option<String> fallback = some("nobody@example.com");
+
+  /**
+   * Fill the maps.
+   */
+  @Setup
+  public void setup() {
+    for (int i = 0; i < 100; i++) {
+      names.put(i, "user" + i);
+      emails.put("user" + i, "user" + i + "@example.com");
+    }
+  }
+
+  /**
+   * Run the chain through the methods on Option.
+   *
+   * @return the email
+   */
+  @Benchmark
+  public Option<String> option() {
+    return findEmail(normalise(findName(id))).orElse(fallback);
+  }
+
+  /**
+   * Run the chain through OptionInstance.
+   *
+   * @return the email
+   */
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public Kind<Option, String> optionInstance() {
+    final Kind<Option, String> email = findEmailInstance(normaliseInstance(findName(id)));
+    return ((Option<String>) email).isDefined() ? email : fallback;
+  }
+
+  /**
+   * Find a name by id.
+   *
+   * @param key the id
+   * @return the name, if there is one
+   */
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private Option<String> findName(final int key) {
+    return Option.of(names.get(key));
+  }
+
+  /**
+   * Trim a name, discarding it if it is then empty, through the methods on Option.
+   *
+   * @param name the name
+   * @return the trimmed name, if it is not empty
+   */
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private Option<String> normalise(final Option<String> name) {
+    return name.map(String::trim).filter(n -> !n.isEmpty());
+  }
+
+  /**
+   * Find an email by name, through the methods on Option.
+   *
+   * @param name the name
+   * @return the email, if there is one
+   */
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private Option<String> findEmail(final Option<String> name) {
+    return name.flatMap(n -> Option.of(emails.get(n)));
+  }
+
+  /**
+   * Trim a name, discarding it if it is then empty, through OptionInstance.
+   *
+   * @param name the name
+   * @return the trimmed name, if it is not empty
+   */
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private Kind<Option, String> normaliseInstance(final Kind<Option, String> name) {
+    return OptionInstance.optionInstance.flatMap(OptionInstance.optionInstance.map(name, String::trim),
+        n -> n.isEmpty() ? none() : some(n));
+  }
+
+  /**
+   * Find an email by name, through OptionInstance.
+   *
+   * @param name the name
+   * @return the email, if there is one
+   */
+  @CompilerControl(CompilerControl.Mode.DONT_INLINE)
+  private Kind<Option, String> findEmailInstance(final Kind<Option, String> name) {
+    return OptionInstance.optionInstance.flatMap(name, n -> Option.of(emails.get(n)));
+  }
+}
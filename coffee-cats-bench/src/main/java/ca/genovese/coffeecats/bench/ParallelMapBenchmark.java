@@ -0,0 +1,126 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.std.ListInstance;
+import ca.genovese.coffeecats.std.ParallelListInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * ListInstance.map against ParallelListInstance.map with a CPU-heavy function,
+ * for increasing List sizes and ForkJoinPool parallelism.
+ *
+ * <p>The 1000 item case is below ParallelListInstance.DEFAULT_THRESHOLD and
+ * shows the cost of the sequential fallback.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParallelMapBenchmark {
+  /**
+   * The number of items in the List.
+   */
+  @Param({"1000", "100000", "1000000"})
+  private int size;
+
+  /**
+   * The parallelism of the ForkJoinPool used by ParallelListInstance.
+   */
+  @Param({"1", "2", "4", "8", "16"})
+  private int threads;
+
+  /**
+   * The amount of work, in JMH tokens, done by the function for each item.
+   */
+  @Param({"100"})
+  private int tokens;
+
+  /**
+   * The List to map.
+   */
+  private List<Integer> ints;
+
+  /**
+   * The pool used by ParallelListInstance.
+   */
+  private ForkJoinPool pool;
+
+  /**
+   * The parallel instance under test.
+   */
+  private ParallelListInstance parallel;
+
+  /**
+   * The CPU-heavy function to map.
+   */
+  private Function<Integer, Integer> f;
+
+  /**
+   * Build the List, the pool and the function.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    List<Integer> is = List.of();
+
+    for (int i = size; i > 0; i--) {
+      is = List.cons(i, is);
+    }
+
+    ints = is;
+    pool = new ForkJoinPool(threads);
+    parallel = new ParallelListInstance(pool, ParallelListInstance.DEFAULT_THRESHOLD);
+    final int work = tokens;
+    f = i -> {
+      Blackhole.consumeCPU(work);
+      return i + 1;
+    };
+  }
+
+  /**
+   * Shut down the pool.
+   */
+  @TearDown(Level.Trial)
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  /**
+   * Map on the calling thread.
+   *
+   * @return the mapped List
+   */
+  @Benchmark
+  public Kind<List, Integer> sequential() {
+    return ListInstance.listInstance.map(ints, f);
+  }
+
+  /**
+   * Map on the pool.
+   *
+   * @return the mapped List
+   */
+  @Benchmark
+  public Kind<List, Integer> parallel() {
+    return parallel.map(ints, f);
+  }
+}
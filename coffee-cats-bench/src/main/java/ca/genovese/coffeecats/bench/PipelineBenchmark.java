@@ -0,0 +1,102 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.std.ListInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * A five stage map pipeline over a List, applied eagerly with ListInstance.map
+ * and lazily with a ListView which is forced once.
+ *
+ * <p>Run with {@code -prof gc} to compare allocation per operation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PipelineBenchmark {
+  /**
+   * The number of items in the List.
+   */
+  @Param({"1000", "1000000"})
+  private int size;
+
+  /**
+   * The List to map.
+   */
+  private List<Integer> is;
+
+  /**
+   * Stage 1 of the pipeline, add one.
+   */
+  private final Function<Integer, Integer> f1 = i -> i + 1;
+
+  /**
+   * Stage 2 of the pipeline, multiply by three.
+   */
+  private final Function<Integer, Integer> f2 = i -> i * 3;
+
+  /**
+   * Stage 3 of the pipeline, subtract seven.
+   */
+  private final Function<Integer, Integer> f3 = i -> i - 7;
+
+  /**
+   * Stage 4 of the pipeline, flip some low bits.
+   */
+  private final Function<Integer, Integer> f4 = i -> i ^ 0x55;
+
+  /**
+   * Stage 5 of the pipeline, halve.
+   */
+  private final Function<Integer, Integer> f5 = i -> i >> 1;
+
+  /**
+   * Build the List.
+   */
+  @Setup(Level.Trial)
+  public void setup() {
+    is = List.of();
+
+    for (int i = size; i > 0; i--) {
+      is = List.cons(i, is);
+    }
+  }
+
+  /**
+   * Apply each stage with ListInstance.map, building an intermediate List per stage.
+   *
+   * @return the mapped List
+   */
+  @Benchmark
+  public Object eager() {
+    final ListInstance l = ListInstance.listInstance;
+    return l.map(l.map(l.map(l.map(l.map(is, f1), f2), f3), f4), f5);
+  }
+
+  /**
+   * Record each stage on a ListView and apply them all in a single pass.
+   *
+   * @return the mapped List
+   */
+  @Benchmark
+  public Object fused() {
+    return is.view().map(f1).map(f2).map(f3).map(f4).map(f5).force();
+  }
+}
@@ -0,0 +1,69 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.option.OptionInt;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.std.OptionInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to run a five step pipeline of map, filter, flatMap, map and getOrElse over an OptionInt,
+ * against the same pipeline over an Option of Integer through OptionInstance.
+ *
+ * <p>Run with {@code -prof gc}: once escape analysis has removed the intermediate OptionInts,
+ * the OptionInt pipeline allocates nothing, while the boxed pipeline allocates an Integer and
+ * a Some for most steps.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PrimitiveOptionBenchmark {
+  /**
+   * The value the pipelines start from, read from a field so that it is not constant folded.
+   */
+  private int value = 1000;
+
+  /**
+   * Run the pipeline over an OptionInt.
+   *
+   * @return the result of the pipeline
+   */
+  @Benchmark
+  public int optionInt() {
+    return OptionInt.some(value)
+        .map(x -> x * 3)
+        .filter(x -> x > 0)
+        .flatMap(x -> x % 2 == 0 ? OptionInt.some(x / 2) : OptionInt.none())
+        .map(x -> x + 7)
+        .getOrElse(-1);
+  }
+
+  /**
+   * Run the pipeline over an Option of Integer, through OptionInstance.
+   *
+   * @return the result of the pipeline
+   */
+  @Benchmark
+  @SuppressWarnings("unchecked")
+  public int boxedOption() {
+    Kind<Option, Integer> option = Option.some(value);
+    option = OptionInstance.optionInstance.map(option, x -> x * 3);
+    option = OptionInstance.optionInstance.flatMap(option, x -> x > 0 ? Option.some(x) : Option.none());
+    option = OptionInstance.optionInstance.flatMap(option, x -> x % 2 == 0 ? Option.some(x / 2) : Option.none());
+    option = OptionInstance.optionInstance.map(option, x -> x + 7);
+    return ((Option<Integer>) option).getOrElse(-1);
+  }
+}
@@ -0,0 +1,99 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.gen.FunctionalRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ints per second produced by the SplitMix and Secure FunctionalRandom generators.
+ *
+ * <p>Each benchmark threads the generator through the steps, as a Gen does.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomBenchmark {
+  /**
+   * The number of ints drawn per invocation.
+   */
+  private static final int BATCH = 1024;
+
+  /**
+   * The SplitMix generator.
+   */
+  private FunctionalRandom fast;
+
+  /**
+   * The Secure generator.
+   */
+  private FunctionalRandom secure;
+
+  /**
+   * Create the generators.
+   */
+  @Setup(Level.Iteration)
+  public void setup() {
+    fast = FunctionalRandom.seeded(42L);
+    secure = FunctionalRandom.secure();
+  }
+
+  /**
+   * Draw ints one at a time from the SplitMix generator.
+   *
+   * @return the sum of the ints
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int splitMixNextInt() {
+    int sum = 0;
+
+    for (int i = 0; i < BATCH; i++) {
+      final Tuple2<FunctionalRandom, Integer> next = fast.nextInt();
+      fast = next.getA();
+      sum += next.getB();
+    }
+
+    return sum;
+  }
+
+  /**
+   * Draw ints in bulk from the SplitMix generator.
+   *
+   * @return the ints
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int[] splitMixNextInts() {
+    final Tuple2<FunctionalRandom, int[]> next = fast.nextInts(BATCH);
+    fast = next.getA();
+    return next.getB();
+  }
+
+  /**
+   * Draw ints one at a time from the Secure generator.
+   *
+   * @return the int
+   */
+  @Benchmark
+  public int secureNextInt() {
+    final Tuple2<FunctionalRandom, Integer> next = secure.nextInt();
+    secure = next.getA();
+    return next.getB();
+  }
+}
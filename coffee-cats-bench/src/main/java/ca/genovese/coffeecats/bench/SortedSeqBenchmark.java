@@ -0,0 +1,166 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.compressed.SortedLongSeq;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to read and intersect sorted ids held in a List of Integers against a SortedLongSeq.
+ *
+ * <p>The large sequence holds a million ids with random gaps of 1 to 16, and the small one
+ * ten thousand ids drawn from the same range.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SortedSeqBenchmark {
+  /**
+   * The number of ids in the large sequence.
+   */
+  private static final int LARGE = 1000000;
+
+  /**
+   * The number of ids in the small sequence.
+   */
+  private static final int SMALL = 10000;
+
+  /**
+   * The large sequence as a List.
+   */
+  private List<Integer> largeList;
+
+  /**
+   * The small sequence as a List.
+   */
+  private List<Integer> smallList;
+
+  /**
+   * The large sequence as a SortedLongSeq.
+   */
+  private SortedLongSeq largeSeq;
+
+  /**
+   * The small sequence as a SortedLongSeq.
+   */
+  private SortedLongSeq smallSeq;
+
+  /**
+   * Build the sequences both ways.
+   */
+  @Setup
+  public void setup() {
+    final Random random = new Random(42);
+    largeList = ids(random, LARGE, 16);
+    smallList = ids(random, SMALL, 16 * LARGE / SMALL);
+    largeSeq = SortedLongSeq.fromList(largeList);
+    smallSeq = SortedLongSeq.fromList(smallList);
+  }
+
+  /**
+   * Create a List of increasing ids.
+   *
+   * @param random the source of randomness
+   * @param size   the number of ids
+   * @param gap    the largest gap between ids
+   * @return the List
+   */
+  private static List<Integer> ids(final Random random, final int size, final int gap) {
+    final ListBuilder<Integer> builder = new ListBuilder<>(size);
+    int id = 0;
+
+    for (int i = 0; i < size; i++) {
+      id += 1 + random.nextInt(gap);
+      builder.add(id);
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Sum the ids of the large List.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public long sumList() {
+    long sum = 0;
+
+    for (final Integer i : largeList) {
+      sum += i;
+    }
+
+    return sum;
+  }
+
+  /**
+   * Sum the ids of the large SortedLongSeq, decoding them as they are read.
+   *
+   * @return the sum
+   */
+  @Benchmark
+  public long sumSeq() {
+    final SortedLongSeq.Cursor cursor = largeSeq.cursor();
+    long sum = 0;
+
+    while (cursor.hasNext()) {
+      sum += cursor.nextLong();
+    }
+
+    return sum;
+  }
+
+  /**
+   * Intersect the Lists by merging them.
+   *
+   * @return the ids in both
+   */
+  @Benchmark
+  public List<Integer> intersectList() {
+    final ListBuilder<Integer> builder = new ListBuilder<>();
+    List<Integer> a = largeList;
+    List<Integer> b = smallList;
+
+    while (!a.isEmpty() && !b.isEmpty()) {
+      final int x = a.getHead();
+      final int y = b.getHead();
+
+      if (x == y) {
+        builder.add(x);
+      }
+      if (x <= y) {
+        a = a.getTail();
+      }
+      if (y <= x) {
+        b = b.getTail();
+      }
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Intersect the SortedLongSeqs, skipping the blocks holding no common ids.
+   *
+   * @return the ids in both
+   */
+  @Benchmark
+  public SortedLongSeq intersectSeq() {
+    return largeSeq.intersect(smallSeq);
+  }
+}
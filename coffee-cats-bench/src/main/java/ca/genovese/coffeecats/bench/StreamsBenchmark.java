@@ -0,0 +1,131 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.gen.FunctionalRandom;
+import ca.genovese.coffeecats.gen.Gen;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Ints per second sampled by four threads, each from its own FunctionalRandom.stream, against
+ * the same threads sharing one generator advanced with compareAndSet.
+ *
+ * <p>Each benchmark runs intGen, threading the generator through the steps.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class StreamsBenchmark {
+  /**
+   * The number of ints drawn per invocation.
+   */
+  private static final int BATCH = 1024;
+
+  /**
+   * The seed shared by all the streams.
+   */
+  private static final long SEED = 42L;
+
+  /**
+   * State shared by all the threads.
+   */
+  @State(Scope.Benchmark)
+  public static class Shared {
+    /**
+     * The generator shared by all the threads.
+     */
+    private final AtomicReference<FunctionalRandom> rnd = new AtomicReference<>(FunctionalRandom.seeded(SEED));
+
+    /**
+     * The index of the next thread's stream.
+     */
+    private final AtomicInteger nextStream = new AtomicInteger();
+  }
+
+  /**
+   * State owned by one thread.
+   */
+  @State(Scope.Thread)
+  public static class PerThread {
+    /**
+     * This thread's stream.
+     */
+    private FunctionalRandom rnd;
+
+    /**
+     * Take the next stream for this thread.
+     *
+     * @param shared the state shared by all the threads
+     */
+    @Setup(Level.Trial)
+    public void setup(final Shared shared) {
+      rnd = FunctionalRandom.stream(SEED, shared.nextStream.getAndIncrement());
+    }
+  }
+
+  /**
+   * Sample from this thread's own stream.
+   *
+   * @param state this thread's state
+   * @return the sum of the ints
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int perThreadStream(final PerThread state) {
+    FunctionalRandom rnd = state.rnd;
+    int sum = 0;
+
+    for (int i = 0; i < BATCH; i++) {
+      final Tuple2<FunctionalRandom, Integer> next = Gen.intGen.run(rnd);
+      rnd = next.getA();
+      sum += next.getB();
+    }
+
+    state.rnd = rnd;
+    return sum;
+  }
+
+  /**
+   * Sample from the generator shared by all the threads, advancing it with compareAndSet.
+   *
+   * @param shared the state shared by all the threads
+   * @return the sum of the ints
+   */
+  @Benchmark
+  @OperationsPerInvocation(BATCH)
+  public int sharedAtomic(final Shared shared) {
+    int sum = 0;
+
+    for (int i = 0; i < BATCH; i++) {
+      Tuple2<FunctionalRandom, Integer> next;
+      FunctionalRandom current;
+
+      do {
+        current = shared.rnd.get();
+        next = Gen.intGen.run(current);
+      } while (!shared.rnd.compareAndSet(current, next.getA()));
+
+      sum += next.getB();
+    }
+
+    return sum;
+  }
+}
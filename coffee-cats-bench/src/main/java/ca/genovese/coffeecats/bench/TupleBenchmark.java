@@ -0,0 +1,121 @@
+package ca.genovese.coffeecats.bench;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.tuple.IntIntPair;
+import ca.genovese.coffeecats.data.tuple.ObjIntPair;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.std.ListInstance;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and memory per element to build a List of pairs of ints, as Tuple2s of Integers against
+ * IntIntPairs, and to fproduct a List with an int valued function, through fproduct against
+ * fproductInt.
+ *
+ * <p>Each operation is one element, so run with {@code -prof gc} and gc.alloc.rate.norm is
+ * the memory allocated per element. The ints are outside the Integer cache, so boxing them
+ * allocates.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TupleBenchmark {
+  /**
+   * The number of elements in each List.
+   */
+  private static final int SIZE = 1000;
+
+  /**
+   * The first int in the pairs, outside the Integer cache.
+   */
+  private static final int OFFSET = 1000;
+
+  /**
+   * A List of SIZE Strings to fproduct.
+   */
+  private List<String> strings;
+
+  /**
+   * Build the List of Strings.
+   */
+  @Setup
+  public void setup() {
+    strings = List.of();
+
+    for (int i = 0; i < SIZE; i++) {
+      strings = List.cons(Integer.toString(OFFSET + i), strings);
+    }
+  }
+
+  /**
+   * Build a List of Tuple2s of Integers.
+   *
+   * @return the List
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public List<Tuple2<Integer, Integer>> tuple2List() {
+    List<Tuple2<Integer, Integer>> list = List.of();
+
+    for (int i = OFFSET; i < OFFSET + SIZE; i++) {
+      list = List.cons(new Tuple2<>(i, i + 1), list);
+    }
+
+    return list;
+  }
+
+  /**
+   * Build a List of IntIntPairs.
+   *
+   * @return the List
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public List<IntIntPair> intIntPairList() {
+    List<IntIntPair> list = List.of();
+
+    for (int i = OFFSET; i < OFFSET + SIZE; i++) {
+      list = List.cons(new IntIntPair(i, i + 1), list);
+    }
+
+    return list;
+  }
+
+  /**
+   * Pair each String with its value, through fproduct.
+   *
+   * @return the List of pairs
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public Kind<List, Tuple2<String, Integer>> fproduct() {
+    return ListInstance.listInstance.fproduct(strings, Integer::parseInt);
+  }
+
+  /**
+   * Pair each String with its value, through fproductInt.
+   *
+   * @return the List of pairs
+   */
+  @Benchmark
+  @OperationsPerInvocation(SIZE)
+  public Kind<List, ObjIntPair<String>> fproductInt() {
+    return ListInstance.listInstance.fproductInt(strings, Integer::parseInt);
+  }
+}
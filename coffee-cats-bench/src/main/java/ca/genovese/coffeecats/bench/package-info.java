@@ -0,0 +1,7 @@
+/**
+ * JMH benchmarks for the data types, structures and instances in coffee-cats.
+ *
+ * <p>Build with {@code mvn package} and run with
+ * {@code java -jar coffee-cats-bench/target/benchmarks.jar}.
+ */
+package ca.genovese.coffeecats.bench;
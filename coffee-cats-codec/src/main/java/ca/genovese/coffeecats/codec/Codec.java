@@ -0,0 +1,55 @@
+package ca.genovese.coffeecats.codec;
+
+import java.io.IOException;
+import java.util.function.Function;
+
+/**
+ * A binary format for values of a type, written with an Encoder and read with a Decoder.
+ *
+ * <p>Codecs for the coffee-cats data types, and for the primitive types they hold, are in Codecs.
+ *
+ * @param <A> the type of the values
+ */
+public interface Codec<A> {
+  /**
+   * Write a value.
+   *
+   * @param a   the value
+   * @param out the Encoder to write to
+   * @throws IOException if the Encoder's channel fails
+   */
+  void write(A a, Encoder out) throws IOException;
+
+  /**
+   * Read a value.
+   *
+   * @param in the Decoder to read from
+   * @return the value
+   * @throws IOException if the Decoder's channel fails or ends, or the bytes read are malformed
+   */
+  A read(Decoder in) throws IOException;
+
+  /**
+   * A Codec for another type, which converts values to and from this Codec's type.
+   *
+   * @param f   the conversion from this Codec's type, applied after reading
+   * @param g   the conversion to this Codec's type, applied before writing
+   * @param <B> the other type
+   * @return a Codec for B
+   */
+  default <B> Codec<B> imap(final Function<A, B> f, final Function<B, A> g) {
+    final Codec<A> self = this;
+
+    return new Codec<B>() {
+      @Override
+      public void write(final B b, final Encoder out) throws IOException {
+        self.write(g.apply(b), out);
+      }
+
+      @Override
+      public B read(final Decoder in) throws IOException {
+        return f.apply(self.read(in));
+      }
+    };
+  }
+}
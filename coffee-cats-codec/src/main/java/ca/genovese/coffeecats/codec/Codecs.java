@@ -0,0 +1,410 @@
+package ca.genovese.coffeecats.codec;
+
+import ca.genovese.coffeecats.data.Unit;
+import ca.genovese.coffeecats.data.eval.Eval;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+
+import java.io.IOException;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+
+/**
+ * Codecs for the coffee-cats data types and the primitive types they hold.
+ *
+ * <p>The format is compact: ints and longs are zigzag varints, a List is its length as a
+ * varint followed by its items, an Option is a byte, 0 for None or 1 for Some, followed
+ * by the value of a Some, a Tuple2 is its two elements, and a Unit is nothing at all.
+ * An Eval is written as its value, and read back as Eval.now of it.
+ *
+ * <p>Every Codec writes and reads with loops rather than recursion, so the stack they use
+ * depends only on how deeply their types are nested, and not on the length of a List or
+ * the depth of the computation behind an Eval.
+ */
+public final class Codecs {
+  /**
+   * A Codec for Unit, which writes nothing.
+   */
+  public static final Codec<Unit> unitCodec = new Codec<Unit>() {
+    @Override
+    public void write(final Unit a, final Encoder out) {
+    }
+
+    @Override
+    public Unit read(final Decoder in) {
+      return Unit.unit;
+    }
+  };
+
+  /**
+   * A Codec for Boolean, as a single byte.
+   */
+  public static final Codec<Boolean> booleanCodec = new Codec<Boolean>() {
+    @Override
+    public void write(final Boolean a, final Encoder out) throws IOException {
+      out.writeBoolean(a);
+    }
+
+    @Override
+    public Boolean read(final Decoder in) throws IOException {
+      return in.readBoolean();
+    }
+  };
+
+  /**
+   * A Codec for Integer, as a zigzag varint of one to five bytes.
+   */
+  public static final Codec<Integer> intCodec = new Codec<Integer>() {
+    @Override
+    public void write(final Integer a, final Encoder out) throws IOException {
+      out.writeSignedVarInt(a);
+    }
+
+    @Override
+    public Integer read(final Decoder in) throws IOException {
+      return in.readSignedVarInt();
+    }
+  };
+
+  /**
+   * A Codec for Long, as a zigzag varint of one to ten bytes.
+   */
+  public static final Codec<Long> longCodec = new Codec<Long>() {
+    @Override
+    public void write(final Long a, final Encoder out) throws IOException {
+      out.writeSignedVarLong(a);
+    }
+
+    @Override
+    public Long read(final Decoder in) throws IOException {
+      return in.readSignedVarLong();
+    }
+  };
+
+  /**
+   * A Codec for Double, as its 8 raw bytes.
+   */
+  public static final Codec<Double> doubleCodec = new Codec<Double>() {
+    @Override
+    public void write(final Double a, final Encoder out) throws IOException {
+      out.writeDouble(a);
+    }
+
+    @Override
+    public Double read(final Decoder in) throws IOException {
+      return in.readDouble();
+    }
+  };
+
+  /**
+   * A Codec for String, as its UTF-8 bytes prefixed with their length.
+   */
+  public static final Codec<String> stringCodec = new Codec<String>() {
+    @Override
+    public void write(final String a, final Encoder out) throws IOException {
+      out.writeString(a);
+    }
+
+    @Override
+    public String read(final Decoder in) throws IOException {
+      return in.readString();
+    }
+  };
+
+  /**
+   * The largest number of items a ListBuilder is sized for up front, so that a corrupt
+   * length can not make the reader allocate a huge buffer before any items are read.
+   */
+  private static final int MAX_INITIAL_CAPACITY = 1 << 16;
+
+  /**
+   * Prevent instantiation.
+   */
+  private Codecs() {
+
+  }
+
+  /**
+   * A Codec for List, as its length followed by its items.
+   *
+   * @param codec the Codec for the items
+   * @param <A>   the type of the items
+   * @return a Codec for {@code List<A>}
+   */
+  public static <A> Codec<List<A>> list(final Codec<A> codec) {
+    return new ListCodec<>(codec);
+  }
+
+  /**
+   * A Codec for Option, as a byte, 0 for None or 1 for Some, followed by the value of a Some.
+   *
+   * @param codec the Codec for the value
+   * @param <A>   the type of the value
+   * @return a Codec for {@code Option<A>}
+   */
+  public static <A> Codec<Option<A>> option(final Codec<A> codec) {
+    return new OptionCodec<>(codec);
+  }
+
+  /**
+   * A Codec for Tuple2, as its first element followed by its second.
+   *
+   * @param ca  the Codec for the first element
+   * @param cb  the Codec for the second element
+   * @param <A> the type of the first element
+   * @param <B> the type of the second element
+   * @return a Codec for {@code Tuple2<A, B>}
+   */
+  public static <A, B> Codec<Tuple2<A, B>> tuple2(final Codec<A> ca, final Codec<B> cb) {
+    return new Tuple2Codec<>(ca, cb);
+  }
+
+  /**
+   * A Codec for Eval, which forces the Eval and writes its value, and reads the value back
+   * as Eval.now of it.
+   *
+   * @param codec the Codec for the value
+   * @param <A>   the type of the value
+   * @return a Codec for {@code Eval<A>}
+   */
+  public static <A> Codec<Eval<A>> eval(final Codec<A> codec) {
+    return new EvalCodec<>(codec);
+  }
+
+  /**
+   * Write a value to a channel, and flush it.
+   *
+   * @param codec   the Codec to write with
+   * @param a       the value
+   * @param channel the channel to write to
+   * @param <A>     the type of the value
+   * @throws IOException if the channel fails
+   */
+  public static <A> void encode(final Codec<A> codec, final A a, final WritableByteChannel channel)
+      throws IOException {
+    final Encoder out = new Encoder(channel);
+    codec.write(a, out);
+    out.flush();
+  }
+
+  /**
+   * Read a value from a channel.
+   *
+   * @param codec   the Codec to read with
+   * @param channel the channel to read from
+   * @param <A>     the type of the value
+   * @return the value
+   * @throws IOException if the channel fails or ends, or the bytes read are malformed
+   */
+  public static <A> A decode(final Codec<A> codec, final ReadableByteChannel channel) throws IOException {
+    return codec.read(new Decoder(channel));
+  }
+
+  /**
+   * A Codec for List.
+   *
+   * @param <A> the type of the items
+   */
+  private static final class ListCodec<A> implements Codec<List<A>> {
+    /**
+     * The Codec for the items.
+     */
+    private final Codec<A> codec;
+
+    /**
+     * Constructor.
+     *
+     * @param codec the Codec for the items
+     */
+    ListCodec(final Codec<A> codec) {
+      this.codec = codec;
+    }
+
+    /**
+     * Write the length of a List, then its items.
+     *
+     * @param as  the List
+     * @param out the Encoder to write to
+     * @throws IOException if the Encoder's channel fails
+     */
+    @Override
+    public void write(final List<A> as, final Encoder out) throws IOException {
+      out.writeVarInt(as.length());
+
+      for (final A a : as) {
+        codec.write(a, out);
+      }
+    }
+
+    /**
+     * Read the length of a List, then its items.
+     *
+     * @param in the Decoder to read from
+     * @return the List
+     * @throws IOException if the Decoder's channel fails or ends, or the bytes read are malformed
+     */
+    @Override
+    public List<A> read(final Decoder in) throws IOException {
+      final int length = in.readLength();
+      final ListBuilder<A> builder = new ListBuilder<>(Math.min(length, MAX_INITIAL_CAPACITY));
+
+      for (int i = 0; i < length; i++) {
+        builder.add(codec.read(in));
+      }
+
+      return builder.build();
+    }
+  }
+
+  /**
+   * A Codec for Option.
+   *
+   * @param <A> the type of the value
+   */
+  private static final class OptionCodec<A> implements Codec<Option<A>> {
+    /**
+     * The Codec for the value.
+     */
+    private final Codec<A> codec;
+
+    /**
+     * Constructor.
+     *
+     * @param codec the Codec for the value
+     */
+    OptionCodec(final Codec<A> codec) {
+      this.codec = codec;
+    }
+
+    /**
+     * Write 0 for None, or 1 followed by the value for Some.
+     *
+     * @param o   the Option
+     * @param out the Encoder to write to
+     * @throws IOException if the Encoder's channel fails
+     */
+    @Override
+    public void write(final Option<A> o, final Encoder out) throws IOException {
+      out.writeBoolean(o.isDefined());
+
+      if (o.isDefined()) {
+        codec.write(o.get(), out);
+      }
+    }
+
+    /**
+     * Read 0 as None, or 1 followed by the value as Some.
+     *
+     * @param in the Decoder to read from
+     * @return the Option
+     * @throws IOException if the Decoder's channel fails or ends, or the bytes read are malformed
+     */
+    @Override
+    public Option<A> read(final Decoder in) throws IOException {
+      return in.readBoolean() ? Option.some(codec.read(in)) : Option.none();
+    }
+  }
+
+  /**
+   * A Codec for Tuple2.
+   *
+   * @param <A> the type of the first element
+   * @param <B> the type of the second element
+   */
+  private static final class Tuple2Codec<A, B> implements Codec<Tuple2<A, B>> {
+    /**
+     * The Codec for the first element.
+     */
+    private final Codec<A> ca;
+
+    /**
+     * The Codec for the second element.
+     */
+    private final Codec<B> cb;
+
+    /**
+     * Constructor.
+     *
+     * @param ca the Codec for the first element
+     * @param cb the Codec for the second element
+     */
+    Tuple2Codec(final Codec<A> ca, final Codec<B> cb) {
+      this.ca = ca;
+      this.cb = cb;
+    }
+
+    /**
+     * Write the first element, then the second.
+     *
+     * @param t   the Tuple2
+     * @param out the Encoder to write to
+     * @throws IOException if the Encoder's channel fails
+     */
+    @Override
+    public void write(final Tuple2<A, B> t, final Encoder out) throws IOException {
+      ca.write(t.getA(), out);
+      cb.write(t.getB(), out);
+    }
+
+    /**
+     * Read the first element, then the second.
+     *
+     * @param in the Decoder to read from
+     * @return the Tuple2
+     * @throws IOException if the Decoder's channel fails or ends, or the bytes read are malformed
+     */
+    @Override
+    public Tuple2<A, B> read(final Decoder in) throws IOException {
+      final A a = ca.read(in);
+      return new Tuple2<>(a, cb.read(in));
+    }
+  }
+
+  /**
+   * A Codec for Eval.
+   *
+   * @param <A> the type of the value
+   */
+  private static final class EvalCodec<A> implements Codec<Eval<A>> {
+    /**
+     * The Codec for the value.
+     */
+    private final Codec<A> codec;
+
+    /**
+     * Constructor.
+     *
+     * @param codec the Codec for the value
+     */
+    EvalCodec(final Codec<A> codec) {
+      this.codec = codec;
+    }
+
+    /**
+     * Force the Eval, which is stack-safe, and write its value.
+     *
+     * @param e   the Eval
+     * @param out the Encoder to write to
+     * @throws IOException if the Encoder's channel fails
+     */
+    @Override
+    public void write(final Eval<A> e, final Encoder out) throws IOException {
+      codec.write(e.value(), out);
+    }
+
+    /**
+     * Read a value, as Eval.now of it.
+     *
+     * @param in the Decoder to read from
+     * @return the Eval
+     * @throws IOException if the Decoder's channel fails or ends, or the bytes read are malformed
+     */
+    @Override
+    public Eval<A> read(final Decoder in) throws IOException {
+      final A a = codec.read(in);
+      return Eval.now(a);
+    }
+  }
+}
@@ -0,0 +1,320 @@
+package ca.genovese.coffeecats.codec;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Reads primitive values written by an Encoder from a ReadableByteChannel through a buffer.
+ *
+ * <p>The Decoder may read further ahead in the channel than the values it returns, and does
+ * not close the channel.
+ *
+ * <p>A Decoder can also read straight from a ByteBuffer, such as a MappedByteBuffer, without
+ * a channel and without copying.
+ */
+public final class Decoder {
+  /**
+   * The most bytes a varint of a long takes.
+   */
+  private static final int MAX_VARLONG_BYTES = 10;
+
+  /**
+   * The largest array readBytes allocates before any of its bytes have been read.
+   */
+  private static final int MAX_INITIAL_BYTES = 1 << 16;
+
+  /**
+   * The channel read from, or null if the Decoder reads only from its buffer.
+   */
+  private final ReadableByteChannel channel;
+
+  /**
+   * The buffer holding bytes read from the channel but not yet decoded.
+   */
+  private final ByteBuffer buffer;
+
+  /**
+   * Constructor, with a buffer of Encoder.DEFAULT_BUFFER_SIZE.
+   *
+   * @param channel the channel to read from
+   */
+  public Decoder(final ReadableByteChannel channel) {
+    this(channel, Encoder.DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param channel    the channel to read from
+   * @param bufferSize the size of the buffer, at least MAX_VARLONG_BYTES
+   */
+  public Decoder(final ReadableByteChannel channel, final int bufferSize) {
+    this.channel = channel;
+    this.buffer = ByteBuffer.allocate(Math.max(bufferSize, MAX_VARLONG_BYTES));
+    this.buffer.flip();
+  }
+
+  /**
+   * Constructor reading the remaining bytes of a buffer, which is read in place rather than
+   * copied, and whose position is advanced as values are read.
+   *
+   * @param buffer the buffer to read from
+   */
+  public Decoder(final ByteBuffer buffer) {
+    this.channel = null;
+    this.buffer = buffer;
+  }
+
+  /**
+   * Read from the channel until the buffer holds at least a number of bytes.
+   *
+   * @param n the number of bytes, no more than the size of the buffer
+   * @throws EOFException if the channel, or the buffer if there is no channel, ends first
+   * @throws IOException  if the channel fails
+   */
+  private void require(final int n) throws IOException {
+    if (buffer.remaining() >= n) {
+      return;
+    }
+
+    if (channel == null) {
+      throw new EOFException("expected " + n + " more bytes, but the buffer has " + buffer.remaining());
+    }
+
+    buffer.compact();
+
+    try {
+      while (buffer.position() < n) {
+        if (channel.read(buffer) < 0) {
+          throw new EOFException("expected " + n + " more bytes, but the channel ended after " + buffer.position());
+        }
+      }
+    } finally {
+      buffer.flip();
+    }
+  }
+
+  /**
+   * Read from the channel, if the buffer is empty, until it holds at least one byte or the channel ends.
+   *
+   * @return true if the buffer holds at least one byte
+   * @throws IOException if the channel fails
+   */
+  private boolean fill() throws IOException {
+    if (buffer.hasRemaining()) {
+      return true;
+    }
+
+    if (channel == null) {
+      return false;
+    }
+
+    buffer.clear();
+
+    try {
+      int read = 0;
+
+      while (read == 0) {
+        read = channel.read(buffer);
+      }
+
+      return read > 0;
+    } finally {
+      buffer.flip();
+    }
+  }
+
+  /**
+   * Read a single byte.
+   *
+   * @return the byte, as an int from 0 to 255
+   * @throws EOFException if the channel has ended
+   * @throws IOException  if the channel fails
+   */
+  public int readByte() throws IOException {
+    require(1);
+    return buffer.get() & 0xFF;
+  }
+
+  /**
+   * Read a boolean written as a single byte.
+   *
+   * @return the boolean
+   * @throws StreamCorruptedException if the byte is not 0 or 1
+   * @throws IOException              if the channel fails or ends
+   */
+  public boolean readBoolean() throws IOException {
+    final int b = readByte();
+
+    if (b > 1) {
+      throw new StreamCorruptedException("expected a boolean, 0 or 1, but read " + b);
+    }
+
+    return b == 1;
+  }
+
+  /**
+   * Read an int written as an unsigned varint.
+   *
+   * @return the int
+   * @throws StreamCorruptedException if the varint does not fit in an int
+   * @throws IOException              if the channel fails or ends
+   */
+  public int readVarInt() throws IOException {
+    final long l = readVarLong();
+
+    if ((l & ~0xFFFFFFFFL) != 0) {
+      throw new StreamCorruptedException("expected a varint of an int, but read " + l);
+    }
+
+    return (int) l;
+  }
+
+  /**
+   * Read an int written as a zigzag encoded varint.
+   *
+   * @return the int
+   * @throws IOException if the channel fails or ends, or the varint is malformed
+   */
+  public int readSignedVarInt() throws IOException {
+    final int i = readVarInt();
+    return (i >>> 1) ^ -(i & 1);
+  }
+
+  /**
+   * Read a long written as an unsigned varint.
+   *
+   * <p>When the buffer holds at least MAX_VARLONG_BYTES, the varint is decoded straight
+   * from it, without checking for the end of the buffer at every byte.
+   *
+   * @return the long
+   * @throws StreamCorruptedException if the varint is longer than MAX_VARLONG_BYTES
+   * @throws IOException              if the channel fails or ends
+   */
+  public long readVarLong() throws IOException {
+    if (buffer.remaining() < MAX_VARLONG_BYTES) {
+      return readVarLongSlowly();
+    }
+
+    long result = 0;
+
+    for (int shift = 0; shift < 7 * MAX_VARLONG_BYTES; shift += 7) {
+      final int b = buffer.get();
+      result |= (long) (b & 0x7F) << shift;
+
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+
+    throw new StreamCorruptedException("varint longer than " + MAX_VARLONG_BYTES + " bytes");
+  }
+
+  /**
+   * Read a long written as an unsigned varint a byte at a time, for when the buffer may not
+   * hold all of it.
+   *
+   * @return the long
+   * @throws StreamCorruptedException if the varint is longer than MAX_VARLONG_BYTES
+   * @throws IOException              if the channel fails or ends
+   */
+  private long readVarLongSlowly() throws IOException {
+    long result = 0;
+
+    for (int shift = 0; shift < 7 * MAX_VARLONG_BYTES; shift += 7) {
+      final int b = readByte();
+      result |= (long) (b & 0x7F) << shift;
+
+      if ((b & 0x80) == 0) {
+        return result;
+      }
+    }
+
+    throw new StreamCorruptedException("varint longer than " + MAX_VARLONG_BYTES + " bytes");
+  }
+
+  /**
+   * Read a long written as a zigzag encoded varint.
+   *
+   * @return the long
+   * @throws IOException if the channel fails or ends, or the varint is malformed
+   */
+  public long readSignedVarLong() throws IOException {
+    final long l = readVarLong();
+    return (l >>> 1) ^ -(l & 1);
+  }
+
+  /**
+   * Read a double written as its 8 raw bytes.
+   *
+   * @return the double
+   * @throws IOException if the channel fails or ends
+   */
+  public double readDouble() throws IOException {
+    require(Double.BYTES);
+    return buffer.getDouble();
+  }
+
+  /**
+   * Read an array of bytes prefixed with its length as a varint.
+   *
+   * <p>The array starts at no more than MAX_INITIAL_BYTES and doubles as the bytes arrive, so a
+   * corrupt or hostile length fails with an EOFException rather than allocating up front.
+   *
+   * @return the bytes
+   * @throws IOException if the channel fails or ends, or the length is malformed
+   */
+  public byte[] readBytes() throws IOException {
+    final int length = readLength();
+    byte[] bytes = new byte[Math.min(length, MAX_INITIAL_BYTES)];
+    int offset = 0;
+
+    while (offset < length) {
+      if (!fill()) {
+        throw new EOFException("expected " + (length - offset) + " more bytes, but the channel ended");
+      }
+
+      if (offset == bytes.length) {
+        bytes = Arrays.copyOf(bytes, (int) Math.min(length, 2L * bytes.length));
+      }
+
+      final int n = Math.min(buffer.remaining(), bytes.length - offset);
+      buffer.get(bytes, offset, n);
+      offset += n;
+    }
+
+    return bytes;
+  }
+
+  /**
+   * Read a String written as its UTF-8 bytes, prefixed with their length.
+   *
+   * @return the String
+   * @throws IOException if the channel fails or ends, or the length is malformed
+   */
+  public String readString() throws IOException {
+    return new String(readBytes(), StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Read a length or count written as a varint.
+   *
+   * @return the length
+   * @throws StreamCorruptedException if the length is negative
+   * @throws IOException              if the channel fails or ends
+   */
+  public int readLength() throws IOException {
+    final int length = readVarInt();
+
+    if (length < 0) {
+      throw new StreamCorruptedException("expected a length, but read " + (length & 0xFFFFFFFFL));
+    }
+
+    return length;
+  }
+}
@@ -0,0 +1,219 @@
+package ca.genovese.coffeecats.codec;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes primitive values to a WritableByteChannel through a buffer.
+ *
+ * <p>ints and longs are written as varints, 7 bits to a byte with the high bit set on every
+ * byte but the last, so small values take a single byte. The signed variants zigzag encode
+ * the value first, so that small negative values are small too. doubles are written as their
+ * 8 raw big-endian bytes.
+ *
+ * <p>Nothing reaches the channel until the buffer fills or flush is called, and the channel
+ * is not closed by the Encoder.
+ */
+public final class Encoder implements Flushable {
+  /**
+   * The default size of the buffer.
+   */
+  public static final int DEFAULT_BUFFER_SIZE = 1 << 16;
+
+  /**
+   * The most bytes a varint of a long takes.
+   */
+  private static final int MAX_VARLONG_BYTES = 10;
+
+  /**
+   * The channel written to.
+   */
+  private final WritableByteChannel channel;
+
+  /**
+   * The buffer holding bytes not yet written to the channel.
+   */
+  private final ByteBuffer buffer;
+
+  /**
+   * The number of bytes written to the channel so far.
+   */
+  private long flushed;
+
+  /**
+   * Constructor, with a buffer of DEFAULT_BUFFER_SIZE.
+   *
+   * @param channel the channel to write to
+   */
+  public Encoder(final WritableByteChannel channel) {
+    this(channel, DEFAULT_BUFFER_SIZE);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param channel    the channel to write to
+   * @param bufferSize the size of the buffer, at least MAX_VARLONG_BYTES
+   */
+  public Encoder(final WritableByteChannel channel, final int bufferSize) {
+    this.channel = channel;
+    this.buffer = ByteBuffer.allocate(Math.max(bufferSize, MAX_VARLONG_BYTES));
+  }
+
+  /**
+   * Make room in the buffer for a number of bytes, writing it to the channel if it has less.
+   *
+   * @param n the number of bytes, no more than the size of the buffer
+   * @throws IOException if the channel fails
+   */
+  private void ensure(final int n) throws IOException {
+    if (buffer.remaining() < n) {
+      flushBuffer();
+    }
+  }
+
+  /**
+   * Write everything in the buffer to the channel, and empty it.
+   *
+   * @throws IOException if the channel fails
+   */
+  private void flushBuffer() throws IOException {
+    buffer.flip();
+
+    while (buffer.hasRemaining()) {
+      flushed += channel.write(buffer);
+    }
+
+    buffer.clear();
+  }
+
+  /**
+   * Write everything buffered to the channel.
+   *
+   * @throws IOException if the channel fails
+   */
+  @Override
+  public void flush() throws IOException {
+    flushBuffer();
+  }
+
+  /**
+   * The number of bytes written, counting those still in the buffer.
+   *
+   * @return the number of bytes written
+   */
+  public long written() {
+    return flushed + buffer.position();
+  }
+
+  /**
+   * Write a single byte.
+   *
+   * @param b the byte
+   * @throws IOException if the channel fails
+   */
+  public void writeByte(final int b) throws IOException {
+    ensure(1);
+    buffer.put((byte) b);
+  }
+
+  /**
+   * Write a boolean as a single byte, 1 or 0.
+   *
+   * @param b the boolean
+   * @throws IOException if the channel fails
+   */
+  public void writeBoolean(final boolean b) throws IOException {
+    writeByte(b ? 1 : 0);
+  }
+
+  /**
+   * Write an int as an unsigned varint, taking 5 bytes if it is negative.
+   *
+   * @param i the int
+   * @throws IOException if the channel fails
+   */
+  public void writeVarInt(final int i) throws IOException {
+    writeVarLong(i & 0xFFFFFFFFL);
+  }
+
+  /**
+   * Write an int as a zigzag encoded varint, so that values near 0 take a single byte.
+   *
+   * @param i the int
+   * @throws IOException if the channel fails
+   */
+  public void writeSignedVarInt(final int i) throws IOException {
+    writeVarInt((i << 1) ^ (i >> 31));
+  }
+
+  /**
+   * Write a long as an unsigned varint, taking 10 bytes if it is negative.
+   *
+   * @param l the long
+   * @throws IOException if the channel fails
+   */
+  public void writeVarLong(final long l) throws IOException {
+    ensure(MAX_VARLONG_BYTES);
+    long rest = l;
+
+    while ((rest & ~0x7FL) != 0) {
+      buffer.put((byte) ((rest & 0x7F) | 0x80));
+      rest >>>= 7;
+    }
+
+    buffer.put((byte) rest);
+  }
+
+  /**
+   * Write a long as a zigzag encoded varint, so that values near 0 take a single byte.
+   *
+   * @param l the long
+   * @throws IOException if the channel fails
+   */
+  public void writeSignedVarLong(final long l) throws IOException {
+    writeVarLong((l << 1) ^ (l >> 63));
+  }
+
+  /**
+   * Write a double as its 8 raw bytes.
+   *
+   * @param d the double
+   * @throws IOException if the channel fails
+   */
+  public void writeDouble(final double d) throws IOException {
+    ensure(Double.BYTES);
+    buffer.putDouble(d);
+  }
+
+  /**
+   * Write an array of bytes, prefixed with its length as a varint.
+   *
+   * @param bytes the bytes
+   * @throws IOException if the channel fails
+   */
+  public void writeBytes(final byte[] bytes) throws IOException {
+    writeVarInt(bytes.length);
+    int offset = 0;
+
+    while (offset < bytes.length) {
+      ensure(1);
+      final int n = Math.min(buffer.remaining(), bytes.length - offset);
+      buffer.put(bytes, offset, n);
+      offset += n;
+    }
+  }
+
+  /**
+   * Write a String as its UTF-8 bytes, prefixed with their length as a varint.
+   *
+   * @param s the String
+   * @throws IOException if the channel fails
+   */
+  public void writeString(final String s) throws IOException {
+    writeBytes(s.getBytes(StandardCharsets.UTF_8));
+  }
+}
@@ -0,0 +1,491 @@
+package ca.genovese.coffeecats.codec;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * An immutable, indexed sequence of values read in place from a file written by write, and
+ * mapped into memory with FileChannel.map.
+ *
+ * <p>Opening a MappedSeq reads only the header of the file, so it takes the same time
+ * however long the sequence is, and its values are decoded with its Codec each time they
+ * are read, so only the values traversed are ever on the heap. The pages of the file are
+ * loaded, and shared between processes, by the operating system.
+ *
+ * <p>The file is a header, then every value written with the Codec, then an index of the
+ * offset of every value, so that get, drop and getTail do not have to decode the values
+ * before the one they return. Files larger than 1GB are mapped in several segments.
+ *
+ * <p>A MappedSeq is a view of the file: the file must not be changed while it is open, and
+ * its mapping is only released once it, and every view of it, has been garbage collected,
+ * so a MappedSeq is best opened once and kept. Reading a value which can not be decoded
+ * throws an UncheckedIOException.
+ *
+ * <p>map copies the mapped values into a List. asList views the sequence as a List which
+ * decodes each value the first time it is reached, so that the List API and the List
+ * CovariantFunctor can be used without copying the whole sequence first.
+ *
+ * @param <A> The type of the values in the sequence
+ */
+public final class MappedSeq<A> implements Iterable<A> {
+  /**
+   * The first 4 bytes of a MappedSeq file, "CCMS".
+   */
+  static final int MAGIC = 0x43434D53;
+
+  /**
+   * The version of the file format.
+   */
+  static final int VERSION = 1;
+
+  /**
+   * The size of the header: the magic number, the version, the number of values, the size
+   * of the largest value and the position of the index.
+   */
+  static final int HEADER_BYTES = 24;
+
+  /**
+   * The log2 of the size of the segments the file is mapped in, 1GB.
+   */
+  private static final int SEGMENT_SHIFT = 30;
+
+  /**
+   * The largest encoded value that can be written, so that a segment and the value
+   * starting at its end still fit in a single mapping.
+   */
+  private static final int MAX_VALUE_BYTES = Integer.MAX_VALUE - (1 << SEGMENT_SHIFT);
+
+  /**
+   * An empty buffer, read by values which take no bytes.
+   */
+  private static final ByteBuffer EMPTY = ByteBuffer.allocate(0);
+
+  /**
+   * The Codec the values are read with.
+   */
+  private final Codec<A> codec;
+
+  /**
+   * The mapped file.
+   */
+  private final Region file;
+
+  /**
+   * The position in the file of the index, which holds the position of every value, and of
+   * the end of the last.
+   */
+  private final long index;
+
+  /**
+   * The index of the first value in this sequence.
+   */
+  private final int from;
+
+  /**
+   * The index after the last value in this sequence.
+   */
+  private final int to;
+
+  /**
+   * Constructor.
+   *
+   * @param codec the Codec the values are read with
+   * @param file  the mapped file
+   * @param index the position in the file of the index
+   * @param from  the index of the first value in this sequence
+   * @param to    the index after the last value in this sequence
+   */
+  private MappedSeq(final Codec<A> codec, final Region file, final long index, final int from, final int to) {
+    this.codec = codec;
+    this.file = file;
+    this.index = index;
+    this.from = from;
+    this.to = to;
+  }
+
+  /**
+   * Write the items of a List to a file, replacing it if it exists, so that they can be
+   * opened as a MappedSeq.
+   *
+   * @param as    the List
+   * @param codec the Codec to write the items with
+   * @param path  the file
+   * @param <A>   the type of the items
+   * @throws IOException              if the file can not be written
+   * @throws IllegalArgumentException if an item takes more than 1GB to write
+   */
+  public static <A> void write(final List<A> as, final Codec<A> codec, final Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+        StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+      channel.position(HEADER_BYTES);
+
+      final long[] offsets = new long[as.length() + 1];
+      final Encoder out = new Encoder(channel);
+      long maxValueBytes = 0;
+      int i = 0;
+      offsets[0] = HEADER_BYTES;
+
+      for (final A a : as) {
+        codec.write(a, out);
+        offsets[++i] = HEADER_BYTES + out.written();
+        maxValueBytes = Math.max(maxValueBytes, offsets[i] - offsets[i - 1]);
+      }
+
+      if (maxValueBytes > MAX_VALUE_BYTES) {
+        throw new IllegalArgumentException("an item of " + maxValueBytes + " bytes is too large to map");
+      }
+
+      out.flush();
+
+      final ByteBuffer buffer = ByteBuffer.allocate(Encoder.DEFAULT_BUFFER_SIZE);
+
+      for (final long offset : offsets) {
+        if (buffer.remaining() < Long.BYTES) {
+          writeFully(channel, buffer);
+        }
+        buffer.putLong(offset);
+      }
+
+      writeFully(channel, buffer);
+
+      buffer.putInt(MAGIC).putInt(VERSION).putInt(i).putInt((int) maxValueBytes).putLong(offsets[i]);
+      channel.position(0);
+      writeFully(channel, buffer);
+    }
+  }
+
+  /**
+   * Open a file written by write.
+   *
+   * <p>The file is mapped, and the channel used to map it is closed, before open returns.
+   *
+   * @param path  the file
+   * @param codec the Codec to read the values with, which must read what the Codec given to
+   *              write wrote
+   * @param <A>   the type of the values
+   * @return a MappedSeq of the values in the file
+   * @throws StreamCorruptedException if the file was not written by write
+   * @throws IOException              if the file can not be read or mapped
+   */
+  public static <A> MappedSeq<A> open(final Path path, final Codec<A> codec) throws IOException {
+    return open(path, codec, SEGMENT_SHIFT);
+  }
+
+  /**
+   * Open a file written by write, mapping it in segments of a given size.
+   *
+   * @param path         the file
+   * @param codec        the Codec to read the values with
+   * @param segmentShift the log2 of the size of the segments, from 3 to SEGMENT_SHIFT
+   * @param <A>          the type of the values
+   * @return a MappedSeq of the values in the file
+   * @throws StreamCorruptedException if the file was not written by write
+   * @throws IOException              if the file can not be read or mapped
+   */
+  static <A> MappedSeq<A> open(final Path path, final Codec<A> codec, final int segmentShift) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES);
+
+      while (header.hasRemaining()) {
+        if (channel.read(header) < 0) {
+          throw new EOFException(path + " is too short to be a MappedSeq");
+        }
+      }
+
+      header.flip();
+
+      if (header.getInt() != MAGIC || header.getInt() != VERSION) {
+        throw new StreamCorruptedException(path + " is not a MappedSeq of version " + VERSION);
+      }
+
+      final int count = header.getInt();
+      final int maxValueBytes = header.getInt();
+      final long indexPosition = header.getLong();
+
+      if (count < 0 || maxValueBytes < 0 || maxValueBytes > MAX_VALUE_BYTES || indexPosition < HEADER_BYTES
+          || indexPosition + Long.BYTES * (count + 1L) != channel.size()) {
+        throw new StreamCorruptedException(path + " has a malformed header");
+      }
+
+      final Region file = Region.map(channel, segmentShift, Math.max(maxValueBytes, Long.BYTES));
+      return new MappedSeq<>(codec, file, indexPosition, 0, count);
+    }
+  }
+
+  /**
+   * Write all of a buffer to a channel, and clear it for reuse.
+   *
+   * @param channel the channel
+   * @param buffer  the buffer, holding the bytes to write from its start to its position
+   * @throws IOException if the channel fails
+   */
+  private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+    buffer.flip();
+
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+
+    buffer.clear();
+  }
+
+  /**
+   * The number of values in the sequence.
+   *
+   * @return the number of values
+   */
+  public int length() {
+    return to - from;
+  }
+
+  /**
+   * Tests whether the sequence is empty.
+   *
+   * @return true if the sequence has no values
+   */
+  public boolean isEmpty() {
+    return from == to;
+  }
+
+  /**
+   * Decode the value at an index.
+   *
+   * @param i the index
+   * @return the value at i
+   * @throws IndexOutOfBoundsException if i is not between 0 and length() - 1
+   * @throws UncheckedIOException      if the value can not be decoded
+   */
+  public A get(final int i) {
+    if (i < 0 || i >= length()) {
+      throw new IndexOutOfBoundsException("index " + i + " of a MappedSeq of length " + length());
+    }
+
+    return decode(from + i);
+  }
+
+  /**
+   * Decode the first value.
+   *
+   * @return the first value
+   * @throws NoSuchElementException if the sequence is empty
+   */
+  public A getHead() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("getHead on an empty MappedSeq");
+    }
+
+    return decode(from);
+  }
+
+  /**
+   * All values except the first, as a view of the same mapping.
+   *
+   * @return all values except the first
+   * @throws NoSuchElementException if the sequence is empty
+   */
+  public MappedSeq<A> getTail() {
+    if (isEmpty()) {
+      throw new NoSuchElementException("getTail on an empty MappedSeq");
+    }
+
+    return new MappedSeq<>(codec, file, index, from + 1, to);
+  }
+
+  /**
+   * All values except the first n, as a view of the same mapping.
+   *
+   * @param n the number of values to drop
+   * @return all values except the first n, or an empty sequence if there are no more than n
+   */
+  public MappedSeq<A> drop(final int n) {
+    return n <= 0 ? this : new MappedSeq<>(codec, file, index, from + Math.min(n, length()), to);
+  }
+
+  /**
+   * The first n values, as a view of the same mapping.
+   *
+   * @param n the number of values to take
+   * @return the first n values, or all of them if there are no more than n
+   */
+  public MappedSeq<A> take(final int n) {
+    return n >= length() ? this : new MappedSeq<>(codec, file, index, from, from + Math.max(n, 0));
+  }
+
+  /**
+   * Decode every value, apply a function to it, and collect the results into a List.
+   *
+   * @param f   the function to apply
+   * @param <B> the output type
+   * @return a List of the results, in order
+   */
+  public <B> List<B> map(final Function<A, B> f) {
+    final ListBuilder<B> builder = new ListBuilder<>(length());
+
+    for (int i = from; i < to; i++) {
+      builder.add(f.apply(decode(i)));
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Decode every value into a List.
+   *
+   * @return a List of the values, in order
+   */
+  public List<A> toList() {
+    return map(Function.identity());
+  }
+
+  /**
+   * View the sequence as a List which decodes each value the first time the List node
+   * holding it is reached, as List.fromJava does.
+   *
+   * @return a List of the values, decoded lazily
+   */
+  public List<A> asList() {
+    return List.fromJava(this);
+  }
+
+  /**
+   * An Iterator which decodes the values, in order.
+   *
+   * @return an Iterator over the values
+   */
+  @Override
+  public Iterator<A> iterator() {
+    return new Iterator<A>() {
+      private int next = from;
+
+      @Override
+      public boolean hasNext() {
+        return next < to;
+      }
+
+      @Override
+      public A next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return decode(next++);
+      }
+    };
+  }
+
+  /**
+   * Show the length of the sequence, without decoding its values.
+   *
+   * @return a String of the form MappedSeq(length=...)
+   */
+  @Override
+  public String toString() {
+    return "MappedSeq(length=" + length() + ")";
+  }
+
+  /**
+   * Decode the value at an index of the file.
+   *
+   * @param i the index in the file
+   * @return the value
+   * @throws UncheckedIOException if the value can not be decoded
+   */
+  private A decode(final int i) {
+    final long start = file.getLong(index + (long) i * Long.BYTES);
+    final long end = file.getLong(index + (long) (i + 1) * Long.BYTES);
+
+    try {
+      return codec.read(new Decoder(file.slice(start, (int) (end - start))));
+    } catch (final IOException e) {
+      throw new UncheckedIOException("value " + i + " can not be decoded", e);
+    }
+  }
+
+  /**
+   * A file, mapped in segments which each extend past the start of the next by the size of
+   * the largest value or of a long, so that every value and long is in a single segment.
+   */
+  private static final class Region {
+    /**
+     * The mapped segments.
+     */
+    private final ByteBuffer[] segments;
+
+    /**
+     * The log2 of the size of the segments, not counting their overlap.
+     */
+    private final int shift;
+
+    /**
+     * Constructor.
+     *
+     * @param segments the mapped segments
+     * @param shift    the log2 of the size of the segments, not counting their overlap
+     */
+    Region(final ByteBuffer[] segments, final int shift) {
+      this.segments = segments;
+      this.shift = shift;
+    }
+
+    /**
+     * Map a file.
+     *
+     * @param channel the file
+     * @param shift   the log2 of the size of the segments
+     * @param overlap the number of bytes each segment extends past the start of the next
+     * @return the mapped file
+     * @throws IOException if the file can not be mapped
+     */
+    static Region map(final FileChannel channel, final int shift, final int overlap) throws IOException {
+      final long length = channel.size();
+      final ByteBuffer[] segments = new ByteBuffer[(int) ((length + (1L << shift) - 1) >>> shift)];
+
+      for (int k = 0; k < segments.length; k++) {
+        final long position = (long) k << shift;
+        final long size = Math.min(length - position, (1L << shift) + overlap);
+        segments[k] = channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+      }
+
+      return new Region(segments, shift);
+    }
+
+    /**
+     * Read a long from the file.
+     *
+     * @param position the position of the long in the file
+     * @return the long
+     */
+    long getLong(final long position) {
+      return segments[(int) (position >>> shift)].getLong((int) (position & ((1L << shift) - 1)));
+    }
+
+    /**
+     * View some bytes of the file, without copying them.
+     *
+     * @param position the position of the bytes in the file
+     * @param length   the number of bytes, no more than the overlap of the segments
+     * @return a buffer holding the bytes from its position to its limit
+     */
+    ByteBuffer slice(final long position, final int length) {
+      if (length == 0) {
+        return EMPTY;
+      }
+
+      final ByteBuffer segment = segments[(int) (position >>> shift)].duplicate();
+      final int offset = (int) (position & ((1L << shift) - 1));
+      segment.limit(offset + length).position(offset);
+      return segment;
+    }
+  }
+}
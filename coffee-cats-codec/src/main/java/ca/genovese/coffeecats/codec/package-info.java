@@ -0,0 +1,4 @@
+/**
+ * A compact, streaming binary codec for the coffee-cats data types over NIO channels.
+ */
+package ca.genovese.coffeecats.codec;
@@ -0,0 +1,168 @@
+package ca.genovese.coffeecats.codec;
+
+import ca.genovese.coffeecats.data.Unit;
+import ca.genovese.coffeecats.data.eval.Eval;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.channels.Channels;
+import java.util.Arrays;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test that values written with the Codecs are read back unchanged.
+ */
+public final class CodecTest {
+
+  /**
+   * Write a value and return the bytes written.
+   *
+   * @param codec the Codec to write with
+   * @param a     the value
+   * @param <A>   the type of the value
+   * @return the bytes written
+   * @throws IOException never, as the channel is in memory
+   */
+  private static <A> byte[] encode(final Codec<A> codec, final A a) throws IOException {
+    final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    Codecs.encode(codec, a, Channels.newChannel(bytes));
+    return bytes.toByteArray();
+  }
+
+  /**
+   * Read a value from bytes.
+   *
+   * @param codec the Codec to read with
+   * @param bytes the bytes
+   * @param <A>   the type of the value
+   * @return the value
+   * @throws IOException if the bytes are malformed or too few
+   */
+  private static <A> A decode(final Codec<A> codec, final byte[] bytes) throws IOException {
+    return Codecs.decode(codec, Channels.newChannel(new ByteArrayInputStream(bytes)));
+  }
+
+  /**
+   * Write a value and read it back.
+   *
+   * @param codec the Codec to use
+   * @param a     the value
+   * @param <A>   the type of the value
+   * @return the value read back
+   * @throws IOException never, as the channel is in memory
+   */
+  private static <A> A roundTrip(final Codec<A> codec, final A a) throws IOException {
+    return decode(codec, encode(codec, a));
+  }
+
+  /**
+   * Test the primitive codecs, and the sizes of the varints.
+   *
+   * @throws IOException never
+   */
+  @Test
+  @DisplayName("Primitive codecs round trip ")
+  public void testPrimitives() throws IOException {
+    for (final int i : new int[]{0, 1, -1, 63, -64, 64, Integer.MAX_VALUE, Integer.MIN_VALUE}) {
+      assertEquals(i, roundTrip(Codecs.intCodec, i).intValue());
+    }
+
+    for (final long l : new long[]{0, -1, 1L << 40, Long.MAX_VALUE, Long.MIN_VALUE}) {
+      assertEquals(l, roundTrip(Codecs.longCodec, l).longValue());
+    }
+
+    assertAll(
+        () -> assertEquals(1, encode(Codecs.intCodec, -64).length, "small negative ints take one byte"),
+        () -> assertEquals(2, encode(Codecs.intCodec, 64).length, "64 zigzags to 128, which takes two bytes"),
+        () -> assertEquals(5, encode(Codecs.intCodec, Integer.MIN_VALUE).length, "ints take at most 5 bytes"),
+        () -> assertEquals(10, encode(Codecs.longCodec, Long.MIN_VALUE).length, "longs take at most 10 bytes"),
+        () -> assertEquals(0, encode(Codecs.unitCodec, Unit.unit).length, "Unit takes no bytes"),
+        () -> assertEquals(0.1, roundTrip(Codecs.doubleCodec, 0.1), 0.0),
+        () -> assertEquals("caf\u00e9", roundTrip(Codecs.stringCodec, "caf\u00e9"), "Strings keep their characters"),
+        () -> assertTrue(roundTrip(Codecs.booleanCodec, true), "booleans round trip")
+    );
+  }
+
+  /**
+   * Test the codecs for the data types.
+   *
+   * @throws IOException never
+   */
+  @Test
+  @DisplayName("Data type codecs round trip ")
+  public void testDataTypes() throws IOException {
+    final Codec<List<Tuple2<Option<String>, Eval<Long>>>> codec =
+        Codecs.list(Codecs.tuple2(Codecs.option(Codecs.stringCodec), Codecs.eval(Codecs.longCodec)));
+    final List<Tuple2<Option<String>, Eval<Long>>> value = List.of(
+        new Tuple2<>(Option.some("a"), Eval.now(1L)),
+        new Tuple2<>(Option.none(), Eval.later(() -> 2L)));
+    final List<Tuple2<Option<String>, Eval<Long>>> read = roundTrip(codec, value);
+
+    assertAll(
+        () -> assertEquals(2, read.length(), "the List should keep its length"),
+        () -> assertEquals(Option.some("a"), read.getHead().getA(), "a Some should round trip"),
+        () -> assertEquals(Option.none(), read.getTail().getHead().getA(), "a None should round trip"),
+        () -> assertEquals(2L, read.getTail().getHead().getB().value().longValue(), "an Eval should be forced"),
+        () -> assertEquals(Unit.unit, roundTrip(Codecs.option(Codecs.unitCodec), Option.some(Unit.unit)).get(),
+            "Unit should round trip")
+    );
+  }
+
+  /**
+   * Test that a List of a million items round trips without overflowing the stack, and that a
+   * String longer than readBytes' first allocation round trips as its array grows.
+   *
+   * @throws IOException never
+   */
+  @Test
+  @DisplayName("Large values round trip ")
+  public void testLargeList() throws IOException {
+    final char[] cs = new char[200000];
+    Arrays.fill(cs, 'x');
+    assertEquals(new String(cs), roundTrip(Codecs.stringCodec, new String(cs)));
+
+    final ListBuilder<Integer> builder = new ListBuilder<>();
+
+    for (int i = 0; i < 1000000; i++) {
+      builder.add(i - 500000);
+    }
+
+    final List<Integer> is = builder.build();
+    assertEquals(is, roundTrip(Codecs.list(Codecs.intCodec), is));
+  }
+
+  /**
+   * Test that truncated and malformed input is rejected.
+   *
+   * @throws IOException never
+   */
+  @Test
+  @DisplayName("Malformed input is rejected ")
+  public void testMalformedInput() throws IOException {
+    final byte[] bytes = encode(Codecs.list(Codecs.stringCodec), List.of("abc", "def"));
+    final byte[] overlong = new byte[11];
+    Arrays.fill(overlong, (byte) 0x80);
+
+    assertAll(
+        () -> expectThrows(EOFException.class,
+            () -> decode(Codecs.list(Codecs.stringCodec), Arrays.copyOf(bytes, bytes.length - 1))),
+        () -> expectThrows(EOFException.class, () -> decode(Codecs.intCodec, new byte[0])),
+        () -> expectThrows(StreamCorruptedException.class, () -> decode(Codecs.longCodec, overlong)),
+        () -> expectThrows(StreamCorruptedException.class, () -> decode(Codecs.booleanCodec, new byte[]{2})),
+        () -> expectThrows(EOFException.class,
+            () -> decode(Codecs.stringCodec, new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07, 'a'})),
+        () -> expectThrows(StreamCorruptedException.class,
+            () -> decode(Codecs.list(Codecs.intCodec), new byte[]{(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x0F}))
+    );
+  }
+}
@@ -0,0 +1,111 @@
+package ca.genovese.coffeecats.codec;
+
+import ca.genovese.coffeecats.data.Unit;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.io.IOException;
+import java.io.StreamCorruptedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.NoSuchElementException;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test that MappedSeq reads back the Lists written to its files.
+ */
+public final class MappedSeqTest {
+
+  /**
+   * Test that a List of Strings of different lengths reads back the same, when the file is
+   * mapped in one segment and when it is mapped in segments smaller than the values.
+   *
+   * @throws IOException if the temporary file can not be written
+   */
+  @Test
+  @DisplayName("MappedSeq reads back its List ")
+  public void testRoundTrip() throws IOException {
+    final ListBuilder<String> builder = new ListBuilder<>();
+
+    for (int i = 0; i < 1000; i++) {
+      builder.add(Integer.toString(i * i));
+    }
+
+    final List<String> strings = builder.build();
+    final Path path = Files.createTempFile("mapped", ".seq");
+
+    try {
+      MappedSeq.write(strings, Codecs.stringCodec, path);
+
+      for (final int shift : new int[]{3, 4, 10, 30}) {
+        final MappedSeq<String> seq = MappedSeq.open(path, Codecs.stringCodec, shift);
+
+        assertAll(
+            () -> assertEquals(1000, seq.length(), "the length should be kept"),
+            () -> assertEquals(strings, seq.toList(), "the values should read back in order, shift " + shift),
+            () -> assertEquals("998001", seq.get(999), "get should decode one value"),
+            () -> assertEquals("1", seq.getTail().getHead(), "getTail should drop the first value"),
+            () -> assertEquals(strings, seq.asList(), "asList should read back the same List")
+        );
+      }
+    } finally {
+      Files.delete(path);
+    }
+  }
+
+  /**
+   * Test the views of a MappedSeq, and of an empty MappedSeq.
+   *
+   * @throws IOException if the temporary file can not be written
+   */
+  @Test
+  @DisplayName("MappedSeq views ")
+  public void testViews() throws IOException {
+    final Path path = Files.createTempFile("mapped", ".seq");
+    final Path emptyPath = Files.createTempFile("empty", ".seq");
+
+    try {
+      MappedSeq.write(List.of(1L, -2L, 3L, -4L), Codecs.longCodec, path);
+      MappedSeq.write(List.of(), Codecs.longCodec, emptyPath);
+      final MappedSeq<Long> seq = MappedSeq.open(path, Codecs.longCodec);
+      final MappedSeq<Long> empty = MappedSeq.open(emptyPath, Codecs.longCodec);
+
+      assertAll(
+          () -> assertEquals(List.of(-2L, 3L), seq.drop(1).take(2).toList(), "drop and take should view a range"),
+          () -> assertEquals(List.of(2L, -4L, 6L, -8L), seq.map(l -> l * 2), "map should build a List"),
+          () -> assertTrue(seq.drop(10).isEmpty(), "dropping everything should leave an empty sequence"),
+          () -> assertTrue(empty.isEmpty(), "an empty List should write an empty sequence"),
+          () -> assertEquals(List.of(), empty.toList(), "an empty sequence should read an empty List"),
+          () -> expectThrows(NoSuchElementException.class, empty::getHead),
+          () -> expectThrows(IndexOutOfBoundsException.class, () -> seq.get(4))
+      );
+    } finally {
+      Files.delete(path);
+      Files.delete(emptyPath);
+    }
+  }
+
+  /**
+   * Test that values which take no bytes, and files which are not MappedSeqs, are handled.
+   *
+   * @throws IOException if the temporary file can not be written
+   */
+  @Test
+  @DisplayName("MappedSeq edge cases ")
+  public void testEdgeCases() throws IOException {
+    final Path path = Files.createTempFile("mapped", ".seq");
+
+    try {
+      MappedSeq.write(List.of(Unit.unit, Unit.unit), Codecs.unitCodec, path);
+      assertEquals(List.of(Unit.unit, Unit.unit), MappedSeq.open(path, Codecs.unitCodec).toList());
+
+      Files.write(path, new byte[MappedSeq.HEADER_BYTES]);
+      expectThrows(StreamCorruptedException.class, () -> MappedSeq.open(path, Codecs.unitCodec));
+    } finally {
+      Files.delete(path);
+    }
+  }
+}
@@ -0,0 +1,34 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.column.ColumnPair;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.structures.CovariantFunctor;
+
+import java.util.function.Function;
+
+/**
+ * An object which implements all the applicable structures for ColumnPair.
+ *
+ * <p>Mapping a ColumnPair maps its column of second values only, sharing the column
+ * of first values, so no pairs are built.
+ */
+public final class ColumnPairInstance implements CovariantFunctor<ColumnPair> {
+  /**
+   * A convenience instance of ColumnPairInstance.
+   */
+  public static final ColumnPairInstance columnPairInstance = new ColumnPairInstance();
+
+  /**
+   * An Implementation of Map for ColumnPair.
+   *
+   * @param fa  The starting ColumnPair
+   * @param f   The function to map over the second values of fa
+   * @param <A> The input type
+   * @param <B> The output type
+   * @return A ColumnPair of the first values of fa and the results of f
+   */
+  @Override
+  public <A, B> Kind<ColumnPair, B> map(final Kind<ColumnPair, A> fa, final Function<A, B> f) {
+    return ((ColumnPair<?, A>) fa).mapSecond(f);
+  }
+}
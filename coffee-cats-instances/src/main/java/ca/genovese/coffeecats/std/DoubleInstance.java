@@ -0,0 +1,55 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.structures.Monoid;
+
+/**
+ * An object which implements all the applicable structures for Double.
+ *
+ * <p>Floating-point addition is not associative, so combineAllParallel, which sums chunks
+ * of the values separately, may differ from combineAll in the last bits of the result.
+ */
+public final class DoubleInstance implements Monoid<Double> {
+  /**
+   * A convenience instance of DoubleInstance.
+   */
+  public static final DoubleInstance doubleInstance = new DoubleInstance();
+
+  /**
+   * The identity for addition.
+   *
+   * @return 0.0
+   */
+  @Override
+  public Double empty() {
+    return 0.0;
+  }
+
+  /**
+   * Combine two Doubles by adding them.
+   *
+   * @param x the first value
+   * @param y the second value
+   * @return x + y
+   */
+  @Override
+  public Double combine(final Double x, final Double y) {
+    return x + y;
+  }
+
+  /**
+   * Sum all the values in as, without boxing intermediate results.
+   *
+   * @param as the values to sum
+   * @return the sum of the values in as
+   */
+  @Override
+  public Double combineAll(final Iterable<Double> as) {
+    double result = 0.0;
+
+    for (final Double a : as) {
+      result += a;
+    }
+
+    return result;
+  }
+}
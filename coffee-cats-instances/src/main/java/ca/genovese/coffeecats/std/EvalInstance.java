@@ -1,20 +1,35 @@
 package ca.genovese.coffeecats.std;
 
+import ca.genovese.coffeecats.data.either.Either;
 import ca.genovese.coffeecats.data.eval.Eval;
 import ca.genovese.coffeecats.kind.Kind;
 import ca.genovese.coffeecats.structures.CovariantFunctor;
+import ca.genovese.coffeecats.structures.Monad;
 
 import java.util.function.Function;
 
 /**
- * An object which implements all the applicable structures for Option.
+ * An object which implements all the applicable structures for Eval.
  */
-public final class EvalInstance implements CovariantFunctor<Eval> {
+public final class EvalInstance implements Monad<Eval> {
   /**
    * A convenience instance of EvalInstance.
    */
   public static final EvalInstance evalInstance = new EvalInstance();
 
+  /**
+   * Compose with another CovariantFunctor, producing a FusedComposite
+   * which maps both layers in a single traversal.
+   *
+   * @param g   the CovariantFunctor Implementation to compose with this
+   * @param <G> the type for which you have a CovariantFunctor to compose with this
+   * @return a {@code CovariantFunctor<Eval<G<?>>>}
+   */
+  @Override
+  public <G> CovariantFunctor<Kind<Eval, G>> compose(final CovariantFunctor<G> g) {
+    return new FusedComposite<>(this, g);
+  }
+
   /**
    * An Implementation of Map for Eval.
    *
@@ -28,4 +43,50 @@ public final class EvalInstance implements CovariantFunctor<Eval> {
   public <A, B> Kind<Eval, B> map(final Kind<Eval, A> fa, final Function<A, B> f) {
     return ((Eval<A>) fa).map(f);
   }
+
+  /**
+   * An Implementation of Pure for Eval.
+   *
+   * @param a   The value of the Eval
+   * @param <A> The type of the value
+   * @return Eval.now(a)
+   */
+  @Override
+  public <A> Kind<Eval, A> pure(final A a) {
+    return Eval.now(a);
+  }
+
+  /**
+   * An Implementation of FlatMap for Eval.
+   *
+   * @param fa  The starting Eval
+   * @param f   The function to apply to the value of fa
+   * @param <A> The input type
+   * @param <B> The output type
+   * @return An Eval with f applied
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <A, B> Kind<Eval, B> flatMap(final Kind<Eval, A> fa, final Function<A, Kind<Eval, B>> f) {
+    return ((Eval<A>) fa).flatMap(a -> (Eval<B>) f.apply(a));
+  }
+
+  /**
+   * An Implementation of TailRecM for Eval.
+   *
+   * <p>Each step is a lazy flatMap, so the loop runs on the trampoline in
+   * Eval.value, in constant stack space.
+   *
+   * @param a   The starting value
+   * @param f   The step function
+   * @param <A> The type of the intermediate values
+   * @param <B> The output type
+   * @return An Eval of the value of the first Right
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <A, B> Kind<Eval, B> tailRecM(final A a, final Function<A, Kind<Eval, Either<A, B>>> f) {
+    return ((Eval<Either<A, B>>) f.apply(a)).flatMap(e ->
+        e.isLeft() ? (Eval<B>) tailRecM(e.getLeft(), f) : Eval.now(e.getRight()));
+  }
 }
@@ -0,0 +1,181 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.eval.Eval;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.structures.CovariantFunctor;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * An implementation of CovariantFunctor for any number of nested CovariantFunctors
+ * which maps all the layers in a single traversal.
+ *
+ * <p>Where CovariantFunctor.Composite lifts the function through each layer and
+ * rebuilds every layer separately, FusedComposite walks the nested structure once,
+ * recognising ListInstance, OptionInstance and EvalInstance layers and
+ * reusing any part of the structure whose contents are unchanged: None and
+ * the empty List are returned as-is, a Some whose value maps to the same
+ * reference is returned as-is, and the unchanged suffix of a List is shared.
+ * Other layers are mapped through their own CovariantFunctor.
+ *
+ * @param <F> the outer data type
+ * @param <G> the inner data type
+ */
+public final class FusedComposite<F, G> implements CovariantFunctor<Kind<F, G>> {
+  /**
+   * The CovariantFunctor for each layer, from the outermost to the innermost.
+   */
+  private final CovariantFunctor<?>[] layers;
+
+  /**
+   * Constructor.
+   *
+   * @param f the outer data type's CovariantFunctor implementation
+   * @param g the inner data type's CovariantFunctor implementation
+   */
+  FusedComposite(final CovariantFunctor<F> f, final CovariantFunctor<G> g) {
+    this(concat(layersOf(f), layersOf(g)));
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param layers the CovariantFunctor for each layer, from the outermost to the innermost
+   */
+  private FusedComposite(final CovariantFunctor<?>[] layers) {
+    this.layers = layers;
+  }
+
+  /**
+   * The layers of a CovariantFunctor, which is a single layer unless it is itself a FusedComposite.
+   *
+   * @param f a CovariantFunctor
+   * @return the layers of f, from the outermost to the innermost
+   */
+  private static CovariantFunctor<?>[] layersOf(final CovariantFunctor<?> f) {
+    return f instanceof FusedComposite ? ((FusedComposite<?, ?>) f).layers : new CovariantFunctor<?>[] {f};
+  }
+
+  /**
+   * Concatenate two arrays of layers.
+   *
+   * @param outer the outer layers
+   * @param inner the inner layers
+   * @return the outer layers followed by the inner layers
+   */
+  private static CovariantFunctor<?>[] concat(final CovariantFunctor<?>[] outer, final CovariantFunctor<?>[] inner) {
+    final CovariantFunctor<?>[] result = Arrays.copyOf(outer, outer.length + inner.length);
+    System.arraycopy(inner, 0, result, outer.length, inner.length);
+    return result;
+  }
+
+  /**
+   * Compose with another CovariantFunctor by adding it as the innermost layer.
+   *
+   * @param h   the CovariantFunctor Implementation to compose with this
+   * @param <H> the type for which you have a CovariantFunctor to compose with this
+   * @return a {@code CovariantFunctor<F<G<H<?>>>>}
+   */
+  @Override
+  public <H> CovariantFunctor<Kind<Kind<F, G>, H>> compose(final CovariantFunctor<H> h) {
+    return new FusedComposite<>(concat(layers, layersOf(h)));
+  }
+
+  /**
+   * A map implementation for {@code F<G<?>>} which maps every layer in one traversal.
+   *
+   * @param fa  an {@code F<G<A>>}
+   * @param f   the function to apply
+   * @param <A> the input type
+   * @param <B> the output type
+   * @return an {@code F<G<B>>}
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <A, B> Kind<Kind<F, G>, B> map(final Kind<Kind<F, G>, A> fa, final Function<A, B> f) {
+    return (Kind<Kind<F, G>, B>) mapLayer(0, fa, (Function<Object, Object>) f);
+  }
+
+  /**
+   * Map the contents of a layer.
+   *
+   * @param depth the index of the layer in layers
+   * @param value a value of the layer's type
+   * @param f     the function to apply to the innermost values
+   * @return the mapped value, which is the same reference if nothing in it changed
+   */
+  @SuppressWarnings("unchecked")
+  private Object mapLayer(final int depth, final Object value, final Function<Object, Object> f) {
+    final CovariantFunctor<?> layer = layers[depth];
+
+    if (layer instanceof ListInstance) {
+      return mapList(depth, (List<Object>) value, f);
+    } else if (layer instanceof OptionInstance) {
+      final Option<Object> option = (Option<Object>) value;
+
+      if (!option.isDefined()) {
+        return option;
+      }
+
+      final Object in = option.get();
+      final Object out = mapElement(depth, in, f);
+      return out == in ? option : Option.some(out);
+    } else if (layer instanceof EvalInstance) {
+      return ((Eval<Object>) value).map(in -> mapElement(depth, in, f));
+    } else {
+      return ((CovariantFunctor<Object>) layer).map((Kind<Object, Object>) value, in -> mapElement(depth, in, f));
+    }
+  }
+
+  /**
+   * Map a value contained in a layer, which is either a value of the next
+   * layer's type or, for the innermost layer, a value to apply f to.
+   *
+   * @param depth the index in layers of the layer containing the value
+   * @param value the contained value
+   * @param f     the function to apply to the innermost values
+   * @return the mapped value
+   */
+  private Object mapElement(final int depth, final Object value, final Function<Object, Object> f) {
+    return depth == layers.length - 1 ? f.apply(value) : mapLayer(depth + 1, value, f);
+  }
+
+  /**
+   * Map the items of a List layer in order, sharing the longest suffix
+   * of the original List whose items are unchanged.
+   *
+   * @param depth the index of the layer in layers
+   * @param as    the List to map
+   * @param f     the function to apply to the innermost values
+   * @return the mapped List
+   */
+  private List<Object> mapList(final int depth, final List<Object> as, final Function<Object, Object> f) {
+    final Object[] bs = new Object[as.length()];
+    int lastChanged = -1;
+    List<Object> rest = as;
+
+    for (int i = 0; i < bs.length; i++) {
+      final Object a = rest.getHead();
+      bs[i] = mapElement(depth, a, f);
+      if (bs[i] != a) {
+        lastChanged = i;
+      }
+      rest = rest.getTail();
+    }
+
+    List<Object> result = as;
+
+    for (int i = 0; i <= lastChanged; i++) {
+      result = result.getTail();
+    }
+
+    for (int i = lastChanged; i >= 0; i--) {
+      result = List.cons(bs[i], result);
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,52 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.structures.Monoid;
+
+/**
+ * An object which implements all the applicable structures for Integer.
+ */
+public final class IntegerInstance implements Monoid<Integer> {
+  /**
+   * A convenience instance of IntegerInstance.
+   */
+  public static final IntegerInstance integerInstance = new IntegerInstance();
+
+  /**
+   * The identity for addition.
+   *
+   * @return 0
+   */
+  @Override
+  public Integer empty() {
+    return 0;
+  }
+
+  /**
+   * Combine two Integers by adding them.
+   *
+   * @param x the first value
+   * @param y the second value
+   * @return x + y
+   */
+  @Override
+  public Integer combine(final Integer x, final Integer y) {
+    return x + y;
+  }
+
+  /**
+   * Sum all the values in as, without boxing intermediate results.
+   *
+   * @param as the values to sum
+   * @return the sum of the values in as
+   */
+  @Override
+  public Integer combineAll(final Iterable<Integer> as) {
+    int result = 0;
+
+    for (final Integer a : as) {
+      result += a;
+    }
+
+    return result;
+  }
+}
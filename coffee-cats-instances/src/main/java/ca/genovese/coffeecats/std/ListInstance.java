@@ -1,20 +1,53 @@
 package ca.genovese.coffeecats.std;
 
+import ca.genovese.coffeecats.data.either.Either;
 import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
 import ca.genovese.coffeecats.kind.Kind;
 import ca.genovese.coffeecats.structures.CovariantFunctor;
+import ca.genovese.coffeecats.structures.Monad;
+import ca.genovese.coffeecats.structures.Monoid;
 
 import java.util.function.Function;
 
 /**
  * An object which implements all the applicable structures for List.
  */
-public final class ListInstance implements CovariantFunctor<List> {
+public final class ListInstance implements Monad<List> {
   /**
    * A convenience instance of ListInstance.
    */
   public static final ListInstance listInstance = new ListInstance();
 
+  /**
+   * The Monoid for List, shared by all element types.
+   */
+  private static final ListMonoid<?> LIST_MONOID = new ListMonoid<>();
+
+  /**
+   * A Monoid for List where combine is concatenation and empty is the empty List.
+   *
+   * @param <A> The type of the items in the List
+   * @return A Monoid for {@code List<A>}
+   */
+  @SuppressWarnings("unchecked")
+  public <A> Monoid<List<A>> monoid() {
+    return (Monoid<List<A>>) LIST_MONOID;
+  }
+
+  /**
+   * Compose with another CovariantFunctor, producing a FusedComposite
+   * which maps both layers in a single traversal.
+   *
+   * @param g   the CovariantFunctor Implementation to compose with this
+   * @param <G> the type for which you have a CovariantFunctor to compose with this
+   * @return a {@code CovariantFunctor<List<G<?>>>}
+   */
+  @Override
+  public <G> CovariantFunctor<Kind<List, G>> compose(final CovariantFunctor<G> g) {
+    return new FusedComposite<>(this, g);
+  }
+
   /**
    * An Implementation of Map for List.
    *
@@ -37,4 +70,128 @@ public final class ListInstance implements CovariantFunctor<List> {
 
     return result;
   }
+
+  /**
+   * An Implementation of Pure for List.
+   *
+   * @param a   The value to put in the List
+   * @param <A> The type of the value
+   * @return A List containing only a
+   */
+  @Override
+  public <A> Kind<List, A> pure(final A a) {
+    return List.of(a);
+  }
+
+  /**
+   * An Implementation of FlatMap for List.
+   *
+   * @param fa  The starting List
+   * @param f   The function to apply to each item of fa
+   * @param <A> The input type
+   * @param <B> The output type
+   * @return A List of the items of the Lists returned by f, in order
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <A, B> Kind<List, B> flatMap(final Kind<List, A> fa, final Function<A, Kind<List, B>> f) {
+    final ListBuilder<B> builder = new ListBuilder<>();
+
+    for (final A a : (List<A>) fa) {
+      builder.addAll((List<B>) f.apply(a));
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * An Implementation of TailRecM for List.
+   *
+   * <p>The Lists returned by f are explored depth first, keeping the
+   * unexplored remainders on a List used as a stack, so the results are
+   * in the same order as a recursive flatMap would produce, in constant stack space.
+   *
+   * @param a   The starting value
+   * @param f   The step function
+   * @param <A> The type of the intermediate values
+   * @param <B> The output type
+   * @return A List of the values of the Rights produced by f
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <A, B> Kind<List, B> tailRecM(final A a, final Function<A, Kind<List, Either<A, B>>> f) {
+    final ListBuilder<B> builder = new ListBuilder<>();
+    List<List<Either<A, B>>> stack = List.of((List<Either<A, B>>) f.apply(a));
+
+    while (!stack.isEmpty()) {
+      final List<Either<A, B>> top = stack.getHead();
+      stack = stack.getTail();
+
+      if (!top.isEmpty()) {
+        final Either<A, B> e = top.getHead();
+        stack = List.cons(top.getTail(), stack);
+
+        if (e.isLeft()) {
+          stack = List.cons((List<Either<A, B>>) f.apply(e.getLeft()), stack);
+        } else {
+          builder.add(e.getRight());
+        }
+      }
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * A Monoid for List where combine is concatenation and empty is the empty List.
+   *
+   * @param <A> The type of the items in the List
+   */
+  private static final class ListMonoid<A> implements Monoid<List<A>> {
+    /**
+     * The empty List.
+     *
+     * @return the empty List
+     */
+    @Override
+    public List<A> empty() {
+      return List.of();
+    }
+
+    /**
+     * Concatenate two Lists.
+     *
+     * @param x the first List
+     * @param y the second List
+     * @return the items of x followed by the items of y
+     */
+    @Override
+    public List<A> combine(final List<A> x, final List<A> y) {
+      return x.append(y);
+    }
+
+    /**
+     * Concatenate all the Lists in as, starting from the last so that
+     * each List is only copied once.
+     *
+     * @param as the Lists to concatenate
+     * @return the items of all the Lists in as, in order
+     */
+    @Override
+    public List<A> combineAll(final Iterable<List<A>> as) {
+      List<List<A>> reversed = List.of();
+
+      for (final List<A> a : as) {
+        reversed = List.cons(a, reversed);
+      }
+
+      List<A> result = List.of();
+
+      for (final List<A> a : reversed) {
+        result = a.append(result);
+      }
+
+      return result;
+    }
+  }
 }
@@ -0,0 +1,34 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.list.ListView;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.structures.CovariantFunctor;
+
+import java.util.function.Function;
+
+/**
+ * An object which implements all the applicable structures for ListView.
+ *
+ * <p>Mapping a ListView only records the function, so chains of maps are
+ * applied in a single pass when the view is forced.
+ */
+public final class ListViewInstance implements CovariantFunctor<ListView> {
+  /**
+   * A convenience instance of ListViewInstance.
+   */
+  public static final ListViewInstance listViewInstance = new ListViewInstance();
+
+  /**
+   * An Implementation of Map for ListView.
+   *
+   * @param fa  The starting ListView
+   * @param f   The function to map over fa
+   * @param <A> The input type
+   * @param <B> The output type
+   * @return A ListView with f recorded
+   */
+  @Override
+  public <A, B> Kind<ListView, B> map(final Kind<ListView, A> fa, final Function<A, B> f) {
+    return ((ListView<A>) fa).map(f);
+  }
+}
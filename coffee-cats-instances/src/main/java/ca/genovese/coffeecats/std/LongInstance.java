@@ -0,0 +1,52 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.structures.Monoid;
+
+/**
+ * An object which implements all the applicable structures for Long.
+ */
+public final class LongInstance implements Monoid<Long> {
+  /**
+   * A convenience instance of LongInstance.
+   */
+  public static final LongInstance longInstance = new LongInstance();
+
+  /**
+   * The identity for addition.
+   *
+   * @return 0L
+   */
+  @Override
+  public Long empty() {
+    return 0L;
+  }
+
+  /**
+   * Combine two Longs by adding them.
+   *
+   * @param x the first value
+   * @param y the second value
+   * @return x + y
+   */
+  @Override
+  public Long combine(final Long x, final Long y) {
+    return x + y;
+  }
+
+  /**
+   * Sum all the values in as, without boxing intermediate results.
+   *
+   * @param as the values to sum
+   * @return the sum of the values in as
+   */
+  @Override
+  public Long combineAll(final Iterable<Long> as) {
+    long result = 0L;
+
+    for (final Long a : as) {
+      result += a;
+    }
+
+    return result;
+  }
+}
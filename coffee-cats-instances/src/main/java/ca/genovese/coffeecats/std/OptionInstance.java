@@ -1,8 +1,13 @@
 package ca.genovese.coffeecats.std;
 
+import ca.genovese.coffeecats.data.either.Either;
+import ca.genovese.coffeecats.data.list.ListBuilder;
 import ca.genovese.coffeecats.data.option.Option;
 import ca.genovese.coffeecats.kind.Kind;
 import ca.genovese.coffeecats.structures.CovariantFunctor;
+import ca.genovese.coffeecats.structures.Monad;
+import ca.genovese.coffeecats.structures.Monoid;
+import ca.genovese.coffeecats.structures.Semigroup;
 
 import java.util.function.Function;
 
@@ -12,12 +17,25 @@ import static ca.genovese.coffeecats.data.option.Option.some;
 /**
  * An object which implements all the applicable structures for Option.
  */
-public final class OptionInstance implements CovariantFunctor<Option> {
+public final class OptionInstance implements Monad<Option> {
   /**
    * A convenience instance of OptionInstance.
    */
   public static final OptionInstance optionInstance = new OptionInstance();
 
+  /**
+   * Compose with another CovariantFunctor, producing a FusedComposite
+   * which maps both layers in a single traversal.
+   *
+   * @param g   the CovariantFunctor Implementation to compose with this
+   * @param <G> the type for which you have a CovariantFunctor to compose with this
+   * @return a {@code CovariantFunctor<Option<G<?>>>}
+   */
+  @Override
+  public <G> CovariantFunctor<Kind<Option, G>> compose(final CovariantFunctor<G> g) {
+    return new FusedComposite<>(this, g);
+  }
+
   /**
    * An Implementation of Map for Option.
    *
@@ -30,6 +48,142 @@ public final class OptionInstance implements CovariantFunctor<Option> {
   @Override
   @SuppressWarnings("unchecked")
   public <A, B> Kind<Option, B> map(final Kind<Option, A> fa, final Function<A, B> f) {
-    return fa.getRealType().isDefined() ? some(f.apply((A) fa.getRealType().get())) : none();
+    return ((Option<A>) fa).map(f);
+  }
+
+  /**
+   * An Implementation of Pure for Option.
+   *
+   * @param a   The value to put in the Option
+   * @param <A> The type of the value
+   * @return Some(a)
+   */
+  @Override
+  public <A> Kind<Option, A> pure(final A a) {
+    return some(a);
+  }
+
+  /**
+   * An Implementation of FlatMap for Option.
+   *
+   * @param fa  The starting Option
+   * @param f   The function to apply to the value in fa
+   * @param <A> The input type
+   * @param <B> The output type
+   * @return None if fa was None, or f.apply(fa.get()) if fa was a Some
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <A, B> Kind<Option, B> flatMap(final Kind<Option, A> fa, final Function<A, Kind<Option, B>> f) {
+    // Every Kind<Option, B> is an Option<B>, so f can be passed on as it is rather than wrapped.
+    return ((Option<A>) fa).flatMap((Function<A, Option<B>>) (Function) f);
+  }
+
+  /**
+   * An Implementation of TailRecM for Option, as a loop.
+   *
+   * @param a   The starting value
+   * @param f   The step function
+   * @param <A> The type of the intermediate values
+   * @param <B> The output type
+   * @return None if f ever returns None, otherwise Some of the value of the first Right
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <A, B> Kind<Option, B> tailRecM(final A a, final Function<A, Kind<Option, Either<A, B>>> f) {
+    A current = a;
+
+    while (true) {
+      final Option<Either<A, B>> step = (Option<Either<A, B>>) f.apply(current);
+
+      if (!step.isDefined()) {
+        return none();
+      } else if (step.get().isRight()) {
+        return some(step.get().getRight());
+      } else {
+        current = step.get().getLeft();
+      }
+    }
+  }
+
+  /**
+   * A Monoid for Option where combine combines the contained values
+   * when both are defined, and empty is None.
+   *
+   * @param s   The Semigroup used to combine the contained values
+   * @param <A> The type of the value in the Option
+   * @return A Monoid for {@code Option<A>}
+   */
+  public <A> Monoid<Option<A>> monoid(final Semigroup<A> s) {
+    return new OptionMonoid<>(s);
+  }
+
+  /**
+   * A Monoid for Option built from a Semigroup for the contained values.
+   *
+   * @param <A> The type of the value in the Option
+   */
+  private static final class OptionMonoid<A> implements Monoid<Option<A>> {
+    /**
+     * The Semigroup used to combine the contained values.
+     */
+    private final Semigroup<A> s;
+
+    /**
+     * Constructor.
+     *
+     * @param s The Semigroup used to combine the contained values
+     */
+    OptionMonoid(final Semigroup<A> s) {
+      this.s = s;
+    }
+
+    /**
+     * None.
+     *
+     * @return None
+     */
+    @Override
+    public Option<A> empty() {
+      return none();
+    }
+
+    /**
+     * Combine two Options, returning the other Option if either one is None.
+     *
+     * @param x the first Option
+     * @param y the second Option
+     * @return x if y is None, y if x is None, otherwise Some of the combined values
+     */
+    @Override
+    public Option<A> combine(final Option<A> x, final Option<A> y) {
+      if (!x.isDefined()) {
+        return y;
+      } else if (!y.isDefined()) {
+        return x;
+      } else {
+        return some(s.combine(x.get(), y.get()));
+      }
+    }
+
+    /**
+     * Combine all the defined values in as with s.combineAllOption, so that the cost is that
+     * of the Semigroup's combineAllOption rather than of a left fold of combine.
+     *
+     * @param as the Options to combine
+     * @return None if no Option in as is defined, otherwise Some of the combined values
+     */
+    @Override
+    public Option<A> combineAll(final Iterable<Option<A>> as) {
+      final ListBuilder<A> values = new ListBuilder<>();
+
+      for (final Option<A> o : as) {
+        if (o.isDefined()) {
+          values.add(o.get());
+        }
+      }
+
+      return s.combineAllOption(values.build());
+    }
   }
 }
@@ -0,0 +1,199 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.structures.CovariantFunctor;
+
+import java.util.ArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+/**
+ * A CovariantFunctor for List which maps large Lists in parallel.
+ *
+ * <p>Lists with at least threshold items are split into segments of threshold items,
+ * each segment is mapped by a task on the ForkJoinPool, and the result is assembled
+ * from the last segment to the first so that it is built in order without reversing.
+ * Shorter Lists are mapped sequentially by ListInstance.
+ *
+ * <p>The function being mapped must be safe to call from multiple threads.
+ */
+public final class ParallelListInstance implements CovariantFunctor<List> {
+  /**
+   * The default number of items in each segment, and the length below which Lists are mapped sequentially.
+   */
+  public static final int DEFAULT_THRESHOLD = 2048;
+
+  /**
+   * A convenience instance of ParallelListInstance which runs on the common ForkJoinPool.
+   */
+  public static final ParallelListInstance parallelListInstance =
+      new ParallelListInstance(ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+
+  /**
+   * The pool on which segments are mapped.
+   */
+  private final ForkJoinPool pool;
+
+  /**
+   * The number of items in each segment, and the length below which Lists are mapped sequentially.
+   */
+  private final int threshold;
+
+  /**
+   * Constructor.
+   *
+   * @param pool      The pool on which segments are mapped
+   * @param threshold The number of items in each segment, and the length below which Lists are mapped sequentially
+   */
+  public ParallelListInstance(final ForkJoinPool pool, final int threshold) {
+    if (threshold < 1) {
+      throw new IllegalArgumentException("threshold must be at least 1");
+    }
+    this.pool = pool;
+    this.threshold = threshold;
+  }
+
+  /**
+   * An Implementation of Map for List which maps segments of the List in parallel.
+   *
+   * @param fa  The starting List
+   * @param f   The function to map over fa
+   * @param <A> The input type
+   * @param <B> The output type
+   * @return A List of the values from fa after having had f applied to them
+   */
+  @Override
+  public <A, B> Kind<List, B> map(final Kind<List, A> fa, final Function<A, B> f) {
+    @SuppressWarnings("unchecked")
+    final List<A> as = fa.getRealType();
+
+    if (as.drop(threshold).isEmpty()) {
+      return ListInstance.listInstance.map(as, f);
+    }
+
+    final ArrayList<MapSegment<A, B>> segments = pool.invoke(new Split<>(as, f, threshold));
+    List<B> result = List.of();
+
+    for (int s = segments.size() - 1; s >= 0; s--) {
+      final Object[] bs = segments.get(s).bs;
+
+      for (int i = bs.length - 1; i >= 0; i--) {
+        @SuppressWarnings("unchecked")
+        final B b = (B) bs[i];
+        result = List.cons(b, result);
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * A task, run on the pool, which walks the List once forking a MapSegment
+   * for every threshold items, and waits for them all to complete.
+   *
+   * @param <A> The input type
+   * @param <B> The output type
+   */
+  private static final class Split<A, B> extends RecursiveTask<ArrayList<MapSegment<A, B>>> {
+    /**
+     * The List to map.
+     */
+    private final List<A> as;
+    /**
+     * The function to map over as.
+     */
+    private final Function<A, B> f;
+    /**
+     * The number of items in each segment.
+     */
+    private final int threshold;
+
+    /**
+     * Constructor.
+     *
+     * @param as        The List to map
+     * @param f         The function to map over as
+     * @param threshold The number of items in each segment
+     */
+    Split(final List<A> as, final Function<A, B> f, final int threshold) {
+      this.as = as;
+      this.f = f;
+      this.threshold = threshold;
+    }
+
+    /**
+     * Fork a MapSegment for every threshold items and wait for them all to complete.
+     *
+     * @return the completed segments, in order
+     */
+    @Override
+    protected ArrayList<MapSegment<A, B>> compute() {
+      final ArrayList<MapSegment<A, B>> segments = new ArrayList<>();
+      List<A> rest = as;
+
+      while (!rest.isEmpty()) {
+        final List<A> next = rest.drop(threshold);
+        final MapSegment<A, B> segment = new MapSegment<>(rest, next.isEmpty() ? rest.length() : threshold, f);
+        segment.fork();
+        segments.add(segment);
+        rest = next;
+      }
+
+      for (final MapSegment<A, B> segment : segments) {
+        segment.join();
+      }
+
+      return segments;
+    }
+  }
+
+  /**
+   * A task which maps a segment of a List into an array.
+   *
+   * @param <A> The input type
+   * @param <B> The output type
+   */
+  private static final class MapSegment<A, B> extends RecursiveAction {
+    /**
+     * The first cell of the segment.
+     */
+    private final List<A> start;
+    /**
+     * The function to map over the segment.
+     */
+    private final Function<A, B> f;
+    /**
+     * The mapped values of the segment, in order.
+     */
+    private final Object[] bs;
+
+    /**
+     * Constructor.
+     *
+     * @param start  The first cell of the segment
+     * @param length The number of items in the segment
+     * @param f      The function to map over the segment
+     */
+    MapSegment(final List<A> start, final int length, final Function<A, B> f) {
+      this.start = start;
+      this.f = f;
+      this.bs = new Object[length];
+    }
+
+    /**
+     * Apply f to each item in the segment.
+     */
+    @Override
+    protected void compute() {
+      List<A> rest = start;
+
+      for (int i = 0; i < bs.length; i++) {
+        bs[i] = f.apply(rest.getHead());
+        rest = rest.getTail();
+      }
+    }
+  }
+}
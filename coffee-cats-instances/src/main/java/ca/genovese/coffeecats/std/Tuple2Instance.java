@@ -0,0 +1,99 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.structures.Monoid;
+
+/**
+ * An object which implements all the applicable structures for Tuple2.
+ */
+public final class Tuple2Instance {
+  /**
+   * A convenience instance of Tuple2Instance.
+   */
+  public static final Tuple2Instance tuple2Instance = new Tuple2Instance();
+
+  /**
+   * A Monoid for Tuple2 which combines the elements pairwise.
+   *
+   * @param ma  The Monoid for the first element
+   * @param mb  The Monoid for the second element
+   * @param <A> The type of the first element
+   * @param <B> The type of the second element
+   * @return A Monoid for {@code Tuple2<A, B>}
+   */
+  public <A, B> Monoid<Tuple2<A, B>> monoid(final Monoid<A> ma, final Monoid<B> mb) {
+    return new Tuple2Monoid<>(ma, mb);
+  }
+
+  /**
+   * A Monoid for Tuple2 built from Monoids for each of its elements.
+   *
+   * @param <A> The type of the first element
+   * @param <B> The type of the second element
+   */
+  private static final class Tuple2Monoid<A, B> implements Monoid<Tuple2<A, B>> {
+    /**
+     * The Monoid for the first element.
+     */
+    private final Monoid<A> ma;
+    /**
+     * The Monoid for the second element.
+     */
+    private final Monoid<B> mb;
+
+    /**
+     * Constructor.
+     *
+     * @param ma The Monoid for the first element
+     * @param mb The Monoid for the second element
+     */
+    Tuple2Monoid(final Monoid<A> ma, final Monoid<B> mb) {
+      this.ma = ma;
+      this.mb = mb;
+    }
+
+    /**
+     * A Tuple2 of the empty values for each element.
+     *
+     * @return (ma.empty(), mb.empty())
+     */
+    @Override
+    public Tuple2<A, B> empty() {
+      return new Tuple2<>(ma.empty(), mb.empty());
+    }
+
+    /**
+     * Combine two Tuple2s pairwise.
+     *
+     * @param x the first Tuple2
+     * @param y the second Tuple2
+     * @return (x.a combined with y.a, x.b combined with y.b)
+     */
+    @Override
+    public Tuple2<A, B> combine(final Tuple2<A, B> x, final Tuple2<A, B> y) {
+      return new Tuple2<>(ma.combine(x.getA(), y.getA()), mb.combine(x.getB(), y.getB()));
+    }
+
+    /**
+     * Combine all the Tuple2s in as by combining all their first elements with ma.combineAll
+     * and all their second elements with mb.combineAll, so that the cost is that of the
+     * element Monoids' combineAll rather than of a left fold of combine.
+     *
+     * @param as the Tuple2s to combine
+     * @return (the combined first elements, the combined second elements)
+     */
+    @Override
+    public Tuple2<A, B> combineAll(final Iterable<Tuple2<A, B>> as) {
+      final ListBuilder<A> firsts = new ListBuilder<>();
+      final ListBuilder<B> seconds = new ListBuilder<>();
+
+      for (final Tuple2<A, B> t : as) {
+        firsts.add(t.getA());
+        seconds.add(t.getB());
+      }
+
+      return new Tuple2<>(ma.combineAll(firsts.build()), mb.combineAll(seconds.build()));
+    }
+  }
+}
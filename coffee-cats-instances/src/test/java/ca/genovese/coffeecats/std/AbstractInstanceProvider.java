@@ -1,20 +1,78 @@
 package ca.genovese.coffeecats.std;
 
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Shrink;
 import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.laws.Large;
 import org.junit.gen5.api.extension.ExtensionContext;
 import org.junit.gen5.api.extension.ParameterResolver;
 
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Abstract class for ParameterResolvers providing instances for Law Tests.
  *
+ * <p>How each parameter is resolved is worked out from its generic type once, and cached
+ * for each subclass, so a law which is run many times only reflects over its parameters once.
+ * The cache is keyed by subclass, which relies on type() returning the same class for every
+ * instance of a subclass.
+ *
+ * <p>Parameters annotated with Large are supported only by providers which implement LargeProvider,
+ * and Gen and Shrink parameters only by providers which implement GenProvider.
+ *
  * @param <S> Structure type
  * @param <F> Data type
  */
 public abstract class AbstractInstanceProvider<S, F> implements ParameterResolver {
+  /**
+   * How each parameter is resolved, for each subclass.
+   */
+  private static final ClassValue<ConcurrentMap<Parameter, Resolution>> RESOLUTIONS =
+      new ClassValue<ConcurrentMap<Parameter, Resolution>>() {
+        @Override
+        protected ConcurrentMap<Parameter, Resolution> computeValue(final Class<?> type) {
+          return new ConcurrentHashMap<>();
+        }
+      };
+
+  /**
+   * The ways in which a parameter can be resolved.
+   */
+  private enum Resolution {
+    /**
+     * Resolved with instance().
+     */
+    INSTANCE,
+    /**
+     * Resolved with LargeProvider.large().
+     */
+    LARGE,
+    /**
+     * Resolved with kind().
+     */
+    KIND,
+    /**
+     * Resolved with GenProvider.gen().
+     */
+    GEN,
+    /**
+     * Resolved with GenProvider.shrink().
+     */
+    SHRINK,
+    /**
+     * Supported, but resolved with null.
+     */
+    NULL,
+    /**
+     * Not supported.
+     */
+    UNSUPPORTED
+  }
   /**
    * provide an instance of the available structures.
    *
@@ -61,7 +119,63 @@ public abstract class AbstractInstanceProvider<S, F> implements ParameterResolve
   public final boolean supports(final Parameter parameter,
                           final Optional<Object> target,
                           final ExtensionContext extensionContext) {
-    return isInstance(parameter) || isKind(parameter);
+    return resolution(parameter) != Resolution.UNSUPPORTED;
+  }
+
+  /**
+   * Look up how the parameter is resolved, working it out on first use.
+   *
+   * @param parameter the parameter to be resolved
+   * @return the way the parameter is resolved
+   */
+  private Resolution resolution(final Parameter parameter) {
+    return RESOLUTIONS.get(getClass()).computeIfAbsent(parameter, this::classify);
+  }
+
+  /**
+   * Work out how the parameter is resolved from its generic type.
+   *
+   * @param parameter the parameter to be resolved
+   * @return the way the parameter is resolved
+   */
+  private Resolution classify(final Parameter parameter) {
+    if (isInstance(parameter)) {
+      return Resolution.INSTANCE;
+    } else if (isKind(parameter) && parameter.isAnnotationPresent(Large.class)) {
+      return this instanceof LargeProvider ? Resolution.LARGE : Resolution.UNSUPPORTED;
+    } else if (isKind(parameter) && getTypeArgName(parameter, 1).equals("A")) {
+      return Resolution.KIND;
+    } else if (isKind(parameter)) {
+      return Resolution.NULL;
+    } else if (isOfKind(parameter, Gen.class)) {
+      return this instanceof GenProvider ? Resolution.GEN : Resolution.UNSUPPORTED;
+    } else if (isOfKind(parameter, Shrink.class)) {
+      return this instanceof GenProvider ? Resolution.SHRINK : Resolution.UNSUPPORTED;
+    } else {
+      return Resolution.UNSUPPORTED;
+    }
+  }
+
+  /**
+   * Determine if the parameter is a {@code Gen<Kind<F, A>>}, {@code Shrink<Kind<F, A>>} or the like.
+   *
+   * @param parameter the parameter to be resolved
+   * @param type      the class of the parameter, such as Gen or Shrink
+   * @return true if the parameter is of the correct type
+   */
+  private boolean isOfKind(final Parameter parameter, final Class<?> type) {
+    if (!parameter.getType().equals(type) || !(parameter.getParameterizedType() instanceof ParameterizedType)) {
+      return false;
+    }
+
+    final Type arg = ((ParameterizedType) parameter.getParameterizedType()).getActualTypeArguments()[0];
+
+    if (!(arg instanceof ParameterizedType) || !((ParameterizedType) arg).getRawType().equals(Kind.class)) {
+      return false;
+    }
+
+    final Type[] args = ((ParameterizedType) arg).getActualTypeArguments();
+    return args[0].getTypeName().equals("F") && args[1].getTypeName().equals("A");
   }
 
   /**
@@ -119,16 +233,22 @@ public abstract class AbstractInstanceProvider<S, F> implements ParameterResolve
    * @see java.lang.reflect.Constructor
    */
   @Override
-  @SuppressWarnings("unchecked")
   public final Object resolve(final Parameter parameter,
                         final Optional<Object> target,
                         final ExtensionContext extensionContext) {
-    if (isInstance(parameter)) {
-      return instance();
-    } else if (isKind(parameter) && getTypeArgName(parameter, 1).equals("A")) {
-      return kind();
-    } else {
-      return null;
+    switch (resolution(parameter)) {
+      case INSTANCE:
+        return instance();
+      case LARGE:
+        return ((LargeProvider<?>) this).large();
+      case KIND:
+        return kind();
+      case GEN:
+        return ((GenProvider<?>) this).gen();
+      case SHRINK:
+        return ((GenProvider<?>) this).shrink();
+      default:
+        return null;
     }
   }
 }
@@ -0,0 +1,158 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Shrink;
+import ca.genovese.coffeecats.structures.Monoid;
+import org.junit.gen5.api.extension.ExtensionContext;
+import org.junit.gen5.api.extension.ParameterResolver;
+
+import java.lang.reflect.Parameter;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.TypeVariable;
+import java.util.Optional;
+
+/**
+ * Abstract class for ParameterResolvers providing Monoids and values for Law Tests.
+ *
+ * @param <A> The type for which the Monoid is being tested
+ */
+public abstract class AbstractMonoidProvider<A> implements ParameterResolver {
+  /**
+   * provide the Monoid being tested.
+   *
+   * @return a Monoid for A
+   */
+  protected abstract Monoid<A> instance();
+
+  /**
+   * provide distinct values of A, the nth parameter of type A receives the nth value.
+   *
+   * @return a non-empty List of values of A
+   */
+  protected abstract List<A> values();
+
+  /**
+   * provide a Gen of values of A, for laws checked against generated values.
+   *
+   * @return a Gen of A
+   */
+  protected abstract Gen<A> gen();
+
+  /**
+   * provide a Shrink for values of A, used to reduce a failing generated value.
+   *
+   * @return a Shrink for A
+   */
+  protected abstract Shrink<A> shrink();
+
+  /**
+   * Determine if this resolver supports resolution of the given {@link Parameter}.
+   *
+   * @param parameter the parameter to be resolved
+   * @param target the container for the target on which the {@code java.lang.reflect.Executable}
+   *     will be invoked
+   * @param extensionContext the extension context for the {@code Executable}
+   *     about to be invoked
+   * @return {@code true} if this resolver can resolve the parameter
+   */
+  @Override
+  public final boolean supports(final Parameter parameter,
+                                final Optional<Object> target,
+                                final ExtensionContext extensionContext) {
+    return isInstance(parameter) || isValue(parameter)
+        || isOfA(parameter, Gen.class) || isOfA(parameter, Shrink.class);
+  }
+
+  /**
+   * Determine if the parameter is of the given type, with A as its type argument.
+   *
+   * @param parameter the parameter to be resolved
+   * @param type      the expected type
+   * @return true if the parameter is of the correct type
+   */
+  private boolean isOfA(final Parameter parameter, final Class<?> type) {
+    return parameter.getType().equals(type)
+        && parameter.getParameterizedType() instanceof ParameterizedType
+        && ((ParameterizedType) parameter.getParameterizedType()).getActualTypeArguments()[0]
+        .getTypeName().equals("A");
+  }
+
+  /**
+   * Determine if the parameter is for a Semigroup or Monoid of A.
+   *
+   * @param parameter the parameter to be resolved
+   * @return true if the parameter is of the correct type
+   */
+  private boolean isInstance(final Parameter parameter) {
+    return parameter.getType().isAssignableFrom(Monoid.class)
+        && parameter.getParameterizedType() instanceof ParameterizedType
+        && ((ParameterizedType) parameter.getParameterizedType()).getActualTypeArguments()[0]
+        .getTypeName().equals("A");
+  }
+
+  /**
+   * Determine if the parameter is for a value of A.
+   *
+   * @param parameter the parameter to be resolved
+   * @return true if the parameter is of the correct type
+   */
+  private boolean isValue(final Parameter parameter) {
+    return parameter.getParameterizedType() instanceof TypeVariable
+        && parameter.getParameterizedType().getTypeName().equals("A");
+  }
+
+  /**
+   * Count the parameters of type A which precede the given parameter.
+   *
+   * @param parameter the parameter to be resolved
+   * @return the number of preceding parameters of type A
+   */
+  private int valueIndex(final Parameter parameter) {
+    int index = 0;
+
+    for (final Parameter p : parameter.getDeclaringExecutable().getParameters()) {
+      if (p.equals(parameter)) {
+        return index;
+      } else if (isValue(p)) {
+        index++;
+      }
+    }
+
+    return index;
+  }
+
+  /**
+   * Resolve the given {@link Parameter}.
+   *
+   * @param parameter the parameter to be resolved
+   * @param target the container for the target on which the {@code java.lang.reflect.Executable}
+   *     will be invoked
+   * @param extensionContext the extension context for the {@code Executable}
+   *     about to be invoked
+   * @return the resolved parameter object
+   */
+  @Override
+  public final Object resolve(final Parameter parameter,
+                              final Optional<Object> target,
+                              final ExtensionContext extensionContext) {
+    if (isInstance(parameter)) {
+      return instance();
+    } else if (isValue(parameter)) {
+      final List<A> values = values();
+      List<A> rest = values;
+
+      for (int i = valueIndex(parameter); i > 0; i--) {
+        rest = rest.getTail().isEmpty() ? values : rest.getTail();
+      }
+
+      return rest.getHead();
+    } else if (isOfA(parameter, Gen.class)) {
+      return gen();
+    } else if (isOfA(parameter, Shrink.class)) {
+      return shrink();
+    } else {
+      return null;
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.column.Column;
+import ca.genovese.coffeecats.data.column.ColumnPair;
+import ca.genovese.coffeecats.kind.Kind;
+
+
+/**
+ * An implementation of ParameterResolver which returns ColumnPairInstances and Kinds.
+ */
+public final class ColumnPairInstanceProvider
+    extends AbstractInstanceProvider<ColumnPairInstance, Kind<ColumnPair, Integer>> {
+
+  /**
+   * Return a ColumnPairInstance.
+   *
+   * @return ColumnPairInstance.columnPairInstance
+   */
+  @Override
+  protected ColumnPairInstance instance() {
+    return ColumnPairInstance.columnPairInstance;
+  }
+
+  /**
+   * Return a ColumnPair of Strings and unboxed ints.
+   *
+   * @return a ColumnPair of ("a", 1), ("b", 2), ("c", 3)
+   */
+  @Override
+  protected Kind<ColumnPair, Integer> kind() {
+    return ColumnPair.zip(Column.of("a", "b", "c"), Column.ofInts(1, 2, 3));
+  }
+
+  /**
+   * Returns a type to be used to check for implemenations
+   * of interfaces in the structures package for ColumnPair.
+   *
+   * @return ColumnPairInstance.class
+   */
+  @Override
+  protected Class<ColumnPairInstance> type() {
+    return ColumnPairInstance.class;
+  }
+}
@@ -0,0 +1,33 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.column.Column;
+import ca.genovese.coffeecats.data.column.ColumnPair;
+import ca.genovese.coffeecats.laws.CovariantFunctorLaws;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.api.extension.ExtendWith;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertSame;
+
+/**
+ * Test that the ColumnPairInstance follows the CovariantFunctorLaws.
+ */
+@ExtendWith(ColumnPairInstanceProvider.class)
+@ExtendWith(FunctionProvider.class)
+public class ColumnPairInstanceTest implements CovariantFunctorLaws<ColumnPair> {
+
+  /**
+   * Test that map shares the column of first values and maps the second.
+   */
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testMapSharesFirstColumn() {
+    final Column<String> names = Column.of("a", "b");
+    final ColumnPair<String, Integer> pair = ColumnPair.zip(names, Column.ofInts(1, 2));
+    final ColumnPair<String, Integer> mapped =
+        (ColumnPair<String, Integer>) ColumnPairInstance.columnPairInstance.map(pair, (Integer i) -> i * 10);
+
+    assertSame(names, mapped.first());
+    assertEquals(Column.of(10, 20), mapped.second());
+  }
+}
@@ -0,0 +1,93 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.eval.Eval;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListView;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Generators;
+import ca.genovese.coffeecats.laws.Complexity;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+/**
+ * Test that the operations on List and Eval, and the functor instances, grow no faster than expected.
+ */
+public class ComplexityTest {
+  /**
+   * Lists of exactly the size they are generated with.
+   */
+  private static final Gen<List<Integer>> LISTS = Gen.sized(Generators::intListOfN);
+
+  /**
+   * Evals at the end of a chain of as many flatMaps as the size they are generated with.
+   */
+  private static final Gen<Eval<Integer>> EVALS = Generators.evalOf(Gen.intGen);
+
+  /**
+   * Test that the check catches an operation which is accidentally O(n^2).
+   */
+  @Test
+  @DisplayName("Complexity detects quadratic growth ")
+  public void testQuadraticIsDetected() {
+    final double slope = Complexity.slope(LISTS, l -> {
+      List<Integer> result = List.of();
+
+      for (final Integer i : l) {
+        result = result.append(List.of(i));
+      }
+
+      return result;
+    }, 1 << 8, 1 << 12);
+
+    assertTrue(slope > Complexity.LINEAR.getMaxSlope(), "appending in a loop should be detected as worse than O(n)");
+    assertTrue(slope <= Complexity.QUADRATIC.getMaxSlope(), "appending in a loop should be O(n^2)");
+  }
+
+  /**
+   * Test the growth of the List operations.
+   */
+  @Test
+  @DisplayName("List complexity ")
+  public void testListComplexity() {
+    Complexity.CONSTANT.check(LISTS, l -> List.cons(0, l));
+    Complexity.CONSTANT.check(LISTS, List::getTail);
+    Complexity.LINEAR.check(LISTS, List::length);
+    Complexity.LINEAR.check(LISTS, List::reverse);
+    Complexity.LINEAR.check(LISTS, l -> l.append(l));
+    Complexity.LINEAR.check(LISTS, List::hashCode);
+    Complexity.LINEAR.check(LISTS, List::toString);
+    Complexity.LINEAR.check(LISTS.map(l -> new Tuple2<>(l, l.reverse().reverse())), t -> t.getA().equals(t.getB()));
+  }
+
+  /**
+   * Test the growth of the Eval operations.
+   */
+  @Test
+  @DisplayName("Eval complexity ")
+  public void testEvalComplexity() {
+    Complexity.CONSTANT.check(EVALS, e -> e.map(x -> x + 1));
+    Complexity.CONSTANT.check(Gen.sized(n -> Gen.unit(Eval.now(n))), Eval::value);
+    Complexity.LINEAR.check(EVALS, Eval::value);
+  }
+
+  /**
+   * Test the growth of map and flatMap for the functor instances.
+   */
+  @Test
+  @DisplayName("Functor instance complexity ")
+  @SuppressWarnings("unchecked")
+  public void testFunctorComplexity() {
+    Complexity.LINEAR.check(LISTS, l -> ListInstance.listInstance.map(l, x -> x + 1));
+    Complexity.LINEAR.check(LISTS, l -> ListInstance.listInstance.flatMap(l, x -> List.of(x, x)));
+    Complexity.LINEAR.check(LISTS, l -> ParallelListInstance.parallelListInstance.map(l, x -> x + 1));
+    Complexity.LINEAR.check(LISTS, l -> ((ListView<Integer>) ListViewInstance.listViewInstance.map(l.view(), x -> x + 1))
+        .force());
+    Complexity.LINEAR.check(EVALS, e -> ((Eval<Integer>) EvalInstance.evalInstance.map(e, x -> x + 1)).value());
+    Complexity.CONSTANT.check(Gen.sized(n -> Gen.unit(Option.some(n))),
+        o -> OptionInstance.optionInstance.map(o, x -> x + 1));
+  }
+}
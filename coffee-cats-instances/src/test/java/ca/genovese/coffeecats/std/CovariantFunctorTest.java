@@ -2,6 +2,9 @@ package ca.genovese.coffeecats.std;
 
 import ca.genovese.coffeecats.data.list.List;
 import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.ObjDoublePair;
+import ca.genovese.coffeecats.data.tuple.ObjIntPair;
+import ca.genovese.coffeecats.data.tuple.ObjLongPair;
 import ca.genovese.coffeecats.data.tuple.Tuple2;
 import ca.genovese.coffeecats.kind.Kind;
 import ca.genovese.coffeecats.laws.CovariantFunctorLaws;
@@ -41,6 +44,19 @@ public final class CovariantFunctorTest {
         F.fproduct(List.of(1, 2, 3, 4), Object::toString));
   }
 
+  /**
+   * Test the primitive fproduct methods.
+   */
+  @Test
+  public void testFunctorFproductPrimitive() {
+    assertEquals(List.of(new ObjIntPair<>("a", 1), new ObjIntPair<>("bb", 2)),
+        F.fproductInt(List.of("a", "bb"), String::length));
+    assertEquals(List.of(new ObjLongPair<>(1, 1L << 33)),
+        F.fproductLong(List.of(1), i -> (long) i << 33));
+    assertEquals(List.of(new ObjDoublePair<>(1, 0.5)),
+        F.fproductDouble(List.of(1), i -> i / 2.0));
+  }
+
   /**
    * Test the clear method.
    */
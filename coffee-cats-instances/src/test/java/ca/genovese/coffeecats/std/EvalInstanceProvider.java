@@ -1,12 +1,18 @@
 package ca.genovese.coffeecats.std;
 
 import ca.genovese.coffeecats.data.eval.Eval;
+import ca.genovese.coffeecats.gen.FunctionalRandom;
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Generators;
+import ca.genovese.coffeecats.gen.Shrink;
 import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.laws.ScaleLaws;
 
 /**
  * An implementation of ParameterResolver which returns Option Instances and Kinds.
  */
-public final class EvalInstanceProvider extends AbstractInstanceProvider<EvalInstance, Kind<Eval, Integer>> {
+public final class EvalInstanceProvider extends AbstractInstanceProvider<EvalInstance, Kind<Eval, Integer>>
+    implements LargeProvider<Kind<Eval, Integer>>, GenProvider<Kind<Eval, Integer>> {
 
   /**
    * Return an implementation of the interfaces in the structures package for Option.
@@ -28,6 +34,36 @@ public final class EvalInstanceProvider extends AbstractInstanceProvider<EvalIns
     return Eval.now(1);
   }
 
+  /**
+   * Return a Gen of Evals at the end of chains of Gen.DEFAULT_SIZE flatMaps.
+   *
+   * @return Generators.evalOf(Gen.intGen)
+   */
+  @Override
+  public Gen<Kind<Eval, Integer>> gen() {
+    return Generators.evalOf(Gen.intGen).map(e -> e);
+  }
+
+  /**
+   * Return a Shrink which shrinks a generated Eval to Evals of its value's shrinks.
+   *
+   * @return Shrink.shrinkInt mapped to and from Eval.now
+   */
+  @Override
+  public Shrink<Kind<Eval, Integer>> shrink() {
+    return Shrink.shrinkInt.xmap(Eval::now, k -> ((Eval<Integer>) k).value());
+  }
+
+  /**
+   * Return an Eval at the end of a chain of ScaleLaws.SCALE flatMaps.
+   *
+   * @return an Eval a million flatMaps deep
+   */
+  @Override
+  public Kind<Eval, Integer> large() {
+    return Generators.evalOf(Gen.intGen, ScaleLaws.SCALE).run(FunctionalRandom.seeded(1L)).getB();
+  }
+
   /**
    * Returns a type to be used to check for implemenations
    * of interfaces in the structures package for Option.
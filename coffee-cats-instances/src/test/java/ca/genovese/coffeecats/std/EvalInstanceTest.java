@@ -1,15 +1,17 @@
 package ca.genovese.coffeecats.std;
 
 import ca.genovese.coffeecats.data.eval.Eval;
-import ca.genovese.coffeecats.laws.CovariantFunctorLaws;
+import ca.genovese.coffeecats.laws.GeneratedFunctorLaws;
+import ca.genovese.coffeecats.laws.MonadLaws;
+import ca.genovese.coffeecats.laws.ScaleLaws;
 import org.junit.gen5.api.extension.ExtendWith;
 
 /**
- * Test that the EvalInstance follows the CovariantFunctorLaws.
+ * Test that the EvalInstance follows the MonadLaws, the ScaleLaws and the GeneratedFunctorLaws.
  */
 @ExtendWith(EvalInstanceProvider.class)
 @ExtendWith(FunctionProvider.class)
-public class EvalInstanceTest implements CovariantFunctorLaws<Eval> {
+public class EvalInstanceTest implements MonadLaws<Eval>, ScaleLaws<Eval>, GeneratedFunctorLaws<Eval> {
 
 }
 
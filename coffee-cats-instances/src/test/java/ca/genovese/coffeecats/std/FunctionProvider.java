@@ -1,17 +1,26 @@
 package ca.genovese.coffeecats.std;
 
+import ca.genovese.coffeecats.data.option.Option;
 import org.junit.gen5.api.extension.ExtensionContext;
 import org.junit.gen5.api.extension.ParameterResolver;
 
 import java.lang.reflect.Parameter;
 import java.lang.reflect.ParameterizedType;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.function.Function;
 
 /**
  * An implementation of ParameterResolver for Functions.
+ *
+ * <p>The Function for each parameter, or None if it is not supported, is worked out once and cached.
  */
 public final class FunctionProvider implements ParameterResolver {
+  /**
+   * The Function resolved for each parameter, or None if the parameter is not supported.
+   */
+  private static final ConcurrentMap<Parameter, Option<Function<?, ?>>> FUNCTIONS = new ConcurrentHashMap<>();
 
   /**
    * A method which indicates whether this ParameterResolver can resolve the given parameter.
@@ -25,10 +34,37 @@ public final class FunctionProvider implements ParameterResolver {
   public boolean supports(final Parameter parameter,
                           final Optional<Object> target,
                           final ExtensionContext extensionContext) {
-    return isFunctionAB(parameter)
-        || isFunctionBA(parameter)
-        || isFunctionBC(parameter)
-        || isFunctionCB(parameter);
+    return function(parameter).isDefined();
+  }
+
+  /**
+   * Look up the Function for the parameter, working it out on first use.
+   *
+   * @param parameter The parameter to resolve
+   * @return Some Function for the parameter, or None if it is not supported
+   */
+  private Option<Function<?, ?>> function(final Parameter parameter) {
+    return FUNCTIONS.computeIfAbsent(parameter, this::select);
+  }
+
+  /**
+   * Work out the Function for the parameter from its generic type.
+   *
+   * @param parameter The parameter to resolve
+   * @return Some Function for the parameter, or None if it is not supported
+   */
+  private Option<Function<?, ?>> select(final Parameter parameter) {
+    if (isFunctionAB(parameter)) {
+      return Option.some((Function<Integer, String>) Object::toString);
+    } else if (isFunctionBA(parameter)) {
+      return Option.some((Function<String, Integer>) String::length);
+    } else if (isFunctionBC(parameter)) {
+      return Option.some((Function<String, Long>) (s) -> (long) s.length());
+    } else if (isFunctionCB(parameter)) {
+      return Option.some((Function<Long, String>) Object::toString);
+    } else {
+      return Option.none();
+    }
   }
 
   /**
@@ -102,16 +138,6 @@ public final class FunctionProvider implements ParameterResolver {
   public Object resolve(final Parameter parameter,
                         final Optional<Object> target,
                         final ExtensionContext extensionContext) {
-    if (isFunctionAB(parameter)) {
-      return (Function<Integer, String>) Object::toString;
-    } else if (isFunctionBA(parameter)) {
-      return (Function<String, Integer>) String::length;
-    } else if (isFunctionBC(parameter)) {
-      return (Function<String, Long>) (s) -> (long) s.length();
-    } else if (isFunctionCB(parameter)) {
-      return (Function<Long, String>) Object::toString;
-    } else {
-      return null;
-    }
+    return function(parameter).getOrElse(null);
   }
 }
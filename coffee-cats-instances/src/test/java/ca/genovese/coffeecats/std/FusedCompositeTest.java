@@ -0,0 +1,138 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.eval.Eval;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.laws.CovariantFunctorLaws;
+import ca.genovese.coffeecats.structures.CovariantFunctor;
+import org.junit.gen5.api.Nested;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.api.extension.ExtendWith;
+
+import java.util.function.Function;
+
+import static ca.genovese.coffeecats.data.option.Option.none;
+import static ca.genovese.coffeecats.data.option.Option.some;
+import static org.junit.gen5.api.Assertions.assertEquals;
+import static org.junit.gen5.api.Assertions.assertSame;
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+/**
+ * Test the FusedComposite produced by composing the known instances.
+ */
+public final class FusedCompositeTest {
+  /**
+   * A three level {@code List<Option<Eval<?>>>} CovariantFunctor.
+   */
+  private final CovariantFunctor<Kind<Kind<List, Option>, Eval>> fused =
+      ListInstance.listInstance.compose(OptionInstance.optionInstance).compose(EvalInstance.evalInstance);
+
+  /**
+   * Hide an instance behind a plain CovariantFunctor, so that composing it uses CovariantFunctor.Composite.
+   *
+   * @param f   the instance to hide
+   * @param <F> the data type
+   * @return a CovariantFunctor which maps with f
+   */
+  private static <F> CovariantFunctor<F> nested(final CovariantFunctor<F> f) {
+    return new CovariantFunctor<F>() {
+      @Override
+      public <A, B> Kind<F, B> map(final Kind<F, A> fa, final Function<A, B> g) {
+        return f.map(fa, g);
+      }
+    };
+  }
+
+  /**
+   * Test that composing known instances produces a FusedComposite, however the compositions are nested.
+   */
+  @Test
+  public void testComposeIsFused() {
+    assertTrue(fused instanceof FusedComposite);
+    assertTrue(ListInstance.listInstance.compose(OptionInstance.optionInstance.compose(EvalInstance.evalInstance))
+        instanceof FusedComposite);
+  }
+
+  /**
+   * Test that the fused traversal agrees with CovariantFunctor.Composite.
+   */
+  @Test
+  public void testFusedMatchesNested() {
+    final CovariantFunctor<Kind<Kind<List, Option>, List>> nested =
+        nested(ListInstance.listInstance).compose(nested(OptionInstance.optionInstance))
+            .compose(nested(ListInstance.listInstance));
+    final CovariantFunctor<Kind<Kind<List, Option>, List>> fusedList =
+        ListInstance.listInstance.compose(OptionInstance.optionInstance).compose(ListInstance.listInstance);
+    final Kind<Kind<Kind<List, Option>, List>, Integer> value =
+        (Kind) List.of(some(List.of(1, 2)), none(), some(List.of()), some(List.of(3)));
+
+    assertEquals(nested.map(value, i -> i * 10), fusedList.map(value, i -> i * 10));
+  }
+
+  /**
+   * Test that unchanged structure is reused rather than rebuilt.
+   */
+  @Test
+  public void testUnchangedStructureIsReused() {
+    final CovariantFunctor<Kind<List, Option>> listOfOption =
+        ListInstance.listInstance.compose(OptionInstance.optionInstance);
+    final Option<Integer> none = none();
+    final Option<Integer> one = some(1);
+    final List<Option<Integer>> nones = List.of(none, none);
+    final List<Option<Integer>> mixed = List.of(some(1), one, none);
+
+    assertSame(nones, listOfOption.map((Kind) nones, (Integer i) -> i + 1));
+    assertSame(mixed, listOfOption.map((Kind) mixed, Function.identity()));
+
+    final List<Option<Integer>> mapped = (List<Option<Integer>>) listOfOption.map((Kind) mixed, (Integer i) -> i + 1);
+    assertEquals(List.of(some(2), some(2), none), mapped);
+    assertSame(mixed.getTail().getTail(), mapped.getTail().getTail());
+  }
+
+  /**
+   * A ParameterResolver providing a three level fused CovariantFunctor.
+   */
+  private static class ListOfOptionOfEvalProvider
+      extends AbstractInstanceProvider<CovariantFunctor, Kind<Kind<List, Option>, Eval>> {
+    /**
+     * provide an instance of the CovariantFunctor for {@code List<Option<Eval<?>>>}.
+     *
+     * @return A CovariantFunctor for {@code List<Option<Eval<?>>>}
+     */
+    @Override
+    protected CovariantFunctor instance() {
+      return ListInstance.listInstance.compose(OptionInstance.optionInstance).compose(EvalInstance.evalInstance);
+    }
+
+    /**
+     * a {@code List<Option<Eval<?>>>}.
+     *
+     * @return A {@code List<Option<Eval<?>>>}
+     */
+    @Override
+    protected Kind<Kind<List, Option>, Eval> kind() {
+      return (Kind) List.of(some(Eval.now(1)), none(), some(Eval.later(() -> 3)));
+    }
+
+    /**
+     * return the CovariantFunctor class.
+     *
+     * @return CovariantFunctor.class
+     */
+    @Override
+    protected Class<CovariantFunctor> type() {
+      return CovariantFunctor.class;
+    }
+  }
+
+  /**
+   * Test that the three level FusedComposite follows the CovariantFunctorLaws.
+   */
+  @Nested
+  @ExtendWith(ListOfOptionOfEvalProvider.class)
+  @ExtendWith(FunctionProvider.class)
+  public class ThreeLevelTest implements CovariantFunctorLaws<Kind<Kind<List, Option>, Eval>> {
+
+  }
+}
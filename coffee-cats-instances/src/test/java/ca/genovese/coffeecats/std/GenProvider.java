@@ -0,0 +1,29 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Shrink;
+
+/**
+ * Implemented by an AbstractInstanceProvider which can resolve Gen and Shrink parameters,
+ * for tests which implement GeneratedFunctorLaws.
+ *
+ * <p>A provider which does not implement it reports Gen and Shrink parameters as unsupported,
+ * rather than failing when they are resolved.
+ *
+ * @param <F> Data type
+ */
+public interface GenProvider<F> {
+  /**
+   * provide a Gen of instances of the given class, for laws checked against many generated values.
+   *
+   * @return a Gen of instances of the given class
+   */
+  Gen<F> gen();
+
+  /**
+   * provide a Shrink for instances of the given class, used to reduce a failing generated value.
+   *
+   * @return a Shrink for instances of the given class
+   */
+  Shrink<F> shrink();
+}
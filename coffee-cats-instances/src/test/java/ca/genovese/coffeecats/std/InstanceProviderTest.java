@@ -0,0 +1,63 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Shrink;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.laws.GeneratedFunctorLaws;
+import ca.genovese.coffeecats.laws.ScaleLaws;
+import ca.genovese.coffeecats.structures.CovariantFunctor;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.lang.reflect.Parameter;
+import java.util.Optional;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for which parameters the instance providers support.
+ */
+public final class InstanceProviderTest {
+
+  /**
+   * Test that only providers which implement LargeProvider support Large parameters.
+   *
+   * @throws NoSuchMethodException if ScaleLaws.scaleIdentity has changed
+   */
+  @Test
+  @DisplayName("Large parameters ")
+  public void testLargeIsSupportedOnlyByLargeProviders() throws NoSuchMethodException {
+    final Parameter large =
+        ScaleLaws.class.getMethod("scaleIdentity", CovariantFunctor.class, Kind.class).getParameters()[1];
+
+    assertAll(
+        () -> assertTrue(new ListInstanceProvider().supports(large, Optional.empty(), null),
+            "a LargeProvider should support a Large parameter"),
+        () -> assertFalse(new ListViewInstanceProvider().supports(large, Optional.empty(), null),
+            "a provider without a large value should not support a Large parameter")
+    );
+  }
+
+  /**
+   * Test that only providers which implement GenProvider support Gen and Shrink parameters.
+   *
+   * @throws NoSuchMethodException if GeneratedFunctorLaws.covariantIdentityForAll has changed
+   */
+  @Test
+  @DisplayName("Gen and Shrink parameters ")
+  public void testGenIsSupportedOnlyByGenProviders() throws NoSuchMethodException {
+    final Parameter[] parameters = GeneratedFunctorLaws.class
+        .getMethod("covariantIdentityForAll", CovariantFunctor.class, Gen.class, Shrink.class).getParameters();
+
+    assertAll(
+        () -> assertTrue(new OptionInstanceProvider().supports(parameters[1], Optional.empty(), null),
+            "a GenProvider should support a Gen parameter"),
+        () -> assertTrue(new OptionInstanceProvider().supports(parameters[2], Optional.empty(), null),
+            "a GenProvider should support a Shrink parameter"),
+        () -> assertFalse(new ListViewInstanceProvider().supports(parameters[1], Optional.empty(), null),
+            "a provider without a Gen should not support a Gen parameter"),
+        () -> assertFalse(new ListViewInstanceProvider().supports(parameters[2], Optional.empty(), null),
+            "a provider without a Shrink should not support a Shrink parameter")
+    );
+  }
+}
@@ -0,0 +1,19 @@
+package ca.genovese.coffeecats.std;
+
+/**
+ * Implemented by an AbstractInstanceProvider which can resolve parameters annotated with Large,
+ * for tests which implement ScaleLaws.
+ *
+ * <p>A provider which does not implement it reports Large parameters as unsupported, rather than
+ * failing when they are resolved.
+ *
+ * @param <F> Data type
+ */
+public interface LargeProvider<F> {
+  /**
+   * provide a large instance of the given class, for parameters annotated with Large.
+   *
+   * @return an instance of the given class of ScaleLaws.SCALE elements, or ScaleLaws.SCALE operations deep
+   */
+  F large();
+}
@@ -1,13 +1,19 @@
 package ca.genovese.coffeecats.std;
 
 import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.gen.FunctionalRandom;
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Generators;
+import ca.genovese.coffeecats.gen.Shrink;
 import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.laws.ScaleLaws;
 
 
 /**
  * An implementation of ParameterResolver which returns List Instances and Kinds.
  */
-public final class ListInstanceProvider extends AbstractInstanceProvider<ListInstance, Kind<List, Integer>> {
+public final class ListInstanceProvider extends AbstractInstanceProvider<ListInstance, Kind<List, Integer>>
+    implements LargeProvider<Kind<List, Integer>>, GenProvider<Kind<List, Integer>> {
 
   /**
    * Return an implementation of the interfaces in the structures package for List.
@@ -29,6 +35,36 @@ public final class ListInstanceProvider extends AbstractInstanceProvider<ListIns
     return List.of(1, 2, 3, 4);
   }
 
+  /**
+   * Return a Gen of Lists of up to Gen.DEFAULT_SIZE random Integers.
+   *
+   * @return Generators.listOf(Gen.intGen)
+   */
+  @Override
+  public Gen<Kind<List, Integer>> gen() {
+    return Generators.listOf(Gen.intGen).map(l -> l);
+  }
+
+  /**
+   * Return a Shrink which shrinks the generated Lists and their Integers.
+   *
+   * @return Shrink.list(Shrink.shrinkInt)
+   */
+  @Override
+  public Shrink<Kind<List, Integer>> shrink() {
+    return Shrink.list(Shrink.shrinkInt).xmap(l -> l, k -> (List<Integer>) k);
+  }
+
+  /**
+   * Return a List of ScaleLaws.SCALE random Integers.
+   *
+   * @return a List of a million Integers
+   */
+  @Override
+  public Kind<List, Integer> large() {
+    return Generators.intListOfN(ScaleLaws.SCALE).run(FunctionalRandom.seeded(1L)).getB();
+  }
+
   /**
    * Returns a type to be used to check for implemenations
    * of interfaces in the structures package for List.
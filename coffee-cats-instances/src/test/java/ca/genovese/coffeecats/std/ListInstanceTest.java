@@ -1,15 +1,17 @@
 package ca.genovese.coffeecats.std;
 
 import ca.genovese.coffeecats.data.list.List;
-import ca.genovese.coffeecats.laws.CovariantFunctorLaws;
+import ca.genovese.coffeecats.laws.GeneratedFunctorLaws;
+import ca.genovese.coffeecats.laws.MonadLaws;
+import ca.genovese.coffeecats.laws.ScaleLaws;
 import org.junit.gen5.api.extension.ExtendWith;
 
 /**
- * Test that the ListInstance follows the CovariantFunctorLaws.
+ * Test that the ListInstance follows the MonadLaws, the ScaleLaws and the GeneratedFunctorLaws.
  */
 @ExtendWith(ListInstanceProvider.class)
 @ExtendWith(FunctionProvider.class)
-public class ListInstanceTest implements CovariantFunctorLaws<List> {
+public class ListInstanceTest implements MonadLaws<List>, ScaleLaws<List>, GeneratedFunctorLaws<List> {
 
 }
 
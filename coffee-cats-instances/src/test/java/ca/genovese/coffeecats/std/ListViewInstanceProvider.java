@@ -0,0 +1,44 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListView;
+import ca.genovese.coffeecats.kind.Kind;
+
+
+/**
+ * An implementation of ParameterResolver which returns ListViewInstances and Kinds.
+ */
+public final class ListViewInstanceProvider
+    extends AbstractInstanceProvider<ListViewInstance, Kind<ListView, Integer>> {
+
+  /**
+   * Return a ListViewInstance.
+   *
+   * @return ListViewInstance.listViewInstance
+   */
+  @Override
+  protected ListViewInstance instance() {
+    return ListViewInstance.listViewInstance;
+  }
+
+  /**
+   * Return a filtered view of a List.
+   *
+   * @return a view of Cons(1, Cons(2, Cons(3, Cons(4, Cons(5, Nil))))) without 5
+   */
+  @Override
+  protected Kind<ListView, Integer> kind() {
+    return List.of(1, 2, 3, 4, 5).view().filter(i -> i < 5);
+  }
+
+  /**
+   * Returns a type to be used to check for implemenations
+   * of interfaces in the structures package for ListView.
+   *
+   * @return ListViewInstance.class
+   */
+  @Override
+  protected Class<ListViewInstance> type() {
+    return ListViewInstance.class;
+  }
+}
@@ -0,0 +1,37 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListView;
+import ca.genovese.coffeecats.laws.CovariantFunctorLaws;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.api.extension.ExtendWith;
+
+import java.util.function.Function;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+
+/**
+ * Test that the ListViewInstance follows the CovariantFunctorLaws.
+ */
+@ExtendWith(ListViewInstanceProvider.class)
+@ExtendWith(FunctionProvider.class)
+public class ListViewInstanceTest implements CovariantFunctorLaws<ListView> {
+
+  /**
+   * Test that forcing a chain of maps on a view gives the same List
+   * as chaining the maps with ListInstance.
+   */
+  @Test
+  public void testForceMatchesListInstance() {
+    final Function<Integer, Integer> f = i -> i * 3;
+    final Function<Integer, String> g = i -> "#" + i;
+    List<Integer> is = List.of();
+
+    for (int i = 1000; i > 0; i--) {
+      is = List.cons(i, is);
+    }
+
+    assertEquals(ListInstance.listInstance.map(ListInstance.listInstance.map(is, f), g),
+        is.view().map(f).map(g).force());
+  }
+}
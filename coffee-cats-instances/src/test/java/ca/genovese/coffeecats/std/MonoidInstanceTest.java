@@ -0,0 +1,346 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Generators;
+import ca.genovese.coffeecats.gen.Shrink;
+import ca.genovese.coffeecats.laws.MonoidLaws;
+import ca.genovese.coffeecats.structures.Monoid;
+import org.junit.gen5.api.Nested;
+import org.junit.gen5.api.extension.ExtendWith;
+
+import static ca.genovese.coffeecats.data.option.Option.none;
+import static ca.genovese.coffeecats.data.option.Option.some;
+
+/**
+ * Test that the Monoid instances follow the MonoidLaws.
+ */
+public class MonoidInstanceTest {
+
+  /**
+   * A ParameterResolver providing the Integer Monoid.
+   */
+  private static class IntegerMonoidProvider extends AbstractMonoidProvider<Integer> {
+    /**
+     * provide the Integer Monoid.
+     *
+     * @return A {@code Monoid<Integer>}
+     */
+    @Override
+    protected Monoid<Integer> instance() {
+      return IntegerInstance.integerInstance;
+    }
+
+    /**
+     * provide values for the Integer Monoid.
+     *
+     * @return List.of(1, 2, 3)
+     */
+    @Override
+    protected List<Integer> values() {
+      return List.of(1, 2, 3);
+    }
+
+    /**
+     * provide a Gen for the Integer Monoid.
+     *
+     * @return Gen.intGen
+     */
+    @Override
+    protected Gen<Integer> gen() {
+      return Gen.intGen;
+    }
+
+    /**
+     * provide a Shrink for the Integer Monoid.
+     *
+     * @return Shrink.shrinkInt
+     */
+    @Override
+    protected Shrink<Integer> shrink() {
+      return Shrink.shrinkInt;
+    }
+  }
+
+  /**
+   * Test that the Integer Monoid follows the MonoidLaws.
+   */
+  @Nested
+  @ExtendWith(IntegerMonoidProvider.class)
+  public class IntegerMonoidTest implements MonoidLaws<Integer> {
+
+  }
+
+  /**
+   * A ParameterResolver providing the Long Monoid.
+   */
+  private static class LongMonoidProvider extends AbstractMonoidProvider<Long> {
+    /**
+     * provide the Long Monoid.
+     *
+     * @return A {@code Monoid<Long>}
+     */
+    @Override
+    protected Monoid<Long> instance() {
+      return LongInstance.longInstance;
+    }
+
+    /**
+     * provide values for the Long Monoid.
+     *
+     * @return List.of(1L, 2L, 3L)
+     */
+    @Override
+    protected List<Long> values() {
+      return List.of(1L, 2L, 3L);
+    }
+
+    /**
+     * provide a Gen for the Long Monoid.
+     *
+     * @return Gen.longGen
+     */
+    @Override
+    protected Gen<Long> gen() {
+      return Gen.longGen;
+    }
+
+    /**
+     * provide a Shrink for the Long Monoid.
+     *
+     * @return Shrink.shrinkLong
+     */
+    @Override
+    protected Shrink<Long> shrink() {
+      return Shrink.shrinkLong;
+    }
+  }
+
+  /**
+   * Test that the Long Monoid follows the MonoidLaws.
+   */
+  @Nested
+  @ExtendWith(LongMonoidProvider.class)
+  public class LongMonoidTest implements MonoidLaws<Long> {
+
+  }
+
+  /**
+   * A ParameterResolver providing the Double Monoid.
+   */
+  private static class DoubleMonoidProvider extends AbstractMonoidProvider<Double> {
+    /**
+     * provide the Double Monoid.
+     *
+     * @return A {@code Monoid<Double>}
+     */
+    @Override
+    protected Monoid<Double> instance() {
+      return DoubleInstance.doubleInstance;
+    }
+
+    /**
+     * provide values for the Double Monoid.
+     *
+     * @return List.of(0.5, 2.0, 3.0)
+     */
+    @Override
+    protected List<Double> values() {
+      return List.of(0.5, 2.0, 3.0);
+    }
+
+    /**
+     * provide a Gen for the Double Monoid, of whole numbers small enough
+     * that sums of three are exact, as addition of doubles is otherwise not associative.
+     *
+     * @return a Gen of whole Doubles below 2^20 in magnitude
+     */
+    @Override
+    protected Gen<Double> gen() {
+      return Gen.intGen.map(i -> (double) (i >> 12));
+    }
+
+    /**
+     * provide a Shrink for the Double Monoid.
+     *
+     * @return Shrink.shrinkInt applied to the whole part
+     */
+    @Override
+    protected Shrink<Double> shrink() {
+      return Shrink.shrinkInt.xmap(Integer::doubleValue, Double::intValue);
+    }
+  }
+
+  /**
+   * Test that the Double Monoid follows the MonoidLaws.
+   */
+  @Nested
+  @ExtendWith(DoubleMonoidProvider.class)
+  public class DoubleMonoidTest implements MonoidLaws<Double> {
+
+  }
+
+  /**
+   * A ParameterResolver providing the List Monoid.
+   */
+  private static class ListMonoidProvider extends AbstractMonoidProvider<List<Integer>> {
+    /**
+     * provide the List Monoid.
+     *
+     * @return A {@code Monoid<List<Integer>>}
+     */
+    @Override
+    protected Monoid<List<Integer>> instance() {
+      return ListInstance.listInstance.monoid();
+    }
+
+    /**
+     * provide values for the List Monoid.
+     *
+     * @return List.of(List.of(1, 2), List.of(), List.of(3))
+     */
+    @Override
+    protected List<List<Integer>> values() {
+      return List.of(List.of(1, 2), List.of(), List.of(3));
+    }
+
+    /**
+     * provide a Gen for the List Monoid.
+     *
+     * @return a Gen of Lists of up to 7 Integers
+     */
+    @Override
+    protected Gen<List<Integer>> gen() {
+      return Generators.listOf(Gen.intGen).resize(7);
+    }
+
+    /**
+     * provide a Shrink for the List Monoid.
+     *
+     * @return Shrink.list(Shrink.shrinkInt)
+     */
+    @Override
+    protected Shrink<List<Integer>> shrink() {
+      return Shrink.list(Shrink.shrinkInt);
+    }
+  }
+
+  /**
+   * Test that the List Monoid follows the MonoidLaws.
+   */
+  @Nested
+  @ExtendWith(ListMonoidProvider.class)
+  public class ListMonoidTest implements MonoidLaws<List<Integer>> {
+
+  }
+
+  /**
+   * A ParameterResolver providing the Option Monoid.
+   */
+  private static class OptionMonoidProvider extends AbstractMonoidProvider<Option<Integer>> {
+    /**
+     * provide the Option Monoid.
+     *
+     * @return A {@code Monoid<Option<Integer>>}
+     */
+    @Override
+    protected Monoid<Option<Integer>> instance() {
+      return OptionInstance.optionInstance.monoid(IntegerInstance.integerInstance);
+    }
+
+    /**
+     * provide values for the Option Monoid.
+     *
+     * @return List.of(some(1), none(), some(3))
+     */
+    @Override
+    protected List<Option<Integer>> values() {
+      return List.of(some(1), none(), some(3));
+    }
+
+    /**
+     * provide a Gen for the Option Monoid.
+     *
+     * @return a Gen of Options, a third of them None
+     */
+    @Override
+    protected Gen<Option<Integer>> gen() {
+      return Gen.intGen.map(i -> i % 3 == 0 ? Option.<Integer>none() : some(i));
+    }
+
+    /**
+     * provide a Shrink for the Option Monoid.
+     *
+     * @return Shrink.option(Shrink.shrinkInt)
+     */
+    @Override
+    protected Shrink<Option<Integer>> shrink() {
+      return Shrink.option(Shrink.shrinkInt);
+    }
+  }
+
+  /**
+   * Test that the Option Monoid follows the MonoidLaws.
+   */
+  @Nested
+  @ExtendWith(OptionMonoidProvider.class)
+  public class OptionMonoidTest implements MonoidLaws<Option<Integer>> {
+
+  }
+
+  /**
+   * A ParameterResolver providing the Tuple2 Monoid.
+   */
+  private static class Tuple2MonoidProvider extends AbstractMonoidProvider<Tuple2<Integer, List<Integer>>> {
+    /**
+     * provide the Tuple2 Monoid.
+     *
+     * @return A {@code Monoid<Tuple2<Integer, List<Integer>>>}
+     */
+    @Override
+    protected Monoid<Tuple2<Integer, List<Integer>>> instance() {
+      return Tuple2Instance.tuple2Instance.monoid(IntegerInstance.integerInstance, ListInstance.listInstance.monoid());
+    }
+
+    /**
+     * provide values for the Tuple2 Monoid.
+     *
+     * @return List.of(new Tuple2<>(1, List.of(1)), new Tuple2<>(2, List.of()), new Tuple2<>(3, List.of(2, 3)))
+     */
+    @Override
+    protected List<Tuple2<Integer, List<Integer>>> values() {
+      return List.of(new Tuple2<>(1, List.of(1)), new Tuple2<>(2, List.of()), new Tuple2<>(3, List.of(2, 3)));
+    }
+
+    /**
+     * provide a Gen for the Tuple2 Monoid.
+     *
+     * @return a Gen of Tuple2s of an Integer and a List of up to 7 Integers
+     */
+    @Override
+    protected Gen<Tuple2<Integer, List<Integer>>> gen() {
+      return Generators.tuple2(Gen.intGen, Generators.listOf(Gen.intGen).resize(7));
+    }
+
+    /**
+     * provide a Shrink for the Tuple2 Monoid.
+     *
+     * @return Shrink.tuple2 of the Integer and List Shrinks
+     */
+    @Override
+    protected Shrink<Tuple2<Integer, List<Integer>>> shrink() {
+      return Shrink.tuple2(Shrink.shrinkInt, Shrink.list(Shrink.shrinkInt));
+    }
+  }
+
+  /**
+   * Test that the Tuple2 Monoid follows the MonoidLaws.
+   */
+  @Nested
+  @ExtendWith(Tuple2MonoidProvider.class)
+  public class Tuple2MonoidTest implements MonoidLaws<Tuple2<Integer, List<Integer>>> {
+
+  }
+}
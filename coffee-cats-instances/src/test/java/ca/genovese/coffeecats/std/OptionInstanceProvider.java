@@ -1,12 +1,17 @@
 package ca.genovese.coffeecats.std;
 
 import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Generators;
+import ca.genovese.coffeecats.gen.Shrink;
 import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.laws.ScaleLaws;
 
 /**
  * An implementation of ParameterResolver which returns Option Instances and Kinds.
  */
-public final class OptionInstanceProvider extends AbstractInstanceProvider<OptionInstance, Kind<Option, Integer>> {
+public final class OptionInstanceProvider extends AbstractInstanceProvider<OptionInstance, Kind<Option, Integer>>
+    implements LargeProvider<Kind<Option, Integer>>, GenProvider<Kind<Option, Integer>> {
 
   /**
    * Return an implementation of the interfaces in the structures package for Option.
@@ -28,6 +33,36 @@ public final class OptionInstanceProvider extends AbstractInstanceProvider<Optio
     return Option.of(1);
   }
 
+  /**
+   * Return a Gen of random Options, a quarter of them None.
+   *
+   * @return Generators.optionOf(Gen.intGen)
+   */
+  @Override
+  public Gen<Kind<Option, Integer>> gen() {
+    return Generators.optionOf(Gen.intGen).map(o -> o);
+  }
+
+  /**
+   * Return a Shrink which shrinks the generated Options and their Integers.
+   *
+   * @return Shrink.option(Shrink.shrinkInt)
+   */
+  @Override
+  public Shrink<Kind<Option, Integer>> shrink() {
+    return Shrink.option(Shrink.shrinkInt).xmap(o -> o, k -> (Option<Integer>) k);
+  }
+
+  /**
+   * Return an Option for the scale laws, which is never more than one element.
+   *
+   * @return Some(ScaleLaws.SCALE)
+   */
+  @Override
+  public Kind<Option, Integer> large() {
+    return Option.some(ScaleLaws.SCALE);
+  }
+
   /**
    * Returns a type to be used to check for implemenations
    * of interfaces in the structures package for Option.
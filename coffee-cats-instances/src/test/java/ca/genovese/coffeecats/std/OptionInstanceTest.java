@@ -1,15 +1,17 @@
 package ca.genovese.coffeecats.std;
 
 import ca.genovese.coffeecats.data.option.Option;
-import ca.genovese.coffeecats.laws.CovariantFunctorLaws;
+import ca.genovese.coffeecats.laws.GeneratedFunctorLaws;
+import ca.genovese.coffeecats.laws.MonadLaws;
+import ca.genovese.coffeecats.laws.ScaleLaws;
 import org.junit.gen5.api.extension.ExtendWith;
 
 /**
- * Test that the OptionInstance follows the CovariantFunctorLaws.
+ * Test that the OptionInstance follows the MonadLaws, the ScaleLaws and the GeneratedFunctorLaws.
  */
 @ExtendWith(OptionInstanceProvider.class)
 @ExtendWith(FunctionProvider.class)
-public class OptionInstanceTest implements CovariantFunctorLaws<Option> {
+public class OptionInstanceTest implements MonadLaws<Option>, ScaleLaws<Option>, GeneratedFunctorLaws<Option> {
 
 }
 
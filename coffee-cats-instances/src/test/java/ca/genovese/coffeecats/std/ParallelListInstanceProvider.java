@@ -0,0 +1,46 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.kind.Kind;
+
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * An implementation of ParameterResolver which returns ParallelListInstances and Kinds.
+ */
+public final class ParallelListInstanceProvider
+    extends AbstractInstanceProvider<ParallelListInstance, Kind<List, Integer>> {
+
+  /**
+   * Return a ParallelListInstance which maps every item as its own segment,
+   * so that even small Lists are mapped in parallel.
+   *
+   * @return ParallelListInstance with a threshold of 1
+   */
+  @Override
+  protected ParallelListInstance instance() {
+    return new ParallelListInstance(ForkJoinPool.commonPool(), 1);
+  }
+
+  /**
+   * Return a List.
+   *
+   * @return Cons(1, Cons(2, Cons(3, Cons(4, Nil))))
+   */
+  @Override
+  protected Kind<List, Integer> kind() {
+    return List.of(1, 2, 3, 4);
+  }
+
+  /**
+   * Returns a type to be used to check for implemenations
+   * of interfaces in the structures package for List.
+   *
+   * @return ParallelListInstance.class
+   */
+  @Override
+  protected Class<ParallelListInstance> type() {
+    return ParallelListInstance.class;
+  }
+}
@@ -0,0 +1,39 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.laws.CovariantFunctorLaws;
+import org.junit.gen5.api.Test;
+import org.junit.gen5.api.extension.ExtendWith;
+
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+
+/**
+ * Test that the ParallelListInstance follows the CovariantFunctorLaws.
+ */
+@ExtendWith(ParallelListInstanceProvider.class)
+@ExtendWith(FunctionProvider.class)
+public class ParallelListInstanceTest implements CovariantFunctorLaws<List> {
+
+  /**
+   * Test that a List spanning several segments, the last one partial,
+   * is mapped in order on a dedicated pool.
+   */
+  @Test
+  public void testMapAcrossSegments() {
+    final ForkJoinPool pool = new ForkJoinPool(4);
+    List<Integer> is = List.of();
+
+    for (int i = 10000; i > 0; i--) {
+      is = List.cons(i, is);
+    }
+
+    try {
+      assertEquals(ListInstance.listInstance.map(is, i -> i * 2),
+          new ParallelListInstance(pool, 64).map(is, i -> i * 2));
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
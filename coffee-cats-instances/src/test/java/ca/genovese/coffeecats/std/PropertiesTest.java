@@ -0,0 +1,30 @@
+package ca.genovese.coffeecats.std;
+
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Shrink;
+import ca.genovese.coffeecats.laws.SemigroupLaws;
+import ca.genovese.coffeecats.structures.Semigroup;
+import org.junit.gen5.api.Test;
+
+import static org.junit.gen5.api.Assertions.assertTrue;
+import static org.junit.gen5.api.Assertions.expectThrows;
+
+/**
+ * Test that laws checked against generated values report a shrunk counterexample.
+ */
+public class PropertiesTest {
+
+  /**
+   * Test that the associativity law fails for subtraction with the smallest counterexample.
+   */
+  @Test
+  public void testFailingLawReportsShrunkValue() {
+    final Semigroup<Integer> subtraction = (x, y) -> x - y;
+    final SemigroupLaws<Integer> laws = new SemigroupLaws<Integer>() { };
+
+    final AssertionError e = expectThrows(AssertionError.class,
+        () -> laws.semigroupAssociativityForAll(subtraction, Gen.intGen, Shrink.shrinkInt));
+
+    assertTrue(e.getMessage().contains("Tuple2(a=0, b=Tuple2(a=0, b=1))"), e.getMessage());
+  }
+}
@@ -0,0 +1,221 @@
+package ca.genovese.coffeecats.gen;
+
+import ca.genovese.coffeecats.data.option.Option;
+
+/**
+ * The result of checking a property with a PropertyRunner.
+ *
+ * @param <A> The type of the values the property was checked with
+ */
+public final class CheckResult<A> {
+  /**
+   * The seed of the root FunctionalRandom the trials' generators were split from.
+   */
+  private final long seed;
+
+  /**
+   * The number of trials which were run and passed.
+   */
+  private final long passed;
+
+  /**
+   * The failing trial with the lowest index, if any trial failed.
+   */
+  private final Option<Failure<A>> failure;
+
+  /**
+   * Constructor.
+   *
+   * @param seed    the seed of the root FunctionalRandom
+   * @param passed  the number of trials which were run and passed
+   * @param failure the failing trial with the lowest index, if any trial failed
+   */
+  CheckResult(final long seed, final long passed, final Option<Failure<A>> failure) {
+    this.seed = seed;
+    this.passed = passed;
+    this.failure = failure;
+  }
+
+  /**
+   * The seed of the root FunctionalRandom, which PropertyRunner.check accepts to rerun all the trials.
+   *
+   * @return the seed
+   */
+  public long getSeed() {
+    return seed;
+  }
+
+  /**
+   * The number of trials which were run and passed.
+   *
+   * <p>Trials after a failing trial may not have been run.
+   *
+   * @return the number of trials which passed
+   */
+  public long getPassed() {
+    return passed;
+  }
+
+  /**
+   * The failing trial with the lowest index, if any trial failed.
+   *
+   * @return Some(failure) or None
+   */
+  public Option<Failure<A>> getFailure() {
+    return failure;
+  }
+
+  /**
+   * Returns true if no trial failed.
+   *
+   * @return true if no trial failed
+   */
+  public boolean isPassed() {
+    return !failure.isDefined();
+  }
+
+  /**
+   * Throw an AssertionError describing the failing trial, if any trial failed.
+   *
+   * <p>The message reports the shrunk value rather than the generated one,
+   * which may be too large to be useful.
+   *
+   * @throws AssertionError if a trial failed, with the trial's exception as its cause
+   */
+  public void assertPassed() {
+    if (failure.isDefined()) {
+      final Failure<A> f = failure.get();
+      final AssertionError e = new AssertionError("Property failed at trial " + f.getTrial()
+          + " with seed " + seed + " for value " + f.getShrunk()
+          + " (shrunk " + f.getShrinks() + " times): " + f.getCause());
+      e.initCause(f.getCause());
+      throw e;
+    }
+  }
+
+  /**
+   * A description of the result.
+   *
+   * @return a String describing the result
+   */
+  @Override
+  public String toString() {
+    return "CheckResult(seed=" + seed + ", passed=" + passed + ", failure=" + failure + ")";
+  }
+
+  /**
+   * A trial for which the property threw an Exception or AssertionError.
+   *
+   * @param <A> The type of the values the property was checked with
+   */
+  public static final class Failure<A> {
+    /**
+     * The index of the trial.
+     */
+    private final int trial;
+
+    /**
+     * The generated value the property failed for.
+     */
+    private final A value;
+
+    /**
+     * The smallest value found by shrinking that the property also fails for.
+     */
+    private final A shrunk;
+
+    /**
+     * The number of successful shrinking steps from value to shrunk.
+     */
+    private final int shrinks;
+
+    /**
+     * What the property threw for the shrunk value.
+     */
+    private final Throwable cause;
+
+    /**
+     * Constructor for a Failure which has not been shrunk.
+     *
+     * @param trial the index of the trial
+     * @param value the generated value the property failed for
+     * @param cause what the property threw
+     */
+    Failure(final int trial, final A value, final Throwable cause) {
+      this(trial, value, value, 0, cause);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param trial   the index of the trial
+     * @param value   the generated value the property failed for
+     * @param shrunk  the smallest value found by shrinking that the property also fails for
+     * @param shrinks the number of successful shrinking steps from value to shrunk
+     * @param cause   what the property threw for the shrunk value
+     */
+    Failure(final int trial, final A value, final A shrunk, final int shrinks, final Throwable cause) {
+      this.trial = trial;
+      this.value = value;
+      this.shrunk = shrunk;
+      this.shrinks = shrinks;
+      this.cause = cause;
+    }
+
+    /**
+     * The index of the trial, which PropertyRunner.replay accepts with the seed to rerun it.
+     *
+     * @return the index of the trial
+     */
+    public int getTrial() {
+      return trial;
+    }
+
+    /**
+     * The generated value the property failed for.
+     *
+     * @return the value
+     */
+    public A getValue() {
+      return value;
+    }
+
+    /**
+     * The smallest value found by shrinking that the property also fails for,
+     * which is the generated value if it could not be shrunk.
+     *
+     * @return the shrunk value
+     */
+    public A getShrunk() {
+      return shrunk;
+    }
+
+    /**
+     * The number of successful shrinking steps from the generated value to the shrunk value.
+     *
+     * @return the number of shrinking steps
+     */
+    public int getShrinks() {
+      return shrinks;
+    }
+
+    /**
+     * What the property threw for the shrunk value.
+     *
+     * @return the Exception or AssertionError
+     */
+    public Throwable getCause() {
+      return cause;
+    }
+
+    /**
+     * A description of the failure.
+     *
+     * @return a String describing the failure
+     */
+    @Override
+    public String toString() {
+      return "Failure(trial=" + trial + ", shrinks=" + shrinks + ", shrunk=" + shrunk + ", cause=" + cause + ")";
+    }
+  }
+}
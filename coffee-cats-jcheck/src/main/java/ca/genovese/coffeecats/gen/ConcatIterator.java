@@ -0,0 +1,51 @@
+package ca.genovese.coffeecats.gen;
+
+import java.util.Iterator;
+
+/**
+ * An Iterator over the items of one Iterator followed by the items of another.
+ *
+ * @param <A> The type of the items
+ */
+final class ConcatIterator<A> implements Iterator<A> {
+  /**
+   * The Iterator whose items come first.
+   */
+  private final Iterator<A> first;
+
+  /**
+   * The Iterator whose items come second.
+   */
+  private final Iterator<A> second;
+
+  /**
+   * Constructor.
+   *
+   * @param first  the Iterator whose items come first
+   * @param second the Iterator whose items come second
+   */
+  ConcatIterator(final Iterator<A> first, final Iterator<A> second) {
+    this.first = first;
+    this.second = second;
+  }
+
+  /**
+   * Returns true if either Iterator has more items.
+   *
+   * @return true if there are more items
+   */
+  @Override
+  public boolean hasNext() {
+    return first.hasNext() || second.hasNext();
+  }
+
+  /**
+   * Returns the next item of the first Iterator, or of the second once the first is exhausted.
+   *
+   * @return the next item
+   */
+  @Override
+  public A next() {
+    return first.hasNext() ? first.next() : second.next();
+  }
+}
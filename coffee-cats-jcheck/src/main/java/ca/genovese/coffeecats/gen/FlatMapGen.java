@@ -0,0 +1,110 @@
+package ca.genovese.coffeecats.gen;
+
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+
+import java.util.Arrays;
+import java.util.function.Function;
+
+/**
+ * A Gen which applies a function to the value produced by another Gen, created by Gen.map and Gen.flatMap.
+ *
+ * <p>Running a FlatMapGen does not recurse into the Gens it is built from. Instead,
+ * run descends through the chain of FlatMapGens, pushing each one on an explicit
+ * stack, runs the Gen at the bottom, and then pops the stack, applying the functions
+ * to the value and running any Gen they return in the same loop. Running a chain of
+ * any length, nested either way, therefore uses constant stack space.
+ *
+ * @param <A> The type of value returned by this Gen
+ */
+final class FlatMapGen<A> implements Gen<A> {
+  /**
+   * The initial capacity of the stack of pending FlatMapGens.
+   */
+  private static final int INITIAL_STACK = 16;
+
+  /**
+   * The Gen whose value is passed to f.
+   */
+  private final Gen<?> source;
+
+  /**
+   * The function applied to the value of source.
+   */
+  private final Function<Object, Object> f;
+
+  /**
+   * true if f returns the next value, false if f returns the next Gen to run.
+   */
+  private final boolean map;
+
+  /**
+   * Constructor.
+   *
+   * @param source the Gen whose value is passed to f
+   * @param f      the function applied to the value of source
+   * @param map    true if f returns the next value, false if f returns the next Gen to run
+   */
+  @SuppressWarnings("unchecked")
+  FlatMapGen(final Gen<?> source, final Function<?, ?> f, final boolean map) {
+    this.source = source;
+    this.f = (Function<Object, Object>) f;
+    this.map = map;
+  }
+
+  /**
+   * Run the chain of Gens which produces this Gen's value, in a loop, with the default size.
+   *
+   * @param rnd A FunctionalRandom
+   * @return the next result for this Gen
+   */
+  @Override
+  public Tuple2<FunctionalRandom, A> run(final FunctionalRandom rnd) {
+    return run(rnd, DEFAULT_SIZE);
+  }
+
+  /**
+   * Run the chain of Gens which produces this Gen's value, in a loop, passing the size to each of them.
+   *
+   * @param rnd  A FunctionalRandom
+   * @param size the size of the value to generate
+   * @return the next result for this Gen
+   */
+  @Override
+  @SuppressWarnings("unchecked")
+  public Tuple2<FunctionalRandom, A> run(final FunctionalRandom rnd, final int size) {
+    FlatMapGen<?>[] stack = new FlatMapGen<?>[INITIAL_STACK];
+    int depth = 0;
+    Gen<?> current = this;
+    FunctionalRandom r = rnd;
+
+    while (true) {
+      while (current instanceof FlatMapGen) {
+        if (depth == stack.length) {
+          stack = Arrays.copyOf(stack, depth * 2);
+        }
+        stack[depth++] = (FlatMapGen<?>) current;
+        current = ((FlatMapGen<?>) current).source;
+      }
+
+      final Tuple2<FunctionalRandom, ?> step = current.run(r, size);
+      Object value = step.getB();
+      r = step.getA();
+      current = null;
+
+      while (current == null) {
+        if (depth == 0) {
+          return new Tuple2<>(r, (A) value);
+        }
+
+        final FlatMapGen<?> next = stack[--depth];
+        stack[depth] = null;
+
+        if (next.map) {
+          value = next.f.apply(value);
+        } else {
+          current = (Gen<?>) next.f.apply(value);
+        }
+      }
+    }
+  }
+}
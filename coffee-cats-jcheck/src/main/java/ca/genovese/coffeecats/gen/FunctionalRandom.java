@@ -2,34 +2,84 @@ package ca.genovese.coffeecats.gen;
 
 import ca.genovese.coffeecats.data.option.Option;
 import ca.genovese.coffeecats.data.tuple.Tuple2;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
 import java.security.SecureRandom;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * A referentially transparent Random Number Generator.
+ *
+ * <p>Instances of FunctionalRandom are either a fast SplitMix generator, whose state is
+ * a single pair of longs and which produces the same values for the same seed, or a
+ * Secure generator backed by a SecureRandom, which is reseeded with fresh bytes on
+ * every step. Calling a method twice on the same FunctionalRandom always returns the
+ * same result.
+ *
+ * <p>The SplitMix generator is the algorithm used by java.util.SplittableRandom, and
+ * should be preferred for property based testing. The Secure generator is much
+ * slower, and may block waiting for entropy.
+ *
+ * <p>For sampling on many threads or tasks, stream(seed, index) gives each thread or task
+ * its own SplitMix generator. The streams for a seed are consecutive, non-overlapping runs of
+ * STREAM_LENGTH values of a single SplitMix sequence, so they never repeat each other's values,
+ * need no coordination between threads, and depend only on the seed and the index.
+ *
+ * <p>A SplitMix FunctionalRandom holds its state directly, so each step allocates only the
+ * next FunctionalRandom. A Secure FunctionalRandom delegates to its private Secure generator.
  */
+@ToString
+@EqualsAndHashCode
 public final class FunctionalRandom {
   /**
-   * the default length of the seed for the next random number generator.
+   * the default length of the seed for the next Secure random number generator.
    */
   private static final int DEFAULT_SEED_LENGTH = 20;
+
+  /**
+   * The increment used by seeded generators, and between the seeds of created generators.
+   */
+  private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+  /**
+   * The number of values in each stream returned by stream(seed, index).
+   */
+  public static final long STREAM_LENGTH = 1L << 32;
+
+  /**
+   * The number of streams for each seed, so that together they cover the whole SplitMix sequence.
+   */
+  public static final long STREAM_COUNT = 1L << 32;
+
   /**
-   * the length of the seed for the next random number generator.
+   * The source of seeds for created generators.
    */
-  private final int seedLength;
+  private static final AtomicLong SEEDER =
+      new AtomicLong(mix64(System.currentTimeMillis()) ^ mix64(System.nanoTime()));
+
   /**
-   * The underlying SecureRandom implementation.
+   * The current SplitMix seed, unused by a Secure FunctionalRandom.
    */
-  private final SecureRandom rnd;
+  private final long seed;
+
   /**
-   * The memoized "next" value.
+   * The odd increment added to the SplitMix seed on every step, unused by a Secure FunctionalRandom.
    */
-  private final AtomicReference<Option<Tuple2<FunctionalRandom, Integer>>> value = new AtomicReference<>(Option.none());
+  private final long gamma;
+
+  /**
+   * The generator behind a Secure FunctionalRandom, or null for a SplitMix FunctionalRandom.
+   */
+  private final Secure secure;
 
   /**
    * Convenience constructor that generates a Random new SecureRandom to start.
+   *
+   * @deprecated use secure(), or create() for a much faster generator
    */
+  @Deprecated
   public FunctionalRandom() {
     this(DEFAULT_SEED_LENGTH, new SecureRandom());
   }
@@ -38,11 +88,109 @@ public final class FunctionalRandom {
    * Constructor.
    *
    * @param seedLength the length of the seed for the next random number generator.
-   * @param rnd The underlying SecureRandom implementation.
+   * @param rnd        The underlying SecureRandom implementation.
+   * @deprecated use secure(seedLength, rnd), or seeded(seed) for a much faster generator
    */
+  @Deprecated
   public FunctionalRandom(final int seedLength, final SecureRandom rnd) {
-    this.seedLength = seedLength;
-    this.rnd = rnd;
+    this(0L, 0L, new Secure(seedLength, rnd));
+  }
+
+  /**
+   * Constructor for a SplitMix FunctionalRandom.
+   *
+   * @param seed  The current seed
+   * @param gamma The odd increment added to the seed on every step
+   */
+  private FunctionalRandom(final long seed, final long gamma) {
+    this(seed, gamma, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param seed   The current SplitMix seed
+   * @param gamma  The odd increment added to the SplitMix seed on every step
+   * @param secure The generator behind a Secure FunctionalRandom, or null for SplitMix
+   */
+  private FunctionalRandom(final long seed, final long gamma, final Secure secure) {
+    this.seed = seed;
+    this.gamma = gamma;
+    this.secure = secure;
+  }
+
+  /**
+   * A fast FunctionalRandom, seeded differently on every call.
+   *
+   * @return a new SplitMix FunctionalRandom
+   */
+  public static FunctionalRandom create() {
+    return seeded(mix64(SEEDER.getAndAdd(2 * GOLDEN_GAMMA)));
+  }
+
+  /**
+   * A fast FunctionalRandom which always produces the same values for the same seed.
+   *
+   * @param seed the initial seed
+   * @return a new SplitMix FunctionalRandom
+   */
+  public static FunctionalRandom seeded(final long seed) {
+    return new FunctionalRandom(seed, GOLDEN_GAMMA);
+  }
+
+  /**
+   * One of STREAM_COUNT non-overlapping SplitMix generators for a seed, for use by a single thread or task.
+   *
+   * <p>Stream 0 is the same as seeded(seed), and stream i starts i * STREAM_LENGTH values later
+   * in the same sequence, so the first STREAM_LENGTH values of different streams never overlap.
+   *
+   * @param seed  the seed shared by all the streams
+   * @param index the index of the stream, from 0 (inclusive) to STREAM_COUNT (exclusive)
+   * @return a new SplitMix FunctionalRandom
+   */
+  public static FunctionalRandom stream(final long seed, final long index) {
+    if (index < 0 || index >= STREAM_COUNT) {
+      throw new IllegalArgumentException("stream index " + index + " is not between 0 and " + STREAM_COUNT);
+    }
+
+    return seeded(seed).jump(index * STREAM_LENGTH);
+  }
+
+  /**
+   * The first n streams for a seed, such as one for each thread in a pool.
+   *
+   * @param seed the seed shared by all the streams
+   * @param n    the number of streams
+   * @return an array of n new SplitMix FunctionalRandoms, the ith of which is stream(seed, i)
+   */
+  public static FunctionalRandom[] streams(final long seed, final int n) {
+    final FunctionalRandom[] rs = new FunctionalRandom[n];
+
+    for (int i = 0; i < n; i++) {
+      rs[i] = stream(seed, i);
+    }
+
+    return rs;
+  }
+
+  /**
+   * A FunctionalRandom backed by a new SecureRandom.
+   *
+   * @return a new Secure FunctionalRandom
+   */
+  public static FunctionalRandom secure() {
+    return secure(DEFAULT_SEED_LENGTH, new SecureRandom());
+  }
+
+  /**
+   * A FunctionalRandom backed by the given SecureRandom.
+   *
+   * @param seedLength the length of the seed for the next random number generator.
+   * @param rnd        The underlying SecureRandom implementation.
+   * @return a new Secure FunctionalRandom
+   */
+  public static FunctionalRandom secure(final int seedLength, final SecureRandom rnd) {
+    return new FunctionalRandom(0L, 0L, new Secure(seedLength, rnd));
   }
 
   /**
@@ -51,17 +199,251 @@ public final class FunctionalRandom {
    * @return Return the next FunctionalRandom and a random Integer.
    */
   public Tuple2<FunctionalRandom, Integer> nextInt() {
-    return value.updateAndGet((v) -> {
-      if (v.isDefined()) {
-        return v;
-      } else {
-        final byte[] seed = new byte[seedLength];
-        rnd.nextBytes(seed);
-        return Option.some(new Tuple2<>(
-            new FunctionalRandom(seedLength, new SecureRandom(seed)),
-            rnd.nextInt()));
+    if (secure != null) {
+      return secure.nextInt();
+    }
+
+    final long next = seed + gamma;
+    return new Tuple2<>(new FunctionalRandom(next, gamma), mix32(next));
+  }
+
+  /**
+   * The next long value from this FunctionalRandom.
+   *
+   * @return Return the next FunctionalRandom and a random Long.
+   */
+  public Tuple2<FunctionalRandom, Long> nextLong() {
+    if (secure != null) {
+      final Tuple2<FunctionalRandom, Integer> hi = nextInt();
+      final Tuple2<FunctionalRandom, Integer> lo = hi.getA().nextInt();
+      return new Tuple2<>(lo.getA(), ((long) hi.getB() << 32) | (lo.getB() & 0xffffffffL));
+    }
+
+    final long next = seed + gamma;
+    return new Tuple2<>(new FunctionalRandom(next, gamma), mix64(next));
+  }
+
+  /**
+   * Split this FunctionalRandom into two which produce independent values.
+   *
+   * <p>A SplitMix FunctionalRandom gives the new one a seed and gamma derived from its next two seeds.
+   *
+   * @return Return the next FunctionalRandom and a new, independent, FunctionalRandom.
+   */
+  public Tuple2<FunctionalRandom, FunctionalRandom> split() {
+    if (secure != null) {
+      return secure.split();
+    }
+
+    final long first = seed + gamma;
+    final long second = first + gamma;
+    return new Tuple2<>(new FunctionalRandom(second, gamma), new FunctionalRandom(mix64(first), mixGamma(second)));
+  }
+
+  /**
+   * The FunctionalRandom which would be reached after drawing n ints from this one.
+   *
+   * <p>A SplitMix FunctionalRandom computes it directly by advancing the seed by n gammas.
+   *
+   * @param n the number of steps to skip, which must not be negative
+   * @return the FunctionalRandom n steps ahead
+   */
+  public FunctionalRandom jump(final long n) {
+    if (secure == null) {
+      return new FunctionalRandom(seed + n * gamma, gamma);
+    }
+
+    FunctionalRandom rnd = this;
+
+    for (long i = 0; i < n; i++) {
+      rnd = rnd.nextInt().getA();
+    }
+
+    return rnd;
+  }
+
+  /**
+   * The next n int values from this FunctionalRandom, without boxing each one.
+   *
+   * @param n the number of values
+   * @return Return the next FunctionalRandom and an array of n random ints.
+   */
+  public Tuple2<FunctionalRandom, int[]> nextInts(final int n) {
+    final int[] is = new int[n];
+
+    if (secure == null) {
+      long s = seed;
+
+      for (int i = 0; i < n; i++) {
+        s += gamma;
+        is[i] = mix32(s);
+      }
+
+      return new Tuple2<>(new FunctionalRandom(s, gamma), is);
+    }
+
+    FunctionalRandom rnd = this;
+
+    for (int i = 0; i < n; i++) {
+      final Tuple2<FunctionalRandom, Integer> next = rnd.nextInt();
+      rnd = next.getA();
+      is[i] = next.getB();
+    }
+
+    return new Tuple2<>(rnd, is);
+  }
+
+  /**
+   * The next n long values from this FunctionalRandom, without boxing each one.
+   *
+   * @param n the number of values
+   * @return Return the next FunctionalRandom and an array of n random longs.
+   */
+  public Tuple2<FunctionalRandom, long[]> nextLongs(final int n) {
+    final long[] ls = new long[n];
+
+    if (secure == null) {
+      long s = seed;
+
+      for (int i = 0; i < n; i++) {
+        s += gamma;
+        ls[i] = mix64(s);
       }
-    }).get();
+
+      return new Tuple2<>(new FunctionalRandom(s, gamma), ls);
+    }
+
+    FunctionalRandom rnd = this;
+
+    for (int i = 0; i < n; i++) {
+      final Tuple2<FunctionalRandom, Long> next = rnd.nextLong();
+      rnd = next.getA();
+      ls[i] = next.getB();
+    }
+
+    return new Tuple2<>(rnd, ls);
+  }
+
+  /**
+   * The 64 bit finalizer from MurmurHash3, as used by SplittableRandom.
+   *
+   * @param seed the value to mix
+   * @return the mixed value
+   */
+  private static long mix64(final long seed) {
+    long z = seed;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+
+  /**
+   * Mix a seed into 32 bits, as used by SplittableRandom.
+   *
+   * @param seed the value to mix
+   * @return the mixed value
+   */
+  private static int mix32(final long seed) {
+    long z = seed;
+    z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+    return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+  }
+
+  /**
+   * Mix a seed into an odd gamma with enough bit transitions, as used by SplittableRandom.
+   *
+   * @param seed the value to mix
+   * @return the gamma
+   */
+  private static long mixGamma(final long seed) {
+    long z = seed;
+    z = (z ^ (z >>> 33)) * 0xff51afd7ed558ccdL;
+    z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+    z = (z ^ (z >>> 33)) | 1L;
+    return Long.bitCount(z ^ (z >>> 1)) < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
   }
 
+  /**
+   * A generator backed by a SecureRandom, which creates a new SecureRandom
+   * seeded from the current one for every step.
+   *
+   * <p>The results of nextInt and split are memoized. A thread which finds no memoized result
+   * computes one, once, and publishes it with a single compareAndSet, so under contention the
+   * SecureRandom is drawn from at most once per thread rather than once per retry. Every thread
+   * returns whichever result was published first.
+   */
+  private static final class Secure {
+    /**
+     * the length of the seed for the next random number generator.
+     */
+    private final int seedLength;
+    /**
+     * The underlying SecureRandom implementation.
+     */
+    private final SecureRandom rnd;
+    /**
+     * The memoized "next" value.
+     */
+    private final AtomicReference<Option<Tuple2<FunctionalRandom, Integer>>> value =
+        new AtomicReference<>(Option.none());
+    /**
+     * The memoized result of split.
+     */
+    private final AtomicReference<Option<Tuple2<FunctionalRandom, FunctionalRandom>>> splitValue =
+        new AtomicReference<>(Option.none());
+
+    /**
+     * Constructor.
+     *
+     * @param seedLength the length of the seed for the next random number generator.
+     * @param rnd        The underlying SecureRandom implementation.
+     */
+    Secure(final int seedLength, final SecureRandom rnd) {
+      this.seedLength = seedLength;
+      this.rnd = rnd;
+    }
+
+    /**
+     * Create a new Secure FunctionalRandom seeded from this one's SecureRandom.
+     *
+     * @return a new Secure FunctionalRandom
+     */
+    private FunctionalRandom reseed() {
+      final byte[] seed = new byte[seedLength];
+      rnd.nextBytes(seed);
+      return new FunctionalRandom(0L, 0L, new Secure(seedLength, new SecureRandom(seed)));
+    }
+
+    /**
+     * The next value from this FunctionalRandom.
+     *
+     * @return Return the next FunctionalRandom and a random Integer.
+     */
+    Tuple2<FunctionalRandom, Integer> nextInt() {
+      final Option<Tuple2<FunctionalRandom, Integer>> memo = value.get();
+
+      if (memo.isDefined()) {
+        return memo.get();
+      }
+
+      value.compareAndSet(memo, Option.some(new Tuple2<>(reseed(), rnd.nextInt())));
+      return value.get().get();
+    }
+
+    /**
+     * Split this FunctionalRandom into two Secure generators, each seeded from this one.
+     *
+     * @return Return the next FunctionalRandom and a new, independent, FunctionalRandom.
+     */
+    Tuple2<FunctionalRandom, FunctionalRandom> split() {
+      final Option<Tuple2<FunctionalRandom, FunctionalRandom>> memo = splitValue.get();
+
+      if (memo.isDefined()) {
+        return memo.get();
+      }
+
+      splitValue.compareAndSet(memo, Option.some(new Tuple2<>(nextInt().getA(), reseed())));
+      return splitValue.get().get();
+    }
+  }
 }
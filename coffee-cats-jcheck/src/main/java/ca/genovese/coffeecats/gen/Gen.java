@@ -1,6 +1,7 @@
 package ca.genovese.coffeecats.gen;
 
 import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
 import ca.genovese.coffeecats.data.option.Option;
 import ca.genovese.coffeecats.data.tuple.Tuple2;
 import ca.genovese.coffeecats.kind.Kind;
@@ -8,6 +9,7 @@ import ca.genovese.coffeecats.kind.Kind;
 import java.util.function.BinaryOperator;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.IntFunction;
 
 /**
  * A random value generator, used for creating property based tests.
@@ -15,6 +17,11 @@ import java.util.function.Function;
  * <p>Gen is actually a specialized implementation of the State Monad
  * {@code (FunctionalRandom) -> Tuple2<FunctionalRandom, A>}
  *
+ * <p>A Gen may also be run with a size, which Gens built with sized use to decide how
+ * large a value to generate, for example the length of a List. The size is passed on
+ * through map, flatMap and the other combinators, and is DEFAULT_SIZE when a Gen is
+ * run without one.
+ *
  * @param <A> The type of value returned by this Gen
  */
 @FunctionalInterface
@@ -24,6 +31,16 @@ public interface Gen<A> extends Kind<Gen, A> {
    */
   Gen<Integer> intGen = FunctionalRandom::nextInt;
 
+  /**
+   * A {@code Gen<Long>} returning uniformly distributed longs.
+   */
+  Gen<Long> longGen = FunctionalRandom::nextLong;
+
+  /**
+   * The size used when a Gen is run without one.
+   */
+  int DEFAULT_SIZE = 100;
+
   /**
    * A method which, given a FunctionalRandom, produces the next value for this Gen.
    *
@@ -32,6 +49,19 @@ public interface Gen<A> extends Kind<Gen, A> {
    */
   Tuple2<FunctionalRandom, A> run(FunctionalRandom rnd);
 
+  /**
+   * A method which, given a FunctionalRandom and a size, produces the next value for this Gen.
+   *
+   * <p>Gens which do not depend on the size ignore it.
+   *
+   * @param rnd  A FunctionalRandom
+   * @param size the size of the value to generate
+   * @return the next result for this Gen
+   */
+  default Tuple2<FunctionalRandom, A> run(FunctionalRandom rnd, int size) {
+    return run(rnd);
+  }
+
   /**
    * Method which produces a Gen returning a fixed value.
    *
@@ -43,30 +73,100 @@ public interface Gen<A> extends Kind<Gen, A> {
     return (r) -> new Tuple2<>(r, a);
   }
 
+  /**
+   * Produce a Gen which depends on the size it is run with.
+   *
+   * @param f   a function from the size to the Gen to run
+   * @param <A> type of value returned by this Gen
+   * @return a sized {@code Gen<A>}
+   */
+  static <A> Gen<A> sized(final IntFunction<Gen<A>> f) {
+    return new Gen<A>() {
+      @Override
+      public Tuple2<FunctionalRandom, A> run(final FunctionalRandom rnd) {
+        return run(rnd, DEFAULT_SIZE);
+      }
+
+      @Override
+      public Tuple2<FunctionalRandom, A> run(final FunctionalRandom rnd, final int size) {
+        return f.apply(size).run(rnd, size);
+      }
+    };
+  }
+
+  /**
+   * Produce a Gen like this one which always runs with the given size.
+   *
+   * @param n the size
+   * @return a new {@code Gen<A>}
+   */
+  default Gen<A> resize(final int n) {
+    final Gen<A> self = this;
+
+    return new Gen<A>() {
+      @Override
+      public Tuple2<FunctionalRandom, A> run(final FunctionalRandom rnd) {
+        return self.run(rnd, n);
+      }
+
+      @Override
+      public Tuple2<FunctionalRandom, A> run(final FunctionalRandom rnd, final int size) {
+        return self.run(rnd, n);
+      }
+    };
+  }
+
+  /**
+   * A Gen returning arrays of n ints, filled in a single loop.
+   *
+   * @param n the length of the arrays
+   * @return a {@code Gen<int[]>}
+   */
+  static Gen<int[]> intArrayOfN(final int n) {
+    return (r) -> r.nextInts(n);
+  }
+
+  /**
+   * A Gen returning arrays of n longs, filled in a single loop.
+   *
+   * @param n the length of the arrays
+   * @return a {@code Gen<long[]>}
+   */
+  static Gen<long[]> longArrayOfN(final int n) {
+    return (r) -> r.nextLongs(n);
+  }
+
   /**
    * Produce a new Gen which returns the results of applying a Function to the values returned by this Gen.
    *
+   * <p>The resulting Gen runs in constant stack space, however deeply map and flatMap are chained.
+   *
    * @param f Function to apply
    * @param <B> return type
    * @return a new {@code Gen<B>}
    */
   default <B> Gen<B> map(Function<A, B> f) {
-    return (r) -> run(r).applyTo((rnd, a) -> new Tuple2<>(rnd, f.apply(a)));
+    return new FlatMapGen<>(this, f, true);
   }
 
   /**
-   * flatmap.
+   * Produce a new Gen which runs the Gen returned by applying a Function to the values returned by this Gen.
+   *
+   * <p>The resulting Gen runs in constant stack space, however deeply map and flatMap are chained.
+   *
    * @param f Function to apply
    * @param <B> return type
    * @return a new {@code Gen<B>}
    */
   default <B> Gen<B> flatMap(Function<A, Gen<B>> f) {
-    return (r) -> run(r).applyTo((rnd, a) -> f.apply(a).run(rnd));
+    return new FlatMapGen<>(this, f, false);
   }
 
   /**
    * return a new Gen that returns the result of calling the current Gen a given number of times
-   * converting the results using a givand combining the results using the given BinaryOperator.
+   * converting the results using a given Function and combining the results using the given BinaryOperator.
+   *
+   * <p>The current Gen is run n times in a loop, so n may be arbitrarily large.
    *
    * @param n the number of runs of this Gen to combine
    * @param f the transformation function
@@ -75,17 +175,96 @@ public interface Gen<A> extends Kind<Gen, A> {
    * @return The combined result
    */
   default <B> Gen<B> nTimes(int n, Function<A, B> f, BinaryOperator<B> c) {
-    Gen<B> result = map(f);
+    final Gen<A> self = this;
+
+    return new Gen<B>() {
+      @Override
+      public Tuple2<FunctionalRandom, B> run(final FunctionalRandom rnd) {
+        return run(rnd, DEFAULT_SIZE);
+      }
+
+      @Override
+      public Tuple2<FunctionalRandom, B> run(final FunctionalRandom rnd, final int size) {
+        Tuple2<FunctionalRandom, A> next = self.run(rnd, size);
+        B result = f.apply(next.getB());
+
+        for (int i = 1; i < n; i++) {
+          next = self.run(next.getA(), size);
+          result = c.apply(result, f.apply(next.getB()));
+        }
+
+        return new Tuple2<>(next.getA(), result);
+      }
+    };
+  }
+
+  /**
+   * return a new Gen that returns Lists of n values from the current Gen, generated in a loop.
+   *
+   * @param n the length of the Lists
+   * @return a {@code Gen<List<A>>}
+   */
+  default Gen<List<A>> listOfN(final int n) {
+    final Gen<A> self = this;
+
+    return new Gen<List<A>>() {
+      @Override
+      public Tuple2<FunctionalRandom, List<A>> run(final FunctionalRandom rnd) {
+        return run(rnd, DEFAULT_SIZE);
+      }
+
+      @Override
+      public Tuple2<FunctionalRandom, List<A>> run(final FunctionalRandom rnd, final int size) {
+        final ListBuilder<A> builder = new ListBuilder<>(n);
+        FunctionalRandom r = rnd;
+
+        for (int i = 0; i < n; i++) {
+          final Tuple2<FunctionalRandom, A> next = self.run(r, size);
+          r = next.getA();
+          builder.add(next.getB());
+        }
+
+        return new Tuple2<>(r, builder.build());
+      }
+    };
+  }
 
-    for (int i = 1; i < n; i++) {
-      result = result.flatMap((b) -> map(a -> c.apply(b, f.apply(a))));
-    }
+  /**
+   * return a new Gen that returns arrays of n values from the current Gen, generated in a loop.
+   *
+   * @param n        the length of the arrays
+   * @param newArray a function creating an array of the given length, such as {@code Integer[]::new}
+   * @return a {@code Gen<A[]>}
+   */
+  default Gen<A[]> arrayOfN(final int n, final IntFunction<A[]> newArray) {
+    final Gen<A> self = this;
+
+    return new Gen<A[]>() {
+      @Override
+      public Tuple2<FunctionalRandom, A[]> run(final FunctionalRandom rnd) {
+        return run(rnd, DEFAULT_SIZE);
+      }
 
-    return result;
+      @Override
+      public Tuple2<FunctionalRandom, A[]> run(final FunctionalRandom rnd, final int size) {
+        final A[] as = newArray.apply(n);
+        FunctionalRandom r = rnd;
+
+        for (int i = 0; i < n; i++) {
+          final Tuple2<FunctionalRandom, A> next = self.run(r, size);
+          r = next.getA();
+          as[i] = next.getB();
+        }
+
+        return new Tuple2<>(r, as);
+      }
+    };
   }
 
   /**
-   * Utility function for creating a property check.
+   * Utility function for creating a property check of 10 trials, in order.
+   *
+   * <p>For many trials, or to run them in parallel, use PropertyRunner.
    *
    * @param check property to check
    * @return List of None or an Exception for each value checked
@@ -95,9 +274,9 @@ public interface Gen<A> extends Kind<Gen, A> {
       try {
         check.accept(a);
       } catch (Exception e) {
-        return List.of(Option.of(e));
+        return Option.of(e);
       }
-      return List.of(Option.<Exception>none());
-    }).nTimes(10, l -> l, (a, b) -> b.append(a));
+      return Option.<Exception>none();
+    }).listOfN(10);
   }
 }
@@ -0,0 +1,230 @@
+package ca.genovese.coffeecats.gen;
+
+import ca.genovese.coffeecats.data.eval.Eval;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+
+/**
+ * Ready-made generators for the data types in coffee-cats-lang, for use in law tests and benchmarks.
+ *
+ * <p>The sized generators, such as listOf and asciiString, choose the size of their values from
+ * the size they are run with. The bulk generators, such as intListOfN and doubleArrayOfN,
+ * generate values of a fixed size from a single call to FunctionalRandom.nextInts or nextLongs,
+ * without creating a FunctionalRandom per element, and can quickly produce values of
+ * millions of elements.
+ */
+public final class Generators {
+  /**
+   * The number of printable ASCII characters, from space to tilde.
+   */
+  private static final int PRINTABLE = 95;
+
+  /**
+   * The number of bits in a double's significand.
+   */
+  private static final int DOUBLE_BITS = 53;
+
+  /**
+   * A {@code Gen<Boolean>} returning true and false with equal probability.
+   */
+  public static final Gen<Boolean> boolGen = Gen.intGen.map(i -> i < 0);
+
+  /**
+   * A {@code Gen<Double>} returning doubles uniformly distributed between 0 (inclusive) and 1 (exclusive).
+   */
+  public static final Gen<Double> doubleGen = Gen.longGen.map(Generators::toUnitDouble);
+
+  /**
+   * This class is not instantiated.
+   */
+  private Generators() {
+
+  }
+
+  /**
+   * A Gen returning ints uniformly distributed between lo (inclusive) and hi (exclusive).
+   *
+   * @param lo the smallest value returned
+   * @param hi one more than the largest value returned
+   * @return a {@code Gen<Integer>}
+   */
+  public static Gen<Integer> choose(final int lo, final int hi) {
+    if (hi <= lo) {
+      throw new IllegalArgumentException("choose(" + lo + ", " + hi + ") has an empty range");
+    }
+
+    final long range = (long) hi - lo;
+    return Gen.intGen.map(i -> (int) (lo + (((i & 0xffffffffL) * range) >>> 32)));
+  }
+
+  /**
+   * A Gen returning Lists of values from the given Gen, whose length is at most the size.
+   *
+   * @param gen the Gen of the elements
+   * @param <A> the type of the elements
+   * @return a sized {@code Gen<List<A>>}
+   */
+  public static <A> Gen<List<A>> listOf(final Gen<A> gen) {
+    return Gen.sized(size -> choose(0, size + 1).flatMap(gen::listOfN));
+  }
+
+  /**
+   * A Gen returning None a quarter of the time, and Some value from the given Gen otherwise.
+   *
+   * @param gen the Gen of the values
+   * @param <A> the type of the values
+   * @return a {@code Gen<Option<A>>}
+   */
+  public static <A> Gen<Option<A>> optionOf(final Gen<A> gen) {
+    return Gen.intGen.flatMap(i -> (i & 3) == 0 ? Gen.unit(Option.<A>none()) : gen.map(Option::some));
+  }
+
+  /**
+   * A Gen returning pairs of values from the given Gens.
+   *
+   * @param genA the Gen of the first values
+   * @param genB the Gen of the second values
+   * @param <A>  the type of the first values
+   * @param <B>  the type of the second values
+   * @return a {@code Gen<Tuple2<A, B>>}
+   */
+  public static <A, B> Gen<Tuple2<A, B>> tuple2(final Gen<A> genA, final Gen<B> genB) {
+    return genA.flatMap(a -> genB.map(b -> new Tuple2<>(a, b)));
+  }
+
+  /**
+   * A Gen returning Evals of values from the given Gen, at the end of a chain of depth flatMaps.
+   *
+   * <p>Evaluating the chain exercises Eval's trampoline, since the chain is much deeper than the stack
+   * for large depths.
+   *
+   * @param gen   the Gen of the values
+   * @param depth the number of flatMaps in the chain
+   * @param <A>   the type of the values
+   * @return a {@code Gen<Eval<A>>}
+   */
+  public static <A> Gen<Eval<A>> evalOf(final Gen<A> gen, final int depth) {
+    return gen.map(a -> {
+      Eval<A> eval = Eval.now(a);
+
+      for (int i = 0; i < depth; i++) {
+        eval = eval.flatMap(Eval::now);
+      }
+
+      return eval;
+    });
+  }
+
+  /**
+   * A Gen returning Evals of values from the given Gen, at the end of a chain of flatMaps as deep as the size.
+   *
+   * @param gen the Gen of the values
+   * @param <A> the type of the values
+   * @return a sized {@code Gen<Eval<A>>}
+   */
+  public static <A> Gen<Eval<A>> evalOf(final Gen<A> gen) {
+    return Gen.sized(size -> evalOf(gen, size));
+  }
+
+  /**
+   * A Gen returning Strings of printable ASCII characters, whose length is at most the size.
+   *
+   * @return a sized {@code Gen<String>}
+   */
+  public static Gen<String> asciiString() {
+    return Gen.sized(size -> choose(0, size + 1).flatMap(Generators::asciiStringOfN));
+  }
+
+  /**
+   * A Gen returning Strings of n printable ASCII characters, eight characters to each random long.
+   *
+   * @param n the length of the Strings
+   * @return a {@code Gen<String>}
+   */
+  public static Gen<String> asciiStringOfN(final int n) {
+    return (r) -> {
+      final Tuple2<FunctionalRandom, long[]> next = r.nextLongs((n + Long.BYTES - 1) / Long.BYTES);
+      final long[] ls = next.getB();
+      final char[] cs = new char[n];
+
+      for (int i = 0; i < n; i++) {
+        final long b = (ls[i / Long.BYTES] >>> ((i % Long.BYTES) * Byte.SIZE)) & 0xff;
+        cs[i] = (char) (' ' + ((b * PRINTABLE) >>> Byte.SIZE));
+      }
+
+      return new Tuple2<>(next.getA(), new String(cs));
+    };
+  }
+
+  /**
+   * A Gen returning Lists of n Integers, generated with a single call to nextInts.
+   *
+   * @param n the length of the Lists
+   * @return a {@code Gen<List<Integer>>}
+   */
+  public static Gen<List<Integer>> intListOfN(final int n) {
+    return (r) -> {
+      final Tuple2<FunctionalRandom, int[]> next = r.nextInts(n);
+      final int[] is = next.getB();
+      List<Integer> list = List.of();
+
+      for (int i = n - 1; i >= 0; i--) {
+        list = List.cons(is[i], list);
+      }
+
+      return new Tuple2<>(next.getA(), list);
+    };
+  }
+
+  /**
+   * A Gen returning arrays of n doubles between 0 (inclusive) and 1 (exclusive),
+   * generated with a single call to nextLongs.
+   *
+   * @param n the length of the arrays
+   * @return a {@code Gen<double[]>}
+   */
+  public static Gen<double[]> doubleArrayOfN(final int n) {
+    return (r) -> {
+      final Tuple2<FunctionalRandom, long[]> next = r.nextLongs(n);
+      final long[] ls = next.getB();
+      final double[] ds = new double[n];
+
+      for (int i = 0; i < n; i++) {
+        ds[i] = toUnitDouble(ls[i]);
+      }
+
+      return new Tuple2<>(next.getA(), ds);
+    };
+  }
+
+  /**
+   * A Gen returning arrays of n bytes, eight bytes to each random long.
+   *
+   * @param n the length of the arrays
+   * @return a {@code Gen<byte[]>}
+   */
+  public static Gen<byte[]> byteArrayOfN(final int n) {
+    return (r) -> {
+      final Tuple2<FunctionalRandom, long[]> next = r.nextLongs((n + Long.BYTES - 1) / Long.BYTES);
+      final long[] ls = next.getB();
+      final byte[] bs = new byte[n];
+
+      for (int i = 0; i < n; i++) {
+        bs[i] = (byte) (ls[i / Long.BYTES] >>> ((i % Long.BYTES) * Byte.SIZE));
+      }
+
+      return new Tuple2<>(next.getA(), bs);
+    };
+  }
+
+  /**
+   * Convert the top 53 bits of a random long into a double between 0 (inclusive) and 1 (exclusive).
+   *
+   * @param l a random long
+   * @return a random double
+   */
+  private static double toUnitDouble(final long l) {
+    return (l >>> (Long.SIZE - DOUBLE_BITS)) * 0x1.0p-53;
+  }
+}
@@ -0,0 +1,77 @@
+package ca.genovese.coffeecats.gen;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * The shrink candidates for a long: its negation if it is negative, then
+ * {@code x - x}, {@code x - x / 2}, {@code x - x / 4}, ... moving from zero back towards x.
+ */
+final class HalvingIterator implements Iterator<Long> {
+  /**
+   * The value being shrunk.
+   */
+  private final long x;
+
+  /**
+   * The distance from x of the next candidate, zero when there are no more.
+   */
+  private long diff;
+
+  /**
+   * true if the negation of x is still to be produced.
+   */
+  private boolean negate;
+
+  /**
+   * Constructor.
+   *
+   * @param x the value being shrunk
+   */
+  HalvingIterator(final long x) {
+    this.x = x;
+    this.diff = x;
+    this.negate = x < 0 && x != Long.MIN_VALUE;
+  }
+
+  /**
+   * Returns true if there are more candidates.
+   *
+   * @return true if there are more candidates
+   */
+  @Override
+  public boolean hasNext() {
+    return negate || diff != 0;
+  }
+
+  /**
+   * Returns the next candidate.
+   *
+   * @return the next candidate
+   */
+  @Override
+  public Long next() {
+    if (negate) {
+      negate = false;
+      return -x;
+    } else if (diff != 0) {
+      final long candidate = x - diff;
+      diff /= 2;
+      return candidate;
+    } else {
+      throw new NoSuchElementException();
+    }
+  }
+
+  /**
+   * Convert the candidates with a function.
+   *
+   * @param f   the function to apply to each candidate
+   * @param <B> the type of the converted candidates
+   * @return an Iterator over the converted candidates
+   */
+  <B> Iterator<B> map(final Function<Long, B> f) {
+    return new MappedIterator<>(this, f);
+  }
+}
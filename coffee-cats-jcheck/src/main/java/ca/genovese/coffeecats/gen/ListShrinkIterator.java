@@ -0,0 +1,160 @@
+package ca.genovese.coffeecats.gen;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * The shrink candidates for a List.
+ *
+ * <p>First the List with chunks removed: the whole List, then each half, each quarter,
+ * and so on down to each single item. Then the List with each item in turn replaced by
+ * each of its shrink candidates. Each candidate is built only when it is reached, and the
+ * iterator itself holds only its position, so memory use does not depend on the number
+ * of candidates.
+ *
+ * @param <A> The type of the items
+ */
+final class ListShrinkIterator<A> implements Iterator<List<A>> {
+  /**
+   * The List being shrunk.
+   */
+  private final List<A> as;
+
+  /**
+   * The Shrink for the items.
+   */
+  private final Shrink<A> shrink;
+
+  /**
+   * The length of the List being shrunk.
+   */
+  private final int length;
+
+  /**
+   * The size of the chunk to remove next, zero once removals are finished.
+   */
+  private int chunk;
+
+  /**
+   * The index of the next chunk to remove, or of the item being shrunk once removals are finished.
+   */
+  private int index;
+
+  /**
+   * The rest of the List from the item being shrunk.
+   */
+  private List<A> rest;
+
+  /**
+   * true once removals are finished and items are being shrunk.
+   */
+  private boolean shrinking;
+
+  /**
+   * The candidates for the item being shrunk.
+   */
+  private Iterator<A> items = Collections.emptyIterator();
+
+  /**
+   * Constructor.
+   *
+   * @param as     the List being shrunk
+   * @param shrink the Shrink for the items
+   */
+  ListShrinkIterator(final List<A> as, final Shrink<A> shrink) {
+    this.as = as;
+    this.shrink = shrink;
+    this.length = as.length();
+    this.chunk = length;
+    this.index = 0;
+    this.rest = as;
+  }
+
+  /**
+   * Returns true if there are more candidates.
+   *
+   * @return true if there are more candidates
+   */
+  @Override
+  public boolean hasNext() {
+    if (chunk > 0) {
+      return true;
+    }
+
+    while (!items.hasNext()) {
+      if (!shrinking) {
+        shrinking = true;
+      } else if (!rest.isEmpty()) {
+        rest = rest.getTail();
+        index++;
+      }
+
+      if (rest.isEmpty()) {
+        return false;
+      }
+
+      items = shrink.shrink(rest.getHead());
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns the next candidate.
+   *
+   * @return the next candidate
+   */
+  @Override
+  public List<A> next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+
+    if (chunk > 0) {
+      final List<A> candidate = splice(index, chunk, null, false);
+      index += chunk;
+
+      if (index >= length) {
+        chunk /= 2;
+        index = 0;
+      }
+
+      return candidate;
+    }
+
+    return splice(index, 1, items.next(), true);
+  }
+
+  /**
+   * Build a copy of the List with count items removed from start, optionally replaced by one item.
+   *
+   * @param start   the index of the first item to remove
+   * @param count   the number of items to remove
+   * @param item    the replacement item
+   * @param replace true if the item should be inserted in place of the removed items
+   * @return the new List, sharing the original after the removed items
+   */
+  private List<A> splice(final int start, final int count, final A item, final boolean replace) {
+    final ListBuilder<A> builder = new ListBuilder<>();
+    List<A> tail = as;
+
+    for (int i = 0; i < start; i++) {
+      builder.add(tail.getHead());
+      tail = tail.getTail();
+    }
+
+    for (int i = 0; i < count && !tail.isEmpty(); i++) {
+      tail = tail.getTail();
+    }
+
+    if (replace) {
+      builder.add(item);
+    }
+
+    return builder.buildOnto(tail);
+  }
+}
@@ -0,0 +1,53 @@
+package ca.genovese.coffeecats.gen;
+
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * An Iterator which applies a function to each item of another Iterator, as it is reached.
+ *
+ * @param <A> The type of the items of the underlying Iterator
+ * @param <B> The type of the items of this Iterator
+ */
+final class MappedIterator<A, B> implements Iterator<B> {
+  /**
+   * The underlying Iterator.
+   */
+  private final Iterator<A> as;
+
+  /**
+   * The function to apply.
+   */
+  private final Function<A, B> f;
+
+  /**
+   * Constructor.
+   *
+   * @param as the underlying Iterator
+   * @param f  the function to apply
+   */
+  MappedIterator(final Iterator<A> as, final Function<A, B> f) {
+    this.as = as;
+    this.f = f;
+  }
+
+  /**
+   * Returns true if the underlying Iterator has more items.
+   *
+   * @return true if there are more items
+   */
+  @Override
+  public boolean hasNext() {
+    return as.hasNext();
+  }
+
+  /**
+   * Returns the result of applying f to the next item of the underlying Iterator.
+   *
+   * @return the next item
+   */
+  @Override
+  public B next() {
+    return f.apply(as.next());
+  }
+}
@@ -0,0 +1,391 @@
+package ca.genovese.coffeecats.gen;
+
+import ca.genovese.coffeecats.data.option.Option;
+
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Checks a property against many generated values, running the trials in parallel on a ForkJoinPool.
+ *
+ * <p>Each trial gets its own FunctionalRandom, FunctionalRandom.stream(seed, trial), so the
+ * generator, and therefore the value, for each trial depends only on the seed and the
+ * trial's index, not on the pool, the number of trials or the order the trials run in, and
+ * the trials share no generator state. The range of trials is halved recursively down to
+ * segments of SEGMENT trials, which each run sequentially.
+ *
+ * <p>When a trial fails, trials with higher indexes are skipped, while trials with lower
+ * indexes still run, so the reported failure is always the lowest failing index.
+ *
+ * <p>When a Shrink is given, the failing value is then shrunk by a greedy search: the
+ * candidates for the current value are tried in order, at most shrinkBreadth of them, and
+ * the first one the property also fails for becomes the current value. The search stops
+ * when none of the candidates tried fail, or when shrinkBudgetMillis have passed. Only the
+ * current value and the Iterator over its candidates are held, so the search uses memory
+ * proportional to the size of the value, whatever the number of candidates.
+ */
+public final class PropertyRunner {
+  /**
+   * The default number of trials.
+   */
+  public static final int DEFAULT_TRIALS = 100;
+
+  /**
+   * The default maximum number of candidates tried at each shrinking step.
+   */
+  public static final int DEFAULT_SHRINK_BREADTH = 1000;
+
+  /**
+   * The default time allowed for shrinking a failure, in milliseconds.
+   */
+  public static final long DEFAULT_SHRINK_BUDGET_MILLIS = 2000;
+
+  /**
+   * The number of trials run sequentially by one task.
+   */
+  static final int SEGMENT = 256;
+
+  /**
+   * A convenience PropertyRunner which runs DEFAULT_TRIALS trials on the common pool.
+   */
+  public static final PropertyRunner propertyRunner = new PropertyRunner(ForkJoinPool.commonPool(), DEFAULT_TRIALS);
+
+  /**
+   * The pool the trials are run on.
+   */
+  private final ForkJoinPool pool;
+
+  /**
+   * The number of trials.
+   */
+  private final int trials;
+
+  /**
+   * The maximum number of candidates tried at each shrinking step.
+   */
+  private final int shrinkBreadth;
+
+  /**
+   * The time allowed for shrinking a failure, in milliseconds.
+   */
+  private final long shrinkBudgetMillis;
+
+  /**
+   * Constructor, with the default shrinking limits.
+   *
+   * @param pool   the pool the trials are run on
+   * @param trials the number of trials
+   * @throws IllegalArgumentException if trials is less than 1
+   */
+  public PropertyRunner(final ForkJoinPool pool, final int trials) {
+    this(pool, trials, DEFAULT_SHRINK_BREADTH, DEFAULT_SHRINK_BUDGET_MILLIS);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param pool               the pool the trials are run on
+   * @param trials             the number of trials
+   * @param shrinkBreadth      the maximum number of candidates tried at each shrinking step
+   * @param shrinkBudgetMillis the time allowed for shrinking a failure, in milliseconds
+   * @throws IllegalArgumentException if trials or shrinkBreadth is less than 1, or shrinkBudgetMillis is negative
+   */
+  public PropertyRunner(final ForkJoinPool pool, final int trials,
+                        final int shrinkBreadth, final long shrinkBudgetMillis) {
+    if (trials < 1) {
+      throw new IllegalArgumentException("trials must be at least 1, was " + trials);
+    }
+    if (shrinkBreadth < 1) {
+      throw new IllegalArgumentException("shrinkBreadth must be at least 1, was " + shrinkBreadth);
+    }
+    if (shrinkBudgetMillis < 0) {
+      throw new IllegalArgumentException("shrinkBudgetMillis must not be negative, was " + shrinkBudgetMillis);
+    }
+    this.pool = pool;
+    this.trials = trials;
+    this.shrinkBreadth = shrinkBreadth;
+    this.shrinkBudgetMillis = shrinkBudgetMillis;
+  }
+
+  /**
+   * A PropertyRunner like this one which runs the given number of trials.
+   *
+   * @param n the number of trials
+   * @return a new PropertyRunner
+   */
+  public PropertyRunner withTrials(final int n) {
+    return new PropertyRunner(pool, n, shrinkBreadth, shrinkBudgetMillis);
+  }
+
+  /**
+   * A PropertyRunner like this one with the given shrinking limits.
+   *
+   * @param breadth      the maximum number of candidates tried at each shrinking step
+   * @param budgetMillis the time allowed for shrinking a failure, in milliseconds
+   * @return a new PropertyRunner
+   */
+  public PropertyRunner withShrinking(final int breadth, final long budgetMillis) {
+    return new PropertyRunner(pool, trials, breadth, budgetMillis);
+  }
+
+  /**
+   * Check a property against values from a Gen, with a randomly chosen seed.
+   *
+   * @param gen      the Gen providing values
+   * @param property the property, which fails by throwing an Exception or AssertionError
+   * @param <A>      the type of the values
+   * @return the result, including the seed
+   */
+  public <A> CheckResult<A> check(final Gen<A> gen, final Consumer<A> property) {
+    return check(gen, Shrink.none(), property);
+  }
+
+  /**
+   * Check a property against values from a Gen, with a randomly chosen seed, shrinking any failure.
+   *
+   * @param gen      the Gen providing values
+   * @param shrink   the Shrink for the values
+   * @param property the property, which fails by throwing an Exception or AssertionError
+   * @param <A>      the type of the values
+   * @return the result, including the seed
+   */
+  public <A> CheckResult<A> check(final Gen<A> gen, final Shrink<A> shrink, final Consumer<A> property) {
+    return check(gen, shrink, property, FunctionalRandom.create().nextLong().getB());
+  }
+
+  /**
+   * Check a property against values from a Gen, with the given seed.
+   *
+   * @param gen      the Gen providing values
+   * @param property the property, which fails by throwing an Exception or AssertionError
+   * @param seed     the seed of the root FunctionalRandom
+   * @param <A>      the type of the values
+   * @return the result
+   */
+  public <A> CheckResult<A> check(final Gen<A> gen, final Consumer<A> property, final long seed) {
+    return check(gen, Shrink.none(), property, seed);
+  }
+
+  /**
+   * Check a property against values from a Gen, with the given seed, shrinking any failure.
+   *
+   * @param gen      the Gen providing values
+   * @param shrink   the Shrink for the values
+   * @param property the property, which fails by throwing an Exception or AssertionError
+   * @param seed     the seed of the root FunctionalRandom
+   * @param <A>      the type of the values
+   * @return the result
+   */
+  public <A> CheckResult<A> check(final Gen<A> gen, final Shrink<A> shrink,
+                                  final Consumer<A> property, final long seed) {
+    final Trials<A> t = new Trials<>(gen, property);
+    pool.invoke(new TrialTask<>(t, seed, 0, trials));
+    final Option<CheckResult.Failure<A>> failure = t.failure.get();
+
+    return new CheckResult<>(seed, t.passed.sum(),
+        failure.isDefined() ? Option.some(shrink(failure.get(), shrink, property)) : failure);
+  }
+
+  /**
+   * Shrink the value of a failure with a greedy search, limited by shrinkBreadth and shrinkBudgetMillis.
+   *
+   * @param failure  the failure to shrink
+   * @param shrink   the Shrink for the values
+   * @param property the property
+   * @param <A>      the type of the values
+   * @return a Failure with the smallest value found
+   */
+  private <A> CheckResult.Failure<A> shrink(final CheckResult.Failure<A> failure, final Shrink<A> shrink,
+                                            final Consumer<A> property) {
+    final long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(shrinkBudgetMillis);
+    A current = failure.getShrunk();
+    Throwable cause = failure.getCause();
+    int shrinks = 0;
+    boolean shrunk = true;
+
+    while (shrunk && System.nanoTime() < deadline) {
+      shrunk = false;
+      final Iterator<A> candidates = shrink.shrink(current);
+
+      for (int i = 0; i < shrinkBreadth && candidates.hasNext() && System.nanoTime() < deadline; i++) {
+        final A candidate = candidates.next();
+        final Option<Throwable> error = test(property, candidate);
+
+        if (error.isDefined()) {
+          current = candidate;
+          cause = error.get();
+          shrinks++;
+          shrunk = true;
+          break;
+        }
+      }
+    }
+
+    return new CheckResult.Failure<>(failure.getTrial(), failure.getValue(), current, shrinks, cause);
+  }
+
+  /**
+   * Check a property for a single value.
+   *
+   * @param property the property
+   * @param a        the value
+   * @param <A>      the type of the value
+   * @return None if the property holds, or Some of what it threw
+   */
+  private static <A> Option<Throwable> test(final Consumer<A> property, final A a) {
+    try {
+      property.accept(a);
+      return Option.none();
+    } catch (Exception | AssertionError e) {
+      return Option.some(e);
+    }
+  }
+
+  /**
+   * Rerun a single trial, as reported in a CheckResult.
+   *
+   * <p>The failure is not shrunk, so it holds the generated value.
+   *
+   * @param gen      the Gen providing values
+   * @param property the property
+   * @param seed     the seed from the CheckResult
+   * @param trial    the index of the trial from the Failure
+   * @param <A>      the type of the values
+   * @return the result of the single trial
+   */
+  public <A> CheckResult<A> replay(final Gen<A> gen, final Consumer<A> property, final long seed, final int trial) {
+    final Trials<A> t = new Trials<>(gen, property);
+    t.run(trial, FunctionalRandom.stream(seed, trial));
+    return new CheckResult<>(seed, t.passed.sum(), t.failure.get());
+  }
+
+  /**
+   * The property being checked, and the results accumulated by the TrialTasks.
+   *
+   * @param <A> the type of the values
+   */
+  private static final class Trials<A> {
+    /**
+     * The Gen providing values.
+     */
+    private final Gen<A> gen;
+
+    /**
+     * The property.
+     */
+    private final Consumer<A> property;
+
+    /**
+     * The number of trials which passed.
+     */
+    private final LongAdder passed = new LongAdder();
+
+    /**
+     * The failing trial with the lowest index so far.
+     */
+    private final AtomicReference<Option<CheckResult.Failure<A>>> failure = new AtomicReference<>(Option.none());
+
+    /**
+     * Constructor.
+     *
+     * @param gen      the Gen providing values
+     * @param property the property
+     */
+    Trials(final Gen<A> gen, final Consumer<A> property) {
+      this.gen = gen;
+      this.property = property;
+    }
+
+    /**
+     * Whether a trial should be skipped because a trial with a lower index has failed.
+     *
+     * @param trial the index of the trial
+     * @return true if the trial should be skipped
+     */
+    boolean skip(final int trial) {
+      final Option<CheckResult.Failure<A>> f = failure.get();
+      return f.isDefined() && f.get().getTrial() < trial;
+    }
+
+    /**
+     * Run a trial, recording whether it passed.
+     *
+     * @param trial the index of the trial
+     * @param rnd   the trial's FunctionalRandom
+     */
+    void run(final int trial, final FunctionalRandom rnd) {
+      final A a = gen.run(rnd).getB();
+      final Option<Throwable> error = test(property, a);
+
+      if (error.isDefined()) {
+        final CheckResult.Failure<A> f = new CheckResult.Failure<>(trial, a, error.get());
+        failure.accumulateAndGet(Option.some(f),
+            (x, y) -> x.isDefined() && x.get().getTrial() < y.get().getTrial() ? x : y);
+      } else {
+        passed.increment();
+      }
+    }
+  }
+
+  /**
+   * A task running a range of trials, splitting the range in half until it is at most SEGMENT long.
+   *
+   * @param <A> the type of the values
+   */
+  private static final class TrialTask<A> extends RecursiveAction {
+    /**
+     * The property being checked.
+     */
+    private final Trials<A> trials;
+
+    /**
+     * The seed of the trials' streams.
+     */
+    private final long seed;
+
+    /**
+     * The first trial in the range.
+     */
+    private final int from;
+
+    /**
+     * The trial after the last in the range.
+     */
+    private final int to;
+
+    /**
+     * Constructor.
+     *
+     * @param trials the property being checked
+     * @param seed   the seed of the trials' streams
+     * @param from   the first trial in the range
+     * @param to     the trial after the last in the range
+     */
+    TrialTask(final Trials<A> trials, final long seed, final int from, final int to) {
+      this.trials = trials;
+      this.seed = seed;
+      this.from = from;
+      this.to = to;
+    }
+
+    /**
+     * Run the trials in the range, or split it between two tasks.
+     */
+    @Override
+    protected void compute() {
+      if (to - from > SEGMENT) {
+        final int mid = (from + to) >>> 1;
+        invokeAll(new TrialTask<>(trials, seed, from, mid), new TrialTask<>(trials, seed, mid, to));
+      } else {
+        for (int i = from; i < to && !trials.skip(i); i++) {
+          trials.run(i, FunctionalRandom.stream(seed, i));
+        }
+      }
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package ca.genovese.coffeecats.gen;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.function.Function;
+
+/**
+ * Produces smaller candidates for a value, used to reduce the counterexample of a failing property.
+ *
+ * <p>Candidates are produced lazily by an Iterator, smallest and most promising first, so a
+ * search can try them one at a time without the set of candidates ever being built.
+ *
+ * @param <A> The type of value shrunk
+ */
+@FunctionalInterface
+public interface Shrink<A> {
+  /**
+   * A {@code Shrink<Integer>} which moves towards zero.
+   */
+  Shrink<Integer> shrinkInt = i -> new HalvingIterator(i).map(Long::intValue);
+
+  /**
+   * A {@code Shrink<Long>} which moves towards zero.
+   */
+  Shrink<Long> shrinkLong = HalvingIterator::new;
+
+  /**
+   * Produce the candidates smaller than a.
+   *
+   * @param a the value to shrink
+   * @return an Iterator over the candidates, which must all be smaller than a
+   */
+  Iterator<A> shrink(A a);
+
+  /**
+   * A Shrink producing no candidates, for values which cannot be shrunk.
+   *
+   * @param <A> The type of value shrunk
+   * @return a Shrink which produces no candidates
+   */
+  static <A> Shrink<A> none() {
+    return a -> Collections.emptyIterator();
+  }
+
+  /**
+   * A Shrink for Lists, which first tries removing chunks of halving size, then shrinking each item in turn.
+   *
+   * @param shrink the Shrink for the items
+   * @param <A>    The type of the items
+   * @return a {@code Shrink<List<A>>}
+   */
+  static <A> Shrink<List<A>> list(final Shrink<A> shrink) {
+    return as -> new ListShrinkIterator<>(as, shrink);
+  }
+
+  /**
+   * A Shrink for Options, which tries None, then shrinking the value in a Some.
+   *
+   * @param shrink the Shrink for the value
+   * @param <A>    The type of the value
+   * @return a {@code Shrink<Option<A>>}
+   */
+  static <A> Shrink<Option<A>> option(final Shrink<A> shrink) {
+    return o -> o.isDefined()
+        ? new ConcatIterator<>(Collections.singletonList(Option.<A>none()).iterator(),
+            new MappedIterator<>(shrink.shrink(o.get()), Option::some))
+        : Collections.emptyIterator();
+  }
+
+  /**
+   * A Shrink for Tuple2s, which tries shrinking the first element, then the second.
+   *
+   * @param sa  the Shrink for the first element
+   * @param sb  the Shrink for the second element
+   * @param <A> The type of the first element
+   * @param <B> The type of the second element
+   * @return a {@code Shrink<Tuple2<A, B>>}
+   */
+  static <A, B> Shrink<Tuple2<A, B>> tuple2(final Shrink<A> sa, final Shrink<B> sb) {
+    return t -> new ConcatIterator<>(
+        new MappedIterator<>(sa.shrink(t.getA()), a -> new Tuple2<>(a, t.getB())),
+        new MappedIterator<>(sb.shrink(t.getB()), b -> new Tuple2<>(t.getA(), b)));
+  }
+
+  /**
+   * Produce a Shrink for B from this Shrink, given functions converting between A and B.
+   *
+   * @param f   the function from A to B
+   * @param g   the function from B to A
+   * @param <B> The type of value shrunk by the new Shrink
+   * @return a {@code Shrink<B>}
+   */
+  default <B> Shrink<B> xmap(final Function<A, B> f, final Function<B, A> g) {
+    return b -> new MappedIterator<>(shrink(g.apply(b)), f);
+  }
+}
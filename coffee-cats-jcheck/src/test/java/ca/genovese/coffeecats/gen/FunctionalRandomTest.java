@@ -0,0 +1,163 @@
+package ca.genovese.coffeecats.gen;
+
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for the SplitMix and Secure FunctionalRandom generators.
+ */
+public final class FunctionalRandomTest {
+  /**
+   * Test that seeded generators are deterministic and referentially transparent.
+   */
+  @Test
+  @DisplayName("Seeded FunctionalRandom ")
+  public void testSeededIsDeterministic() {
+    final FunctionalRandom rnd = FunctionalRandom.seeded(42L);
+
+    assertAll("determinism",
+        () -> assertEquals(rnd.nextInt(), rnd.nextInt(), "nextInt on the same generator should return the same result"),
+        () -> assertEquals(FunctionalRandom.seeded(42L).nextLong(), rnd.nextLong(),
+            "generators with the same seed should produce the same values"),
+        () -> assertFalse(rnd.nextInt().getB().equals(rnd.nextInt().getA().nextInt().getB()),
+            "consecutive values should differ")
+    );
+  }
+
+  /**
+   * Test that the bulk methods produce the same values as repeated single steps.
+   */
+  @Test
+  @DisplayName("Bulk FunctionalRandom ")
+  public void testBulkMatchesSteps() {
+    final FunctionalRandom rnd = FunctionalRandom.seeded(7L);
+    final Tuple2<FunctionalRandom, int[]> ints = rnd.nextInts(100);
+    final Tuple2<FunctionalRandom, long[]> longs = rnd.nextLongs(100);
+    FunctionalRandom step = rnd;
+
+    for (int i = 0; i < 100; i++) {
+      final Tuple2<FunctionalRandom, Integer> next = step.nextInt();
+      assertEquals(next.getB().intValue(), ints.getB()[i], "nextInts should match nextInt at " + i);
+      assertEquals(step.nextLong().getB().longValue(), longs.getB()[i], "nextLongs should match nextLong at " + i);
+      step = next.getA();
+    }
+
+    assertEquals(step, ints.getA(), "nextInts should return the generator after the last step");
+    assertEquals(step, longs.getA(), "nextLongs should return the generator after the last step");
+  }
+
+  /**
+   * Test that split produces generators whose values do not repeat each other.
+   */
+  @Test
+  @DisplayName("Splitting a FunctionalRandom ")
+  public void testSplitIsIndependent() {
+    final Tuple2<FunctionalRandom, FunctionalRandom> split = FunctionalRandom.seeded(1L).split();
+    final Set<Long> seen = new HashSet<>();
+
+    for (final long l : split.getA().nextLongs(1000).getB()) {
+      seen.add(l);
+    }
+    for (final long l : split.getB().nextLongs(1000).getB()) {
+      seen.add(l);
+    }
+
+    assertEquals(2000, seen.size(), "the split generators should not produce the same values");
+  }
+
+  /**
+   * Test that the Secure generator is memoized, so it is referentially transparent.
+   */
+  @Test
+  @DisplayName("Secure FunctionalRandom ")
+  public void testSecureIsMemoized() {
+    final FunctionalRandom rnd = FunctionalRandom.secure();
+
+    assertAll("secure",
+        () -> assertEquals(rnd.nextInt(), rnd.nextInt(), "nextInt on the same generator should return the same result"),
+        () -> assertEquals(rnd.split(), rnd.split(), "split on the same generator should return the same result"),
+        () -> assertTrue(Arrays.equals(rnd.nextInts(10).getB(), rnd.nextInts(10).getB()),
+            "nextInts on the same generator should return the same result")
+    );
+  }
+
+  /**
+   * Test that the deprecated constructors still build memoized Secure generators.
+   */
+  @Test
+  @DisplayName("Constructed FunctionalRandom ")
+  @SuppressWarnings("deprecation")
+  public void testConstructorsAreSecure() {
+    final FunctionalRandom rnd = new FunctionalRandom();
+    final FunctionalRandom sized = new FunctionalRandom(8, new SecureRandom());
+
+    assertAll("constructed",
+        () -> assertEquals(rnd.nextInt(), rnd.nextInt(), "nextInt on the same generator should return the same result"),
+        () -> assertEquals(sized.split(), sized.split(), "split on the same generator should return the same result")
+    );
+  }
+
+  /**
+   * Test that streams are positions in the same sequence which do not overlap, and that jump skips values.
+   */
+  @Test
+  @DisplayName("FunctionalRandom streams ")
+  public void testStreamsDoNotOverlap() {
+    final FunctionalRandom root = FunctionalRandom.seeded(1L);
+    final FunctionalRandom[] streams = FunctionalRandom.streams(1L, 4);
+    final Set<Long> seen = new HashSet<>();
+
+    for (final FunctionalRandom stream : streams) {
+      for (final long l : stream.nextLongs(1000).getB()) {
+        seen.add(l);
+      }
+    }
+
+    assertAll("streams",
+        () -> assertEquals(root, streams[0], "stream 0 should be the seeded generator"),
+        () -> assertEquals(root.jump(3 * FunctionalRandom.STREAM_LENGTH), streams[3],
+            "stream i should start i * STREAM_LENGTH values into the sequence"),
+        () -> assertEquals(root.nextInts(1000).getA(), root.jump(1000), "jump should skip values"),
+        () -> assertEquals(4000, seen.size(), "the streams should not produce the same values"),
+        () -> assertThrows(IllegalArgumentException.class, () -> FunctionalRandom.stream(1L, -1))
+    );
+  }
+
+  /**
+   * Test that threads racing on a Secure generator all see the same memoized result.
+   *
+   * @throws Exception if a thread fails
+   */
+  @Test
+  @DisplayName("Secure FunctionalRandom under contention ")
+  public void testSecureIsMemoizedUnderContention() throws Exception {
+    final int threads = 4;
+    final FunctionalRandom rnd = FunctionalRandom.secure();
+    final Callable<Tuple2<FunctionalRandom, Integer>> next = rnd::nextInt;
+    final ExecutorService pool = Executors.newFixedThreadPool(threads);
+
+    try {
+      final Set<Tuple2<FunctionalRandom, Integer>> results = new HashSet<>();
+
+      for (final Future<Tuple2<FunctionalRandom, Integer>> f : pool.invokeAll(Arrays.asList(next, next, next, next))) {
+        results.add(f.get());
+      }
+
+      assertEquals(1, results.size(), "every thread should see the same next value");
+    } finally {
+      pool.shutdown();
+    }
+  }
+}
@@ -0,0 +1,81 @@
+package ca.genovese.coffeecats.gen;
+
+import ca.genovese.coffeecats.data.list.List;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for the Gen combinators and bulk generators.
+ */
+public final class GenTest {
+  /**
+   * The length of the chains used to check stack safety.
+   */
+  private static final int DEPTH = 100000;
+
+  /**
+   * A Gen which counts down with right nested flatMaps and maps, adding one on the way back.
+   *
+   * @param n the number of steps
+   * @return a Gen returning n
+   */
+  private static Gen<Integer> countDown(final int n) {
+    return n == 0 ? Gen.unit(0) : Gen.intGen.flatMap(i -> countDown(n - 1).map(x -> x + 1));
+  }
+
+  /**
+   * Test that long chains of map and flatMap run without overflowing the stack.
+   */
+  @Test
+  @DisplayName("Chaining Gens ")
+  public void testChainsAreStackSafe() {
+    final FunctionalRandom rnd = FunctionalRandom.seeded(1L);
+    Gen<Integer> maps = Gen.unit(0);
+    Gen<Integer> flatMaps = Gen.unit(0);
+
+    for (int i = 0; i < DEPTH; i++) {
+      maps = maps.map(x -> x + 1);
+      flatMaps = flatMaps.flatMap(x -> Gen.intGen.map(y -> x + 1));
+    }
+
+    final Gen<Integer> leftNested = maps;
+    final Gen<Integer> flatMapped = flatMaps;
+
+    assertAll("stack safety",
+        () -> assertEquals(DEPTH, leftNested.run(rnd).getB().intValue(), "left nested maps should all apply"),
+        () -> assertEquals(DEPTH, flatMapped.run(rnd).getB().intValue(), "left nested flatMaps should all apply"),
+        () -> assertEquals(DEPTH, countDown(DEPTH).run(rnd).getB().intValue(),
+            "right nested flatMaps should all apply"),
+        () -> assertEquals(DEPTH, Gen.intGen.nTimes(DEPTH, i -> 1, Integer::sum).run(rnd).getB().intValue(),
+            "nTimes should combine every run")
+    );
+  }
+
+  /**
+   * Test that the bulk generators produce the same values as running a Gen repeatedly.
+   */
+  @Test
+  @DisplayName("Bulk Gens ")
+  public void testBulkGens() {
+    final FunctionalRandom rnd = FunctionalRandom.seeded(2L);
+    final List<Integer> viaNTimes = Gen.intGen.nTimes(DEPTH, List::of, (l, i) -> List.cons(i.getHead(), l))
+        .run(rnd).getB().reverse();
+    final int[] ints = Gen.intArrayOfN(DEPTH).run(rnd).getB();
+
+    assertAll("bulk",
+        () -> assertEquals(viaNTimes, Gen.intGen.listOfN(DEPTH).run(rnd).getB(),
+            "listOfN should generate values in order"),
+        () -> assertEquals(viaNTimes.getHead().intValue(), ints[0], "intArrayOfN should match intGen"),
+        () -> assertEquals(DEPTH, ints.length, "intArrayOfN should have n values"),
+        () -> assertTrue(Arrays.equals(rnd.nextLongs(10).getB(), Gen.longArrayOfN(10).run(rnd).getB()),
+            "longArrayOfN should match nextLongs"),
+        () -> assertEquals(viaNTimes.getHead(), Gen.intGen.arrayOfN(DEPTH, Integer[]::new).run(rnd).getB()[0],
+            "arrayOfN should generate values in order"),
+        () -> assertEquals(List.of(), Gen.intGen.listOfN(0).run(rnd).getB(), "listOfN(0) should be empty")
+    );
+  }
+}
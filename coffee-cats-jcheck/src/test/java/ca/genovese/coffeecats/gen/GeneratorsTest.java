@@ -0,0 +1,115 @@
+package ca.genovese.coffeecats.gen;
+
+import ca.genovese.coffeecats.data.eval.Eval;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for sized Gens and the Generators library.
+ */
+public final class GeneratorsTest {
+  /**
+   * The number of values generated by each check.
+   */
+  private static final int TRIALS = 1000;
+
+  /**
+   * The length of the bulk values generated.
+   */
+  private static final int LENGTH = 100000;
+
+  /**
+   * Test that the size is passed through the combinators to sized Gens, and fixed by resize.
+   */
+  @Test
+  @DisplayName("Sized Gens ")
+  public void testSizeIsThreaded() {
+    final FunctionalRandom rnd = FunctionalRandom.seeded(1L);
+    final Gen<Integer> size = Gen.sized(Gen::unit);
+
+    assertAll("sized",
+        () -> assertEquals(Gen.DEFAULT_SIZE, size.run(rnd).getB().intValue(),
+            "a Gen run without a size should get the default size"),
+        () -> assertEquals(7, size.run(rnd, 7).getB().intValue(), "a sized Gen should get the size it is run with"),
+        () -> assertEquals(8, size.map(i -> i + 1).run(rnd, 7).getB().intValue(), "map should pass on the size"),
+        () -> assertEquals(7, Gen.intGen.flatMap(i -> size).run(rnd, 7).getB().intValue(),
+            "flatMap should pass on the size"),
+        () -> assertEquals(List.of(7, 7), size.listOfN(2).run(rnd, 7).getB(), "listOfN should pass on the size"),
+        () -> assertEquals(3, size.resize(3).run(rnd, 7).getB().intValue(), "resize should replace the size"),
+        () -> assertEquals(3, size.resize(3).run(rnd).getB().intValue(), "resize should replace the default size")
+    );
+  }
+
+  /**
+   * Test that the sized Generators respect the size, and the others their ranges.
+   */
+  @Test
+  @DisplayName("Generators ranges ")
+  public void testRanges() {
+    FunctionalRandom rnd = FunctionalRandom.seeded(2L);
+    int nones = 0;
+
+    for (int i = 0; i < TRIALS; i++) {
+      final int chosen = Generators.choose(-3, 5).run(rnd).getB();
+      final double d = Generators.doubleGen.run(rnd).getB();
+      final String s = Generators.asciiString().run(rnd, 10).getB();
+      final Tuple2<FunctionalRandom, Option<Integer>> option = Generators.optionOf(Gen.intGen).run(rnd);
+
+      assertTrue(chosen >= -3 && chosen < 5, "choose should stay in its range");
+      assertTrue(d >= 0.0 && d < 1.0, "doubleGen should be in [0, 1)");
+      assertTrue(Generators.listOf(Gen.intGen).run(rnd, 10).getB().length() <= 10, "listOf should respect the size");
+      assertTrue(s.length() <= 10, "asciiString should respect the size");
+      assertTrue(s.chars().allMatch(c -> c >= ' ' && c <= '~'), "asciiString should be printable");
+
+      nones += option.getB().isDefined() ? 0 : 1;
+      rnd = option.getA();
+    }
+
+    final int noneCount = nones;
+    assertTrue(noneCount > TRIALS / 8 && noneCount < TRIALS / 2, "optionOf should return None about a quarter of the time");
+    assertThrows(IllegalArgumentException.class, () -> Generators.choose(1, 1));
+  }
+
+  /**
+   * Test that the bulk Generators produce values of the right length, matching the plain Gens.
+   */
+  @Test
+  @DisplayName("Bulk Generators ")
+  public void testBulkGenerators() {
+    final FunctionalRandom rnd = FunctionalRandom.seeded(3L);
+    final double[] ds = Generators.doubleArrayOfN(LENGTH).run(rnd).getB();
+    final byte[] bs = Generators.byteArrayOfN(LENGTH + 3).run(rnd).getB();
+    final String s = Generators.asciiStringOfN(LENGTH).run(rnd).getB();
+
+    assertAll("bulk",
+        () -> assertEquals(Gen.intGen.listOfN(LENGTH).run(rnd).getB(), Generators.intListOfN(LENGTH).run(rnd).getB(),
+            "intListOfN should match intGen.listOfN"),
+        () -> assertEquals(Generators.doubleGen.run(rnd).getB(), (Double) ds[0], "doubleArrayOfN should match doubleGen"),
+        () -> assertEquals(LENGTH, ds.length, "doubleArrayOfN should have n values"),
+        () -> assertEquals(LENGTH + 3, bs.length, "byteArrayOfN should have n values"),
+        () -> assertEquals(LENGTH, s.length(), "asciiStringOfN should have n characters"),
+        () -> assertEquals(List.of(), Generators.intListOfN(0).run(rnd).getB(), "intListOfN(0) should be empty")
+    );
+  }
+
+  /**
+   * Test that deep Eval chains evaluate to the generated value without overflowing the stack.
+   */
+  @Test
+  @DisplayName("Eval chains ")
+  public void testEvalChains() {
+    final FunctionalRandom rnd = FunctionalRandom.seeded(4L);
+    final Tuple2<FunctionalRandom, Eval<Integer>> sized = Generators.evalOf(Gen.intGen).run(rnd, LENGTH);
+
+    assertAll("eval",
+        () -> assertEquals(Gen.intGen.run(rnd).getB(), sized.getB().value(), "evalOf should chain the generated value"),
+        () -> assertEquals(Gen.intGen.run(rnd).getB(), Generators.evalOf(Gen.intGen, LENGTH).run(rnd).getB().value(),
+            "evalOf with a depth should chain the generated value")
+    );
+  }
+}
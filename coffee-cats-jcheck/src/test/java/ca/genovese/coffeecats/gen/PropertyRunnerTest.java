@@ -0,0 +1,94 @@
+package ca.genovese.coffeecats.gen;
+
+import ca.genovese.coffeecats.data.option.Option;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for PropertyRunner and CheckResult.
+ */
+public final class PropertyRunnerTest {
+  /**
+   * The number of trials to run.
+   */
+  private static final int TRIALS = 100000;
+
+  /**
+   * A property which fails for about one value in ten thousand.
+   */
+  private static final Consumer<Integer> RARELY_FAILS =
+      i -> assertFalse(i % 10000 == 0, "divisible by 10000");
+
+  /**
+   * Test that every trial of a passing property is run.
+   */
+  @Test
+  @DisplayName("Checking a passing property ")
+  public void testPassingProperty() {
+    final CheckResult<Integer> result = PropertyRunner.propertyRunner.withTrials(TRIALS)
+        .check(Gen.intGen, i -> assertEquals(i, i));
+
+    assertAll("passing",
+        () -> assertTrue(result.isPassed(), "a passing property should pass"),
+        () -> assertEquals(TRIALS, result.getPassed(), "every trial should run"),
+        result::assertPassed
+    );
+  }
+
+  /**
+   * Test that the reported failure depends only on the seed, and can be replayed.
+   */
+  @Test
+  @DisplayName("Checking a failing property ")
+  public void testFailingPropertyIsDeterministic() {
+    final ForkJoinPool single = new ForkJoinPool(1);
+    final ForkJoinPool four = new ForkJoinPool(4);
+
+    try {
+      final PropertyRunner runner = new PropertyRunner(four, TRIALS);
+      final CheckResult<Integer> result = runner.check(Gen.intGen, RARELY_FAILS, 5L);
+      final Option<CheckResult.Failure<Integer>> failure = result.getFailure();
+      final CheckResult<Integer> again = new PropertyRunner(single, TRIALS).check(Gen.intGen, RARELY_FAILS, 5L);
+
+      assertAll("failing",
+          () -> assertFalse(result.isPassed(), "a failing property should fail"),
+          () -> assertTrue(result.getPassed() < TRIALS, "trials after the failure should be skipped"),
+          () -> assertEquals(0, failure.get().getValue() % 10000, "the failure should hold the failing value"),
+          () -> assertEquals(failure.get().getTrial(), again.getFailure().get().getTrial(),
+              "the failing trial should not depend on the pool"),
+          () -> assertEquals(failure.get().getValue(),
+              runner.replay(Gen.intGen, RARELY_FAILS, 5L, failure.get().getTrial()).getFailure().get().getValue(),
+              "replay should regenerate the failing value"),
+          () -> assertEquals("divisible by 10000",
+              expectThrows(AssertionError.class, result::assertPassed).getCause().getMessage(),
+              "assertPassed should throw with the property's error as its cause")
+      );
+    } finally {
+      single.shutdown();
+      four.shutdown();
+    }
+  }
+
+  /**
+   * Test that createCheck runs 10 trials.
+   */
+  @Test
+  @DisplayName("Creating a check ")
+  public void testCreateCheck() {
+    assertEquals(10, Gen.intGen.createCheck(i -> { }).run(FunctionalRandom.seeded(3L)).getB().length());
+  }
+
+  /**
+   * Test that the runner rejects a non-positive number of trials.
+   */
+  @Test
+  @DisplayName("Creating a PropertyRunner ")
+  public void testInvalidTrials() {
+    expectThrows(IllegalArgumentException.class, () -> PropertyRunner.propertyRunner.withTrials(0));
+  }
+}
@@ -0,0 +1,102 @@
+package ca.genovese.coffeecats.gen;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.option.Option;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.util.Iterator;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for Shrink and shrinking in PropertyRunner.
+ */
+public final class ShrinkTest {
+  /**
+   * Collect the candidates from an Iterator into a List.
+   *
+   * @param it  the Iterator
+   * @param <A> the type of the candidates
+   * @return a List of the candidates
+   */
+  private static <A> List<A> candidates(final Iterator<A> it) {
+    List<A> result = List.of();
+
+    while (it.hasNext()) {
+      result = List.cons(it.next(), result);
+    }
+
+    return result.reverse();
+  }
+
+  /**
+   * Test the candidates produced for integers and Options.
+   */
+  @Test
+  @DisplayName("Shrinking numbers ")
+  public void testShrinkNumbers() {
+    assertAll("numbers",
+        () -> assertEquals(List.of(0, 50, 75, 88, 94, 97, 99), candidates(Shrink.shrinkInt.shrink(100)),
+            "ints should shrink from zero back towards the value"),
+        () -> assertEquals(List.of(4, 0, -2, -3), candidates(Shrink.shrinkInt.shrink(-4)),
+            "negative ints should try their negation first"),
+        () -> assertEquals(List.of(), candidates(Shrink.shrinkLong.shrink(0L)), "zero should not shrink"),
+        () -> assertEquals(List.of(Option.none(), Option.some(0), Option.some(1)),
+            candidates(Shrink.option(Shrink.shrinkInt).shrink(Option.some(2))),
+            "Options should try None first")
+    );
+  }
+
+  /**
+   * Test the candidates produced for Lists, removals of halving chunks first.
+   */
+  @Test
+  @DisplayName("Shrinking Lists ")
+  public void testShrinkList() {
+    final Shrink<List<Integer>> shrink = Shrink.list(Shrink.shrinkInt);
+
+    assertEquals(List.of(List.of(), List.of(2, 3), List.of(1, 3), List.of(1, 2),
+        List.of(0, 2, 3), List.of(1, 0, 3), List.of(1, 1, 3), List.of(1, 2, 0), List.of(1, 2, 2)),
+        candidates(shrink.shrink(List.of(1, 2, 3))));
+  }
+
+  /**
+   * Test that a failure on a large List is shrunk to a minimal counterexample.
+   */
+  @Test
+  @DisplayName("Shrinking a failure ")
+  public void testShrinkFailure() {
+    final PropertyRunner runner = new PropertyRunner(ForkJoinPool.commonPool(), 10);
+    final CheckResult<List<Integer>> result = runner.check(
+        Gen.intGen.map(i -> i & 1023).listOfN(10000),
+        Shrink.list(Shrink.shrinkInt),
+        is -> {
+          for (final int i : is) {
+            assertTrue(i < 1000, "too big");
+          }
+        },
+        11L);
+
+    assertAll("shrunk",
+        () -> assertEquals(10000, result.getFailure().get().getValue().length(), "the generated value is kept"),
+        () -> assertEquals(List.of(1000), result.getFailure().get().getShrunk(),
+            "the failure should shrink to the smallest failing List"),
+        () -> assertTrue(result.getFailure().get().getShrinks() > 0, "shrinking should take steps")
+    );
+  }
+
+  /**
+   * Test that shrinking stops when its time budget is spent.
+   */
+  @Test
+  @DisplayName("Shrinking with no time ")
+  public void testShrinkBudget() {
+    final PropertyRunner runner = new PropertyRunner(ForkJoinPool.commonPool(), 10, 1000, 0);
+    final CheckResult<Integer> result = runner.check(Gen.unit(1 << 20), Shrink.shrinkInt,
+        i -> assertTrue(i < 10, "too big"), 3L);
+
+    assertEquals(0, result.getFailure().get().getShrinks(), "no shrinking should happen without a budget");
+  }
+}
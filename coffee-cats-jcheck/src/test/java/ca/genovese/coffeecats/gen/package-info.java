@@ -0,0 +1,4 @@
+/**
+ * Tests for the property based testing support.
+ */
+package ca.genovese.coffeecats.gen;
@@ -0,0 +1,538 @@
+package ca.genovese.coffeecats.data.column;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import ca.genovese.coffeecats.kind.Kind;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collector;
+
+/**
+ * An immutable, indexed sequence of values stored in a single array.
+ *
+ * <p>Columns of ints, longs and doubles store their values in a primitive array, so they
+ * hold no boxes. Their values can be read unboxed with getInt, getLong and getDouble, and
+ * built unboxed with ofInts, ofLongs, ofDoubles, mapToInt, mapToLong and mapToDouble.
+ * Reading a primitive column through get boxes the value.
+ *
+ * <p>Columns are the storage of ColumnPair.
+ *
+ * @param <A> The type of the values in the column
+ */
+public abstract class Column<A> implements Iterable<A>, Kind<Column, A> {
+
+  /**
+   * Make this abstract class sealed by having a private constructor.
+   */
+  private Column() {
+
+  }
+
+  /**
+   * Create a column of objects.
+   *
+   * @param as  the values, which are copied
+   * @param <A> the type of the values
+   * @return a column of the values
+   */
+  @SafeVarargs
+  public static <A> Column<A> of(final A... as) {
+    return new Refs<>(Arrays.copyOf(as, as.length, Object[].class));
+  }
+
+  /**
+   * Create a column of ints, stored unboxed.
+   *
+   * @param is the values, which are copied
+   * @return a column of the values
+   */
+  public static Column<Integer> ofInts(final int... is) {
+    return new Ints(is.clone());
+  }
+
+  /**
+   * Create a column of longs, stored unboxed.
+   *
+   * @param ls the values, which are copied
+   * @return a column of the values
+   */
+  public static Column<Long> ofLongs(final long... ls) {
+    return new Longs(ls.clone());
+  }
+
+  /**
+   * Create a column of doubles, stored unboxed.
+   *
+   * @param ds the values, which are copied
+   * @return a column of the values
+   */
+  public static Column<Double> ofDoubles(final double... ds) {
+    return new Doubles(ds.clone());
+  }
+
+  /**
+   * Create a column of the items in a List, in order.
+   *
+   * @param as  the List
+   * @param <A> the type of the items in the List
+   * @return a column of the items
+   */
+  public static <A> Column<A> fromList(final List<A> as) {
+    final Object[] values = new Object[as.length()];
+    int i = 0;
+
+    for (final A a : as) {
+      values[i++] = a;
+    }
+
+    return new Refs<>(values);
+  }
+
+  /**
+   * A Collector which collects the items of a stream into a column of objects, in order.
+   *
+   * @param <A> the type of items in the stream
+   * @return a Collector to a Column
+   */
+  public static <A> Collector<A, ArrayList<A>, Column<A>> collector() {
+    return Collector.of(ArrayList::new, ArrayList::add, (l, r) -> {
+      l.addAll(r);
+      return l;
+    }, l -> new Refs<>(l.toArray()));
+  }
+
+  /**
+   * Create a column of objects from an array, without copying it.
+   *
+   * @param values the values, which must not be changed afterwards
+   * @param <A>    the type of the values
+   * @return a column of the values
+   */
+  static <A> Column<A> fromArray(final Object[] values) {
+    return new Refs<>(values);
+  }
+
+  /**
+   * The number of values in the column.
+   *
+   * @return the number of values
+   */
+  public abstract int size();
+
+  /**
+   * The value at an index, boxed if the column is primitive.
+   *
+   * @param i the index
+   * @return the value at i
+   * @throws IndexOutOfBoundsException if i is not between 0 and size() - 1
+   */
+  public abstract A get(final int i);
+
+  /**
+   * The value at an index as an int, unboxed if this is a column of ints.
+   *
+   * @param i the index
+   * @return the value at i
+   * @throws ClassCastException if the value is not an Integer
+   */
+  public int getInt(final int i) {
+    return (Integer) get(i);
+  }
+
+  /**
+   * The value at an index as a long, unboxed if this is a column of longs.
+   *
+   * @param i the index
+   * @return the value at i
+   * @throws ClassCastException if the value is not a Long
+   */
+  public long getLong(final int i) {
+    return (Long) get(i);
+  }
+
+  /**
+   * The value at an index as a double, unboxed if this is a column of doubles.
+   *
+   * @param i the index
+   * @return the value at i
+   * @throws ClassCastException if the value is not a Double
+   */
+  public double getDouble(final int i) {
+    return (Double) get(i);
+  }
+
+  /**
+   * Apply a function to every value.
+   *
+   * @param f   the function to apply
+   * @param <B> the output type
+   * @return a column of objects holding the results
+   */
+  public <B> Column<B> map(final Function<A, B> f) {
+    final Object[] values = new Object[size()];
+
+    for (int i = 0; i < values.length; i++) {
+      values[i] = f.apply(get(i));
+    }
+
+    return new Refs<>(values);
+  }
+
+  /**
+   * Apply an int valued function to every value.
+   *
+   * @param f the function to apply
+   * @return a column of ints holding the results, unboxed
+   */
+  public Column<Integer> mapToInt(final ToIntFunction<A> f) {
+    final int[] values = new int[size()];
+
+    for (int i = 0; i < values.length; i++) {
+      values[i] = f.applyAsInt(get(i));
+    }
+
+    return new Ints(values);
+  }
+
+  /**
+   * Apply a long valued function to every value.
+   *
+   * @param f the function to apply
+   * @return a column of longs holding the results, unboxed
+   */
+  public Column<Long> mapToLong(final ToLongFunction<A> f) {
+    final long[] values = new long[size()];
+
+    for (int i = 0; i < values.length; i++) {
+      values[i] = f.applyAsLong(get(i));
+    }
+
+    return new Longs(values);
+  }
+
+  /**
+   * Apply a double valued function to every value.
+   *
+   * @param f the function to apply
+   * @return a column of doubles holding the results, unboxed
+   */
+  public Column<Double> mapToDouble(final ToDoubleFunction<A> f) {
+    final double[] values = new double[size()];
+
+    for (int i = 0; i < values.length; i++) {
+      values[i] = f.applyAsDouble(get(i));
+    }
+
+    return new Doubles(values);
+  }
+
+  /**
+   * Copy the values into a List, in order.
+   *
+   * @return a List of the values
+   */
+  public List<A> toList() {
+    final ListBuilder<A> builder = new ListBuilder<>(size());
+
+    for (int i = 0; i < size(); i++) {
+      builder.add(get(i));
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * An Iterator over the values, in order.
+   *
+   * @return an Iterator over the values
+   */
+  @Override
+  public Iterator<A> iterator() {
+    return new Iterator<A>() {
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < size();
+      }
+
+      @Override
+      public A next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return get(next++);
+      }
+    };
+  }
+
+  /**
+   * Compares the values of this column with those of another column, in order.
+   *
+   * <p>A primitive column is equal to a column of objects holding the same boxed values.
+   *
+   * @param o the reference object with which to compare.
+   * @return {@code true} if o is a Column with equal values in the same order; {@code false} otherwise.
+   * @see #hashCode()
+   */
+  @Override
+  public final boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof Column) || ((Column<?>) o).size() != size()) {
+      return false;
+    }
+
+    final Column<?> that = (Column<?>) o;
+
+    for (int i = 0; i < size(); i++) {
+      if (!Objects.equals(get(i), that.get(i))) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  /**
+   * Returns a hash code value for the column, equal to the hash code of a List of the same values.
+   *
+   * @return a hash code value for this column.
+   * @see #equals(Object)
+   */
+  @Override
+  public final int hashCode() {
+    int hash = 1;
+
+    for (int i = 0; i < size(); i++) {
+      hash = 31 * hash + Objects.hashCode(get(i));
+    }
+
+    return hash;
+  }
+
+  /**
+   * Show the values in the column.
+   *
+   * @return a String of the form Column(1, 2, 3)
+   */
+  @Override
+  public final String toString() {
+    final StringBuilder sb = new StringBuilder("Column(");
+
+    for (int i = 0; i < size(); i++) {
+      if (i > 0) {
+        sb.append(", ");
+      }
+      sb.append(get(i));
+    }
+
+    return sb.append(')').toString();
+  }
+
+  /**
+   * A column of objects.
+   *
+   * @param <A> The type of the values in the column
+   */
+  private static final class Refs<A> extends Column<A> {
+    /**
+     * The values.
+     */
+    private final Object[] values;
+
+    /**
+     * Constructor.
+     *
+     * @param values the values, which are not copied
+     */
+    Refs(final Object[] values) {
+      this.values = values;
+    }
+
+    /**
+     * The number of values in the column.
+     *
+     * @return values.length
+     */
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    /**
+     * The value at an index.
+     *
+     * @param i the index
+     * @return values[i]
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public A get(final int i) {
+      return (A) values[i];
+    }
+  }
+
+  /**
+   * A column of unboxed ints.
+   */
+  private static final class Ints extends Column<Integer> {
+    /**
+     * The values.
+     */
+    private final int[] values;
+
+    /**
+     * Constructor.
+     *
+     * @param values the values, which are not copied
+     */
+    Ints(final int[] values) {
+      this.values = values;
+    }
+
+    /**
+     * The number of values in the column.
+     *
+     * @return values.length
+     */
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    /**
+     * The value at an index, boxed.
+     *
+     * @param i the index
+     * @return values[i]
+     */
+    @Override
+    public Integer get(final int i) {
+      return values[i];
+    }
+
+    /**
+     * The value at an index, unboxed.
+     *
+     * @param i the index
+     * @return values[i]
+     */
+    @Override
+    public int getInt(final int i) {
+      return values[i];
+    }
+  }
+
+  /**
+   * A column of unboxed longs.
+   */
+  private static final class Longs extends Column<Long> {
+    /**
+     * The values.
+     */
+    private final long[] values;
+
+    /**
+     * Constructor.
+     *
+     * @param values the values, which are not copied
+     */
+    Longs(final long[] values) {
+      this.values = values;
+    }
+
+    /**
+     * The number of values in the column.
+     *
+     * @return values.length
+     */
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    /**
+     * The value at an index, boxed.
+     *
+     * @param i the index
+     * @return values[i]
+     */
+    @Override
+    public Long get(final int i) {
+      return values[i];
+    }
+
+    /**
+     * The value at an index, unboxed.
+     *
+     * @param i the index
+     * @return values[i]
+     */
+    @Override
+    public long getLong(final int i) {
+      return values[i];
+    }
+  }
+
+  /**
+   * A column of unboxed doubles.
+   */
+  private static final class Doubles extends Column<Double> {
+    /**
+     * The values.
+     */
+    private final double[] values;
+
+    /**
+     * Constructor.
+     *
+     * @param values the values, which are not copied
+     */
+    Doubles(final double[] values) {
+      this.values = values;
+    }
+
+    /**
+     * The number of values in the column.
+     *
+     * @return values.length
+     */
+    @Override
+    public int size() {
+      return values.length;
+    }
+
+    /**
+     * The value at an index, boxed.
+     *
+     * @param i the index
+     * @return values[i]
+     */
+    @Override
+    public Double get(final int i) {
+      return values[i];
+    }
+
+    /**
+     * The value at an index, unboxed.
+     *
+     * @param i the index
+     * @return values[i]
+     */
+    @Override
+    public double getDouble(final int i) {
+      return values[i];
+    }
+  }
+}
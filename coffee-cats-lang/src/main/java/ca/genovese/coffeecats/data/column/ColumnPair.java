@@ -0,0 +1,378 @@
+package ca.genovese.coffeecats.data.column;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.kind.Kind;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * An immutable, indexed sequence of pairs, stored as two Columns of the same size rather
+ * than as one object per pair.
+ *
+ * <p>A List of n Tuple2s holds n Cons cells and n Tuple2s, and often 2n boxes, while a
+ * ColumnPair holds two arrays, which are primitive for columns of ints, longs and doubles.
+ *
+ * <p>The columns are shared rather than copied: zip, first, second and unzip take or return
+ * them as they are, and mapFirst and mapSecond build a new column only for the side they
+ * map, without building any pairs. Rows are read through Row, a view of one index which
+ * reads the columns when asked, so that a row's values are only boxed, and a Tuple2 is only
+ * built, when they are asked for.
+ *
+ * <p>As a Kind, a ColumnPair is a structure of its second values, which is what its
+ * CovariantFunctor maps.
+ *
+ * @param <A> The type of the first values
+ * @param <B> The type of the second values
+ */
+public final class ColumnPair<A, B> implements Iterable<ColumnPair.Row<A, B>>, Kind<ColumnPair, B> {
+  /**
+   * The first values.
+   */
+  private final Column<A> first;
+
+  /**
+   * The second values.
+   */
+  private final Column<B> second;
+
+  /**
+   * Constructor.
+   *
+   * @param first  the first values
+   * @param second the second values, of the same size as first
+   */
+  private ColumnPair(final Column<A> first, final Column<B> second) {
+    this.first = first;
+    this.second = second;
+  }
+
+  /**
+   * Pair two columns of the same size, without copying them.
+   *
+   * @param first  the first values
+   * @param second the second values
+   * @param <A>    the type of the first values
+   * @param <B>    the type of the second values
+   * @return a ColumnPair of the two columns
+   * @throws IllegalArgumentException if the columns are not the same size
+   */
+  public static <A, B> ColumnPair<A, B> zip(final Column<A> first, final Column<B> second) {
+    if (first.size() != second.size()) {
+      throw new IllegalArgumentException("columns of different sizes can not be zipped: "
+          + first.size() + " and " + second.size());
+    }
+
+    return new ColumnPair<>(first, second);
+  }
+
+  /**
+   * Split a List of Tuple2s into two columns of objects.
+   *
+   * @param tuples the List of Tuple2s
+   * @param <A>    the type of the first values
+   * @param <B>    the type of the second values
+   * @return a ColumnPair of the values in the tuples, in order
+   */
+  public static <A, B> ColumnPair<A, B> fromList(final List<Tuple2<A, B>> tuples) {
+    final int size = tuples.length();
+    final Object[] as = new Object[size];
+    final Object[] bs = new Object[size];
+    int i = 0;
+
+    for (final Tuple2<A, B> t : tuples) {
+      as[i] = t.getA();
+      bs[i] = t.getB();
+      i++;
+    }
+
+    return new ColumnPair<>(Column.<A>fromArray(as), Column.<B>fromArray(bs));
+  }
+
+  /**
+   * The number of pairs.
+   *
+   * @return the number of pairs
+   */
+  public int size() {
+    return first.size();
+  }
+
+  /**
+   * The column of first values, which is shared rather than copied.
+   *
+   * @return the first values
+   */
+  public Column<A> first() {
+    return first;
+  }
+
+  /**
+   * The column of second values, which is shared rather than copied.
+   *
+   * @return the second values
+   */
+  public Column<B> second() {
+    return second;
+  }
+
+  /**
+   * Both columns, which are shared rather than copied.
+   *
+   * @return a Tuple2 of the first and second values
+   */
+  public Tuple2<Column<A>, Column<B>> unzip() {
+    return new Tuple2<>(first, second);
+  }
+
+  /**
+   * A view of the pair at an index.
+   *
+   * @param i the index
+   * @return a Row reading index i of the columns
+   * @throws IndexOutOfBoundsException if i is not between 0 and size() - 1
+   */
+  public Row<A, B> row(final int i) {
+    if (i < 0 || i >= size()) {
+      throw new IndexOutOfBoundsException("row " + i + " of a ColumnPair of size " + size());
+    }
+
+    return new Row<>(this, i);
+  }
+
+  /**
+   * Apply a function to every first value, sharing the column of second values.
+   *
+   * @param f   the function to apply
+   * @param <C> the output type
+   * @return a ColumnPair of the results and the second values
+   */
+  public <C> ColumnPair<C, B> mapFirst(final Function<A, C> f) {
+    return new ColumnPair<>(first.map(f), second);
+  }
+
+  /**
+   * Apply a function to every second value, sharing the column of first values.
+   *
+   * @param f   the function to apply
+   * @param <C> the output type
+   * @return a ColumnPair of the first values and the results
+   */
+  public <C> ColumnPair<A, C> mapSecond(final Function<B, C> f) {
+    return new ColumnPair<>(first, second.map(f));
+  }
+
+  /**
+   * Copy the pairs into a List of Tuple2s, in order.
+   *
+   * @return a List of the pairs
+   */
+  public List<Tuple2<A, B>> toList() {
+    final ListBuilder<Tuple2<A, B>> builder = new ListBuilder<>(size());
+
+    for (int i = 0; i < size(); i++) {
+      builder.add(new Tuple2<>(first.get(i), second.get(i)));
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * An Iterator over views of the rows, in order.
+   *
+   * @return an Iterator over the rows
+   */
+  @Override
+  public Iterator<Row<A, B>> iterator() {
+    return new Iterator<Row<A, B>>() {
+      private int next;
+
+      @Override
+      public boolean hasNext() {
+        return next < size();
+      }
+
+      @Override
+      public Row<A, B> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        return new Row<>(ColumnPair.this, next++);
+      }
+    };
+  }
+
+  /**
+   * Compares the columns of this ColumnPair with those of another.
+   *
+   * @param o the reference object with which to compare.
+   * @return {@code true} if o is a ColumnPair with equal columns; {@code false} otherwise.
+   * @see #hashCode()
+   */
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof ColumnPair)) {
+      return false;
+    }
+
+    final ColumnPair<?, ?> that = (ColumnPair<?, ?>) o;
+    return first.equals(that.first) && second.equals(that.second);
+  }
+
+  /**
+   * Returns a hash code value combining the hash codes of the columns.
+   *
+   * @return a hash code value for this ColumnPair.
+   * @see #equals(Object)
+   */
+  @Override
+  public int hashCode() {
+    return 31 * first.hashCode() + second.hashCode();
+  }
+
+  /**
+   * Show the columns.
+   *
+   * @return a String of the form ColumnPair(first=Column(...), second=Column(...))
+   */
+  @Override
+  public String toString() {
+    return "ColumnPair(first=" + first + ", second=" + second + ")";
+  }
+
+  /**
+   * A view of the pair at one index of a ColumnPair, which reads the columns when asked.
+   *
+   * @param <A> The type of the first value
+   * @param <B> The type of the second value
+   */
+  public static final class Row<A, B> {
+    /**
+     * The ColumnPair viewed.
+     */
+    private final ColumnPair<A, B> pair;
+
+    /**
+     * The index viewed.
+     */
+    private final int index;
+
+    /**
+     * Constructor.
+     *
+     * @param pair  the ColumnPair viewed
+     * @param index the index viewed
+     */
+    Row(final ColumnPair<A, B> pair, final int index) {
+      this.pair = pair;
+      this.index = index;
+    }
+
+    /**
+     * The index of this row.
+     *
+     * @return the index
+     */
+    public int getIndex() {
+      return index;
+    }
+
+    /**
+     * The first value, boxed if the column is primitive.
+     *
+     * @return the first value
+     */
+    public A getA() {
+      return pair.first.get(index);
+    }
+
+    /**
+     * The second value, boxed if the column is primitive.
+     *
+     * @return the second value
+     */
+    public B getB() {
+      return pair.second.get(index);
+    }
+
+    /**
+     * The first value as an int, unboxed if the column is a column of ints.
+     *
+     * @return the first value
+     */
+    public int getIntA() {
+      return pair.first.getInt(index);
+    }
+
+    /**
+     * The second value as an int, unboxed if the column is a column of ints.
+     *
+     * @return the second value
+     */
+    public int getIntB() {
+      return pair.second.getInt(index);
+    }
+
+    /**
+     * The first value as a long, unboxed if the column is a column of longs.
+     *
+     * @return the first value
+     */
+    public long getLongA() {
+      return pair.first.getLong(index);
+    }
+
+    /**
+     * The second value as a long, unboxed if the column is a column of longs.
+     *
+     * @return the second value
+     */
+    public long getLongB() {
+      return pair.second.getLong(index);
+    }
+
+    /**
+     * The first value as a double, unboxed if the column is a column of doubles.
+     *
+     * @return the first value
+     */
+    public double getDoubleA() {
+      return pair.first.getDouble(index);
+    }
+
+    /**
+     * The second value as a double, unboxed if the column is a column of doubles.
+     *
+     * @return the second value
+     */
+    public double getDoubleB() {
+      return pair.second.getDouble(index);
+    }
+
+    /**
+     * Copy the values of this row into a Tuple2.
+     *
+     * @return a Tuple2 of the first and second values
+     */
+    public Tuple2<A, B> toTuple2() {
+      return new Tuple2<>(getA(), getB());
+    }
+
+    /**
+     * Show the index and values of this row.
+     *
+     * @return a String of the form Row(index=..., a=..., b=...)
+     */
+    @Override
+    public String toString() {
+      return "Row(index=" + index + ", a=" + getA() + ", b=" + getB() + ")";
+    }
+  }
+}
@@ -0,0 +1,5 @@
+/**
+ * Immutable sequences stored column by column in arrays, with primitive columns
+ * for ints, longs and doubles.
+ */
+package ca.genovese.coffeecats.data.column;
@@ -0,0 +1,629 @@
+package ca.genovese.coffeecats.data.compressed;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.function.LongBinaryOperator;
+
+/**
+ * An immutable sequence of strictly increasing longs, such as a sorted list of ids, stored
+ * delta and varint encoded in blocks.
+ *
+ * <p>The values are split into blocks of BLOCK_SIZE. The first value of every block is kept
+ * in an array, and the rest are kept as the difference from the value before, written as
+ * unsigned varints, 7 bits to a byte. Ids which are close together take a single byte each,
+ * against the 40 bytes of a Cons and an Integer in a List.
+ *
+ * <p>The values are read with a Cursor, which decodes one value at a time. Cursor.skipTo
+ * finds the block holding a value by binary search over the first values of the blocks, and
+ * decodes only that block, which is what makes intersect fast when one sequence is much
+ * shorter than the other.
+ *
+ * <p>The encoding of a sequence of values is unique, so equals and hashCode compare the
+ * encoded bytes without decoding them.
+ */
+public final class SortedLongSeq implements Iterable<Long> {
+  /**
+   * The number of values in a block.
+   */
+  static final int BLOCK_SIZE = 128;
+
+  /**
+   * The empty sequence.
+   */
+  private static final SortedLongSeq EMPTY = new SortedLongSeq(0, new long[0], new int[0], new byte[0]);
+
+  /**
+   * The number of values.
+   */
+  private final int length;
+
+  /**
+   * The first value of every block.
+   */
+  private final long[] firsts;
+
+  /**
+   * The position in data of the deltas of every block.
+   */
+  private final int[] offsets;
+
+  /**
+   * The deltas between consecutive values within each block, as unsigned varints.
+   */
+  private final byte[] data;
+
+  /**
+   * Constructor.
+   *
+   * @param length  the number of values
+   * @param firsts  the first value of every block
+   * @param offsets the position in data of the deltas of every block
+   * @param data    the deltas, as unsigned varints
+   */
+  private SortedLongSeq(final int length, final long[] firsts, final int[] offsets, final byte[] data) {
+    this.length = length;
+    this.firsts = firsts;
+    this.offsets = offsets;
+    this.data = data;
+  }
+
+  /**
+   * The empty sequence.
+   *
+   * @return the empty sequence
+   */
+  public static SortedLongSeq empty() {
+    return EMPTY;
+  }
+
+  /**
+   * Create a sequence of some values.
+   *
+   * @param ls the values, in strictly increasing order
+   * @return a sequence of the values
+   * @throws IllegalArgumentException if the values are not strictly increasing
+   */
+  public static SortedLongSeq of(final long... ls) {
+    final Builder builder = new Builder();
+
+    for (final long l : ls) {
+      builder.add(l);
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Create a sequence of the items of a List, such as a {@code List<Integer>} or
+   * {@code List<Long>} of ids.
+   *
+   * @param ns the List, in strictly increasing order
+   * @return a sequence of the items
+   * @throws IllegalArgumentException if the items are not strictly increasing
+   */
+  public static SortedLongSeq fromList(final List<? extends Number> ns) {
+    final Builder builder = new Builder();
+
+    for (final Number n : ns) {
+      builder.add(n.longValue());
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Create a Builder.
+   *
+   * @return an empty Builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * The number of values in the sequence.
+   *
+   * @return the number of values
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Tests whether the sequence is empty.
+   *
+   * @return true if the sequence has no values
+   */
+  public boolean isEmpty() {
+    return length == 0;
+  }
+
+  /**
+   * The number of bytes the encoded values take, not counting the object headers.
+   *
+   * @return the size of the encoded values, in bytes
+   */
+  public long sizeInBytes() {
+    return (long) firsts.length * (Long.BYTES + Integer.BYTES) + data.length;
+  }
+
+  /**
+   * The value at an index, found by decoding the block holding it.
+   *
+   * @param i the index
+   * @return the value at i
+   * @throws IndexOutOfBoundsException if i is not between 0 and length() - 1
+   */
+  public long get(final int i) {
+    if (i < 0 || i >= length) {
+      throw new IndexOutOfBoundsException("index " + i + " of a SortedLongSeq of length " + length);
+    }
+
+    final Cursor cursor = new Cursor(i / BLOCK_SIZE);
+
+    for (int j = i % BLOCK_SIZE; j > 0; j--) {
+      cursor.advance();
+    }
+
+    return cursor.head;
+  }
+
+  /**
+   * Tests whether the sequence holds a value, decoding only the block it would be in.
+   *
+   * @param l the value
+   * @return true if l is in the sequence
+   */
+  public boolean contains(final long l) {
+    final Cursor cursor = cursor();
+    return cursor.skipTo(l) && cursor.peek() == l;
+  }
+
+  /**
+   * The values in both this sequence and another.
+   *
+   * <p>Each cursor skips ahead to the value of the other, so blocks holding no value of the
+   * other sequence are not decoded.
+   *
+   * @param that the other sequence
+   * @return a sequence of the values in both
+   */
+  public SortedLongSeq intersect(final SortedLongSeq that) {
+    final Builder builder = new Builder();
+    final Cursor a = cursor();
+    final Cursor b = that.cursor();
+
+    while (a.hasNext() && b.hasNext()) {
+      final long x = a.peek();
+      final long y = b.peek();
+
+      if (x == y) {
+        builder.add(x);
+        a.advance();
+        b.advance();
+      } else if (x < y) {
+        a.skipTo(y);
+      } else {
+        b.skipTo(x);
+      }
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * The values in either this sequence or another.
+   *
+   * @param that the other sequence
+   * @return a sequence of the values in either
+   */
+  public SortedLongSeq union(final SortedLongSeq that) {
+    final Builder builder = new Builder();
+    final Cursor a = cursor();
+    final Cursor b = that.cursor();
+
+    while (a.hasNext() && b.hasNext()) {
+      final long x = a.peek();
+      final long y = b.peek();
+
+      if (x <= y) {
+        builder.add(x);
+        a.advance();
+
+        if (x == y) {
+          b.advance();
+        }
+      } else {
+        builder.add(y);
+        b.advance();
+      }
+    }
+
+    final Cursor rest = a.hasNext() ? a : b;
+
+    while (rest.hasNext()) {
+      builder.add(rest.nextLong());
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Combine the values from left to right, without boxing them.
+   *
+   * @param z the starting value
+   * @param f the function combining the result so far with the next value
+   * @return the result of combining every value
+   */
+  public long foldLeft(final long z, final LongBinaryOperator f) {
+    final Cursor cursor = cursor();
+    long result = z;
+
+    while (cursor.hasNext()) {
+      result = f.applyAsLong(result, cursor.nextLong());
+    }
+
+    return result;
+  }
+
+  /**
+   * Decode the values into an array.
+   *
+   * @return an array of the values, in order
+   */
+  public long[] toArray() {
+    final long[] ls = new long[length];
+    final Cursor cursor = cursor();
+
+    for (int i = 0; i < length; i++) {
+      ls[i] = cursor.nextLong();
+    }
+
+    return ls;
+  }
+
+  /**
+   * Decode the values into a List.
+   *
+   * @return a List of the values, in order
+   */
+  public List<Long> toList() {
+    final ListBuilder<Long> builder = new ListBuilder<>(length);
+    final Cursor cursor = cursor();
+
+    while (cursor.hasNext()) {
+      builder.add(cursor.nextLong());
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * A Cursor at the first value.
+   *
+   * @return a Cursor over the values
+   */
+  public Cursor cursor() {
+    return new Cursor(0);
+  }
+
+  /**
+   * A Cursor at the first value, which decodes the values one at a time.
+   *
+   * @return a Cursor over the values
+   */
+  @Override
+  public Cursor iterator() {
+    return cursor();
+  }
+
+  /**
+   * Compares the values of this sequence with those of another, by their encoded bytes.
+   *
+   * @param o the reference object with which to compare.
+   * @return {@code true} if o is a SortedLongSeq of the same values; {@code false} otherwise.
+   * @see #hashCode()
+   */
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof SortedLongSeq)) {
+      return false;
+    }
+
+    final SortedLongSeq that = (SortedLongSeq) o;
+    return length == that.length && Arrays.equals(firsts, that.firsts) && Arrays.equals(data, that.data);
+  }
+
+  /**
+   * Returns a hash code value for the sequence, from its encoded bytes.
+   *
+   * @return a hash code value for this sequence.
+   * @see #equals(Object)
+   */
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(firsts) + Arrays.hashCode(data);
+  }
+
+  /**
+   * Show the values in the sequence.
+   *
+   * @return a String of the form SortedLongSeq(1, 2, 3)
+   */
+  @Override
+  public String toString() {
+    final StringBuilder sb = new StringBuilder("SortedLongSeq(");
+    final Cursor cursor = cursor();
+
+    while (cursor.hasNext()) {
+      sb.append(cursor.nextLong());
+
+      if (cursor.hasNext()) {
+        sb.append(", ");
+      }
+    }
+
+    return sb.append(')').toString();
+  }
+
+  /**
+   * Reads the values of a SortedLongSeq in order, decoding one value ahead, so that the
+   * next value can be looked at with peek without being consumed.
+   */
+  public final class Cursor implements PrimitiveIterator.OfLong {
+    /**
+     * The index of the next value.
+     */
+    private int next;
+
+    /**
+     * The next value, if there is one.
+     */
+    private long head;
+
+    /**
+     * The position in data of the delta after head.
+     */
+    private int position;
+
+    /**
+     * Constructor.
+     *
+     * @param block the block to start at
+     */
+    Cursor(final int block) {
+      if (block < firsts.length) {
+        seek(block);
+      } else {
+        next = length;
+      }
+    }
+
+    /**
+     * Move to the first value of a block.
+     *
+     * @param block the block
+     */
+    private void seek(final int block) {
+      next = block * BLOCK_SIZE;
+      head = firsts[block];
+      position = offsets[block];
+    }
+
+    /**
+     * Move to the next value, decoding its delta unless it starts a block.
+     */
+    void advance() {
+      next++;
+
+      if (next >= length) {
+        return;
+      }
+
+      if (next % BLOCK_SIZE == 0) {
+        seek(next / BLOCK_SIZE);
+        return;
+      }
+
+      long delta = 0;
+      int shift = 0;
+      byte b;
+
+      do {
+        b = data[position++];
+        delta |= (long) (b & 0x7F) << shift;
+        shift += 7;
+      } while (b < 0);
+
+      head += delta;
+    }
+
+    /**
+     * Tests whether there is a next value.
+     *
+     * @return true if there is a next value
+     */
+    @Override
+    public boolean hasNext() {
+      return next < length;
+    }
+
+    /**
+     * The next value, without consuming it.
+     *
+     * @return the next value
+     * @throws NoSuchElementException if there are no more values
+     */
+    public long peek() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      return head;
+    }
+
+    /**
+     * Consume the next value.
+     *
+     * @return the next value
+     * @throws NoSuchElementException if there are no more values
+     */
+    @Override
+    public long nextLong() {
+      final long l = peek();
+      advance();
+      return l;
+    }
+
+    /**
+     * Skip the values less than a target, so that the next value is the first which is at
+     * least the target.
+     *
+     * <p>Later blocks whose first value is no more than the target are skipped by binary
+     * search, without decoding them.
+     *
+     * @param target the target
+     * @return true if there is a value at least the target
+     */
+    public boolean skipTo(final long target) {
+      if (!hasNext() || head >= target) {
+        return hasNext();
+      }
+
+      int low = next / BLOCK_SIZE + 1;
+      int high = firsts.length - 1;
+      int found = -1;
+
+      while (low <= high) {
+        final int mid = (low + high) >>> 1;
+
+        if (firsts[mid] <= target) {
+          found = mid;
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+
+      if (found >= 0) {
+        seek(found);
+      }
+
+      while (hasNext() && head < target) {
+        advance();
+      }
+
+      return hasNext();
+    }
+  }
+
+  /**
+   * Builds a SortedLongSeq by encoding values as they are added.
+   *
+   * <p>build copies what has been encoded so far, so a Builder can go on being added to
+   * afterwards.
+   */
+  public static final class Builder {
+    /**
+     * The number of values added.
+     */
+    private int length;
+
+    /**
+     * The last value added.
+     */
+    private long last;
+
+    /**
+     * The first value of every block, with room to grow.
+     */
+    private long[] firsts = new long[16];
+
+    /**
+     * The position in data of the deltas of every block, with room to grow.
+     */
+    private int[] offsets = new int[16];
+
+    /**
+     * The deltas, as unsigned varints, with room to grow.
+     */
+    private byte[] data = new byte[256];
+
+    /**
+     * The number of bytes of data used.
+     */
+    private int size;
+
+    /**
+     * Constructor.
+     */
+    private Builder() {
+
+    }
+
+    /**
+     * Append a value.
+     *
+     * @param l the value, which must be greater than the last value added
+     * @return this Builder
+     * @throws IllegalArgumentException if l is not greater than the last value added
+     */
+    public Builder add(final long l) {
+      if (length > 0 && l <= last) {
+        throw new IllegalArgumentException("values must be strictly increasing, but " + l + " follows " + last);
+      }
+
+      if (length % BLOCK_SIZE == 0) {
+        final int block = length / BLOCK_SIZE;
+
+        if (block == firsts.length) {
+          firsts = Arrays.copyOf(firsts, block * 2);
+          offsets = Arrays.copyOf(offsets, block * 2);
+        }
+
+        firsts[block] = l;
+        offsets[block] = size;
+      } else {
+        if (data.length - size < 10) {
+          data = Arrays.copyOf(data, data.length * 2);
+        }
+
+        long delta = l - last;
+
+        while ((delta & ~0x7FL) != 0) {
+          data[size++] = (byte) ((delta & 0x7F) | 0x80);
+          delta >>>= 7;
+        }
+
+        data[size++] = (byte) delta;
+      }
+
+      last = l;
+      length++;
+      return this;
+    }
+
+    /**
+     * Build a SortedLongSeq of the values added.
+     *
+     * @return a SortedLongSeq of the values
+     */
+    public SortedLongSeq build() {
+      if (length == 0) {
+        return EMPTY;
+      }
+
+      final int blocks = (length + BLOCK_SIZE - 1) / BLOCK_SIZE;
+      return new SortedLongSeq(length, Arrays.copyOf(firsts, blocks), Arrays.copyOf(offsets, blocks),
+          Arrays.copyOf(data, size));
+    }
+  }
+}
@@ -0,0 +1,4 @@
+/**
+ * Immutable sequences of numbers stored compressed, and read without decompressing them first.
+ */
+package ca.genovese.coffeecats.data.compressed;
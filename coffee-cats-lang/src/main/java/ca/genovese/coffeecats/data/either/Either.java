@@ -0,0 +1,203 @@
+package ca.genovese.coffeecats.data.either;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+/**
+ * Represents a value of one of two possible types.
+ *
+ * <p>Instances of Either are either an instance of Left or of Right.
+ * Either is used by FlatMap.tailRecM, where a Left holds the input to the next
+ * step of a loop, and a Right holds the result of the loop.
+ *
+ * @param <L> The type of the value in a Left
+ * @param <R> The type of the value in a Right
+ */
+public abstract class Either<L, R> {
+
+  /**
+   * Make this abstract class sealed by having a private constructor.
+   */
+  private Either() {
+
+  }
+
+  /**
+   * An Either factory which creates Left(l).
+   *
+   * @param l   The value to put in the Left
+   * @param <L> The type of the value in a Left
+   * @param <R> The type of the value in a Right
+   * @return Left(l)
+   */
+  public static <L, R> Either<L, R> left(final L l) {
+    return new Left<>(l);
+  }
+
+  /**
+   * An Either factory which creates Right(r).
+   *
+   * @param r   The value to put in the Right
+   * @param <L> The type of the value in a Left
+   * @param <R> The type of the value in a Right
+   * @return Right(r)
+   */
+  public static <L, R> Either<L, R> right(final R r) {
+    return new Right<>(r);
+  }
+
+  /**
+   * isLeft returns true if the Either is a Left, false if it is a Right.
+   *
+   * @return true if the Either is a Left, false if it is a Right
+   */
+  public abstract boolean isLeft();
+
+  /**
+   * isRight returns true if the Either is a Right, false if it is a Left.
+   *
+   * @return true if the Either is a Right, false if it is a Left
+   */
+  public boolean isRight() {
+    return !isLeft();
+  }
+
+  /**
+   * Returns the value contained in a Left,
+   * or throws NoSuchElementException in the case of a Right.
+   *
+   * @return the contained value, or throws a NoSuchElementException
+   */
+  public abstract L getLeft();
+
+  /**
+   * Returns the value contained in a Right,
+   * or throws NoSuchElementException in the case of a Left.
+   *
+   * @return the contained value, or throws a NoSuchElementException
+   */
+  public abstract R getRight();
+
+  /**
+   * Apply one of two functions, depending on which value this Either contains.
+   *
+   * @param fl  the function to apply to the value in a Left
+   * @param fr  the function to apply to the value in a Right
+   * @param <C> the result type of both functions
+   * @return the result of the function applied
+   */
+  public <C> C fold(final Function<L, C> fl, final Function<R, C> fr) {
+    return isLeft() ? fl.apply(getLeft()) : fr.apply(getRight());
+  }
+
+  /**
+   * Class Left represents the first of the two possible types.
+   *
+   * @param <L> The type of the value in a Left
+   * @param <R> The type of the value in a Right
+   */
+  @ToString
+  @EqualsAndHashCode(callSuper = false)
+  private static final class Left<L, R> extends Either<L, R> {
+    /**
+     * The contained value.
+     */
+    private final L value;
+
+    /**
+     * Constructs a Left containing the provided value.
+     *
+     * @param value The value to be contained in the constructed Either.
+     */
+    Left(final L value) {
+      this.value = value;
+    }
+
+    /**
+     * Returns true, as this is a Left.
+     *
+     * @return true
+     */
+    @Override
+    public boolean isLeft() {
+      return true;
+    }
+
+    /**
+     * Returns the contained value.
+     *
+     * @return The contained value.
+     */
+    @Override
+    public L getLeft() {
+      return value;
+    }
+
+    /**
+     * Throws a NoSuchElementException, as this is a Left.
+     *
+     * @return throws a NoSuchElementException
+     */
+    @Override
+    public R getRight() {
+      throw new NoSuchElementException("getRight() called on a Left");
+    }
+  }
+
+  /**
+   * Class Right represents the second of the two possible types.
+   *
+   * @param <L> The type of the value in a Left
+   * @param <R> The type of the value in a Right
+   */
+  @ToString
+  @EqualsAndHashCode(callSuper = false)
+  private static final class Right<L, R> extends Either<L, R> {
+    /**
+     * The contained value.
+     */
+    private final R value;
+
+    /**
+     * Constructs a Right containing the provided value.
+     *
+     * @param value The value to be contained in the constructed Either.
+     */
+    Right(final R value) {
+      this.value = value;
+    }
+
+    /**
+     * Returns false, as this is a Right.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isLeft() {
+      return false;
+    }
+
+    /**
+     * Throws a NoSuchElementException, as this is a Right.
+     *
+     * @return throws a NoSuchElementException
+     */
+    @Override
+    public L getLeft() {
+      throw new NoSuchElementException("getLeft() called on a Right");
+    }
+
+    /**
+     * Returns the contained value.
+     *
+     * @return The contained value.
+     */
+    @Override
+    public R getRight() {
+      return value;
+    }
+  }
+}
@@ -0,0 +1,9 @@
+/**
+ * An Algebraic Data Type representing a value of one of two possible types.
+ *
+ * Instances of Either are either an instance of Left or of Right. By convention
+ * Left holds the value of an unfinished or failed computation and Right the value
+ * of a finished or successful one.
+ *
+ */
+package ca.genovese.coffeecats.data.either;
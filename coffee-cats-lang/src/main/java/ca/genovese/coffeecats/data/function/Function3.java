@@ -0,0 +1,22 @@
+package ca.genovese.coffeecats.data.function;
+
+/**
+ * A function of 3 arguments.
+ *
+ * @param <A> the type of the first argument
+ * @param <B> the type of the second argument
+ * @param <C> the type of the third argument
+ * @param <R> the return type
+ */
+@FunctionalInterface
+public interface Function3<A, B, C, R> {
+  /**
+   * Apply the function.
+   *
+   * @param a the first argument
+   * @param b the second argument
+   * @param c the third argument
+   * @return the result
+   */
+  R apply(A a, B b, C c);
+}
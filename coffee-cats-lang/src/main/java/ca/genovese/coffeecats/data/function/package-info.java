@@ -0,0 +1,4 @@
+/**
+ * A package containing functions of more arguments than java.util.function provides.
+ */
+package ca.genovese.coffeecats.data.function;
@@ -0,0 +1,418 @@
+package ca.genovese.coffeecats.data.intern;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A table of canonical Lists, Options and Tuple2s, which replaces values with an equal
+ * value it has seen before, so that equal values share memory.
+ *
+ * <p>intern canonicalises a whole structure bottom-up in one pass: the elements of a value
+ * which are themselves Lists, Options or Tuple2s are interned first, then the value is
+ * looked up with its elements compared by reference. A List is interned from its last node
+ * to its first, so equal tails are shared between Lists, and interning a List of n nodes
+ * takes n lookups rather than the n^2 comparisons of comparing every suffix with equals.
+ * Other elements, such as Strings, are compared with equals. A node already equal to what
+ * it would be rebuilt as is kept rather than copied.
+ *
+ * <p>Two values interned by the same Interner are equal if and only if they are the same
+ * reference, so they can be compared with ==.
+ *
+ * <p>The table holds its values weakly, so a value is dropped from it once nothing else
+ * refers to it, and an Interner can be shared between threads.
+ */
+public final class Interner {
+  /**
+   * The canonical values, each keyed by itself.
+   */
+  private final ConcurrentHashMap<Key, WeakKey> table = new ConcurrentHashMap<>();
+
+  /**
+   * The queue the keys of values which have been collected are put on.
+   */
+  private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+
+  /**
+   * Canonicalise a List, and every List, Option and Tuple2 in it.
+   *
+   * @param as  the List
+   * @param <A> the type of items in the List
+   * @return the canonical List equal to as
+   */
+  @SuppressWarnings("unchecked")
+  public <A> List<A> intern(final List<A> as) {
+    final ArrayList<List<A>> nodes = new ArrayList<>();
+    List<A> node = as;
+
+    while (!node.isEmpty()) {
+      nodes.add(node);
+      node = node.getTail();
+    }
+
+    List<A> tail = (List<A>) canonical(node);
+
+    for (int i = nodes.size() - 1; i >= 0; i--) {
+      final List<A> original = nodes.get(i);
+      final A head = internElement(original.getHead());
+      final List<A> candidate = head == original.getHead() && tail == original.getTail()
+          ? original : List.cons(head, tail);
+      tail = (List<A>) canonical(candidate);
+    }
+
+    return tail;
+  }
+
+  /**
+   * Canonicalise an Option, and every List, Option and Tuple2 in it.
+   *
+   * @param o   the Option
+   * @param <A> the type of the value
+   * @return the canonical Option equal to o
+   */
+  @SuppressWarnings("unchecked")
+  public <A> Option<A> intern(final Option<A> o) {
+    if (!o.isDefined()) {
+      return o;
+    }
+
+    final A a = internElement(o.get());
+    return (Option<A>) canonical(a == o.get() ? o : Option.some(a));
+  }
+
+  /**
+   * Canonicalise a Tuple2, and every List, Option and Tuple2 in it.
+   *
+   * @param t   the Tuple2
+   * @param <A> the type of the first element
+   * @param <B> the type of the second element
+   * @return the canonical Tuple2 equal to t
+   */
+  @SuppressWarnings("unchecked")
+  public <A, B> Tuple2<A, B> intern(final Tuple2<A, B> t) {
+    final A a = internElement(t.getA());
+    final B b = internElement(t.getB());
+    return (Tuple2<A, B>) canonical(a == t.getA() && b == t.getB() ? t : new Tuple2<>(a, b));
+  }
+
+  /**
+   * The number of canonical values in the table which have not been collected.
+   *
+   * @return the number of values
+   */
+  public int size() {
+    expunge();
+    return table.size();
+  }
+
+  /**
+   * Canonicalise an element of a value, if it is a List, Option or Tuple2.
+   *
+   * @param a   the element
+   * @param <A> the type of the element
+   * @return the canonical element, or a itself if it is of another type
+   */
+  @SuppressWarnings("unchecked")
+  private <A> A internElement(final A a) {
+    if (a instanceof List) {
+      return (A) intern((List<?>) a);
+    } else if (a instanceof Option) {
+      return (A) intern((Option<?>) a);
+    } else if (a instanceof Tuple2) {
+      return (A) intern((Tuple2<?, ?>) a);
+    }
+
+    return a;
+  }
+
+  /**
+   * Look up a value whose elements are canonical, adding it if there is none equal to it.
+   *
+   * @param value the value
+   * @return the canonical value equal to value
+   */
+  private Object canonical(final Object value) {
+    expunge();
+
+    final int hash = shallowHash(value);
+    final WeakKey found = table.get(new Probe(value, hash));
+    final Object existing = found == null ? null : found.get();
+
+    if (existing != null) {
+      return existing;
+    }
+
+    final WeakKey key = new WeakKey(value, hash, queue);
+
+    while (true) {
+      final WeakKey raced = table.putIfAbsent(key, key);
+
+      if (raced == null) {
+        return value;
+      }
+
+      final Object winner = raced.get();
+
+      if (winner != null) {
+        return winner;
+      }
+
+      table.remove(raced, raced);
+    }
+  }
+
+  /**
+   * Remove the keys of values which have been collected.
+   */
+  private void expunge() {
+    Reference<?> reference;
+
+    while ((reference = queue.poll()) != null) {
+      table.remove(reference, reference);
+    }
+  }
+
+  /**
+   * Tests whether an element is a List, Option or Tuple2, and so canonical inside the table.
+   *
+   * @param a the element
+   * @return true if a is compared by reference
+   */
+  private static boolean isStructure(final Object a) {
+    return a instanceof List || a instanceof Option || a instanceof Tuple2;
+  }
+
+  /**
+   * The hash of an element: its identity if it is canonical, and its hashCode otherwise.
+   *
+   * @param a the element
+   * @return the hash
+   */
+  private static int elementHash(final Object a) {
+    return isStructure(a) ? System.identityHashCode(a) : Objects.hashCode(a);
+  }
+
+  /**
+   * Compare two elements: by reference if they are canonical, and with equals otherwise.
+   *
+   * @param a the first element
+   * @param b the second element
+   * @return true if the elements are equal
+   */
+  private static boolean elementEquals(final Object a, final Object b) {
+    return isStructure(a) ? a == b : Objects.equals(a, b);
+  }
+
+  /**
+   * The hash of a value from the hashes of its elements.
+   *
+   * @param value a List, Some or Tuple2
+   * @return the hash
+   */
+  private static int shallowHash(final Object value) {
+    if (value instanceof List) {
+      final List<?> as = (List<?>) value;
+      return as.isEmpty() ? 1 : 31 * elementHash(as.getHead()) + elementHash(as.getTail());
+    } else if (value instanceof Option) {
+      return 17 + elementHash(((Option<?>) value).get());
+    }
+
+    final Tuple2<?, ?> t = (Tuple2<?, ?>) value;
+    return 37 * (31 * elementHash(t.getA()) + elementHash(t.getB()));
+  }
+
+  /**
+   * Compare two values by their elements.
+   *
+   * @param x a List, Some or Tuple2
+   * @param y a List, Some or Tuple2
+   * @return true if the values are of the same type and have equal elements
+   */
+  private static boolean shallowEquals(final Object x, final Object y) {
+    if (x instanceof List && y instanceof List) {
+      final List<?> as = (List<?>) x;
+      final List<?> bs = (List<?>) y;
+
+      if (as.isEmpty() || bs.isEmpty()) {
+        return as.isEmpty() && bs.isEmpty();
+      }
+
+      return elementEquals(as.getHead(), bs.getHead()) && elementEquals(as.getTail(), bs.getTail());
+    } else if (x instanceof Option && y instanceof Option) {
+      return elementEquals(((Option<?>) x).get(), ((Option<?>) y).get());
+    } else if (x instanceof Tuple2 && y instanceof Tuple2) {
+      final Tuple2<?, ?> s = (Tuple2<?, ?>) x;
+      final Tuple2<?, ?> t = (Tuple2<?, ?>) y;
+      return elementEquals(s.getA(), t.getA()) && elementEquals(s.getB(), t.getB());
+    }
+
+    return false;
+  }
+
+  /**
+   * A key of the table, which compares the values it refers to with shallowEquals.
+   */
+  private interface Key {
+    /**
+     * The value, or null if it has been collected.
+     *
+     * @return the value
+     */
+    Object get();
+
+    /**
+     * The shallowHash of the value, kept so that it is known after the value is collected.
+     *
+     * @return the hash
+     */
+    int hash();
+
+    /**
+     * Compare a key with another object.
+     *
+     * @param key the key
+     * @param o   the other object
+     * @return true if o is the same key, or a key of an equal value which has not been collected
+     */
+    static boolean equals(final Key key, final Object o) {
+      if (key == o) {
+        return true;
+      }
+
+      if (!(o instanceof Key) || key.hash() != ((Key) o).hash()) {
+        return false;
+      }
+
+      final Object a = key.get();
+      final Object b = ((Key) o).get();
+      return a != null && b != null && shallowEquals(a, b);
+    }
+  }
+
+  /**
+   * A key which refers to its value weakly, and is put on a queue when it is collected.
+   */
+  private static final class WeakKey extends WeakReference<Object> implements Key {
+    /**
+     * The shallowHash of the value.
+     */
+    private final int hash;
+
+    /**
+     * Constructor.
+     *
+     * @param value the value
+     * @param hash  the shallowHash of the value
+     * @param queue the queue to put the key on when the value is collected
+     */
+    WeakKey(final Object value, final int hash, final ReferenceQueue<Object> queue) {
+      super(value, queue);
+      this.hash = hash;
+    }
+
+    /**
+     * The shallowHash of the value.
+     *
+     * @return the hash
+     */
+    @Override
+    public int hash() {
+      return hash;
+    }
+
+    /**
+     * The shallowHash of the value, so that equal values' keys are in the same bucket.
+     *
+     * @return the hash
+     */
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    /**
+     * Compare this key with another object, as Key.equals does.
+     *
+     * @param o the other object
+     * @return true if o is this key, or a key of an equal value which has not been collected
+     */
+    @Override
+    public boolean equals(final Object o) {
+      return Key.equals(this, o);
+    }
+  }
+
+  /**
+   * A key which refers to its value strongly, used to look values up.
+   */
+  private static final class Probe implements Key {
+    /**
+     * The value.
+     */
+    private final Object value;
+
+    /**
+     * The shallowHash of the value.
+     */
+    private final int hash;
+
+    /**
+     * Constructor.
+     *
+     * @param value the value
+     * @param hash  the shallowHash of the value
+     */
+    Probe(final Object value, final int hash) {
+      this.value = value;
+      this.hash = hash;
+    }
+
+    /**
+     * The value.
+     *
+     * @return the value
+     */
+    @Override
+    public Object get() {
+      return value;
+    }
+
+    /**
+     * The shallowHash of the value.
+     *
+     * @return the hash
+     */
+    @Override
+    public int hash() {
+      return hash;
+    }
+
+    /**
+     * The shallowHash of the value, so that equal values' keys are in the same bucket.
+     *
+     * @return the hash
+     */
+    @Override
+    public int hashCode() {
+      return hash;
+    }
+
+    /**
+     * Compare this key with another object, as Key.equals does.
+     *
+     * @param o the other object
+     * @return true if o is this key, or a key of an equal value which has not been collected
+     */
+    @Override
+    public boolean equals(final Object o) {
+      return Key.equals(this, o);
+    }
+  }
+}
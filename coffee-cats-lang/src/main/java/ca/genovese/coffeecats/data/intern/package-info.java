@@ -0,0 +1,4 @@
+/**
+ * Opt-in hash-consing of the immutable data types, so that equal values share memory.
+ */
+package ca.genovese.coffeecats.data.intern;
@@ -0,0 +1,402 @@
+package ca.genovese.coffeecats.data.list;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * A read-only java.util.List view of a List, returned by List.asJava.
+ *
+ * <p>The view does not copy the List, and, like every AbstractList, throws
+ * UnsupportedOperationException from the methods which would change it. Methods which
+ * AbstractList implements with indexed
+ * access, and which would be O(n^2) over a linked list, are overridden to walk it once.
+ *
+ * @param <A> The type of the items in the list
+ */
+final class JavaListView<A> extends AbstractList<A> {
+  /**
+   * The List viewed.
+   */
+  private final List<A> list;
+
+  /**
+   * The length of the List, or -1 until it is first asked for.
+   */
+  private int size = -1;
+
+  /**
+   * Constructor.
+   *
+   * @param list the List to view
+   */
+  JavaListView(final List<A> list) {
+    this.list = list;
+  }
+
+  /**
+   * The item at an index, found by walking the List.
+   *
+   * @param index the index
+   * @return the item at index
+   * @throws IndexOutOfBoundsException if index is negative or not less than the length of the List
+   */
+  @Override
+  public A get(final int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    List<A> rest = list;
+
+    for (int i = 0; i < index && !rest.isEmpty(); i++) {
+      rest = rest.getTail();
+    }
+
+    if (rest.isEmpty()) {
+      throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    return rest.getHead();
+  }
+
+  /**
+   * The List after its first index items, found by walking the List.
+   *
+   * @param index the number of items to drop
+   * @return the rest of the List
+   * @throws IndexOutOfBoundsException if index is negative or greater than the length of the List
+   */
+  private List<A> drop(final int index) {
+    if (index < 0) {
+      throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    List<A> rest = list;
+
+    for (int i = 0; i < index; i++) {
+      if (rest.isEmpty()) {
+        throw new IndexOutOfBoundsException("Index: " + index);
+      }
+      rest = rest.getTail();
+    }
+
+    return rest;
+  }
+
+  /**
+   * The length of the List, computed on the first call.
+   *
+   * @return the length of the List
+   */
+  @Override
+  public int size() {
+    if (size < 0) {
+      size = list.length();
+    }
+    return size;
+  }
+
+  /**
+   * Whether the List is empty, without computing its length.
+   *
+   * @return true if the List is empty
+   */
+  @Override
+  public boolean isEmpty() {
+    return list.isEmpty();
+  }
+
+  /**
+   * An Iterator which walks the List.
+   *
+   * @return an Iterator over the items
+   */
+  @Override
+  public Iterator<A> iterator() {
+    return list.iterator();
+  }
+
+  /**
+   * A ListIterator which walks the List from its start.
+   *
+   * @return a ListIterator over the items
+   */
+  @Override
+  public ListIterator<A> listIterator() {
+    return new View<>(list, list, 0);
+  }
+
+  /**
+   * A ListIterator which walks the List from an index, reached in a single walk.
+   *
+   * @param index the index of the first item returned by next
+   * @return a ListIterator over the items
+   * @throws IndexOutOfBoundsException if index is negative or greater than the length of the List
+   */
+  @Override
+  public ListIterator<A> listIterator(final int index) {
+    return new View<>(list, drop(index), index);
+  }
+
+  /**
+   * A view of the items from one index to another, found in a single walk.
+   *
+   * <p>A sublist which runs to the end of the List views the List's own tail. Any other sublist
+   * views a copy of its items, which cannot be told apart from a view because the List never changes.
+   *
+   * @param fromIndex the index of the first item, inclusive
+   * @param toIndex   the index after the last item, exclusive
+   * @return a java.util.List of the items from fromIndex to toIndex
+   * @throws IndexOutOfBoundsException if the indexes are out of order or outside the List
+   */
+  @Override
+  public java.util.List<A> subList(final int fromIndex, final int toIndex) {
+    if (fromIndex > toIndex) {
+      throw new IndexOutOfBoundsException("fromIndex(" + fromIndex + ") > toIndex(" + toIndex + ")");
+    }
+
+    final List<A> from = drop(fromIndex);
+    final ListBuilder<A> items = new ListBuilder<>();
+    List<A> rest = from;
+
+    for (int i = fromIndex; i < toIndex; i++) {
+      if (rest.isEmpty()) {
+        throw new IndexOutOfBoundsException("toIndex = " + toIndex);
+      }
+      items.add(rest.getHead());
+      rest = rest.getTail();
+    }
+
+    return new JavaListView<>(rest.isEmpty() ? from : items.build());
+  }
+
+  /**
+   * The index of the first item equal to an object, found in a single walk.
+   *
+   * @param o the object to find
+   * @return the index of the first equal item, or -1 if there is none
+   */
+  @Override
+  public int indexOf(final Object o) {
+    int i = 0;
+
+    for (final A a : list) {
+      if (Objects.equals(o, a)) {
+        return i;
+      }
+      i++;
+    }
+
+    return -1;
+  }
+
+  /**
+   * The index of the last item equal to an object, found in a single walk.
+   *
+   * @param o the object to find
+   * @return the index of the last equal item, or -1 if there is none
+   */
+  @Override
+  public int lastIndexOf(final Object o) {
+    int last = -1;
+    int i = 0;
+
+    for (final A a : list) {
+      if (Objects.equals(o, a)) {
+        last = i;
+      }
+      i++;
+    }
+
+    return last;
+  }
+
+  /**
+   * Compares the items of this view with those of another java.util.List, in a single walk of each.
+   *
+   * @param o the reference object with which to compare.
+   * @return {@code true} if o is a java.util.List with equal items in the same order
+   */
+  @Override
+  public boolean equals(final Object o) {
+    if (o == this) {
+      return true;
+    } else if (!(o instanceof java.util.List)) {
+      return false;
+    }
+
+    final Iterator<A> xs = iterator();
+    final Iterator<?> ys = ((java.util.List<?>) o).iterator();
+
+    while (xs.hasNext() && ys.hasNext()) {
+      if (!Objects.equals(xs.next(), ys.next())) {
+        return false;
+      }
+    }
+
+    return !xs.hasNext() && !ys.hasNext();
+  }
+
+  /**
+   * The hash code of the List, which is computed in the same way as java.util.List's.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    return list.hashCode();
+  }
+
+  /**
+   * A read-only ListIterator which walks forward through a List.
+   *
+   * <p>next is O(1). previous walks again from the start of the viewed List, and so is O(index),
+   * because a List has no links back.
+   *
+   * @param <A> The type of the items in the list
+   */
+  private static final class View<A> implements ListIterator<A> {
+    /**
+     * The List iterated over.
+     */
+    private final List<A> start;
+
+    /**
+     * The items not yet returned by next.
+     */
+    private List<A> rest;
+
+    /**
+     * The index of the item which next returns.
+     */
+    private int index;
+
+    /**
+     * Constructor.
+     *
+     * @param start the List iterated over
+     * @param rest  the items of start from index on
+     * @param index the index of the item which next returns
+     */
+    View(final List<A> start, final List<A> rest, final int index) {
+      this.start = start;
+      this.rest = rest;
+      this.index = index;
+    }
+
+    /**
+     * Whether there is another item after the cursor.
+     *
+     * @return true if next will return an item
+     */
+    @Override
+    public boolean hasNext() {
+      return !rest.isEmpty();
+    }
+
+    /**
+     * The item after the cursor, moving the cursor past it.
+     *
+     * @return the next item
+     * @throws NoSuchElementException if there are no more items
+     */
+    @Override
+    public A next() {
+      if (rest.isEmpty()) {
+        throw new NoSuchElementException();
+      }
+
+      final A a = rest.getHead();
+      rest = rest.getTail();
+      index++;
+      return a;
+    }
+
+    /**
+     * Whether there is an item before the cursor.
+     *
+     * @return true if previous will return an item
+     */
+    @Override
+    public boolean hasPrevious() {
+      return index > 0;
+    }
+
+    /**
+     * The item before the cursor, moving the cursor back before it by walking again from the start.
+     *
+     * @return the previous item
+     * @throws NoSuchElementException if the cursor is at the start
+     */
+    @Override
+    public A previous() {
+      if (index == 0) {
+        throw new NoSuchElementException();
+      }
+
+      index--;
+      rest = start;
+
+      for (int i = 0; i < index; i++) {
+        rest = rest.getTail();
+      }
+
+      return rest.getHead();
+    }
+
+    /**
+     * The index of the item which next would return.
+     *
+     * @return the index after the cursor
+     */
+    @Override
+    public int nextIndex() {
+      return index;
+    }
+
+    /**
+     * The index of the item which previous would return.
+     *
+     * @return the index before the cursor, or -1 at the start
+     */
+    @Override
+    public int previousIndex() {
+      return index - 1;
+    }
+
+    /**
+     * Not supported, because the List cannot be changed.
+     *
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void remove() {
+      throw new UnsupportedOperationException("remove");
+    }
+
+    /**
+     * Not supported, because the List cannot be changed.
+     *
+     * @param a the item which would replace the last item returned
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void set(final A a) {
+      throw new UnsupportedOperationException("set");
+    }
+
+    /**
+     * Not supported, because the List cannot be changed.
+     *
+     * @param a the item which would be inserted at the cursor
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void add(final A a) {
+      throw new UnsupportedOperationException("add");
+    }
+  }
+}
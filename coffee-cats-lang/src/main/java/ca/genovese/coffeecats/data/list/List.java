@@ -1,17 +1,16 @@
 package ca.genovese.coffeecats.data.list;
 
 import ca.genovese.coffeecats.kind.Kind;
-import lombok.EqualsAndHashCode;
-import lombok.ToString;
-
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.stream.Collector;
 
 /**
  * A class for immutable linked lists representing ordered collections of elements of type A.
  *
- * <p>This class comes with two implementing case classes Nil and Cons that implement the abstract
- * members isEmpty, head and tail.
+ * <p>This class comes with three implementing case classes Nil, Cons and Lazy that implement the
+ * abstract members isEmpty, head and tail. Lazy, returned by fromJava, reads its head and tail
+ * from an iterator the first time either is needed.
  *
  * <p>This class is optimal for last-in-first-out (LIFO), stack-like access patterns.
  * If you need another access pattern, for example, random access or FIFO,
@@ -54,6 +53,32 @@ public abstract class List<A> implements Iterable<A>, Kind<List, A> {
     return new Cons<>(a, as);
   }
 
+  /**
+   * Create a List of the items of an Iterable, such as a java.util.List, without copying them.
+   *
+   * <p>The Iterable is traversed lazily: each item is read from a single iterator over it
+   * the first time the List node holding it is reached, and is kept from then on, so the
+   * Iterable is traversed at most once, and only as far as the List is. The Iterable must
+   * not be changed until the List has been traversed.
+   *
+   * @param as  the Iterable
+   * @param <A> The type of items in the Iterable
+   * @return a List of the items of as
+   */
+  public static <A> List<A> fromJava(final Iterable<? extends A> as) {
+    return new Lazy<>(as.iterator());
+  }
+
+  /**
+   * A Collector which collects the items of a stream into a List, in order.
+   *
+   * @param <A> The type of items in the stream
+   * @return a Collector to a List
+   */
+  public static <A> Collector<A, ListBuilder<A>, List<A>> collector() {
+    return Collector.of(ListBuilder::new, ListBuilder::add, ListBuilder::append, ListBuilder::build);
+  }
+
   /**
    * Calculate the length of the list.
    *
@@ -100,6 +125,44 @@ public abstract class List<A> implements Iterable<A>, Kind<List, A> {
     return result;
   }
 
+  /**
+   * Skip up to n cells of this List, sharing the rest.
+   *
+   * @param n the number of cells to skip
+   * @return this List without its first n items, or the empty List if it has fewer than n
+   */
+  public List<A> drop(final int n) {
+    List<A> rest = this;
+
+    for (int i = 0; i < n && !rest.isEmpty(); i++) {
+      rest = rest.getTail();
+    }
+
+    return rest;
+  }
+
+  /**
+   * Create a lazy view of this List, on which map and filter operations
+   * are recorded and only applied, in a single pass, when the view is traversed.
+   *
+   * @return a view of this List
+   */
+  public ListView<A> view() {
+    return ListView.of(this);
+  }
+
+  /**
+   * A read-only java.util.List view of this List, which does not copy it.
+   *
+   * <p>The view is traversed sequentially: iteration is O(1) per item, get(i) is O(i),
+   * and size() is computed on the first call and remembered.
+   *
+   * @return a java.util.List view of this List
+   */
+  public java.util.List<A> asJava() {
+    return new JavaListView<>(this);
+  }
+
   /**
    * Returns an iterator over elements of this List.
    *
@@ -110,6 +173,86 @@ public abstract class List<A> implements Iterable<A>, Kind<List, A> {
     return new ListIterator<>(this);
   }
 
+  /**
+   * Compares the elements of this List with those of another List, in order.
+   *
+   * <p>The comparison walks both Lists with a loop rather than recursing
+   * into the tail, so it is safe for Lists of any length.
+   *
+   * @param o the reference object with which to compare.
+   * @return {@code true} if o is a List with equal elements in the same order; {@code false} otherwise.
+   * @see #hashCode()
+   */
+  @Override
+  public final boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof List)) {
+      return false;
+    }
+
+    List<?> xs = this;
+    List<?> ys = (List<?>) o;
+
+    while (!xs.isEmpty() && !ys.isEmpty()) {
+      if (xs == ys) {
+        return true;
+      }
+
+      final Object x = xs.getHead();
+      final Object y = ys.getHead();
+
+      if (x == null ? y != null : !x.equals(y)) {
+        return false;
+      }
+
+      xs = xs.getTail();
+      ys = ys.getTail();
+    }
+
+    return xs.isEmpty() && ys.isEmpty();
+  }
+
+  /**
+   * Returns a hash code value for the List, computed from its elements
+   * in the same way as {@link java.util.List#hashCode()}.
+   *
+   * @return a hash code value for this List.
+   * @see #equals(Object)
+   */
+  @Override
+  public final int hashCode() {
+    int hash = 1;
+
+    for (A a : this) {
+      hash = 31 * hash + (a == null ? 0 : a.hashCode());
+    }
+
+    return hash;
+  }
+
+  /**
+   * Describes the elements of this List, in order, such as {@code List(1, 2, 3)}.
+   *
+   * <p>The elements are appended in a loop, so Lists of any length can be described.
+   *
+   * @return a String describing this List
+   */
+  @Override
+  public final String toString() {
+    final StringBuilder sb = new StringBuilder("List(");
+    String separator = "";
+
+    for (A a : this) {
+      sb.append(separator).append(a);
+      separator = ", ";
+    }
+
+    return sb.append(')').toString();
+  }
+
   /**
    * Selects the first element of this List.
    * @return the first element of this List
@@ -133,8 +276,6 @@ public abstract class List<A> implements Iterable<A>, Kind<List, A> {
    *
    * @param <A> The type of the items in the list
    */
-  @ToString
-  @EqualsAndHashCode
   private static final class Nil<A> extends List<A> {
     /**
      * Selects the first element of this List.
@@ -165,13 +306,97 @@ public abstract class List<A> implements Iterable<A>, Kind<List, A> {
 
   }
 
+  /**
+   * A list whose head and tail are read from an iterator the first time either is needed.
+   *
+   * @param <A> The type of the items in the list
+   */
+  private static final class Lazy<A> extends List<A> {
+    /**
+     * The iterator to read the head from, or null once it has been read.
+     */
+    private volatile Iterator<? extends A> source;
+
+    /**
+     * The first item in the list, once it has been read.
+     */
+    private A head;
+
+    /**
+     * The rest of the items in the list, once the head has been read, or null if the list is empty.
+     */
+    private List<A> tail;
+
+    /**
+     * Constructs a List which reads its items from an iterator.
+     *
+     * @param source The iterator to read the items from
+     */
+    Lazy(final Iterator<? extends A> source) {
+      this.source = source;
+    }
+
+    /**
+     * Read the head from the iterator, if it has not been read already.
+     */
+    private void force() {
+      if (source != null) {
+        synchronized (this) {
+          final Iterator<? extends A> it = source;
+
+          if (it != null) {
+            if (it.hasNext()) {
+              head = it.next();
+              tail = new Lazy<>(it);
+            }
+            source = null;
+          }
+        }
+      }
+    }
+
+    /**
+     * Selects the first element of this List.
+     *
+     * @return the first element of this List
+     */
+    public A getHead() {
+      force();
+      if (tail == null) {
+        throw new NoSuchElementException("getHead on an empty list");
+      }
+      return head;
+    }
+
+    /**
+     * Selects all elements except the first.
+     *
+     * @return all elements except the first.
+     */
+    public List<A> getTail() {
+      force();
+      if (tail == null) {
+        throw new NoSuchElementException("getTail on an empty list");
+      }
+      return tail;
+    }
+
+    /**
+     * Tests whether this List is empty.
+     *
+     * @return true if the iterator had no more items, false otherwise
+     */
+    public boolean isEmpty() {
+      force();
+      return tail == null;
+    }
+  }
+
   /**
    * A non empty list characterized by a head and a tail.
    *
    * @param <A> The type of the items in the list
    */
-  @ToString
-  @EqualsAndHashCode
   private static final class Cons<A> extends List<A> {
     /**
      * The first item in the list.
@@ -0,0 +1,142 @@
+package ca.genovese.coffeecats.data.list;
+
+import java.util.Arrays;
+
+/**
+ * A mutable builder which collects items in order and produces a List of them.
+ *
+ * <p>Items are buffered in an array and consed from the last to the first when
+ * the List is built, so building a List in order needs no reverse pass.
+ *
+ * <p>A ListBuilder is not thread safe, and should not be shared.
+ *
+ * @param <A> The type of the items in the list
+ */
+public final class ListBuilder<A> {
+  /**
+   * The initial capacity of the buffer.
+   */
+  private static final int INITIAL_CAPACITY = 16;
+
+  /**
+   * The largest number of items a ListBuilder can hold, leaving room for the array header
+   * which some virtual machines reserve.
+   */
+  private static final int MAX_CAPACITY = Integer.MAX_VALUE - 8;
+
+  /**
+   * The items added so far.
+   */
+  private Object[] buffer;
+
+  /**
+   * The number of items added so far.
+   */
+  private int size;
+
+  /**
+   * Construct an empty ListBuilder.
+   */
+  public ListBuilder() {
+    this(INITIAL_CAPACITY);
+  }
+
+  /**
+   * Construct an empty ListBuilder with room for the given number of items.
+   *
+   * @param capacity the number of items the builder can hold before it grows
+   */
+  public ListBuilder(final int capacity) {
+    buffer = new Object[Math.max(capacity, 1)];
+  }
+
+  /**
+   * Add an item after the items already added.
+   *
+   * @param a the item to add
+   * @return this ListBuilder
+   */
+  public ListBuilder<A> add(final A a) {
+    ensureCapacity(size + 1L);
+    buffer[size++] = a;
+    return this;
+  }
+
+  /**
+   * Add all the items from an Iterable after the items already added.
+   *
+   * @param as the items to add
+   * @return this ListBuilder
+   */
+  public ListBuilder<A> addAll(final Iterable<? extends A> as) {
+    for (final A a : as) {
+      add(a);
+    }
+    return this;
+  }
+
+  /**
+   * Add all the items from another ListBuilder after the items already added, copying its
+   * buffer rather than building a List of them.
+   *
+   * @param other the ListBuilder whose items to add, which is not changed
+   * @return this ListBuilder
+   */
+  ListBuilder<A> append(final ListBuilder<? extends A> other) {
+    ensureCapacity((long) size + other.size);
+    System.arraycopy(other.buffer, 0, buffer, size, other.size);
+    size += other.size;
+    return this;
+  }
+
+  /**
+   * Grow the buffer, to at least double its size where possible, if it cannot hold the needed number of items.
+   *
+   * @param needed the number of items the buffer must hold
+   * @throws IllegalArgumentException if needed is more than a ListBuilder can hold
+   */
+  private void ensureCapacity(final long needed) {
+    if (needed > buffer.length) {
+      if (needed > MAX_CAPACITY) {
+        throw new IllegalArgumentException(needed + " items are more than a ListBuilder can hold");
+      }
+
+      buffer = Arrays.copyOf(buffer, (int) Math.min(Math.max(needed, 2L * buffer.length), MAX_CAPACITY));
+    }
+  }
+
+  /**
+   * The number of items added so far.
+   *
+   * @return the number of items added so far
+   */
+  public int size() {
+    return size;
+  }
+
+  /**
+   * Build a List of the items added so far, in the order they were added.
+   *
+   * @return a new List
+   */
+  public List<A> build() {
+    return buildOnto(List.of());
+  }
+
+  /**
+   * Build a List of the items added so far, in the order they were added, followed by the items in tail.
+   *
+   * @param tail the List to follow the added items
+   * @return a new List which shares tail
+   */
+  @SuppressWarnings("unchecked")
+  public List<A> buildOnto(final List<A> tail) {
+    List<A> result = tail;
+
+    for (int i = size - 1; i >= 0; i--) {
+      result = List.cons((A) buffer[i], result);
+    }
+
+    return result;
+  }
+}
@@ -0,0 +1,230 @@
+package ca.genovese.coffeecats.data.list;
+
+import ca.genovese.coffeecats.kind.Kind;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A lazy view of a List which records map and filter operations without applying them.
+ *
+ * <p>The recorded operations are fused and applied to each item of the underlying List
+ * in a single pass when the view is traversed, or when force is called, so a pipeline
+ * of several operations never builds the intermediate Lists that chaining
+ * ListInstance.map would.
+ *
+ * <p>The recorded functions run every time the view is traversed, so views of
+ * expensive pipelines which are traversed more than once should be forced.
+ *
+ * @param <A> The type of the items in the view
+ */
+public final class ListView<A> implements Iterable<A>, Kind<ListView, A> {
+  /**
+   * The result of a filter stage for an item which does not satisfy the predicate.
+   */
+  private static final Object SKIP = new Object();
+
+  /**
+   * The List underlying this view.
+   */
+  private final List<?> source;
+
+  /**
+   * The recorded operations, in the order they are applied.
+   * Filters return SKIP for items that should be dropped.
+   */
+  private final Function<Object, Object>[] stages;
+
+  /**
+   * Constructor.
+   *
+   * @param source the List underlying this view
+   * @param stages the recorded operations, in the order they are applied
+   */
+  private ListView(final List<?> source, final Function<Object, Object>[] stages) {
+    this.source = source;
+    this.stages = stages;
+  }
+
+  /**
+   * Create a view of a List with no recorded operations.
+   *
+   * @param as  the List underlying the view
+   * @param <A> The type of the items in the List
+   * @return a view of as
+   */
+  @SuppressWarnings("unchecked")
+  public static <A> ListView<A> of(final List<A> as) {
+    return new ListView<>(as, new Function[0]);
+  }
+
+  /**
+   * Record an operation after the existing ones.
+   *
+   * @param stage the operation to record
+   * @param <B>   the type of the items in the new view
+   * @return a new view with the operation recorded
+   */
+  @SuppressWarnings("unchecked")
+  private <B> ListView<B> then(final Function<?, ?> stage) {
+    final Function<Object, Object>[] next = Arrays.copyOf(stages, stages.length + 1);
+    next[stages.length] = (Function<Object, Object>) stage;
+    return new ListView<>(source, next);
+  }
+
+  /**
+   * Record a function to be applied to every item.
+   *
+   * @param f   the function to apply
+   * @param <B> the output type
+   * @return a new view whose items are the results of applying f to the items of this view
+   */
+  public <B> ListView<B> map(final Function<A, B> f) {
+    return then(f);
+  }
+
+  /**
+   * Record a predicate which items must satisfy to remain in the view.
+   *
+   * @param p the predicate to test
+   * @return a new view containing only the items of this view which satisfy p
+   */
+  public ListView<A> filter(final Predicate<A> p) {
+    return then((A a) -> p.test(a) ? a : SKIP);
+  }
+
+  /**
+   * Apply the recorded operations to an item of the underlying List.
+   *
+   * @param item an item of the underlying List
+   * @return the resulting item, or SKIP if a filter dropped it
+   */
+  private Object apply(final Object item) {
+    Object result = item;
+
+    for (int i = 0; i < stages.length && result != SKIP; i++) {
+      result = stages[i].apply(result);
+    }
+
+    return result;
+  }
+
+  /**
+   * Apply the recorded operations to every item in a single pass and
+   * collect the results into a List.
+   *
+   * @return a List of the items in this view
+   */
+  @SuppressWarnings("unchecked")
+  public List<A> force() {
+    if (stages.length == 0) {
+      return (List<A>) source;
+    }
+
+    final ListBuilder<A> builder = new ListBuilder<>();
+
+    for (final Object item : source) {
+      final Object result = apply(item);
+      if (result != SKIP) {
+        builder.add((A) result);
+      }
+    }
+
+    return builder.build();
+  }
+
+  /**
+   * Returns an iterator which applies the recorded operations to each item as it is reached.
+   *
+   * @return an Iterator.
+   */
+  @Override
+  public Iterator<A> iterator() {
+    return new Iterator<A>() {
+      private List<?> rest = source;
+      private Object next = SKIP;
+
+      @Override
+      public boolean hasNext() {
+        while (next == SKIP && !rest.isEmpty()) {
+          next = apply(rest.getHead());
+          rest = rest.getTail();
+        }
+        return next != SKIP;
+      }
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public A next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        final Object result = next;
+        next = SKIP;
+        return (A) result;
+      }
+    };
+  }
+
+  /**
+   * Compares the items of this view with those of another view, in order.
+   *
+   * @param o the reference object with which to compare.
+   * @return {@code true} if o is a ListView with equal items in the same order; {@code false} otherwise.
+   * @see #hashCode()
+   */
+  @Override
+  public boolean equals(final Object o) {
+    if (this == o) {
+      return true;
+    }
+
+    if (!(o instanceof ListView)) {
+      return false;
+    }
+
+    final Iterator<A> xs = iterator();
+    final Iterator<?> ys = ((ListView<?>) o).iterator();
+
+    while (xs.hasNext() && ys.hasNext()) {
+      final Object x = xs.next();
+      final Object y = ys.next();
+
+      if (x == null ? y != null : !x.equals(y)) {
+        return false;
+      }
+    }
+
+    return !xs.hasNext() && !ys.hasNext();
+  }
+
+  /**
+   * Returns a hash code value for the view, equal to the hash code of the forced List.
+   *
+   * @return a hash code value for this view.
+   * @see #equals(Object)
+   */
+  @Override
+  public int hashCode() {
+    int hash = 1;
+
+    for (A a : this) {
+      hash = 31 * hash + (a == null ? 0 : a.hashCode());
+    }
+
+    return hash;
+  }
+
+  /**
+   * A description of this view and the number of recorded operations.
+   *
+   * @return a String describing this view
+   */
+  @Override
+  public String toString() {
+    return "ListView(stages=" + stages.length + ")";
+  }
+}
@@ -0,0 +1,340 @@
+package ca.genovese.coffeecats.data.offheap;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.function.IntBinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * An immutable, indexed sequence of ints stored outside the Java heap, in a direct ByteBuffer.
+ *
+ * <p>The garbage collector neither copies nor scans the values, so a large IntSeq adds
+ * nothing to the time it spends marking and compacting. The memory is released by close,
+ * after which the IntSeq, and every slice sharing its memory, throws IllegalStateException
+ * when read. A sequence must not be closed while another thread is reading it. Memory which
+ * is never closed is freed when the garbage collector collects the sequence.
+ *
+ * <p>An IntSeq is built with a Builder, which writes the values straight into off-heap
+ * memory, and is read with get, foldLeft and forEach without boxing. mapToObj and toList
+ * copy the values into a List on the heap, which can then be used with the List instances.
+ */
+public final class IntSeq implements AutoCloseable {
+  /**
+   * The memory holding the values.
+   */
+  private final Memory memory;
+
+  /**
+   * The index in memory of the first value of this sequence.
+   */
+  private final int offset;
+
+  /**
+   * The number of values in this sequence.
+   */
+  private final int length;
+
+  /**
+   * Constructor.
+   *
+   * @param memory the memory holding the values
+   * @param offset the index in memory of the first value
+   * @param length the number of values
+   */
+  private IntSeq(final Memory memory, final int offset, final int length) {
+    this.memory = memory;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Create an IntSeq holding a copy of some ints.
+   *
+   * @param is the ints
+   * @return an IntSeq of the ints
+   */
+  public static IntSeq of(final int... is) {
+    return new Builder(is.length).addAll(is).build();
+  }
+
+  /**
+   * Create a Builder.
+   *
+   * @return an empty Builder
+   */
+  public static Builder builder() {
+    return new Builder(Builder.DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a Builder with room for a number of values before it has to grow.
+   *
+   * @param capacity the number of values
+   * @return an empty Builder
+   */
+  public static Builder builder(final int capacity) {
+    return new Builder(capacity);
+  }
+
+  /**
+   * The number of values in the sequence.
+   *
+   * @return the number of values
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Tests whether the sequence is empty.
+   *
+   * @return true if the sequence has no values
+   */
+  public boolean isEmpty() {
+    return length == 0;
+  }
+
+  /**
+   * The value at an index.
+   *
+   * @param i the index
+   * @return the value at i
+   * @throws IndexOutOfBoundsException if i is not between 0 and length() - 1
+   * @throws IllegalStateException     if the sequence has been closed
+   */
+  public int get(final int i) {
+    if (i < 0 || i >= length) {
+      throw new IndexOutOfBoundsException("index " + i + " of an IntSeq of length " + length);
+    }
+
+    return memory.buffer().getInt((offset + i) * Integer.BYTES);
+  }
+
+  /**
+   * The values from one index to another, sharing the memory of this sequence.
+   *
+   * @param from the index of the first value, inclusive
+   * @param to   the index of the last value, exclusive
+   * @return a view of the values from from to to
+   * @throws IndexOutOfBoundsException if the indices are not 0 &lt;= from &lt;= to &lt;= length()
+   */
+  public IntSeq slice(final int from, final int to) {
+    if (from < 0 || from > to || to > length) {
+      throw new IndexOutOfBoundsException("slice " + from + " to " + to + " of an IntSeq of length " + length);
+    }
+
+    return new IntSeq(memory, offset + from, to - from);
+  }
+
+  /**
+   * Combine the values from left to right, without boxing them.
+   *
+   * <p>The sequence may be closed by f, in which case foldLeft throws before reading another value.
+   *
+   * @param z the starting value
+   * @param f the function combining the result so far with the next value
+   * @return the result of combining every value
+   * @throws IllegalStateException if the sequence has been closed, before or by f
+   */
+  public int foldLeft(final int z, final IntBinaryOperator f) {
+    final ByteBuffer buffer = memory.buffer();
+    int result = z;
+
+    for (int i = offset; i < offset + length; i++) {
+      memory.check();
+      result = f.applyAsInt(result, buffer.getInt(i * Integer.BYTES));
+    }
+
+    return result;
+  }
+
+  /**
+   * Pass every value to a consumer, in order, without boxing them.
+   *
+   * <p>The sequence may be closed by f, in which case forEach throws before reading another value.
+   *
+   * @param f the consumer
+   * @throws IllegalStateException if the sequence has been closed, before or by f
+   */
+  public void forEach(final IntConsumer f) {
+    final ByteBuffer buffer = memory.buffer();
+
+    for (int i = offset; i < offset + length; i++) {
+      memory.check();
+      f.accept(buffer.getInt(i * Integer.BYTES));
+    }
+  }
+
+  /**
+   * Copy the values into an array on the heap.
+   *
+   * @return an array of the values
+   * @throws IllegalStateException if the sequence has been closed
+   */
+  public int[] toArray() {
+    final int[] is = new int[length];
+    memory.duplicate(offset * Integer.BYTES).asIntBuffer().get(is);
+    return is;
+  }
+
+  /**
+   * Apply a function to every value, and collect the results into a List on the heap.
+   *
+   * @param f   the function to apply
+   * @param <A> the output type
+   * @return a List of the results, in order
+   * @throws IllegalStateException if the sequence has been closed, before or by f
+   */
+  public <A> List<A> mapToObj(final IntFunction<A> f) {
+    final ListBuilder<A> builder = new ListBuilder<>(length);
+    forEach(i -> builder.add(f.apply(i)));
+    return builder.build();
+  }
+
+  /**
+   * Copy the values into a List on the heap, boxing them.
+   *
+   * @return a List of the values, in order
+   * @throws IllegalStateException if the sequence has been closed
+   */
+  public List<Integer> toList() {
+    return mapToObj(Integer::valueOf);
+  }
+
+  /**
+   * Release the memory of this sequence, and of every sequence sliced from or sharing it.
+   */
+  @Override
+  public void close() {
+    memory.release();
+  }
+
+  /**
+   * Tests whether the memory of this sequence has been released.
+   *
+   * @return true if the sequence has been closed
+   */
+  public boolean isClosed() {
+    return memory.isReleased();
+  }
+
+  /**
+   * Show the length of the sequence, without reading its values.
+   *
+   * @return a String of the form IntSeq(length=...)
+   */
+  @Override
+  public String toString() {
+    return "IntSeq(length=" + length + ")";
+  }
+
+  /**
+   * Builds an IntSeq by appending values to off-heap memory, which grows as needed.
+   *
+   * <p>A Builder builds a single IntSeq: build hands its memory over to the IntSeq, and the
+   * Builder can not be used afterwards.
+   */
+  public static final class Builder {
+    /**
+     * The number of values a Builder has room for if no capacity is given.
+     */
+    static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The largest number of values an IntSeq can hold.
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / Integer.BYTES;
+
+    /**
+     * The memory holding the values, or null once the IntSeq has been built.
+     */
+    private Memory memory;
+
+    /**
+     * The number of values added.
+     */
+    private int length;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the number of values to make room for
+     */
+    private Builder(final int capacity) {
+      this.memory = Memory.allocate(Math.max(capacity, 0), Integer.BYTES);
+    }
+
+    /**
+     * Make room for a number of values, moving them to larger memory if there is not enough.
+     *
+     * @param needed the number of values
+     * @return the memory
+     * @throws IllegalStateException    if the IntSeq has already been built
+     * @throws IllegalArgumentException if more values are needed than an IntSeq can hold
+     */
+    private Memory ensure(final long needed) {
+      if (memory == null) {
+        throw new IllegalStateException("the IntSeq has already been built");
+      }
+
+      final int capacity = memory.capacity() / Integer.BYTES;
+
+      if (needed > capacity) {
+        if (needed > MAX_CAPACITY) {
+          throw new IllegalArgumentException(needed + " values are more than an IntSeq can hold");
+        }
+
+        final Memory larger = Memory.allocate((int) Math.min(Math.max(needed, 2L * capacity), MAX_CAPACITY),
+            Integer.BYTES);
+        final ByteBuffer values = memory.duplicate(0);
+        values.limit(length * Integer.BYTES);
+        larger.duplicate(0).put(values);
+        memory.release();
+        memory = larger;
+      }
+
+      return memory;
+    }
+
+    /**
+     * Append a value.
+     *
+     * @param i the value
+     * @return this Builder
+     * @throws IllegalStateException if the IntSeq has already been built
+     */
+    public Builder add(final int i) {
+      ensure(length + 1L).buffer().putInt(length * Integer.BYTES, i);
+      length++;
+      return this;
+    }
+
+    /**
+     * Append some values.
+     *
+     * @param is the values
+     * @return this Builder
+     * @throws IllegalStateException if the IntSeq has already been built
+     */
+    public Builder addAll(final int... is) {
+      ensure(length + (long) is.length).duplicate(length * Integer.BYTES).asIntBuffer().put(is);
+      length += is.length;
+      return this;
+    }
+
+    /**
+     * Build an IntSeq of the values appended, handing over the memory holding them.
+     *
+     * @return an IntSeq of the values
+     * @throws IllegalStateException if the IntSeq has already been built
+     */
+    public IntSeq build() {
+      final IntSeq seq = new IntSeq(ensure(0), 0, length);
+      memory = null;
+      return seq;
+    }
+  }
+}
@@ -0,0 +1,340 @@
+package ca.genovese.coffeecats.data.offheap;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+
+import java.nio.ByteBuffer;
+import java.util.function.LongBinaryOperator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * An immutable, indexed sequence of longs stored outside the Java heap, in a direct ByteBuffer.
+ *
+ * <p>The garbage collector neither copies nor scans the values, so a large LongSeq adds
+ * nothing to the time it spends marking and compacting. The memory is released by close,
+ * after which the LongSeq, and every slice sharing its memory, throws IllegalStateException
+ * when read. A sequence must not be closed while another thread is reading it. Memory which
+ * is never closed is freed when the garbage collector collects the sequence.
+ *
+ * <p>A LongSeq is built with a Builder, which writes the values straight into off-heap
+ * memory, and is read with get, foldLeft and forEach without boxing. mapToObj and toList
+ * copy the values into a List on the heap, which can then be used with the List instances.
+ */
+public final class LongSeq implements AutoCloseable {
+  /**
+   * The memory holding the values.
+   */
+  private final Memory memory;
+
+  /**
+   * The index in memory of the first value of this sequence.
+   */
+  private final int offset;
+
+  /**
+   * The number of values in this sequence.
+   */
+  private final int length;
+
+  /**
+   * Constructor.
+   *
+   * @param memory the memory holding the values
+   * @param offset the index in memory of the first value
+   * @param length the number of values
+   */
+  private LongSeq(final Memory memory, final int offset, final int length) {
+    this.memory = memory;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Create a LongSeq holding a copy of some longs.
+   *
+   * @param ls the longs
+   * @return a LongSeq of the longs
+   */
+  public static LongSeq of(final long... ls) {
+    return new Builder(ls.length).addAll(ls).build();
+  }
+
+  /**
+   * Create a Builder.
+   *
+   * @return an empty Builder
+   */
+  public static Builder builder() {
+    return new Builder(Builder.DEFAULT_CAPACITY);
+  }
+
+  /**
+   * Create a Builder with room for a number of values before it has to grow.
+   *
+   * @param capacity the number of values
+   * @return an empty Builder
+   */
+  public static Builder builder(final int capacity) {
+    return new Builder(capacity);
+  }
+
+  /**
+   * The number of values in the sequence.
+   *
+   * @return the number of values
+   */
+  public int length() {
+    return length;
+  }
+
+  /**
+   * Tests whether the sequence is empty.
+   *
+   * @return true if the sequence has no values
+   */
+  public boolean isEmpty() {
+    return length == 0;
+  }
+
+  /**
+   * The value at an index.
+   *
+   * @param i the index
+   * @return the value at i
+   * @throws IndexOutOfBoundsException if i is not between 0 and length() - 1
+   * @throws IllegalStateException     if the sequence has been closed
+   */
+  public long get(final int i) {
+    if (i < 0 || i >= length) {
+      throw new IndexOutOfBoundsException("index " + i + " of a LongSeq of length " + length);
+    }
+
+    return memory.buffer().getLong((offset + i) * Long.BYTES);
+  }
+
+  /**
+   * The values from one index to another, sharing the memory of this sequence.
+   *
+   * @param from the index of the first value, inclusive
+   * @param to   the index of the last value, exclusive
+   * @return a view of the values from from to to
+   * @throws IndexOutOfBoundsException if the indices are not 0 &lt;= from &lt;= to &lt;= length()
+   */
+  public LongSeq slice(final int from, final int to) {
+    if (from < 0 || from > to || to > length) {
+      throw new IndexOutOfBoundsException("slice " + from + " to " + to + " of a LongSeq of length " + length);
+    }
+
+    return new LongSeq(memory, offset + from, to - from);
+  }
+
+  /**
+   * Combine the values from left to right, without boxing them.
+   *
+   * <p>The sequence may be closed by f, in which case foldLeft throws before reading another value.
+   *
+   * @param z the starting value
+   * @param f the function combining the result so far with the next value
+   * @return the result of combining every value
+   * @throws IllegalStateException if the sequence has been closed, before or by f
+   */
+  public long foldLeft(final long z, final LongBinaryOperator f) {
+    final ByteBuffer buffer = memory.buffer();
+    long result = z;
+
+    for (int i = offset; i < offset + length; i++) {
+      memory.check();
+      result = f.applyAsLong(result, buffer.getLong(i * Long.BYTES));
+    }
+
+    return result;
+  }
+
+  /**
+   * Pass every value to a consumer, in order, without boxing them.
+   *
+   * <p>The sequence may be closed by f, in which case forEach throws before reading another value.
+   *
+   * @param f the consumer
+   * @throws IllegalStateException if the sequence has been closed, before or by f
+   */
+  public void forEach(final LongConsumer f) {
+    final ByteBuffer buffer = memory.buffer();
+
+    for (int i = offset; i < offset + length; i++) {
+      memory.check();
+      f.accept(buffer.getLong(i * Long.BYTES));
+    }
+  }
+
+  /**
+   * Copy the values into an array on the heap.
+   *
+   * @return an array of the values
+   * @throws IllegalStateException if the sequence has been closed
+   */
+  public long[] toArray() {
+    final long[] ls = new long[length];
+    memory.duplicate(offset * Long.BYTES).asLongBuffer().get(ls);
+    return ls;
+  }
+
+  /**
+   * Apply a function to every value, and collect the results into a List on the heap.
+   *
+   * @param f   the function to apply
+   * @param <A> the output type
+   * @return a List of the results, in order
+   * @throws IllegalStateException if the sequence has been closed, before or by f
+   */
+  public <A> List<A> mapToObj(final LongFunction<A> f) {
+    final ListBuilder<A> builder = new ListBuilder<>(length);
+    forEach(l -> builder.add(f.apply(l)));
+    return builder.build();
+  }
+
+  /**
+   * Copy the values into a List on the heap, boxing them.
+   *
+   * @return a List of the values, in order
+   * @throws IllegalStateException if the sequence has been closed
+   */
+  public List<Long> toList() {
+    return mapToObj(Long::valueOf);
+  }
+
+  /**
+   * Release the memory of this sequence, and of every sequence sliced from or sharing it.
+   */
+  @Override
+  public void close() {
+    memory.release();
+  }
+
+  /**
+   * Tests whether the memory of this sequence has been released.
+   *
+   * @return true if the sequence has been closed
+   */
+  public boolean isClosed() {
+    return memory.isReleased();
+  }
+
+  /**
+   * Show the length of the sequence, without reading its values.
+   *
+   * @return a String of the form LongSeq(length=...)
+   */
+  @Override
+  public String toString() {
+    return "LongSeq(length=" + length + ")";
+  }
+
+  /**
+   * Builds a LongSeq by appending values to off-heap memory, which grows as needed.
+   *
+   * <p>A Builder builds a single LongSeq: build hands its memory over to the LongSeq, and the
+   * Builder can not be used afterwards.
+   */
+  public static final class Builder {
+    /**
+     * The number of values a Builder has room for if no capacity is given.
+     */
+    static final int DEFAULT_CAPACITY = 1024;
+
+    /**
+     * The largest number of values a LongSeq can hold.
+     */
+    private static final int MAX_CAPACITY = Integer.MAX_VALUE / Long.BYTES;
+
+    /**
+     * The memory holding the values, or null once the LongSeq has been built.
+     */
+    private Memory memory;
+
+    /**
+     * The number of values added.
+     */
+    private int length;
+
+    /**
+     * Constructor.
+     *
+     * @param capacity the number of values to make room for
+     */
+    private Builder(final int capacity) {
+      this.memory = Memory.allocate(Math.max(capacity, 0), Long.BYTES);
+    }
+
+    /**
+     * Make room for a number of values, moving them to larger memory if there is not enough.
+     *
+     * @param needed the number of values
+     * @return the memory
+     * @throws IllegalStateException    if the LongSeq has already been built
+     * @throws IllegalArgumentException if more values are needed than a LongSeq can hold
+     */
+    private Memory ensure(final long needed) {
+      if (memory == null) {
+        throw new IllegalStateException("the LongSeq has already been built");
+      }
+
+      final int capacity = memory.capacity() / Long.BYTES;
+
+      if (needed > capacity) {
+        if (needed > MAX_CAPACITY) {
+          throw new IllegalArgumentException(needed + " values are more than a LongSeq can hold");
+        }
+
+        final Memory larger = Memory.allocate((int) Math.min(Math.max(needed, 2L * capacity), MAX_CAPACITY),
+            Long.BYTES);
+        final ByteBuffer values = memory.duplicate(0);
+        values.limit(length * Long.BYTES);
+        larger.duplicate(0).put(values);
+        memory.release();
+        memory = larger;
+      }
+
+      return memory;
+    }
+
+    /**
+     * Append a value.
+     *
+     * @param l the value
+     * @return this Builder
+     * @throws IllegalStateException if the LongSeq has already been built
+     */
+    public Builder add(final long l) {
+      ensure(length + 1L).buffer().putLong(length * Long.BYTES, l);
+      length++;
+      return this;
+    }
+
+    /**
+     * Append some values.
+     *
+     * @param ls the values
+     * @return this Builder
+     * @throws IllegalStateException if the LongSeq has already been built
+     */
+    public Builder addAll(final long... ls) {
+      ensure(length + (long) ls.length).duplicate(length * Long.BYTES).asLongBuffer().put(ls);
+      length += ls.length;
+      return this;
+    }
+
+    /**
+     * Build a LongSeq of the values appended, handing over the memory holding them.
+     *
+     * @return a LongSeq of the values
+     * @throws IllegalStateException if the LongSeq has already been built
+     */
+    public LongSeq build() {
+      final LongSeq seq = new LongSeq(ensure(0), 0, length);
+      memory = null;
+      return seq;
+    }
+  }
+}
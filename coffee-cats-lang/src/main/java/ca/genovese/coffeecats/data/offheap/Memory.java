@@ -0,0 +1,150 @@
+package ca.genovese.coffeecats.data.offheap;
+
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A block of memory outside the Java heap, held in a direct ByteBuffer, which can be
+ * released before the buffer is garbage collected.
+ *
+ * <p>Releasing frees the memory through the buffer's cleaner where the JVM allows it. Where
+ * it does not, the buffer is dropped, and the memory is freed when the garbage collector
+ * collects it. Either way, the memory can not be read once it has been released.
+ */
+final class Memory {
+  /**
+   * The cleaner method of direct buffers, or null if the JVM does not allow it to be called.
+   */
+  private static final Method CLEANER;
+
+  /**
+   * The clean method of cleaners, or null if the JVM does not allow it to be called.
+   */
+  private static final Method CLEAN;
+
+  static {
+    Method cleaner = null;
+    Method clean = null;
+
+    try {
+      cleaner = ByteBuffer.allocateDirect(1).getClass().getMethod("cleaner");
+      cleaner.setAccessible(true);
+      clean = cleaner.getReturnType().getMethod("clean");
+      clean.setAccessible(true);
+    } catch (final ReflectiveOperationException | RuntimeException e) {
+      cleaner = null;
+      clean = null;
+    }
+
+    CLEANER = cleaner;
+    CLEAN = clean;
+  }
+
+  /**
+   * The buffer holding the memory, or null once it has been released.
+   */
+  private volatile ByteBuffer buffer;
+
+  /**
+   * Constructor.
+   *
+   * @param buffer the buffer holding the memory
+   */
+  private Memory(final ByteBuffer buffer) {
+    this.buffer = buffer;
+  }
+
+  /**
+   * Allocate a block of memory, in the native byte order.
+   *
+   * @param count the number of values the memory holds
+   * @param width the number of bytes in each value
+   * @return the memory
+   * @throws IllegalArgumentException if the memory would be larger than a ByteBuffer can be
+   */
+  static Memory allocate(final int count, final int width) {
+    if ((long) count * width > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException(count + " values of " + width + " bytes do not fit in a ByteBuffer");
+    }
+
+    return new Memory(ByteBuffer.allocateDirect(count * width).order(ByteOrder.nativeOrder()));
+  }
+
+  /**
+   * The buffer holding the memory.
+   *
+   * @return the buffer
+   * @throws IllegalStateException if the memory has been released
+   */
+  ByteBuffer buffer() {
+    final ByteBuffer b = buffer;
+
+    if (b == null) {
+      throw new IllegalStateException("the memory has been released");
+    }
+
+    return b;
+  }
+
+  /**
+   * A duplicate of the buffer, in the same byte order, positioned at a byte.
+   *
+   * @param position the position
+   * @return the duplicate
+   * @throws IllegalStateException if the memory has been released
+   */
+  ByteBuffer duplicate(final int position) {
+    final ByteBuffer b = buffer();
+    final ByteBuffer duplicate = b.duplicate().order(b.order());
+    duplicate.position(position);
+    return duplicate;
+  }
+
+  /**
+   * The number of bytes of memory.
+   *
+   * @return the capacity of the buffer
+   * @throws IllegalStateException if the memory has been released
+   */
+  int capacity() {
+    return buffer().capacity();
+  }
+
+  /**
+   * Check that the memory has not been released, such as by a callback which closed its
+   * sequence while it was being read.
+   *
+   * @throws IllegalStateException if the memory has been released
+   */
+  void check() {
+    if (buffer == null) {
+      throw new IllegalStateException("the memory has been released");
+    }
+  }
+
+  /**
+   * Tests whether the memory has been released.
+   *
+   * @return true if the memory has been released
+   */
+  boolean isReleased() {
+    return buffer == null;
+  }
+
+  /**
+   * Release the memory, if it has not been already.
+   */
+  void release() {
+    final ByteBuffer b = buffer;
+    buffer = null;
+
+    if (b != null && CLEAN != null) {
+      try {
+        CLEAN.invoke(CLEANER.invoke(b));
+      } catch (final ReflectiveOperationException e) {
+        // The memory is freed when the buffer is garbage collected instead.
+      }
+    }
+  }
+}
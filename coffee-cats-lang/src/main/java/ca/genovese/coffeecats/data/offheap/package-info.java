@@ -0,0 +1,5 @@
+/**
+ * Immutable sequences of ints, longs and doubles stored outside the Java heap, in direct
+ * ByteBuffers, with explicit lifetimes.
+ */
+package ca.genovese.coffeecats.data.offheap;
@@ -1,18 +1,27 @@
 package ca.genovese.coffeecats.data.option;
 
+import ca.genovese.coffeecats.data.tuple.Tuple2;
 import ca.genovese.coffeecats.kind.Kind;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 
 import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Represents optional values.
  *
  * <p>Instances of Option are either an instance of Some or the singleton object None.
  * The most idiomatic way to use an Option instance is to treat it as a collection
- * or monad and use map,flatMap, filter, or foreach:
+ * or monad and use map, flatMap, filter, or foreach.
+ *
+ * <p>None is a singleton, so none of the operations allocate on a None. Operations which
+ * can return their receiver unchanged do so rather than building an equal Option.
  *
  * @param <A> The type of the item in the option
  */
@@ -59,6 +68,17 @@ public abstract class Option<A> implements Kind<Option, A>, Iterable<A> {
     return (None<A>) None.NONE;
   }
 
+  /**
+   * An Option factory which creates Some(x) from a present Optional, and None from an empty one.
+   *
+   * @param optional The Optional to make an Option from
+   * @param <A>      The type of the item in the Optional
+   * @return None if the Optional is empty, Some(x) otherwise
+   */
+  public static <A> Option<A> fromOptional(final Optional<A> optional) {
+    return optional.isPresent() ? some(optional.get()) : none();
+  }
+
   /**
    * isDefined returns true if the Option is a Some, false if it is a None.
    *
@@ -86,6 +106,105 @@ public abstract class Option<A> implements Kind<Option, A>, Iterable<A> {
     return isDefined() ? get() : a;
   }
 
+  /**
+   * Returns this Option if it is a Some, or the provided alternative in the case of a None.
+   *
+   * @param other the alternative to return in the case of a None
+   * @return this Option if it is a Some, otherwise other
+   */
+  public Option<A> orElse(final Option<A> other) {
+    return isDefined() ? this : other;
+  }
+
+  /**
+   * Apply a function to the value contained in the Option.
+   *
+   * <p>If the function returns the very value it was given, this Option is returned
+   * rather than a new Some.
+   *
+   * @param f   the function to apply
+   * @param <B> the type returned by the function
+   * @return None if this is None, otherwise Some of the result of the function
+   */
+  @SuppressWarnings("unchecked")
+  public <B> Option<B> map(final Function<A, B> f) {
+    if (!isDefined()) {
+      return none();
+    }
+
+    final A a = get();
+    final B b = f.apply(a);
+    return b == a ? (Option<B>) this : some(b);
+  }
+
+  /**
+   * Apply an Option returning function to the value contained in the Option.
+   *
+   * @param f   the function to apply
+   * @param <B> the type of the value in the Option returned by the function
+   * @return None if this is None, otherwise the result of the function
+   */
+  public <B> Option<B> flatMap(final Function<A, Option<B>> f) {
+    return isDefined() ? f.apply(get()) : none();
+  }
+
+  /**
+   * Keep the value contained in the Option only if it satisfies a predicate.
+   *
+   * @param p the predicate to test the value with
+   * @return this Option if it is a Some whose value satisfies p, otherwise None
+   */
+  public Option<A> filter(final Predicate<A> p) {
+    return isDefined() && p.test(get()) ? this : none();
+  }
+
+  /**
+   * Reduce the Option to a single value, using a function in the case of a Some,
+   * or a supplier in the case of a None.
+   *
+   * @param ifEmpty the supplier of the result in the case of a None
+   * @param f       the function to apply to the value in the case of a Some
+   * @param <B>     the type of the result
+   * @return f applied to the value if this is a Some, otherwise the result of ifEmpty
+   */
+  public <B> B fold(final Supplier<B> ifEmpty, final Function<A, B> f) {
+    return isDefined() ? f.apply(get()) : ifEmpty.get();
+  }
+
+  /**
+   * Pair the value contained in this Option with the value contained in another.
+   *
+   * @param other the other Option
+   * @param <B>   the type of the value in the other Option
+   * @return Some of both values if both Options are a Some, otherwise None
+   */
+  public <B> Option<Tuple2<A, B>> zip(final Option<B> other) {
+    return isDefined() && other.isDefined() ? some(new Tuple2<>(get(), other.get())) : none();
+  }
+
+  /**
+   * Apply a side effecting function to the value contained in the Option, if there is one.
+   *
+   * @param f the function to apply
+   */
+  public void foreach(final Consumer<A> f) {
+    if (isDefined()) {
+      f.accept(get());
+    }
+  }
+
+  /**
+   * Convert the Option to a java.util.Optional.
+   *
+   * <p>Optional can not hold null, so Some(null) becomes an empty Optional, as it would
+   * with Optional.ofNullable.
+   *
+   * @return an Optional of the value in a Some, or an empty Optional for a None
+   */
+  public Optional<A> asOptional() {
+    return isDefined() ? Optional.ofNullable(get()) : Optional.empty();
+  }
+
   /**
    * An Iterator which treats this Option as a collection of up to one element.
    *
@@ -101,7 +220,7 @@ public abstract class Option<A> implements Kind<Option, A>, Iterable<A> {
    * @param <A> The type of value in the Option
    */
   @ToString
-  @EqualsAndHashCode
+  @EqualsAndHashCode(callSuper = false)
   private final static class None<A> extends Option<A> {
     /**
      * The singleton instance.
@@ -142,7 +261,7 @@ public abstract class Option<A> implements Kind<Option, A>, Iterable<A> {
    * @param <A> The type of the contained value
    */
   @ToString
-  @EqualsAndHashCode
+  @EqualsAndHashCode(callSuper = false)
   private static final class Some<A> extends Option<A> {
     /**
      * The contained value.
@@ -0,0 +1,148 @@
+package ca.genovese.coffeecats.data.option;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.NoSuchElementException;
+import java.util.function.DoubleFunction;
+import java.util.function.DoublePredicate;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * Represents optional double values, without boxing.
+ *
+ * <p>An OptionDouble is a single flat object holding a presence flag and the value, rather than
+ * a Some holding a Double, and the empty OptionDouble is a singleton. The operations take
+ * primitive functions, so a chain of maps, flatMaps and filters over OptionDoubles which do
+ * not escape allocates nothing once the JIT's escape analysis has removed the intermediate
+ * OptionDoubles.
+ */
+@ToString
+@EqualsAndHashCode
+public final class OptionDouble {
+  /**
+   * The singleton empty OptionDouble.
+   */
+  private static final OptionDouble NONE = new OptionDouble(false, 0);
+
+  /**
+   * Whether the value is present.
+   */
+  private final boolean defined;
+
+  /**
+   * The value, or 0 if it is not present.
+   */
+  private final double value;
+
+  /**
+   * Constructor.
+   *
+   * @param defined Whether the value is present
+   * @param value   The value, or 0 if it is not present
+   */
+  private OptionDouble(final boolean defined, final double value) {
+    this.defined = defined;
+    this.value = value;
+  }
+
+  /**
+   * An OptionDouble factory which creates a present value.
+   *
+   * @param value the value
+   * @return an OptionDouble holding the value
+   */
+  public static OptionDouble some(final double value) {
+    return new OptionDouble(true, value);
+  }
+
+  /**
+   * An OptionDouble factory which returns the empty OptionDouble.
+   *
+   * @return the empty OptionDouble
+   */
+  public static OptionDouble none() {
+    return NONE;
+  }
+
+  /**
+   * Convert an Option of a Double to an OptionDouble, treating Some(null) as empty.
+   *
+   * @param option the Option to convert
+   * @return an OptionDouble holding the unboxed value of option, or the empty OptionDouble
+   */
+  public static OptionDouble fromOption(final Option<Double> option) {
+    return option.isDefined() && option.get() != null ? some(option.get()) : NONE;
+  }
+
+  /**
+   * Convert this OptionDouble to an Option of a Double.
+   *
+   * @return Some of the boxed value, or None
+   */
+  public Option<Double> toOption() {
+    return defined ? Option.some(value) : Option.none();
+  }
+
+  /**
+   * isDefined returns true if the value is present.
+   *
+   * @return true if the value is present, false otherwise
+   */
+  public boolean isDefined() {
+    return defined;
+  }
+
+  /**
+   * Returns the value, or throws a NoSuchElementException if it is not present.
+   *
+   * @return the value
+   */
+  public double get() {
+    if (!defined) {
+      throw new NoSuchElementException("get() called on an empty OptionDouble");
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns the value if it is present, or the provided default value if it is not.
+   *
+   * @param other the default value
+   * @return the value if it is present, otherwise other
+   */
+  public double getOrElse(final double other) {
+    return defined ? value : other;
+  }
+
+  /**
+   * Apply a function to the value, if it is present.
+   *
+   * @param f the function
+   * @return an OptionDouble holding f applied to the value, or the empty OptionDouble
+   */
+  public OptionDouble map(final DoubleUnaryOperator f) {
+    return defined ? some(f.applyAsDouble(value)) : NONE;
+  }
+
+  /**
+   * Apply a function returning an OptionDouble to the value, if it is present.
+   *
+   * @param f the function
+   * @return the result of f applied to the value, or the empty OptionDouble
+   */
+  public OptionDouble flatMap(final DoubleFunction<OptionDouble> f) {
+    return defined ? f.apply(value) : NONE;
+  }
+
+  /**
+   * Keep the value only if it satisfies a predicate.
+   *
+   * @param p the predicate
+   * @return this OptionDouble if the value is present and satisfies p, otherwise the empty OptionDouble
+   */
+  public OptionDouble filter(final DoublePredicate p) {
+    return defined && p.test(value) ? this : NONE;
+  }
+}
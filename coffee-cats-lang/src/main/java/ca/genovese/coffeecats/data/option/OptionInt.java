@@ -0,0 +1,148 @@
+package ca.genovese.coffeecats.data.option;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
+import java.util.function.IntPredicate;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * Represents optional int values, without boxing.
+ *
+ * <p>An OptionInt is a single flat object holding a presence flag and the value, rather than
+ * a Some holding an Integer, and the empty OptionInt is a singleton. The operations take
+ * primitive functions, so a chain of maps, flatMaps and filters over OptionInts which do
+ * not escape allocates nothing once the JIT's escape analysis has removed the intermediate
+ * OptionInts.
+ */
+@ToString
+@EqualsAndHashCode
+public final class OptionInt {
+  /**
+   * The singleton empty OptionInt.
+   */
+  private static final OptionInt NONE = new OptionInt(false, 0);
+
+  /**
+   * Whether the value is present.
+   */
+  private final boolean defined;
+
+  /**
+   * The value, or 0 if it is not present.
+   */
+  private final int value;
+
+  /**
+   * Constructor.
+   *
+   * @param defined Whether the value is present
+   * @param value   The value, or 0 if it is not present
+   */
+  private OptionInt(final boolean defined, final int value) {
+    this.defined = defined;
+    this.value = value;
+  }
+
+  /**
+   * An OptionInt factory which creates a present value.
+   *
+   * @param value the value
+   * @return an OptionInt holding the value
+   */
+  public static OptionInt some(final int value) {
+    return new OptionInt(true, value);
+  }
+
+  /**
+   * An OptionInt factory which returns the empty OptionInt.
+   *
+   * @return the empty OptionInt
+   */
+  public static OptionInt none() {
+    return NONE;
+  }
+
+  /**
+   * Convert an Option of an Integer to an OptionInt, treating Some(null) as empty.
+   *
+   * @param option the Option to convert
+   * @return an OptionInt holding the unboxed value of option, or the empty OptionInt
+   */
+  public static OptionInt fromOption(final Option<Integer> option) {
+    return option.isDefined() && option.get() != null ? some(option.get()) : NONE;
+  }
+
+  /**
+   * Convert this OptionInt to an Option of an Integer.
+   *
+   * @return Some of the boxed value, or None
+   */
+  public Option<Integer> toOption() {
+    return defined ? Option.some(value) : Option.none();
+  }
+
+  /**
+   * isDefined returns true if the value is present.
+   *
+   * @return true if the value is present, false otherwise
+   */
+  public boolean isDefined() {
+    return defined;
+  }
+
+  /**
+   * Returns the value, or throws a NoSuchElementException if it is not present.
+   *
+   * @return the value
+   */
+  public int get() {
+    if (!defined) {
+      throw new NoSuchElementException("get() called on an empty OptionInt");
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns the value if it is present, or the provided default value if it is not.
+   *
+   * @param other the default value
+   * @return the value if it is present, otherwise other
+   */
+  public int getOrElse(final int other) {
+    return defined ? value : other;
+  }
+
+  /**
+   * Apply a function to the value, if it is present.
+   *
+   * @param f the function
+   * @return an OptionInt holding f applied to the value, or the empty OptionInt
+   */
+  public OptionInt map(final IntUnaryOperator f) {
+    return defined ? some(f.applyAsInt(value)) : NONE;
+  }
+
+  /**
+   * Apply a function returning an OptionInt to the value, if it is present.
+   *
+   * @param f the function
+   * @return the result of f applied to the value, or the empty OptionInt
+   */
+  public OptionInt flatMap(final IntFunction<OptionInt> f) {
+    return defined ? f.apply(value) : NONE;
+  }
+
+  /**
+   * Keep the value only if it satisfies a predicate.
+   *
+   * @param p the predicate
+   * @return this OptionInt if the value is present and satisfies p, otherwise the empty OptionInt
+   */
+  public OptionInt filter(final IntPredicate p) {
+    return defined && p.test(value) ? this : NONE;
+  }
+}
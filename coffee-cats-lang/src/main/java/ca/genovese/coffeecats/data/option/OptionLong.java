@@ -0,0 +1,148 @@
+package ca.genovese.coffeecats.data.option;
+
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
+
+import java.util.NoSuchElementException;
+import java.util.function.LongFunction;
+import java.util.function.LongPredicate;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Represents optional long values, without boxing.
+ *
+ * <p>An OptionLong is a single flat object holding a presence flag and the value, rather than
+ * a Some holding a Long, and the empty OptionLong is a singleton. The operations take
+ * primitive functions, so a chain of maps, flatMaps and filters over OptionLongs which do
+ * not escape allocates nothing once the JIT's escape analysis has removed the intermediate
+ * OptionLongs.
+ */
+@ToString
+@EqualsAndHashCode
+public final class OptionLong {
+  /**
+   * The singleton empty OptionLong.
+   */
+  private static final OptionLong NONE = new OptionLong(false, 0);
+
+  /**
+   * Whether the value is present.
+   */
+  private final boolean defined;
+
+  /**
+   * The value, or 0 if it is not present.
+   */
+  private final long value;
+
+  /**
+   * Constructor.
+   *
+   * @param defined Whether the value is present
+   * @param value   The value, or 0 if it is not present
+   */
+  private OptionLong(final boolean defined, final long value) {
+    this.defined = defined;
+    this.value = value;
+  }
+
+  /**
+   * An OptionLong factory which creates a present value.
+   *
+   * @param value the value
+   * @return an OptionLong holding the value
+   */
+  public static OptionLong some(final long value) {
+    return new OptionLong(true, value);
+  }
+
+  /**
+   * An OptionLong factory which returns the empty OptionLong.
+   *
+   * @return the empty OptionLong
+   */
+  public static OptionLong none() {
+    return NONE;
+  }
+
+  /**
+   * Convert an Option of a Long to an OptionLong, treating Some(null) as empty.
+   *
+   * @param option the Option to convert
+   * @return an OptionLong holding the unboxed value of option, or the empty OptionLong
+   */
+  public static OptionLong fromOption(final Option<Long> option) {
+    return option.isDefined() && option.get() != null ? some(option.get()) : NONE;
+  }
+
+  /**
+   * Convert this OptionLong to an Option of a Long.
+   *
+   * @return Some of the boxed value, or None
+   */
+  public Option<Long> toOption() {
+    return defined ? Option.some(value) : Option.none();
+  }
+
+  /**
+   * isDefined returns true if the value is present.
+   *
+   * @return true if the value is present, false otherwise
+   */
+  public boolean isDefined() {
+    return defined;
+  }
+
+  /**
+   * Returns the value, or throws a NoSuchElementException if it is not present.
+   *
+   * @return the value
+   */
+  public long get() {
+    if (!defined) {
+      throw new NoSuchElementException("get() called on an empty OptionLong");
+    }
+
+    return value;
+  }
+
+  /**
+   * Returns the value if it is present, or the provided default value if it is not.
+   *
+   * @param other the default value
+   * @return the value if it is present, otherwise other
+   */
+  public long getOrElse(final long other) {
+    return defined ? value : other;
+  }
+
+  /**
+   * Apply a function to the value, if it is present.
+   *
+   * @param f the function
+   * @return an OptionLong holding f applied to the value, or the empty OptionLong
+   */
+  public OptionLong map(final LongUnaryOperator f) {
+    return defined ? some(f.applyAsLong(value)) : NONE;
+  }
+
+  /**
+   * Apply a function returning an OptionLong to the value, if it is present.
+   *
+   * @param f the function
+   * @return the result of f applied to the value, or the empty OptionLong
+   */
+  public OptionLong flatMap(final LongFunction<OptionLong> f) {
+    return defined ? f.apply(value) : NONE;
+  }
+
+  /**
+   * Keep the value only if it satisfies a predicate.
+   *
+   * @param p the predicate
+   * @return this OptionLong if the value is present and satisfies p, otherwise the empty OptionLong
+   */
+  public OptionLong filter(final LongPredicate p) {
+    return defined && p.test(value) ? this : NONE;
+  }
+}
@@ -0,0 +1,121 @@
+package ca.genovese.coffeecats.data.tuple;
+
+import java.util.Objects;
+
+/**
+ * A pair of an object and a double, holding the double unboxed.
+ *
+ * <p>A pair is a single object, where a Tuple2 of boxed values is three, and its hash code is
+ * computed the first time it is asked for and then cached, rather than every time.
+ *
+ * @param <A> The type of the first element
+ */
+public final class ObjDoublePair<A> {
+  /**
+   * The multiplier used to combine the hash codes of the elements.
+   */
+  private static final int PRIME = 59;
+
+  /**
+   * The first element.
+   */
+  private final A a;
+
+  /**
+   * The second element.
+   */
+  private final double b;
+
+  /**
+   * The hash code, or 0 until it is first asked for.
+   */
+  private int hash;
+
+  /**
+   * Construct a pair.
+   *
+   * @param a The first element in the pair
+   * @param b The second element in the pair
+   */
+  public ObjDoublePair(final A a, final double b) {
+    this.a = a;
+    this.b = b;
+  }
+
+  /**
+   * Get the first element in the pair.
+   *
+   * @return the first element in the pair
+   */
+  public A getA() {
+    return a;
+  }
+
+  /**
+   * Get the second element in the pair.
+   *
+   * @return the second element in the pair
+   */
+  public double getB() {
+    return b;
+  }
+
+  /**
+   * Convert the pair to a Tuple2, boxing the primitive element.
+   *
+   * @return a Tuple2 of the same elements
+   */
+  public Tuple2<A, Double> toTuple2() {
+    return new Tuple2<>(a, b);
+  }
+
+  /**
+   * Compare the pair to another object.
+   *
+   * @param o the object to compare to
+   * @return true if o is an ObjDoublePair with equal elements
+   */
+  @Override
+  public boolean equals(final Object o) {
+    if (o == this) {
+      return true;
+    } else if (!(o instanceof ObjDoublePair)) {
+      return false;
+    }
+
+    final ObjDoublePair<?> that = (ObjDoublePair<?>) o;
+    return Objects.equals(a, that.a) && Double.compare(b, that.b) == 0;
+  }
+
+  /**
+   * The hash code, computed on the first call and cached, as String does.
+   *
+   * <p>A hash which happens to be 0 is recomputed on every call.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    int cached = hash;
+
+    if (cached == 0) {
+      int result = 1;
+      result = result * PRIME + (a == null ? 43 : a.hashCode());
+      result = result * PRIME + (int) (Double.doubleToLongBits(b) >>> 32 ^ Double.doubleToLongBits(b));
+      cached = result;
+      hash = cached;
+    }
+
+    return cached;
+  }
+
+  /**
+   * Show the elements of the pair.
+   *
+   * @return a String of the form ObjDoublePair(a=..., b=...)
+   */
+  @Override
+  public String toString() {
+    return "ObjDoublePair(a=" + a + ", b=" + b + ")";
+  }
+}
@@ -0,0 +1,227 @@
+package ca.genovese.coffeecats.data.tuple;
+
+import ca.genovese.coffeecats.data.function.Function8;
+import lombok.ToString;
+
+import java.util.Objects;
+
+/**
+ * A tuple of 8 elements.
+ *
+ * <p>The hash code is computed the first time it is asked for and then cached.
+ *
+ * @param <A> The type of the first element
+ * @param <B> The type of the second element
+ * @param <C> The type of the third element
+ * @param <D> The type of the fourth element
+ * @param <E> The type of the fifth element
+ * @param <F> The type of the sixth element
+ * @param <G> The type of the seventh element
+ * @param <H> The type of the eighth element
+ */
+@ToString(exclude = "hash")
+public final class Tuple8<A, B, C, D, E, F, G, H> {
+  /**
+   * The multiplier used to combine the hash codes of the elements.
+   */
+  private static final int PRIME = 59;
+
+  /**
+   * The first element.
+   */
+  private final A a;
+
+  /**
+   * The second element.
+   */
+  private final B b;
+
+  /**
+   * The third element.
+   */
+  private final C c;
+
+  /**
+   * The fourth element.
+   */
+  private final D d;
+
+  /**
+   * The fifth element.
+   */
+  private final E e;
+
+  /**
+   * The sixth element.
+   */
+  private final F f;
+
+  /**
+   * The seventh element.
+   */
+  private final G g;
+
+  /**
+   * The eighth element.
+   */
+  private final H h;
+
+  /**
+   * The hash code, or 0 until it is first asked for.
+   */
+  private int hash;
+
+  /**
+   * Construct a tuple.
+   *
+   * @param a The first element in the Tuple
+   * @param b The second element in the Tuple
+   * @param c The third element in the Tuple
+   * @param d The fourth element in the Tuple
+   * @param e The fifth element in the Tuple
+   * @param f The sixth element in the Tuple
+   * @param g The seventh element in the Tuple
+   * @param h The eighth element in the Tuple
+   */
+  public Tuple8(final A a, final B b, final C c, final D d, final E e, final F f, final G g, final H h) {
+    this.a = a;
+    this.b = b;
+    this.c = c;
+    this.d = d;
+    this.e = e;
+    this.f = f;
+    this.g = g;
+    this.h = h;
+  }
+
+  /**
+   * Get the first element in the Tuple.
+   *
+   * @return the first element in the Tuple
+   */
+  public A getA() {
+    return a;
+  }
+
+  /**
+   * Get the second element in the Tuple.
+   *
+   * @return the second element in the Tuple
+   */
+  public B getB() {
+    return b;
+  }
+
+  /**
+   * Get the third element in the Tuple.
+   *
+   * @return the third element in the Tuple
+   */
+  public C getC() {
+    return c;
+  }
+
+  /**
+   * Get the fourth element in the Tuple.
+   *
+   * @return the fourth element in the Tuple
+   */
+  public D getD() {
+    return d;
+  }
+
+  /**
+   * Get the fifth element in the Tuple.
+   *
+   * @return the fifth element in the Tuple
+   */
+  public E getE() {
+    return e;
+  }
+
+  /**
+   * Get the sixth element in the Tuple.
+   *
+   * @return the sixth element in the Tuple
+   */
+  public F getF() {
+    return f;
+  }
+
+  /**
+   * Get the seventh element in the Tuple.
+   *
+   * @return the seventh element in the Tuple
+   */
+  public G getG() {
+    return g;
+  }
+
+  /**
+   * Get the eighth element in the Tuple.
+   *
+   * @return the eighth element in the Tuple
+   */
+  public H getH() {
+    return h;
+  }
+
+  /**
+   * Compare the tuple to another object.
+   *
+   * @param o the object to compare to
+   * @return true if o is a Tuple8 with equal elements
+   */
+  @Override
+  public boolean equals(final Object o) {
+    if (o == this) {
+      return true;
+    } else if (!(o instanceof Tuple8)) {
+      return false;
+    }
+
+    final Tuple8<?, ?, ?, ?, ?, ?, ?, ?> that = (Tuple8<?, ?, ?, ?, ?, ?, ?, ?>) o;
+    return Objects.equals(a, that.a) && Objects.equals(b, that.b) && Objects.equals(c, that.c)
+        && Objects.equals(d, that.d) && Objects.equals(e, that.e) && Objects.equals(f, that.f)
+        && Objects.equals(g, that.g) && Objects.equals(h, that.h);
+  }
+
+  /**
+   * The hash code, computed on the first call and cached, as String does.
+   *
+   * <p>A hash which happens to be 0 is recomputed on every call.
+   *
+   * @return the hash code
+   */
+  @Override
+  public int hashCode() {
+    int cached = hash;
+
+    if (cached == 0) {
+      int result = 1;
+      result = result * PRIME + (a == null ? 43 : a.hashCode());
+      result = result * PRIME + (b == null ? 43 : b.hashCode());
+      result = result * PRIME + (c == null ? 43 : c.hashCode());
+      result = result * PRIME + (d == null ? 43 : d.hashCode());
+      result = result * PRIME + (e == null ? 43 : e.hashCode());
+      result = result * PRIME + (f == null ? 43 : f.hashCode());
+      result = result * PRIME + (g == null ? 43 : g.hashCode());
+      result = result * PRIME + (h == null ? 43 : h.hashCode());
+      cached = result;
+      hash = cached;
+    }
+
+    return cached;
+  }
+
+  /**
+   * Apply a 8 argument function to the tuple.
+   *
+   * @param f the 8 argument function to apply with the tuple's elements as arguments.
+   * @param <R> the return type of the provided function
+   * @return the result of the function
+   */
+  public <R> R applyTo(final Function8<A, B, C, D, E, F, G, H, R> f) {
+    return f.apply(a, b, c, d, e, this.f, g, h);
+  }
+}
@@ -0,0 +1,74 @@
+package ca.genovese.coffeecats.data;
+
+import ca.genovese.coffeecats.data.column.Column;
+import ca.genovese.coffeecats.data.column.ColumnPair;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for Column and ColumnPair.
+ */
+public final class ColumnTest {
+
+  /**
+   * Test for Column.
+   */
+  @Test
+  @DisplayName("Column ")
+  public void testColumn() {
+    final Column<Integer> ints = Column.ofInts(1, 2, 3);
+
+    assertAll(
+        () -> assertEquals(3, ints.size(), "size should be the number of values"),
+        () -> assertEquals(2, ints.getInt(1), "getInt should return the value"),
+        () -> assertEquals(Column.of(1, 2, 3), ints, "a column of ints should equal a column of the boxed ints"),
+        () -> assertEquals(Column.of(1, 2, 3).hashCode(), ints.hashCode(), "equal columns should have equal hashes"),
+        () -> assertEquals(List.of(1, 2, 3).hashCode(), ints.hashCode(), "the hash should match a List's"),
+        () -> assertEquals(Column.ofLongs(2L, 4L, 6L), ints.mapToLong(i -> i * 2L), "mapToLong should apply"),
+        () -> assertEquals(Column.of("1", "2", "3"), ints.map(Object::toString), "map should apply"),
+        () -> assertEquals(0.5, Column.ofDoubles(0.5).getDouble(0), 0.0),
+        () -> assertEquals(List.of(1, 2, 3), ints.toList(), "toList should keep the order"),
+        () -> assertEquals(ints, Column.fromList(List.of(1, 2, 3)), "fromList should keep the order"),
+        () -> assertEquals("Column(1, 2, 3)", ints.toString(), "toString should show the values"),
+        () -> assertEquals(ints, Stream.of(1, 2, 3).collect(Column.collector()), "collector should keep the order")
+    );
+  }
+
+  /**
+   * Test for ColumnPair.
+   */
+  @Test
+  @DisplayName("ColumnPair ")
+  public void testColumnPair() {
+    final Column<String> names = Column.of("a", "b");
+    final Column<Integer> ages = Column.ofInts(30, 40);
+    final ColumnPair<String, Integer> pair = ColumnPair.zip(names, ages);
+
+    assertAll(
+        () -> assertSame(names, pair.first(), "first should share the column"),
+        () -> assertSame(ages, pair.unzip().getB(), "unzip should share the columns"),
+        () -> assertEquals(40, pair.row(1).getIntB(), "a row should read the columns"),
+        () -> assertEquals(new Tuple2<>("b", 40), pair.row(1).toTuple2(), "toTuple2 should copy the row"),
+        () -> assertSame(ages, pair.mapFirst(String::length).second(), "mapFirst should share the second column"),
+        () -> assertEquals(List.of(new Tuple2<>("a", 30), new Tuple2<>("b", 40)), pair.toList(),
+            "toList should pair the values in order"),
+        () -> assertEquals(pair, ColumnPair.fromList(pair.toList()), "fromList should invert toList"),
+        () -> expectThrows(IllegalArgumentException.class, () -> ColumnPair.zip(names, Column.ofInts(1))),
+        () -> expectThrows(IndexOutOfBoundsException.class, () -> pair.row(2))
+    );
+
+    int sum = 0;
+
+    for (final ColumnPair.Row<String, Integer> row : pair) {
+      sum += row.getIntB();
+    }
+
+    assertEquals(70, sum);
+  }
+}
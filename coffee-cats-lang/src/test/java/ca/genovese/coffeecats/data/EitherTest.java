@@ -0,0 +1,61 @@
+package ca.genovese.coffeecats.data;
+
+import ca.genovese.coffeecats.data.either.Either;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for the basic functionality provided by Either, Left, and Right.
+ */
+public final class EitherTest {
+
+  /**
+   * Test for Left.
+   */
+  @Test
+  @DisplayName("Creating a Left")
+  public void testEitherCreateLeft() {
+    final Either<Integer, String> e = Either.left(1);
+
+    //noinspection ThrowableResultOfMethodCallIgnored
+    assertAll(
+        () -> assertTrue(e.isLeft(), "isLeft should return true for Left"),
+        () -> assertFalse(e.isRight(), "isRight should return false for Left"),
+        () -> assertEquals(1, e.getLeft().intValue(), "getLeft should return the value from the Left"),
+        () -> assertEquals("getRight() called on a Left",
+            expectThrows(NoSuchElementException.class, e::getRight).getMessage(),
+            "Calling getRight on Left throws the NoSuchElementException"),
+        () -> assertEquals("left 1", e.fold(l -> "left " + l, r -> "right " + r),
+            "fold should apply the first function to a Left"),
+        () -> assertEquals(Either.left(1), e, "Lefts with equal values should be equal"),
+        () -> assertEquals("Either.Left(value=1)", e.toString(), "Calling toString on a Left value")
+    );
+  }
+
+  /**
+   * Test for Right.
+   */
+  @Test
+  @DisplayName("Creating a Right")
+  public void testEitherCreateRight() {
+    final Either<Integer, String> e = Either.right("a");
+
+    //noinspection ThrowableResultOfMethodCallIgnored
+    assertAll(
+        () -> assertFalse(e.isLeft(), "isLeft should return false for Right"),
+        () -> assertTrue(e.isRight(), "isRight should return true for Right"),
+        () -> assertEquals("a", e.getRight(), "getRight should return the value from the Right"),
+        () -> assertEquals("getLeft() called on a Right",
+            expectThrows(NoSuchElementException.class, e::getLeft).getMessage(),
+            "Calling getLeft on Right throws the NoSuchElementException"),
+        () -> assertEquals("right a", e.fold(l -> "left " + l, r -> "right " + r),
+            "fold should apply the second function to a Right"),
+        () -> assertFalse(Either.left("a").equals(e),
+            "A Right should not equal a Left with the same value")
+    );
+  }
+}
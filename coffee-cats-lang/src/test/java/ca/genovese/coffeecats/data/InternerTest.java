@@ -0,0 +1,115 @@
+package ca.genovese.coffeecats.data;
+
+import ca.genovese.coffeecats.data.intern.Interner;
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for Interner.
+ */
+public final class InternerTest {
+
+  /**
+   * Create a config fragment, built anew on every call.
+   *
+   * @param port the port in the fragment
+   * @return the fragment
+   */
+  private static List<Tuple2<String, Option<Integer>>> fragment(final int port) {
+    return List.of(new Tuple2<>("host", Option.none()), new Tuple2<>("port", Option.some(port)));
+  }
+
+  /**
+   * Test that equal structures intern to the same reference, bottom-up.
+   */
+  @Test
+  @DisplayName("Interner shares equal values ")
+  public void testIntern() {
+    final Interner interner = new Interner();
+    final List<Tuple2<String, Option<Integer>>> first = interner.intern(fragment(80));
+    final List<Tuple2<String, Option<Integer>>> second = interner.intern(fragment(80));
+    final List<Tuple2<String, Option<Integer>>> other = interner.intern(fragment(443));
+    final List<Integer> longer = interner.intern(List.of(0, 1, 2));
+    final List<Integer> tail = interner.intern(List.of(1, 2));
+
+    assertAll(
+        () -> assertSame(first, second, "equal Lists should intern to the same List"),
+        () -> assertEquals(fragment(80), first, "interning should keep the value"),
+        () -> assertNotSame(first, other, "different Lists should stay different"),
+        () -> assertSame(first.getHead(), other.getHead(), "equal elements should be shared"),
+        () -> assertSame(longer.getTail(), tail, "equal tails should be shared"),
+        () -> assertSame(Option.none(), interner.intern(Option.none()), "None should stay None"),
+        () -> assertSame(interner.intern(Option.some("a")), interner.intern(Option.some("a")),
+            "equal Options should intern to the same Option"),
+        () -> assertSame(interner.intern(new Tuple2<>(List.of(), 1)), interner.intern(new Tuple2<>(List.of(), 1)),
+            "equal Tuple2s should intern to the same Tuple2"),
+        () -> assertNotSame(interner.intern(Option.some(List.of())), interner.intern(List.of()),
+            "values of different types should not be shared")
+    );
+  }
+
+  /**
+   * Intern a long List, without keeping the List.
+   *
+   * <p>The last node is reachable from every other node, so once the collector has cleared a
+   * WeakReference to it, it has cleared the weak references to the whole List, including the
+   * Interner's.
+   *
+   * @param interner the Interner
+   * @return a WeakReference to the last node of the List
+   */
+  private static WeakReference<List<Integer>> internLongList(final Interner interner) {
+    final ListBuilder<Integer> builder = new ListBuilder<>();
+
+    for (int i = 0; i < 100000; i++) {
+      builder.add(i);
+    }
+
+    final List<Integer> is = builder.build();
+    assertSame(is, interner.intern(is), "the first List interned should be kept as it is");
+    assertEquals(100001, interner.size(), "every node and the empty List should be in the table");
+
+    List<Integer> last = is;
+
+    while (!last.getTail().isEmpty()) {
+      last = last.getTail();
+    }
+
+    return new WeakReference<>(last);
+  }
+
+  /**
+   * Test that long Lists intern without deep recursion, and that collected values are not returned.
+   *
+   * <p>Collection cannot be forced, so the second half of the test only runs if the List is
+   * collected within a few calls to System.gc.
+   *
+   * @throws InterruptedException if the test is interrupted while waiting for the collector
+   */
+  @Test
+  @DisplayName("Interner handles long Lists and drops collected values ")
+  public void testLongListsAndCollection() throws InterruptedException {
+    final Interner interner = new Interner();
+    final WeakReference<List<Integer>> last = internLongList(interner);
+
+    for (int i = 0; i < 10 && last.get() != null; i++) {
+      System.gc();
+      Thread.sleep(10);
+    }
+
+    if (last.get() != null) {
+      return;
+    }
+
+    final List<Integer> is = List.of(99999);
+    assertSame(is, interner.intern(is), "a List equal to a collected one should be interned as it is");
+  }
+}
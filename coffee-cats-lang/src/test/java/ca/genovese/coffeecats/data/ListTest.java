@@ -4,7 +4,12 @@ import ca.genovese.coffeecats.data.list.List;
 import org.junit.gen5.api.DisplayName;
 import org.junit.gen5.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
 import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.gen5.api.Assertions.*;
 
@@ -30,7 +35,8 @@ public final class ListTest {
             expectThrows(NoSuchElementException.class, is::getTail).getMessage(),
             "Calling getTail on an empty list throws the NoSuchElementException"),
         () -> assertFalse(() -> is.iterator().hasNext(), "An empty list's iterator does not have a next item"),
-        () -> assertThrows(NoSuchElementException.class, () -> is.iterator().next())
+        () -> assertThrows(NoSuchElementException.class, () -> is.iterator().next()),
+        () -> assertEquals("List()", is.toString(), "An empty List should describe itself as List()")
     );
   }
 
@@ -52,7 +58,86 @@ public final class ListTest {
         () -> assertTrue(() -> is.iterator().hasNext(),
             "A list's iterator.hasNext() should return true for a non-empty list"),
         () -> assertEquals(1, is.iterator().next().intValue(),
-            "A list's iterator.next() should return the first item of a non-empty list")
+            "A list's iterator.next() should return the first item of a non-empty list"),
+        () -> assertEquals(List.of(3), is.drop(2), "drop should skip the first items"),
+        () -> assertSame(is, is.drop(0), "drop(0) should return the List itself"),
+        () -> assertTrue(is.drop(4).isEmpty(), "dropping more than the length should give the empty List"),
+        () -> assertEquals("List(1, 2, 3)", is.toString(), "toString should list the items in order")
     );
   }
+
+  /**
+   * Test for the java.util.List view.
+   */
+  @Test
+  @DisplayName("Viewing a List as a java.util.List ")
+  public void testListAsJava() {
+    final java.util.List<Integer> view = List.of(1, 2, 3, 2).asJava();
+
+    assertAll(
+        () -> assertEquals(Arrays.asList(1, 2, 3, 2), view, "the view should equal a java.util.List of the items"),
+        () -> assertEquals(view, Arrays.asList(1, 2, 3, 2), "a java.util.List of the items should equal the view"),
+        () -> assertEquals(Arrays.asList(1, 2, 3, 2).hashCode(), view.hashCode(), "the hashes should match"),
+        () -> assertEquals(4, view.size(), "size should be the length of the List"),
+        () -> assertEquals(3, view.get(2).intValue(), "get should walk to the index"),
+        () -> assertEquals(3, view.lastIndexOf(2), "lastIndexOf should find the last equal item"),
+        () -> assertTrue(List.of().asJava().isEmpty(), "the view of an empty List should be empty"),
+        () -> assertEquals(Arrays.asList(2, 3), view.subList(1, 3), "subList should view the items between the indexes"),
+        () -> assertEquals(Arrays.asList(3, 2), view.subList(2, 4), "subList to the end should view the tail"),
+        () -> assertEquals(Arrays.asList(1, 2, 3, 2).subList(1, 4).hashCode(), view.subList(1, 4).hashCode(),
+            "a subList's hash should match"),
+        () -> assertEquals(3, view.listIterator(2).next().intValue(), "listIterator should start at the index"),
+        () -> assertEquals(2, view.listIterator(2).previous().intValue(), "previous should step back from the index"),
+        () -> assertEquals(Arrays.asList(1, 2, 3, 2), new ArrayList<>(view), "copying should walk the List"),
+        () -> expectThrows(IndexOutOfBoundsException.class, () -> view.get(4)),
+        () -> expectThrows(IndexOutOfBoundsException.class, () -> view.listIterator(5)),
+        () -> expectThrows(IndexOutOfBoundsException.class, () -> view.subList(1, 5)),
+        () -> expectThrows(UnsupportedOperationException.class, () -> view.add(5)),
+        () -> expectThrows(UnsupportedOperationException.class, () -> view.listIterator().set(5))
+    );
+  }
+
+  /**
+   * Test that a List of a java.util.List's items is read lazily, and only once.
+   */
+  @Test
+  @DisplayName("Creating a List from a java.util.List ")
+  public void testListFromJava() {
+    final AtomicInteger reads = new AtomicInteger();
+    final java.util.List<Integer> source = new ArrayList<>(Arrays.asList(1, 2, 3));
+    final List<Integer> is = List.fromJava(() -> {
+      final Iterator<Integer> it = source.iterator();
+      return new Iterator<Integer>() {
+        @Override
+        public boolean hasNext() {
+          return it.hasNext();
+        }
+
+        @Override
+        public Integer next() {
+          reads.incrementAndGet();
+          return it.next();
+        }
+      };
+    });
+
+    assertEquals(0, reads.get(), "no items should be read until the List is traversed");
+    assertEquals(1, is.getHead().intValue(), "getHead should read the first item");
+    assertEquals(1, reads.get(), "getHead should read only the first item");
+    assertEquals(List.of(1, 2, 3), is, "the List should hold the items in order");
+    assertEquals(List.of(1, 2, 3), is, "the List should be traversable again");
+    assertEquals(3, reads.get(), "each item should be read only once");
+    assertTrue(List.fromJava(new ArrayList<Integer>()).isEmpty(), "an empty Iterable gives an empty List");
+  }
+
+  /**
+   * Test for the List Collector.
+   */
+  @Test
+  @DisplayName("Collecting a stream into a List ")
+  public void testListCollector() {
+    assertEquals(List.of(0, 1, 2), IntStream.range(0, 3).boxed().collect(List.collector()));
+    assertEquals(List.fromJava(() -> IntStream.range(0, 10000).iterator()),
+        IntStream.range(0, 10000).parallel().boxed().collect(List.collector()));
+  }
 }
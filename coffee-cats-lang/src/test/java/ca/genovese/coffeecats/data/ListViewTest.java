@@ -0,0 +1,100 @@
+package ca.genovese.coffeecats.data;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.list.ListBuilder;
+import ca.genovese.coffeecats.data.list.ListView;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for ListView and ListBuilder.
+ */
+public final class ListViewTest {
+  /**
+   * Test that operations recorded on a view only run when it is forced.
+   */
+  @Test
+  @DisplayName("Recording operations on a ListView ")
+  public void testListViewIsLazy() {
+    final AtomicInteger calls = new AtomicInteger();
+    final ListView<Integer> view = List.of(1, 2, 3).view()
+        .map(i -> {
+          calls.incrementAndGet();
+          return i;
+        })
+        .filter(i -> i % 2 == 1);
+
+    assertAll("laziness",
+        () -> assertEquals(0, calls.get(), "map should not run until the view is traversed"),
+        () -> assertEquals(List.of(1, 3), view.force(), "force should apply every recorded operation"),
+        () -> assertEquals(3, calls.get(), "force should apply map once per item")
+    );
+  }
+
+  /**
+   * Test that the stages are fused, each item passing through every stage before the next item starts.
+   */
+  @Test
+  @DisplayName("Traversing a ListView ")
+  public void testListViewIsFused() {
+    final StringBuilder trace = new StringBuilder();
+    final List<Integer> result = List.of(1, 2).view()
+        .map(i -> {
+          trace.append('f').append(i);
+          return i * 10;
+        })
+        .map(i -> {
+          trace.append('g').append(i);
+          return i + 1;
+        })
+        .force();
+
+    assertAll("fusion",
+        () -> assertEquals(List.of(11, 21), result, "map should apply the functions in order"),
+        () -> assertEquals("f1g10f2g20", trace.toString(), "each item should pass through every stage in turn")
+    );
+  }
+
+  /**
+   * Test filtering, empty views, and equality.
+   */
+  @Test
+  @DisplayName("Filtering a ListView ")
+  public void testListViewFilter() {
+    final ListView<Integer> evens = List.of(1, 2, 3, 4, 5, 6).view().filter(i -> i % 2 == 0);
+
+    assertAll("filter",
+        () -> assertEquals(List.of(2, 4, 6), evens.force(), "filter should keep the matching items in order"),
+        () -> assertEquals(List.of(), evens.filter(i -> i > 6).force(), "a view with no matching items is empty"),
+        () -> assertFalse(() -> evens.filter(i -> i > 6).iterator().hasNext(),
+            "an empty view's iterator does not have a next item"),
+        () -> assertEquals(List.of(2, 4, 6).view(), evens, "views with the same items should be equal"),
+        () -> assertEquals(List.of(2, 4, 6).hashCode(), evens.hashCode(), "a view hashes like its forced List")
+    );
+  }
+
+  /**
+   * Test that a ListBuilder builds its items in order.
+   */
+  @Test
+  @DisplayName("Building a List ")
+  public void testListBuilder() {
+    final ListBuilder<Integer> builder = new ListBuilder<>(1);
+
+    for (int i = 1; i <= 100; i++) {
+      builder.add(i);
+    }
+
+    assertAll("builder",
+        () -> assertEquals(100, builder.size(), "size should count the items added"),
+        () -> assertEquals(100, builder.build().length(), "build should contain every item added"),
+        () -> assertEquals(1, builder.build().getHead().intValue(), "build should keep the order items were added"),
+        () -> assertEquals(List.of(1, 2, 3, 4), new ListBuilder<Integer>().add(1).add(2).buildOnto(List.of(3, 4)),
+            "buildOnto should put the added items before the tail")
+    );
+  }
+}
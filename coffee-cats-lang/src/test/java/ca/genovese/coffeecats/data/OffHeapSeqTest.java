@@ -0,0 +1,105 @@
+package ca.genovese.coffeecats.data;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.offheap.DoubleSeq;
+import ca.genovese.coffeecats.data.offheap.IntSeq;
+import ca.genovese.coffeecats.data.offheap.LongSeq;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for IntSeq, LongSeq and DoubleSeq.
+ */
+public final class OffHeapSeqTest {
+
+  /**
+   * Test building and reading an IntSeq, and its slices.
+   */
+  @Test
+  @DisplayName("IntSeq ")
+  public void testIntSeq() {
+    final IntSeq.Builder builder = IntSeq.builder(2);
+
+    for (int i = 0; i < 100; i++) {
+      builder.add(i);
+    }
+
+    final IntSeq is = builder.addAll(100, 101).build();
+    final IntSeq slice = is.slice(10, 13);
+
+    assertAll(
+        () -> assertEquals(102, is.length(), "the Builder should grow to hold every value"),
+        () -> assertEquals(101, is.get(101), "get should read a value"),
+        () -> assertEquals(5151, is.foldLeft(0, Integer::sum), "foldLeft should combine every value"),
+        () -> assertEquals(List.of(10, 11, 12), slice.toList(), "a slice should view a range"),
+        () -> assertTrue(Arrays.equals(new int[]{11, 12}, slice.slice(1, 3).toArray()), "slices should compose"),
+        () -> assertEquals(List.of("10", "11", "12"), slice.mapToObj(Integer::toString), "mapToObj should apply"),
+        () -> expectThrows(IndexOutOfBoundsException.class, () -> slice.get(3)),
+        () -> expectThrows(IndexOutOfBoundsException.class, () -> is.slice(5, 103)),
+        () -> expectThrows(IllegalStateException.class, () -> builder.add(1))
+    );
+
+    is.close();
+
+    assertAll(
+        () -> assertTrue(slice.isClosed(), "closing should release the memory of slices too"),
+        () -> expectThrows(IllegalStateException.class, () -> slice.get(0)),
+        () -> expectThrows(IllegalStateException.class, () -> is.foldLeft(0, Integer::sum))
+    );
+  }
+
+  /**
+   * Test LongSeq and DoubleSeq.
+   */
+  @Test
+  @DisplayName("LongSeq and DoubleSeq ")
+  public void testLongAndDoubleSeq() {
+    try (LongSeq ls = LongSeq.of(1L << 40, -1L, 3L);
+         DoubleSeq ds = DoubleSeq.of(0.5, 1.5, -2.0)) {
+      assertAll(
+          () -> assertEquals((1L << 40) + 2L, ls.foldLeft(0L, Long::sum), "foldLeft should combine longs"),
+          () -> assertEquals(List.of(-1L, 3L), ls.slice(1, 3).toList(), "a slice should view a range"),
+          () -> assertEquals(0.0, ds.foldLeft(0.0, Double::sum), 0.0),
+          () -> assertEquals(1.5, ds.get(1), 0.0),
+          () -> assertTrue(Arrays.equals(new double[]{0.5, 1.5, -2.0}, ds.toArray()), "toArray should copy"),
+          () -> assertTrue(LongSeq.of().isEmpty(), "of with no values should be empty")
+      );
+    }
+  }
+
+  /**
+   * Test that closing a sequence from a callback stops the read with an IllegalStateException,
+   * rather than reading the freed memory.
+   */
+  @Test
+  @DisplayName("Closing an off-heap sequence from a callback ")
+  public void testCloseFromCallback() {
+    final IntSeq is = IntSeq.of(1, 2, 3);
+    final LongSeq ls = LongSeq.of(1L, 2L, 3L);
+    final DoubleSeq ds = DoubleSeq.of(1.0, 2.0, 3.0);
+    final IntSeq last = IntSeq.of(1, 2, 3);
+
+    assertAll(
+        () -> expectThrows(IllegalStateException.class, () -> is.foldLeft(0, (a, b) -> {
+          is.close();
+          return a + b;
+        })),
+        () -> expectThrows(IllegalStateException.class, () -> ls.forEach(l -> ls.close())),
+        () -> expectThrows(IllegalStateException.class, () -> ds.mapToObj(d -> {
+          ds.close();
+          return d;
+        })),
+        () -> assertEquals(6, last.foldLeft(0, (a, b) -> {
+          if (b == 3) {
+            last.close();
+          }
+          return a + b;
+        }), "closing on the last value should not stop the fold"),
+        () -> assertTrue(last.isClosed(), "the sequence should be closed")
+    );
+  }
+}
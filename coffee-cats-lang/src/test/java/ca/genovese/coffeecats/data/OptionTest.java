@@ -1,10 +1,13 @@
 package ca.genovese.coffeecats.data;
 
 import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
 import org.junit.gen5.api.DisplayName;
 import org.junit.gen5.api.Test;
 
 import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.gen5.api.Assertions.*;
 
@@ -58,4 +61,49 @@ public final class OptionTest {
             "Calling iterator.next on a Some value should return the Some value")
     );
   }
+
+  /**
+   * Test for the operations on Some and None, and that they preserve identity where they can.
+   */
+  @Test
+  @DisplayName("Option operations")
+  public void testOptionOperations() {
+    final Option<String> some = Option.of("a");
+    final Option<String> none = Option.none();
+    final AtomicInteger seen = new AtomicInteger();
+    some.foreach(s -> seen.addAndGet(s.length()));
+    none.foreach(s -> seen.addAndGet(100));
+
+    assertAll(
+        () -> assertEquals(Option.of("ab"), some.map(s -> s + "b"), "map should apply to the value in a Some"),
+        () -> assertSame(some, some.map(s -> s), "map should return the Some when the value is unchanged"),
+        () -> assertSame(none, none.map(s -> s + "b"), "map on None should return None"),
+        () -> assertEquals(Option.of(1), some.flatMap(s -> Option.of(s.length())), "flatMap should chain"),
+        () -> assertSame(none, none.flatMap(Option::of), "flatMap on None should return None"),
+        () -> assertSame(some, some.filter(s -> s.startsWith("a")), "filter should return the Some when it passes"),
+        () -> assertSame(none, some.filter(String::isEmpty), "filter should return None when it fails"),
+        () -> assertEquals(1, some.fold(() -> 0, String::length).intValue(), "fold on a Some should apply f"),
+        () -> assertEquals(0, none.fold(() -> 0, String::length).intValue(), "fold on None should use ifEmpty"),
+        () -> assertSame(some, some.orElse(Option.of("b")), "orElse should return the Some"),
+        () -> assertSame(some, none.orElse(some), "orElse on None should return the alternative"),
+        () -> assertEquals(Option.of(new Tuple2<>("a", 1)), some.zip(Option.of(1)), "zip should pair the values"),
+        () -> assertSame(none, some.zip(Option.none()), "zip with None should return None"),
+        () -> assertEquals(1, seen.get(), "foreach should only run for a Some")
+    );
+  }
+
+  /**
+   * Test for converting between Option and Optional.
+   */
+  @Test
+  @DisplayName("Option and Optional")
+  public void testOptionOptional() {
+    assertAll(
+        () -> assertEquals(Optional.of(1), Option.of(1).asOptional(), "Some should become a present Optional"),
+        () -> assertEquals(Optional.empty(), Option.none().asOptional(), "None should become an empty Optional"),
+        () -> assertEquals(Optional.empty(), Option.some(null).asOptional(), "Some(null) should become empty"),
+        () -> assertEquals(Option.of(1), Option.fromOptional(Optional.of(1)), "fromOptional should invert asOptional"),
+        () -> assertSame(Option.none(), Option.fromOptional(Optional.empty()), "empty should become None")
+    );
+  }
 }
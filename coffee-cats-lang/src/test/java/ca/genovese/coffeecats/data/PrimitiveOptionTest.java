@@ -0,0 +1,75 @@
+package ca.genovese.coffeecats.data;
+
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.option.OptionDouble;
+import ca.genovese.coffeecats.data.option.OptionInt;
+import ca.genovese.coffeecats.data.option.OptionLong;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.util.NoSuchElementException;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for OptionInt, OptionLong and OptionDouble.
+ */
+public final class PrimitiveOptionTest {
+
+  /**
+   * Test for OptionInt.
+   */
+  @Test
+  @DisplayName("OptionInt ")
+  public void testOptionInt() {
+    final OptionInt some = OptionInt.some(3);
+    final OptionInt none = OptionInt.none();
+
+    assertAll(
+        () -> assertEquals(4, some.map(i -> i + 1).get(), "map should apply to a present value"),
+        () -> assertSame(none, none.map(i -> i + 1), "map should return the empty OptionInt when it is empty"),
+        () -> assertEquals(OptionInt.some(6), some.flatMap(i -> OptionInt.some(i * 2)), "flatMap should chain"),
+        () -> assertSame(some, some.filter(i -> i > 0), "filter should return this when the value passes"),
+        () -> assertSame(none, some.filter(i -> i < 0), "filter should be empty when the value fails"),
+        () -> assertEquals(7, none.getOrElse(7), "getOrElse should return the default when empty"),
+        () -> assertEquals(Option.some(3), some.toOption(), "toOption should box the value"),
+        () -> assertEquals(some, OptionInt.fromOption(Option.some(3)), "fromOption should unbox the value"),
+        () -> assertSame(none, OptionInt.fromOption(Option.none()), "fromOption should map None to empty"),
+        () -> assertEquals("get() called on an empty OptionInt",
+            expectThrows(NoSuchElementException.class, none::get).getMessage(),
+            "Calling get on an empty OptionInt throws the NoSuchElementException")
+    );
+  }
+
+  /**
+   * Test for OptionLong.
+   */
+  @Test
+  @DisplayName("OptionLong ")
+  public void testOptionLong() {
+    final OptionLong some = OptionLong.some(1L << 40);
+
+    assertAll(
+        () -> assertEquals((1L << 40) + 1, some.map(l -> l + 1).get(), "map should apply to a present value"),
+        () -> assertFalse(some.flatMap(l -> OptionLong.none()).isDefined(), "flatMap should chain"),
+        () -> assertEquals(Option.some(1L << 40), some.toOption(), "toOption should box the value"),
+        () -> assertEquals(some, OptionLong.fromOption(some.toOption()), "fromOption should invert toOption")
+    );
+  }
+
+  /**
+   * Test for OptionDouble.
+   */
+  @Test
+  @DisplayName("OptionDouble ")
+  public void testOptionDouble() {
+    final OptionDouble some = OptionDouble.some(1.5);
+
+    assertAll(
+        () -> assertEquals((Object) 3.0, some.map(d -> d * 2).get(), "map should apply to a present value"),
+        () -> assertEquals((Object) 0.5, OptionDouble.none().getOrElse(0.5), "getOrElse should return the default"),
+        () -> assertSame(OptionDouble.none(), some.filter(Double::isNaN), "filter should be empty when the value fails"),
+        () -> assertEquals(some, OptionDouble.fromOption(some.toOption()), "fromOption should invert toOption")
+    );
+  }
+}
@@ -0,0 +1,124 @@
+package ca.genovese.coffeecats.data;
+
+import ca.genovese.coffeecats.data.compressed.SortedLongSeq;
+import ca.genovese.coffeecats.data.list.List;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for SortedLongSeq.
+ */
+public final class SortedLongSeqTest {
+
+  /**
+   * Create a random set of longs.
+   *
+   * @param random the source of randomness
+   * @param size   the number of longs to draw, some of which may be repeated
+   * @param bound  the bound of the longs
+   * @return the set of longs drawn
+   */
+  private static TreeSet<Long> randomSet(final Random random, final int size, final int bound) {
+    final TreeSet<Long> set = new TreeSet<>();
+
+    for (int i = 0; i < size; i++) {
+      set.add((long) random.nextInt(bound));
+    }
+
+    return set;
+  }
+
+  /**
+   * Create a SortedLongSeq of a set of longs.
+   *
+   * @param set the set
+   * @return a SortedLongSeq of the set
+   */
+  private static SortedLongSeq toSeq(final TreeSet<Long> set) {
+    final SortedLongSeq.Builder builder = SortedLongSeq.builder();
+    set.forEach(builder::add);
+    return builder.build();
+  }
+
+  /**
+   * Test reading a SortedLongSeq.
+   */
+  @Test
+  @DisplayName("SortedLongSeq reads back its values ")
+  public void testRead() {
+    final TreeSet<Long> set = randomSet(new Random(1), 5000, 100000);
+    final SortedLongSeq seq = toSeq(set);
+    final long[] expected = set.stream().mapToLong(Long::longValue).toArray();
+    final SortedLongSeq extremes = SortedLongSeq.of(Long.MIN_VALUE, -1, 0, Long.MAX_VALUE);
+
+    assertAll(
+        () -> assertEquals(set.size(), seq.length(), "length should be the number of values"),
+        () -> assertTrue(Arrays.equals(expected, seq.toArray()), "the values should read back in order"),
+        () -> assertEquals(expected[300], seq.get(300), "get should decode the value's block"),
+        () -> assertEquals(set.contains(777L), seq.contains(777L), "contains should find the values"),
+        () -> assertTrue(seq.contains(set.last()), "contains should find the last value"),
+        () -> assertFalse(seq.contains(-1), "contains should not find other values"),
+        () -> assertEquals(set.ceiling(50000L).longValue(), seq.get(seq.length() - set.tailSet(50000L).size()),
+            "get should agree with the set"),
+        () -> assertEquals(List.of(Long.MIN_VALUE, -1L, 0L, Long.MAX_VALUE), extremes.toList(),
+            "deltas wider than a long should wrap"),
+        () -> assertEquals(SortedLongSeq.fromList(List.of(1, 2, 3)), SortedLongSeq.of(1, 2, 3),
+            "equal values should be equal"),
+        () -> assertEquals("SortedLongSeq(1, 2, 3)", SortedLongSeq.of(1, 2, 3).toString(), "toString shows values"),
+        () -> assertTrue(seq.sizeInBytes() < 3L * seq.length(), "close values should take few bytes"),
+        () -> expectThrows(IllegalArgumentException.class, () -> SortedLongSeq.of(1, 1)),
+        () -> expectThrows(IndexOutOfBoundsException.class, () -> seq.get(seq.length()))
+    );
+  }
+
+  /**
+   * Test skipping ahead with a Cursor.
+   */
+  @Test
+  @DisplayName("SortedLongSeq cursors skip ahead ")
+  public void testSkipTo() {
+    final TreeSet<Long> set = randomSet(new Random(2), 3000, 50000);
+    final SortedLongSeq seq = toSeq(set);
+    final SortedLongSeq.Cursor cursor = seq.cursor();
+
+    for (long target = 0; target < 50000; target += 97) {
+      final Long expected = set.ceiling(target);
+      assertEquals(expected != null, cursor.skipTo(target), "skipTo should find a value if there is one");
+
+      if (expected != null) {
+        assertEquals(expected.longValue(), cursor.peek(), "skipTo should stop at the first value at least " + target);
+      }
+    }
+
+    assertFalse(cursor.skipTo(Long.MAX_VALUE));
+  }
+
+  /**
+   * Test intersect and union against TreeSet.
+   */
+  @Test
+  @DisplayName("SortedLongSeq intersect and union ")
+  public void testSetOperations() {
+    final Random random = new Random(3);
+    final TreeSet<Long> large = randomSet(random, 20000, 100000);
+    final TreeSet<Long> small = randomSet(random, 200, 100000);
+    final TreeSet<Long> both = new TreeSet<>(large);
+    final TreeSet<Long> either = new TreeSet<>(large);
+    both.retainAll(small);
+    either.addAll(small);
+
+    assertAll(
+        () -> assertEquals(toSeq(both), toSeq(large).intersect(toSeq(small)), "intersect should keep common values"),
+        () -> assertEquals(toSeq(both), toSeq(small).intersect(toSeq(large)), "intersect should be symmetric"),
+        () -> assertEquals(toSeq(either), toSeq(large).union(toSeq(small)), "union should keep every value"),
+        () -> assertEquals(toSeq(small), toSeq(small).union(SortedLongSeq.empty()), "empty should be the unit"),
+        () -> assertTrue(toSeq(small).intersect(SortedLongSeq.empty()).isEmpty(), "empty should be the zero")
+    );
+  }
+}
@@ -0,0 +1,74 @@
+package ca.genovese.coffeecats.data;
+
+import ca.genovese.coffeecats.data.tuple.DoubleObjPair;
+import ca.genovese.coffeecats.data.tuple.IntIntPair;
+import ca.genovese.coffeecats.data.tuple.IntObjPair;
+import ca.genovese.coffeecats.data.tuple.LongObjPair;
+import ca.genovese.coffeecats.data.tuple.ObjDoublePair;
+import ca.genovese.coffeecats.data.tuple.ObjIntPair;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.data.tuple.Tuple3;
+import ca.genovese.coffeecats.data.tuple.Tuple8;
+import org.junit.gen5.api.DisplayName;
+import org.junit.gen5.api.Test;
+
+import static org.junit.gen5.api.Assertions.*;
+
+/**
+ * Test for the larger Tuples and the primitive pairs.
+ */
+public final class TupleTest {
+
+  /**
+   * Test for Tuple3 and Tuple8.
+   */
+  @Test
+  @DisplayName("Tuple3 and Tuple8 ")
+  public void testTuples() {
+    final Tuple3<Integer, String, Boolean> t3 = new Tuple3<>(1, "b", true);
+    final Tuple8<Integer, Integer, Integer, Integer, Integer, Integer, Integer, Integer> t8 =
+        new Tuple8<>(1, 2, 3, 4, 5, 6, 7, 8);
+
+    assertAll(
+        () -> assertEquals("b", t3.getB(), "getB should return the second element"),
+        () -> assertEquals(new Tuple3<>(1, "b", true), t3, "Tuple3s with equal elements should be equal"),
+        () -> assertEquals(new Tuple3<>(1, "b", true).hashCode(), t3.hashCode(), "equal Tuple3s should have equal hashes"),
+        () -> assertEquals("Tuple3(a=1, b=b, c=true)", t3.toString(), "toString should not show the cached hash"),
+        () -> assertFalse(t8.equals(new Tuple8<>(1, 2, 3, 4, 5, 6, 7, 9)), "Tuple8s with different elements should differ"),
+        () -> assertEquals("1b true", t3.applyTo((a, b, c) -> a + b + " " + c), "applyTo should pass the elements"),
+        () -> assertEquals(8, t8.getH().intValue(), "getH should return the eighth element"),
+        () -> assertEquals(36, t8.applyTo((a, b, c, d, e, f, g, h) -> a + b + c + d + e + f + g + h).intValue(),
+            "applyTo should pass the elements in order")
+    );
+  }
+
+  /**
+   * Test for the primitive pairs.
+   */
+  @Test
+  @DisplayName("Primitive pairs ")
+  public void testPairs() {
+    final IntIntPair ii = new IntIntPair(1, 2);
+
+    assertAll(
+        () -> assertEquals(new IntIntPair(1, 2), ii, "IntIntPairs with equal elements should be equal"),
+        () -> assertFalse(ii.equals(new IntIntPair(2, 1)), "IntIntPairs with different elements should differ"),
+        () -> assertEquals(new IntIntPair(1, 2).hashCode(), ii.hashCode(), "equal pairs should have equal hashes"),
+        () -> assertEquals("IntIntPair(a=1, b=2)", ii.toString(), "toString should show the elements"),
+        () -> assertEquals(new Tuple2<>(1, 2), ii.toTuple2(), "toTuple2 should box the elements"),
+        () -> assertEquals(new IntObjPair<>(1, null), new IntObjPair<>(1, null), "null elements should be equal"),
+        () -> assertEquals(new LongObjPair<>(1L << 40, "a"), new LongObjPair<>(1L << 40, "a"),
+            "LongObjPairs with equal elements should be equal"),
+        () -> assertEquals(new DoubleObjPair<>(Double.NaN, "a"), new DoubleObjPair<>(Double.NaN, "a"),
+            "NaN should equal itself, as it does in Double.equals"),
+        () -> assertFalse(new ObjDoublePair<>("a", 0.0).equals(new ObjDoublePair<>("a", -0.0)),
+            "0.0 and -0.0 should differ, as they do in Double.equals"),
+        () -> assertEquals(1, new ObjIntPair<>(new Object() {
+          @Override
+          public int hashCode() {
+            throw new AssertionError("the element should not be hashed");
+          }
+        }, 1).getB(), "constructing a pair should not hash its elements")
+    );
+  }
+}
@@ -0,0 +1,81 @@
+package ca.genovese.coffeecats.laws;
+
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.structures.Applicative;
+import org.junit.gen5.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+
+/**
+ * Laws that must be obeyed by any
+ * `ca.genovese.coffeecats.structures.Applicative`.
+ *
+ * <p>Laws which need a plain value are checked for every value in fa, by mapping over it.
+ *
+ * @param <F> Type for which the Applicative is being tested
+ * @see Applicative
+ */
+public interface ApplicativeLaws<F> extends ApplyLaws<F> {
+
+  /**
+   * The identity law states that applying the lifted identity function should return the original value.
+   *
+   * @param f   instance of {@code Applicative<F>}
+   * @param fa  the input {@code F<A>}
+   * @param <A> type of the values in fa
+   */
+  @Test
+  default <A> void applicativeIdentity(Applicative<F> f, Kind<F, A> fa) {
+    assertEquals(fa, f.ap(f.pure(Function.<A>identity()), fa));
+  }
+
+  /**
+   * The homomorphism law states that applying a lifted function to a lifted value should
+   * be the same as lifting the result of applying the function to the value.
+   *
+   * @param f   instance of {@code Applicative<F>}
+   * @param fa  the values to check the law for
+   * @param f1  the function
+   * @param <A> the input type
+   * @param <B> the output type
+   */
+  @Test
+  default <A, B> void applicativeHomomorphism(Applicative<F> f, Kind<F, A> fa, Function<A, B> f1) {
+    assertEquals(f.map(fa, a -> f.pure(f1.apply(a))),
+        f.map(fa, a -> f.ap(f.pure(f1), f.pure(a))));
+  }
+
+  /**
+   * The interchange law states that applying functions to a lifted value should be the same
+   * as applying the lifted application to the value to the functions.
+   *
+   * @param f   instance of {@code Applicative<F>}
+   * @param fa  the values to check the law for
+   * @param f1  the function
+   * @param <A> the input type
+   * @param <B> the output type
+   */
+  @Test
+  default <A, B> void applicativeInterchange(Applicative<F> f, Kind<F, A> fa, Function<A, B> f1) {
+    final Kind<F, Function<A, B>> ff = f.as(fa, f1);
+
+    assertEquals(f.map(fa, a -> f.ap(ff, f.pure(a))),
+        f.map(fa, a -> f.ap(f.pure((Function<Function<A, B>, B>) g -> g.apply(a)), ff)));
+  }
+
+  /**
+   * map should be consistent with applying a lifted function.
+   *
+   * @param f   instance of {@code Applicative<F>}
+   * @param fa  the input {@code F<A>}
+   * @param f1  the function
+   * @param <A> the input type
+   * @param <B> the output type
+   */
+  @Test
+  default <A, B> void applicativeMap(Applicative<F> f, Kind<F, A> fa, Function<A, B> f1) {
+    assertEquals(f.map(fa, f1), f.ap(f.pure(f1), fa));
+  }
+}
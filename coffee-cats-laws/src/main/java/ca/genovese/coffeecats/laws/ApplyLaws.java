@@ -0,0 +1,65 @@
+package ca.genovese.coffeecats.laws;
+
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.structures.Apply;
+import org.junit.gen5.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+
+/**
+ * Laws that must be obeyed by any
+ * `ca.genovese.coffeecats.structures.Apply`.
+ *
+ * <p>Functions in the context of F are built by replacing the values of fa with plain functions.
+ *
+ * @param <F> Type for which the Apply is being tested
+ * @see Apply
+ */
+public interface ApplyLaws<F> extends CovariantFunctorLaws<F> {
+
+  /**
+   * The composition law states that applying composed functions should be the same
+   * as applying the functions one after the other.
+   *
+   * @param f   instance of {@code Apply<F>}
+   * @param fa  the input {@code F<A>}
+   * @param f1  the first function
+   * @param g1  the second function
+   * @param <A> the input type
+   * @param <B> the intermediate type
+   * @param <C> the output type
+   */
+  @Test
+  default <A, B, C> void applyComposition(Apply<F> f,
+                                          Kind<F, A> fa,
+                                          Function<A, B> f1,
+                                          Function<B, C> g1) {
+    final Kind<F, Function<A, B>> fab = f.as(fa, f1);
+    final Kind<F, Function<B, C>> fbc = f.as(fa, g1);
+    final Kind<F, Function<Function<A, B>, Function<A, C>>> compose =
+        f.map(fbc, bc -> (Function<A, B> ab) -> bc.compose(ab));
+
+    assertEquals(f.ap(fbc, f.ap(fab, fa)), f.ap(f.ap(compose, fab), fa));
+  }
+
+  /**
+   * map2 and product should be consistent with ap.
+   *
+   * @param f   instance of {@code Apply<F>}
+   * @param fa  the input {@code F<A>}
+   * @param f1  a function used to build an {@code F<B>}
+   * @param <A> the type of the values in fa
+   * @param <B> the type of the values in the second input
+   */
+  @Test
+  default <A, B> void applyMap2Consistency(Apply<F> f, Kind<F, A> fa, Function<A, B> f1) {
+    final Kind<F, B> fb = f.map(fa, f1);
+    final Kind<F, Tuple2<A, B>> expected = f.ap(f.map(fa, a -> (Function<B, Tuple2<A, B>>) b -> new Tuple2<>(a, b)), fb);
+
+    assertEquals(expected, f.map2(fa, fb, Tuple2::new));
+    assertEquals(expected, f.product(fa, fb));
+  }
+}
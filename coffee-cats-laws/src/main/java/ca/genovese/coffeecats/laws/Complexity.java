@@ -0,0 +1,232 @@
+package ca.genovese.coffeecats.laws;
+
+import ca.genovese.coffeecats.gen.FunctionalRandom;
+import ca.genovese.coffeecats.gen.Gen;
+
+import java.util.function.Function;
+
+import static org.junit.gen5.api.Assertions.assertTrue;
+
+/**
+ * Upper bounds on how the running time of an operation grows with the size of its input,
+ * checked empirically without a full benchmark run.
+ *
+ * <p>The operation is timed on inputs generated by a sized Gen, for sizes doubling from
+ * DEFAULT_FROM to DEFAULT_TO, and a straight line is fitted to the logarithms of the sizes
+ * and times. The slope of the line is the exponent k of the growth rate n^k, which is about
+ * 0 for O(1) operations, a little above 0 for O(log n), 1 for O(n) and 2 for O(n^2).
+ * Each bound accepts slopes up to its maxSlope, which leaves room for noise in the timings
+ * while still failing an O(n) operation which has become O(n^2).
+ *
+ * <p>O(1) and O(log n) can not reliably be told apart by timing, so CONSTANT and LOGARITHMIC
+ * have the same maxSlope, and differ only in what they document.
+ */
+public enum Complexity {
+  /**
+   * O(1).
+   */
+  CONSTANT(0.5),
+
+  /**
+   * O(log n).
+   */
+  LOGARITHMIC(0.5),
+
+  /**
+   * O(n), or O(n log n).
+   */
+  LINEAR(1.5),
+
+  /**
+   * O(n^2).
+   */
+  QUADRATIC(2.5);
+
+  /**
+   * The smallest input size timed by default.
+   */
+  public static final int DEFAULT_FROM = 1 << 11;
+
+  /**
+   * The largest input size timed by default.
+   */
+  public static final int DEFAULT_TO = 1 << 16;
+
+  /**
+   * The shortest time, in nanoseconds, for which each round of an operation is repeated.
+   */
+  private static final long MIN_ROUND_NANOS = 5000000L;
+
+  /**
+   * The number of rounds timed for each size, of which the fastest is kept.
+   */
+  private static final int ROUNDS = 3;
+
+  /**
+   * Holds results of the timed operation, so that the JIT can not remove it.
+   */
+  private static volatile Object sink;
+
+  /**
+   * The largest slope accepted by this bound.
+   */
+  private final double maxSlope;
+
+  /**
+   * Constructor.
+   *
+   * @param maxSlope The largest slope accepted by this bound
+   */
+  Complexity(final double maxSlope) {
+    this.maxSlope = maxSlope;
+  }
+
+  /**
+   * The largest slope of log time against log size accepted by this bound.
+   *
+   * @return the largest accepted slope
+   */
+  public double getMaxSlope() {
+    return maxSlope;
+  }
+
+  /**
+   * Assert that the running time of an operation grows no faster than this bound, for sizes from
+   * DEFAULT_FROM to DEFAULT_TO.
+   *
+   * @param gen a sized Gen producing the inputs, whose size is the size it is run with
+   * @param op  the operation to time
+   * @param <A> the type of the inputs
+   * @throws AssertionError if the fitted slope is greater than getMaxSlope()
+   */
+  public <A> void check(final Gen<A> gen, final Function<A, ?> op) {
+    check(gen, op, DEFAULT_FROM, DEFAULT_TO);
+  }
+
+  /**
+   * Assert that the running time of an operation grows no faster than this bound, for sizes
+   * doubling from one size to another.
+   *
+   * @param gen  a sized Gen producing the inputs, whose size is the size it is run with
+   * @param op   the operation to time
+   * @param from the smallest size
+   * @param to   the largest size
+   * @param <A>  the type of the inputs
+   * @throws AssertionError if the fitted slope is greater than getMaxSlope()
+   */
+  public <A> void check(final Gen<A> gen, final Function<A, ?> op, final int from, final int to) {
+    final double slope = slope(gen, op, from, to);
+
+    assertTrue(slope <= maxSlope, String.format("expected %s growth, a slope of at most %.2f, but the slope was %.2f"
+        + " for sizes %d to %d", this, maxSlope, slope, from, to));
+  }
+
+  /**
+   * Time an operation on inputs of sizes doubling from one size to another, and fit a straight line
+   * to the logarithms of the sizes and times.
+   *
+   * <p>Each size is timed twice, and only the second timings are fitted, so that the first
+   * serve to warm up the JIT.
+   *
+   * @param gen  a sized Gen producing the inputs, whose size is the size it is run with
+   * @param op   the operation to time
+   * @param from the smallest size
+   * @param to   the largest size
+   * @param <A>  the type of the inputs
+   * @return the slope of the fitted line
+   */
+  public static <A> double slope(final Gen<A> gen, final Function<A, ?> op, final int from, final int to) {
+    if (from <= 0 || to < 2 * from) {
+      throw new IllegalArgumentException("sizes must double at least once from a positive size, not "
+          + from + " to " + to);
+    }
+
+    final int points = Integer.numberOfTrailingZeros(Integer.highestOneBit(to / from)) + 1;
+    final double[] xs = new double[points];
+    final double[] ys = new double[points];
+    FunctionalRandom rnd = FunctionalRandom.seeded(from);
+
+    for (int pass = 0; pass < 2; pass++) {
+      for (int i = 0; i < points; i++) {
+        final int size = from << i;
+        final A a = gen.run(rnd, size).getB();
+        xs[i] = Math.log(size);
+        ys[i] = Math.log(time(a, op));
+        rnd = rnd.nextInt().getA();
+      }
+    }
+
+    return fit(xs, ys);
+  }
+
+  /**
+   * Time an operation, repeating it until a round takes at least MIN_ROUND_NANOS,
+   * and keeping the fastest of ROUNDS rounds.
+   *
+   * @param a   the input
+   * @param op  the operation to time
+   * @param <A> the type of the input
+   * @return the time of one operation, in nanoseconds
+   */
+  private static <A> double time(final A a, final Function<A, ?> op) {
+    int reps = 1;
+    long elapsed = round(a, op, reps);
+
+    while (elapsed < MIN_ROUND_NANOS) {
+      reps *= 2;
+      elapsed = round(a, op, reps);
+    }
+
+    for (int i = 1; i < ROUNDS; i++) {
+      elapsed = Math.min(elapsed, round(a, op, reps));
+    }
+
+    return Math.max(1.0, (double) elapsed / reps);
+  }
+
+  /**
+   * Time a round of repetitions of an operation.
+   *
+   * @param a    the input
+   * @param op   the operation to time
+   * @param reps the number of repetitions
+   * @param <A>  the type of the input
+   * @return the time taken by the round, in nanoseconds
+   */
+  private static <A> long round(final A a, final Function<A, ?> op, final int reps) {
+    final long start = System.nanoTime();
+
+    for (int i = 0; i < reps; i++) {
+      sink = op.apply(a);
+    }
+
+    return System.nanoTime() - start;
+  }
+
+  /**
+   * The slope of the least squares line through the given points.
+   *
+   * @param xs the x coordinates
+   * @param ys the y coordinates
+   * @return the slope
+   */
+  private static double fit(final double[] xs, final double[] ys) {
+    double meanX = 0;
+    double meanY = 0;
+
+    for (int i = 0; i < xs.length; i++) {
+      meanX += xs[i] / xs.length;
+      meanY += ys[i] / ys.length;
+    }
+
+    double covariance = 0;
+    double variance = 0;
+
+    for (int i = 0; i < xs.length; i++) {
+      covariance += (xs[i] - meanX) * (ys[i] - meanY);
+      variance += (xs[i] - meanX) * (xs[i] - meanX);
+    }
+
+    return covariance / variance;
+  }
+}
@@ -0,0 +1,96 @@
+package ca.genovese.coffeecats.laws;
+
+import ca.genovese.coffeecats.data.either.Either;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.structures.FlatMap;
+import org.junit.gen5.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+
+/**
+ * Laws that must be obeyed by any
+ * `ca.genovese.coffeecats.structures.FlatMap`.
+ *
+ * <p>Functions returning values in the context of F are built by
+ * replacing the values of fa with the result of a plain function.
+ *
+ * @param <F> Type for which the FlatMap is being tested
+ * @see FlatMap
+ */
+public interface FlatMapLaws<F> extends ApplyLaws<F> {
+
+  /**
+   * The associativity law states that flatMapping with two functions one after the other
+   * should be the same as flatMapping with a function that flatMaps with the second.
+   *
+   * @param f   instance of {@code FlatMap<F>}
+   * @param fa  the input {@code F<A>}
+   * @param f1  the first function
+   * @param g1  the second function
+   * @param <A> the input type
+   * @param <B> the intermediate type
+   * @param <C> the output type
+   */
+  @Test
+  default <A, B, C> void flatMapAssociativity(FlatMap<F> f,
+                                              Kind<F, A> fa,
+                                              Function<A, B> f1,
+                                              Function<B, C> g1) {
+    final Function<A, Kind<F, B>> k1 = a -> f.as(fa, f1.apply(a));
+    final Function<B, Kind<F, C>> k2 = b -> f.as(fa, g1.apply(b));
+
+    assertEquals(f.flatMap(f.flatMap(fa, k1), k2), f.flatMap(fa, a -> f.flatMap(k1.apply(a), k2)));
+  }
+
+  /**
+   * ap should be consistent with flatMap.
+   *
+   * @param f   instance of {@code FlatMap<F>}
+   * @param fa  the input {@code F<A>}
+   * @param f1  the function
+   * @param <A> the input type
+   * @param <B> the output type
+   */
+  @Test
+  default <A, B> void flatMapConsistentApply(FlatMap<F> f, Kind<F, A> fa, Function<A, B> f1) {
+    final Kind<F, Function<A, B>> ff = f.as(fa, f1);
+
+    assertEquals(f.flatMap(ff, g -> f.map(fa, g)), f.ap(ff, fa));
+  }
+
+  /**
+   * tailRecM with a single Left step should be the same as flatMapping the step.
+   *
+   * @param f   instance of {@code FlatMap<F>}
+   * @param fa  the values to check the law for
+   * @param <A> the type of the values in fa
+   */
+  @Test
+  default <A> void tailRecMConsistentFlatMap(FlatMap<F> f, Kind<F, A> fa) {
+    final Function<A, Kind<F, A>> step = a -> f.as(fa, a);
+
+    assertEquals(f.map(fa, a -> f.flatMap(bounce(f, step, a, 0), step)),
+        f.map(fa, a -> bounce(f, step, a, 1)));
+  }
+
+  /**
+   * Apply step to a, then n more times to each of its results, using tailRecM.
+   *
+   * @param f    instance of {@code FlatMap<F>}
+   * @param step the function to apply
+   * @param a    the starting value
+   * @param n    the number of extra times to apply step
+   * @param <F>  the datatype for the FlatMap
+   * @param <A>  the type of the values
+   * @return the results of applying step n + 1 times
+   */
+  static <F, A> Kind<F, A> bounce(final FlatMap<F> f, final Function<A, Kind<F, A>> step, final A a, final int n) {
+    return f.tailRecM(new Tuple2<>(a, n), (Tuple2<A, Integer> s) ->
+        f.map(step.apply(s.getA()), a1 -> s.getB() > 0
+            ? Either.<Tuple2<A, Integer>, A>left(new Tuple2<>(a1, s.getB() - 1))
+            : Either.<Tuple2<A, Integer>, A>right(a1)));
+  }
+}
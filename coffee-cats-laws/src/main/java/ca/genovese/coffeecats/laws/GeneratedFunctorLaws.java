@@ -0,0 +1,63 @@
+package ca.genovese.coffeecats.laws;
+
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.PropertyRunner;
+import ca.genovese.coffeecats.gen.Shrink;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.structures.CovariantFunctor;
+import org.junit.gen5.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+
+/**
+ * The laws of `ca.genovese.coffeecats.structures.CovariantFunctor`, checked against GENERATED_TRIALS
+ * generated values in a single invocation of each law, rather than against the single value
+ * checked by CovariantFunctorLaws.
+ *
+ * @param <F> Type for which the CovariantFunctor is being tested
+ * @see CovariantFunctorLaws
+ */
+public interface GeneratedFunctorLaws<F> extends CovariantFunctorLaws<F> {
+
+  /**
+   * The number of generated values each law is checked against, the same as for the forAll laws.
+   */
+  int GENERATED_TRIALS = PropertyRunner.DEFAULT_TRIALS;
+
+  /**
+   * The Identity law, checked against generated values.
+   *
+   * @param f      instance of {@code CovariantFunctor<F>}
+   * @param gen    a Gen of {@code F<A>}
+   * @param shrink a Shrink of {@code F<A>}, used to reduce a failing value
+   * @param <A>    type of the values in the generated values
+   */
+  @Test
+  default <A> void covariantIdentityForAll(CovariantFunctor<F> f, Gen<Kind<F, A>> gen, Shrink<Kind<F, A>> shrink) {
+    Properties.forAll(GENERATED_TRIALS, gen, shrink, fa -> assertEquals(fa, f.map(fa, Function.identity())));
+  }
+
+  /**
+   * The composition law, checked against generated values.
+   *
+   * @param f      a {@code CovariantFunctor<F>}
+   * @param gen    a Gen of {@code F<A>}
+   * @param shrink a Shrink of {@code F<A>}, used to reduce a failing value
+   * @param f1     the first function
+   * @param g1     the second function
+   * @param <A>    the input type
+   * @param <B>    the intermediate type
+   * @param <C>    the output type
+   */
+  @Test
+  default <A, B, C> void covariantCompositionForAll(CovariantFunctor<F> f,
+                                                    Gen<Kind<F, A>> gen,
+                                                    Shrink<Kind<F, A>> shrink,
+                                                    Function<A, B> f1,
+                                                    Function<B, C> g1) {
+    Properties.forAll(GENERATED_TRIALS, gen, shrink, fa ->
+        assertEquals(f.map(f.map(fa, f1), g1), f.map(fa, g1.compose(f1))));
+  }
+}
@@ -0,0 +1,20 @@
+package ca.genovese.coffeecats.laws;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a law parameter which should be resolved with a large value, such as a
+ * structure of ScaleLaws.SCALE elements or one ScaleLaws.SCALE operations deep.
+ *
+ * @see ScaleLaws
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface Large {
+
+}
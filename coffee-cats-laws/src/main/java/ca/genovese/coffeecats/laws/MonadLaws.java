@@ -0,0 +1,83 @@
+package ca.genovese.coffeecats.laws;
+
+import ca.genovese.coffeecats.data.either.Either;
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.structures.Monad;
+import org.junit.gen5.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+
+/**
+ * Laws that must be obeyed by any
+ * `ca.genovese.coffeecats.structures.Monad`.
+ *
+ * @param <F> Type for which the Monad is being tested
+ * @see Monad
+ */
+public interface MonadLaws<F> extends ApplicativeLaws<F>, FlatMapLaws<F> {
+
+  /**
+   * The number of steps run by the tailRecM stack safety law.
+   */
+  int STACK_SAFETY_ITERATIONS = 1000000;
+
+  /**
+   * The left identity law states that flatMapping a lifted value should be the same as
+   * applying the function to the value.
+   *
+   * @param m   instance of {@code Monad<F>}
+   * @param fa  the values to check the law for
+   * @param f1  a function used to build the function to flatMap with
+   * @param <A> the input type
+   * @param <B> the output type
+   */
+  @Test
+  default <A, B> void monadLeftIdentity(Monad<F> m, Kind<F, A> fa, Function<A, B> f1) {
+    final Function<A, Kind<F, B>> k = a -> m.as(fa, f1.apply(a));
+
+    assertEquals(m.map(fa, k), m.map(fa, a -> m.flatMap(m.pure(a), k)));
+  }
+
+  /**
+   * The right identity law states that flatMapping with pure should return the original value.
+   *
+   * @param m   instance of {@code Monad<F>}
+   * @param fa  the input {@code F<A>}
+   * @param <A> type of the values in fa
+   */
+  @Test
+  default <A> void monadRightIdentity(Monad<F> m, Kind<F, A> fa) {
+    assertEquals(fa, m.flatMap(fa, m::pure));
+  }
+
+  /**
+   * map should be consistent with flatMapping a function which lifts its result with pure.
+   *
+   * @param m   instance of {@code Monad<F>}
+   * @param fa  the input {@code F<A>}
+   * @param f1  the function
+   * @param <A> the input type
+   * @param <B> the output type
+   */
+  @Test
+  default <A, B> void mapFlatMapCoherence(Monad<F> m, Kind<F, A> fa, Function<A, B> f1) {
+    assertEquals(m.map(fa, f1), m.flatMap(fa, a -> m.pure(f1.apply(a))));
+  }
+
+  /**
+   * tailRecM must run in constant stack space, so a loop of a million steps must not overflow the stack.
+   *
+   * @param m instance of {@code Monad<F>}
+   */
+  @Test
+  default void tailRecMStackSafety(Monad<F> m) {
+    final Kind<F, Integer> result = m.tailRecM(0, (Integer i) ->
+        m.pure(i < STACK_SAFETY_ITERATIONS
+            ? Either.<Integer, Integer>left(i + 1)
+            : Either.<Integer, Integer>right(i)));
+
+    assertEquals(m.pure(STACK_SAFETY_ITERATIONS), result);
+  }
+}
@@ -0,0 +1,74 @@
+package ca.genovese.coffeecats.laws;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.structures.Monoid;
+import org.junit.gen5.api.Test;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+
+/**
+ * Laws that must be obeyed by any
+ * `ca.genovese.coffeecats.structures.Monoid`.
+ *
+ * @param <A> Type for which the Monoid is being tested
+ * @see Monoid
+ */
+public interface MonoidLaws<A> extends SemigroupLaws<A> {
+
+  /**
+   * The left identity law states that combining empty with a value should return that value.
+   *
+   * @param m instance of {@code Monoid<A>}
+   * @param x the value
+   */
+  @Test
+  default void monoidLeftIdentity(Monoid<A> m, A x) {
+    assertEquals(x, m.combine(m.empty(), x));
+  }
+
+  /**
+   * The right identity law states that combining a value with empty should return that value.
+   *
+   * @param m instance of {@code Monoid<A>}
+   * @param x the value
+   */
+  @Test
+  default void monoidRightIdentity(Monoid<A> m, A x) {
+    assertEquals(x, m.combine(x, m.empty()));
+  }
+
+  /**
+   * combineAll should combine the values in order, returning empty when there are none.
+   *
+   * @param m instance of {@code Monoid<A>}
+   * @param x the first value
+   * @param y the second value
+   * @param z the third value
+   */
+  @Test
+  default void monoidCombineAll(Monoid<A> m, A x, A y, A z) {
+    assertEquals(m.empty(), m.combineAll(List.of()));
+    assertEquals(m.combine(m.combine(x, y), z), m.combineAll(List.of(x, y, z)));
+    assertEquals(m.combine(m.combine(x, y), z), m.combineAllParallel(List.of(x, y, z)));
+  }
+
+  /**
+   * combineAllParallel should produce the same result as combineAll
+   * for inputs large enough to be split across threads.
+   *
+   * @param m instance of {@code Monoid<A>}
+   * @param x the first value
+   * @param y the second value
+   * @param z the third value
+   */
+  @Test
+  default void monoidCombineAllParallel(Monoid<A> m, A x, A y, A z) {
+    List<A> as = List.of();
+
+    for (int i = 0; i < Monoid.PARALLEL_THRESHOLD * 4; i++) {
+      as = List.cons(z, List.cons(y, List.cons(x, as)));
+    }
+
+    assertEquals(m.combineAll(as), m.combineAllParallel(as));
+  }
+}
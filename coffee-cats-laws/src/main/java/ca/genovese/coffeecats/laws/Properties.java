@@ -0,0 +1,48 @@
+package ca.genovese.coffeecats.laws;
+
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.PropertyRunner;
+import ca.genovese.coffeecats.gen.Shrink;
+
+import java.util.function.Consumer;
+
+/**
+ * Helpers for laws which are checked against generated values.
+ */
+public final class Properties {
+  /**
+   * Not instantiable.
+   */
+  private Properties() {
+
+  }
+
+  /**
+   * Check that a property holds for values from a Gen, failing with the shrunk counterexample if it does not.
+   *
+   * @param gen      the Gen providing values
+   * @param shrink   the Shrink used to reduce a failing value
+   * @param property the property, which fails by throwing an Exception or AssertionError
+   * @param <A>      the type of the values
+   * @throws AssertionError describing the seed, trial and shrunk value of the first failure
+   */
+  public static <A> void forAll(final Gen<A> gen, final Shrink<A> shrink, final Consumer<A> property) {
+    PropertyRunner.propertyRunner.check(gen, shrink, property).assertPassed();
+  }
+
+  /**
+   * Check that a property holds for the given number of values from a Gen, failing with the shrunk
+   * counterexample if it does not.
+   *
+   * @param trials   the number of values to check
+   * @param gen      the Gen providing values
+   * @param shrink   the Shrink used to reduce a failing value
+   * @param property the property, which fails by throwing an Exception or AssertionError
+   * @param <A>      the type of the values
+   * @throws AssertionError describing the seed, trial and shrunk value of the first failure
+   */
+  public static <A> void forAll(final int trials, final Gen<A> gen, final Shrink<A> shrink,
+                                final Consumer<A> property) {
+    PropertyRunner.propertyRunner.withTrials(trials).check(gen, shrink, property).assertPassed();
+  }
+}
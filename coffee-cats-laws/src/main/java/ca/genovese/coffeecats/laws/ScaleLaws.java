@@ -0,0 +1,90 @@
+package ca.genovese.coffeecats.laws;
+
+import ca.genovese.coffeecats.kind.Kind;
+import ca.genovese.coffeecats.structures.CovariantFunctor;
+import org.junit.gen5.api.Test;
+
+import java.util.function.Function;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+
+/**
+ * Laws that any `ca.genovese.coffeecats.structures.CovariantFunctor` must obey on large values,
+ * so that an instance which recurses per element or per operation fails with a
+ * StackOverflowError rather than passing on the small values of CovariantFunctorLaws.
+ *
+ * <p>Parameters annotated with Large must be resolved with a value of SCALE elements,
+ * or SCALE operations deep.
+ *
+ * @param <F> Type for which the CovariantFunctor is being tested
+ * @see CovariantFunctor
+ */
+public interface ScaleLaws<F> extends CovariantFunctorLaws<F> {
+
+  /**
+   * The number of elements, or depth, of the values resolved for Large parameters.
+   */
+  int SCALE = 1000000;
+
+  /**
+   * The number of maps chained by the chained composition law.
+   */
+  int CHAIN = 100000;
+
+  /**
+   * Mapping the identity function over a large value should return an equal value.
+   *
+   * @param f     instance of {@code CovariantFunctor<F>}
+   * @param large a large {@code F<A>}
+   * @param <A>   type of the values in large
+   */
+  @Test
+  default <A> void scaleIdentity(CovariantFunctor<F> f, @Large Kind<F, A> large) {
+    assertEquals(large, f.map(large, Function.identity()));
+  }
+
+  /**
+   * Mapping the same function over a large value twice should return values
+   * which are equal and have the same hashCode.
+   *
+   * @param f     instance of {@code CovariantFunctor<F>}
+   * @param large a large {@code F<A>}
+   * @param f1    the function to map
+   * @param <A>   the input type
+   * @param <B>   the output type
+   */
+  @Test
+  default <A, B> void scaleMapEqualsHashCode(CovariantFunctor<F> f, @Large Kind<F, A> large, Function<A, B> f1) {
+    final Kind<F, B> first = f.map(large, f1);
+    final Kind<F, B> second = f.map(large, f1);
+
+    assertEquals(first, second);
+    assertEquals(first.hashCode(), second.hashCode());
+  }
+
+  /**
+   * Mapping CHAIN identity functions one after another, between two other functions, should
+   * produce the same result as mapping the composition of the two functions.
+   *
+   * @param f   a {@code CovariantFunctor<F>}
+   * @param fa  the input {@code F<A>}
+   * @param f1  the first function
+   * @param g1  the last function
+   * @param <A> the input type
+   * @param <B> the intermediate type
+   * @param <C> the output type
+   */
+  @Test
+  default <A, B, C> void scaleChainedComposition(CovariantFunctor<F> f,
+                                                 Kind<F, A> fa,
+                                                 Function<A, B> f1,
+                                                 Function<B, C> g1) {
+    Kind<F, B> chained = f.map(fa, f1);
+
+    for (int i = 0; i < CHAIN; i++) {
+      chained = f.map(chained, Function.identity());
+    }
+
+    assertEquals(f.map(fa, g1.compose(f1)), f.map(chained, g1));
+  }
+}
@@ -0,0 +1,85 @@
+package ca.genovese.coffeecats.laws;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.option.Option;
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.gen.Gen;
+import ca.genovese.coffeecats.gen.Shrink;
+import ca.genovese.coffeecats.structures.Semigroup;
+import org.junit.gen5.api.Test;
+
+import static org.junit.gen5.api.Assertions.assertEquals;
+
+/**
+ * Laws that must be obeyed by any
+ * `ca.genovese.coffeecats.structures.Semigroup`.
+ *
+ * @param <A> Type for which the Semigroup is being tested
+ * @see Semigroup
+ */
+public interface SemigroupLaws<A> {
+
+  /**
+   * The associativity law states that the grouping of combine
+   * operations should not affect the result.
+   *
+   * @param s instance of {@code Semigroup<A>}
+   * @param x the first value
+   * @param y the second value
+   * @param z the third value
+   */
+  @Test
+  default void semigroupAssociativity(Semigroup<A> s, A x, A y, A z) {
+    assertEquals(s.combine(s.combine(x, y), z), s.combine(x, s.combine(y, z)));
+  }
+
+  /**
+   * The associativity law, checked for generated values, reporting a shrunk counterexample if it fails.
+   *
+   * @param s      instance of {@code Semigroup<A>}
+   * @param gen    a Gen providing values
+   * @param shrink a Shrink for the values
+   */
+  @Test
+  default void semigroupAssociativityForAll(Semigroup<A> s, Gen<A> gen, Shrink<A> shrink) {
+    final Gen<Tuple2<A, Tuple2<A, A>>> triples =
+        gen.flatMap(x -> gen.flatMap(y -> gen.map(z -> new Tuple2<>(x, new Tuple2<>(y, z)))));
+
+    Properties.forAll(triples, Shrink.tuple2(shrink, Shrink.tuple2(shrink, shrink)), t -> {
+      final A x = t.getA();
+      final A y = t.getB().getA();
+      final A z = t.getB().getB();
+      assertEquals(s.combine(s.combine(x, y), z), s.combine(x, s.combine(y, z)));
+    });
+  }
+
+  /**
+   * combineN should be equivalent to combining a value with itself repeatedly.
+   *
+   * @param s instance of {@code Semigroup<A>}
+   * @param x the value to combine
+   */
+  @Test
+  default void semigroupCombineN(Semigroup<A> s, A x) {
+    A expected = x;
+
+    for (int n = 1; n <= 10; n++) {
+      assertEquals(expected, s.combineN(x, n));
+      expected = s.combine(expected, x);
+    }
+  }
+
+  /**
+   * combineAllOption should combine the values in order, returning None when there are none.
+   *
+   * @param s instance of {@code Semigroup<A>}
+   * @param x the first value
+   * @param y the second value
+   * @param z the third value
+   */
+  @Test
+  default void semigroupCombineAllOption(Semigroup<A> s, A x, A y, A z) {
+    assertEquals(Option.none(), s.combineAllOption(List.of()));
+    assertEquals(Option.some(s.combine(s.combine(x, y), z)), s.combineAllOption(List.of(x, y, z)));
+  }
+}
@@ -0,0 +1,37 @@
+package ca.genovese.coffeecats.structures;
+
+import ca.genovese.coffeecats.kind.Kind;
+
+import java.util.function.Function;
+
+/**
+ * An Applicative, an Apply which can lift any value into its context.
+ *
+ * <p>Must obey the laws defined in ApplicativeLaws.
+ *
+ * @param <F> the datatype for this Applicative
+ */
+public interface Applicative<F> extends Apply<F> {
+  /**
+   * Lift a value into the context of this Applicative.
+   *
+   * @param a   the value to lift
+   * @param <A> the type of the value
+   * @return an {@code F<A>} containing only a
+   */
+  <A> Kind<F, A> pure(final A a);
+
+  /**
+   * Implementation of CovariantFunctor.map derived from Applicative.ap and Applicative.pure.
+   *
+   * @param fa  an {@code F<A>}
+   * @param f   the function to apply
+   * @param <A> the input type
+   * @param <B> the output type
+   * @return an {@code F<B>}
+   */
+  @Override
+  default <A, B> Kind<F, B> map(final Kind<F, A> fa, final Function<A, B> f) {
+    return ap(pure(f), fa);
+  }
+}
@@ -0,0 +1,55 @@
+package ca.genovese.coffeecats.structures;
+
+import ca.genovese.coffeecats.data.tuple.Tuple2;
+import ca.genovese.coffeecats.kind.Kind;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * An Apply, a CovariantFunctor which can apply functions in its context to values in its context.
+ *
+ * <p>Must obey the laws defined in ApplyLaws.
+ *
+ * @param <F> the datatype for this Apply
+ */
+public interface Apply<F> extends CovariantFunctor<F> {
+  /**
+   * Apply the functions in ff to the values in fa.
+   *
+   * @param ff  an {@code F<Function<A, B>>}
+   * @param fa  an {@code F<A>}
+   * @param <A> the input type
+   * @param <B> the output type
+   * @return an {@code F<B>}
+   */
+  <A, B> Kind<F, B> ap(final Kind<F, Function<A, B>> ff, final Kind<F, A> fa);
+
+  /**
+   * Combine the values in fa and fb with a 2 argument function.
+   *
+   * @param fa  an {@code F<A>}
+   * @param fb  an {@code F<B>}
+   * @param f   the function to combine the values with
+   * @param <A> the type of the values in fa
+   * @param <B> the type of the values in fb
+   * @param <C> the output type
+   * @return an {@code F<C>}
+   */
+  default <A, B, C> Kind<F, C> map2(final Kind<F, A> fa, final Kind<F, B> fb, final BiFunction<A, B, C> f) {
+    return ap(map(fa, a -> (Function<B, C>) b -> f.apply(a, b)), fb);
+  }
+
+  /**
+   * Tuple the values in fa with the values in fb.
+   *
+   * @param fa  an {@code F<A>}
+   * @param fb  an {@code F<B>}
+   * @param <A> the type of the values in fa
+   * @param <B> the type of the values in fb
+   * @return an {@code F<Tuple2<A, B>>}
+   */
+  default <A, B> Kind<F, Tuple2<A, B>> product(final Kind<F, A> fa, final Kind<F, B> fb) {
+    return map2(fa, fb, Tuple2::new);
+  }
+}
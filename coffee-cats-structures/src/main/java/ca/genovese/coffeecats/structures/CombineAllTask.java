@@ -0,0 +1,139 @@
+package ca.genovese.coffeecats.structures;
+
+import ca.genovese.coffeecats.data.list.List;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * A RecursiveTask which combines a segment of a List using a Monoid.
+ *
+ * <p>The segment is described by its first cell and its length, so splitting
+ * a List into segments walks it once and copies nothing.
+ *
+ * @param <A> the type of the values being combined
+ * @see Monoid#combineAllParallel(List, ForkJoinPool)
+ */
+final class CombineAllTask<A> extends RecursiveTask<A> implements Iterable<A> {
+  /**
+   * The Monoid used to combine values.
+   */
+  private final Monoid<A> m;
+  /**
+   * The first cell of the segment combined by this task.
+   */
+  private final List<A> start;
+  /**
+   * The number of values in the segment combined by this task.
+   */
+  private final int length;
+
+  /**
+   * Constructor.
+   *
+   * @param m      the Monoid used to combine values
+   * @param start  the first cell of the segment combined by this task
+   * @param length the number of values in the segment combined by this task
+   */
+  private CombineAllTask(final Monoid<A> m, final List<A> start, final int length) {
+    this.m = m;
+    this.start = start;
+    this.length = length;
+  }
+
+  /**
+   * Combine all the values in as, in order, splitting the work across a ForkJoinPool.
+   *
+   * @param m    the Monoid used to combine values
+   * @param as   the values to combine
+   * @param pool the ForkJoinPool on which to combine segments
+   * @param <A>  the type of the values being combined
+   * @return the combination of all the values in as
+   */
+  static <A> A combineAll(final Monoid<A> m, final List<A> as, final ForkJoinPool pool) {
+    if (as.drop(Monoid.PARALLEL_THRESHOLD).isEmpty()) {
+      return m.combineAll(as);
+    }
+
+    // the segments must be forked from inside the pool, otherwise they run on the common pool
+    return pool.invoke(new RecursiveTask<A>() {
+      @Override
+      protected A compute() {
+        return combineSegments(m, as);
+      }
+    });
+  }
+
+  /**
+   * Fork a task for each segment of PARALLEL_THRESHOLD values,
+   * then combine the results of the segments in order.
+   *
+   * @param m   the Monoid used to combine values
+   * @param as  the values to combine
+   * @param <A> the type of the values being combined
+   * @return the combination of all the values in as
+   */
+  private static <A> A combineSegments(final Monoid<A> m, final List<A> as) {
+    final ArrayList<CombineAllTask<A>> tasks = new ArrayList<>();
+    List<A> rest = as;
+
+    while (!rest.isEmpty()) {
+      final List<A> next = rest.drop(Monoid.PARALLEL_THRESHOLD);
+      final int length = next.isEmpty() ? rest.length() : Monoid.PARALLEL_THRESHOLD;
+      final CombineAllTask<A> task = new CombineAllTask<>(m, rest, length);
+      task.fork();
+      tasks.add(task);
+      rest = next;
+    }
+
+    final ArrayList<A> results = new ArrayList<>(tasks.size());
+
+    for (final CombineAllTask<A> task : tasks) {
+      results.add(task.join());
+    }
+
+    return m.combineAll(results);
+  }
+
+  /**
+   * Combine the values in this task's segment.
+   *
+   * @return the combination of the values in this task's segment
+   */
+  @Override
+  protected A compute() {
+    return m.combineAll(this);
+  }
+
+  /**
+   * An Iterator over the values in this task's segment.
+   *
+   * @return an Iterator over the values in this task's segment
+   */
+  @Override
+  public Iterator<A> iterator() {
+    return new Iterator<A>() {
+      private List<A> rest = start;
+      private int remaining = length;
+
+      @Override
+      public boolean hasNext() {
+        return remaining > 0;
+      }
+
+      @Override
+      public A next() {
+        if (remaining == 0) {
+          throw new NoSuchElementException();
+        }
+        final A head = rest.getHead();
+        rest = rest.getTail();
+        remaining--;
+        return head;
+      }
+    };
+  }
+}
@@ -2,10 +2,16 @@ package ca.genovese.coffeecats.structures;
 
 
 import ca.genovese.coffeecats.data.Unit;
+import ca.genovese.coffeecats.data.tuple.ObjDoublePair;
+import ca.genovese.coffeecats.data.tuple.ObjIntPair;
+import ca.genovese.coffeecats.data.tuple.ObjLongPair;
 import ca.genovese.coffeecats.data.tuple.Tuple2;
 import ca.genovese.coffeecats.kind.Kind;
 
 import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 /**
  * A CovariantFunctor.
@@ -104,6 +110,48 @@ public interface CovariantFunctor<F> extends InvariantFunctor<F> {
     return map(fa, a -> new Tuple2<>(a, f.apply(a)));
   }
 
+  /**
+   * Pair the values in fa with the int result of applying a function with the value,
+   * without boxing the result.
+   *
+   * @param fa  the input {@code F<A>}
+   * @param f   the function to apply
+   * @param <A> the type of the values in fa
+   * @return an {@code F<ObjIntPair<A>>} containing the values from fa as the first
+   *     element in the pair and the output of f.applyAsInt(a) as the second element.
+   */
+  default <A> Kind<F, ObjIntPair<A>> fproductInt(final Kind<F, A> fa, final ToIntFunction<A> f) {
+    return map(fa, a -> new ObjIntPair<>(a, f.applyAsInt(a)));
+  }
+
+  /**
+   * Pair the values in fa with the long result of applying a function with the value,
+   * without boxing the result.
+   *
+   * @param fa  the input {@code F<A>}
+   * @param f   the function to apply
+   * @param <A> the type of the values in fa
+   * @return an {@code F<ObjLongPair<A>>} containing the values from fa as the first
+   *     element in the pair and the output of f.applyAsLong(a) as the second element.
+   */
+  default <A> Kind<F, ObjLongPair<A>> fproductLong(final Kind<F, A> fa, final ToLongFunction<A> f) {
+    return map(fa, a -> new ObjLongPair<>(a, f.applyAsLong(a)));
+  }
+
+  /**
+   * Pair the values in fa with the double result of applying a function with the value,
+   * without boxing the result.
+   *
+   * @param fa  the input {@code F<A>}
+   * @param f   the function to apply
+   * @param <A> the type of the values in fa
+   * @return an {@code F<ObjDoublePair<A>>} containing the values from fa as the first
+   *     element in the pair and the output of f.applyAsDouble(a) as the second element.
+   */
+  default <A> Kind<F, ObjDoublePair<A>> fproductDouble(final Kind<F, A> fa, final ToDoubleFunction<A> f) {
+    return map(fa, a -> new ObjDoublePair<>(a, f.applyAsDouble(a)));
+  }
+
   /**
    * Replaces the `A` value in `F[A]` with the supplied value.
    *
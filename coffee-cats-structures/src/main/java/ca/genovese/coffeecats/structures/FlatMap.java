@@ -0,0 +1,68 @@
+package ca.genovese.coffeecats.structures;
+
+import ca.genovese.coffeecats.data.either.Either;
+import ca.genovese.coffeecats.kind.Kind;
+
+import java.util.function.Function;
+
+/**
+ * A FlatMap, an Apply which can sequence computations that depend on the values in its context.
+ *
+ * <p>Implementations must provide a tailRecM which runs in constant stack space,
+ * regardless of how many times f returns a Left, so that loops written with
+ * tailRecM are safe for any number of iterations.
+ *
+ * <p>Must obey the laws defined in FlatMapLaws.
+ *
+ * @param <F> the datatype for this FlatMap
+ */
+public interface FlatMap<F> extends Apply<F> {
+  /**
+   * Apply a function returning an {@code F<B>} to the values in fa, and flatten the result.
+   *
+   * @param fa  an {@code F<A>}
+   * @param f   the function to apply
+   * @param <A> the input type
+   * @param <B> the output type
+   * @return an {@code F<B>}
+   */
+  <A, B> Kind<F, B> flatMap(final Kind<F, A> fa, final Function<A, Kind<F, B>> f);
+
+  /**
+   * Repeatedly apply f, starting with a, to each Left it produces, until it produces only Rights.
+   *
+   * <p>This must run in constant stack space.
+   *
+   * @param a   the starting value
+   * @param f   the step function, returning a Left to continue or a Right to finish
+   * @param <A> the type of the intermediate values
+   * @param <B> the output type
+   * @return an {@code F<B>} of the values of the Rights produced by f
+   */
+  <A, B> Kind<F, B> tailRecM(final A a, final Function<A, Kind<F, Either<A, B>>> f);
+
+  /**
+   * Remove one level of nesting.
+   *
+   * @param ffa an {@code F<F<A>>}
+   * @param <A> the type of the values in ffa
+   * @return an {@code F<A>}
+   */
+  default <A> Kind<F, A> flatten(final Kind<F, Kind<F, A>> ffa) {
+    return flatMap(ffa, Function.identity());
+  }
+
+  /**
+   * Implementation of Apply.ap derived from FlatMap.flatMap.
+   *
+   * @param ff  an {@code F<Function<A, B>>}
+   * @param fa  an {@code F<A>}
+   * @param <A> the input type
+   * @param <B> the output type
+   * @return an {@code F<B>}
+   */
+  @Override
+  default <A, B> Kind<F, B> ap(final Kind<F, Function<A, B>> ff, final Kind<F, A> fa) {
+    return flatMap(ff, f -> map(fa, f));
+  }
+}
@@ -0,0 +1,31 @@
+package ca.genovese.coffeecats.structures;
+
+import ca.genovese.coffeecats.kind.Kind;
+
+import java.util.function.Function;
+
+/**
+ * A Monad, both a FlatMap and an Applicative.
+ *
+ * <p>An implementation needs only pure, flatMap and a stack safe tailRecM,
+ * but should override map where it can be done more directly.
+ *
+ * <p>Must obey the laws defined in MonadLaws.
+ *
+ * @param <F> the datatype for this Monad
+ */
+public interface Monad<F> extends FlatMap<F>, Applicative<F> {
+  /**
+   * Implementation of CovariantFunctor.map derived from FlatMap.flatMap and Applicative.pure.
+   *
+   * @param fa  an {@code F<A>}
+   * @param f   the function to apply
+   * @param <A> the input type
+   * @param <B> the output type
+   * @return an {@code F<B>}
+   */
+  @Override
+  default <A, B> Kind<F, B> map(final Kind<F, A> fa, final Function<A, B> f) {
+    return flatMap(fa, a -> pure(f.apply(a)));
+  }
+}
@@ -0,0 +1,94 @@
+package ca.genovese.coffeecats.structures;
+
+import ca.genovese.coffeecats.data.list.List;
+import ca.genovese.coffeecats.data.option.Option;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * A Monoid is a Semigroup with an identity element.
+ *
+ * <p>Must obey the laws defined in MonoidLaws.
+ *
+ * @param <A> the type for which this is a Monoid
+ */
+public interface Monoid<A> extends Semigroup<A> {
+  /**
+   * The largest number of values which combineAllParallel
+   * combines sequentially on the calling thread.
+   */
+  int PARALLEL_THRESHOLD = 4096;
+
+  /**
+   * The identity element, combining any value with empty returns that value.
+   *
+   * @return the identity element
+   */
+  A empty();
+
+  /**
+   * Combine a value with itself n times.
+   *
+   * @param a the value to combine with itself
+   * @param n the number of times a appears in the result, must be greater than or equal to 0
+   * @return a combined with itself n times, or empty if n is 0
+   */
+  @Override
+  default A combineN(final A a, final int n) {
+    return n == 0 ? empty() : Semigroup.super.combineN(a, n);
+  }
+
+  /**
+   * Combine all the values in as, in order.
+   *
+   * @param as the values to combine
+   * @return the combination of all the values in as, or empty if as is empty
+   */
+  default A combineAll(final Iterable<A> as) {
+    A result = empty();
+
+    for (final A a : as) {
+      result = combine(result, a);
+    }
+
+    return result;
+  }
+
+  /**
+   * Combine all the values in as, in order, with combineAll, so that a Monoid which
+   * overrides combineAll to be faster than a left fold is faster here too.
+   *
+   * @param as the values to combine
+   * @return None if as is empty, Some of the combined values otherwise
+   */
+  @Override
+  default Option<A> combineAllOption(final Iterable<A> as) {
+    return as.iterator().hasNext() ? Option.some(combineAll(as)) : Option.none();
+  }
+
+  /**
+   * Combine all the values in as, in order, using the common ForkJoinPool.
+   *
+   * @param as the values to combine
+   * @return the combination of all the values in as, or empty if as is empty
+   * @see #combineAllParallel(List, ForkJoinPool)
+   */
+  default A combineAllParallel(final List<A> as) {
+    return combineAllParallel(as, ForkJoinPool.commonPool());
+  }
+
+  /**
+   * Combine all the values in as, in order, splitting the work across a ForkJoinPool.
+   *
+   * <p>Associativity means the values can be split into chunks which are combined
+   * independently and then combined with each other. Inputs no larger than
+   * PARALLEL_THRESHOLD are combined sequentially with combineAll.
+   *
+   * @param as   the values to combine
+   * @param pool the ForkJoinPool on which to combine chunks
+   * @return the combination of all the values in as, or empty if as is empty
+   */
+  default A combineAllParallel(final List<A> as, final ForkJoinPool pool) {
+    return CombineAllTask.combineAll(this, as, pool);
+  }
+}
@@ -0,0 +1,76 @@
+package ca.genovese.coffeecats.structures;
+
+import ca.genovese.coffeecats.data.option.Option;
+
+import java.util.Iterator;
+
+/**
+ * A Semigroup is a type with an associative binary operation.
+ *
+ * <p>Must obey the laws defined in SemigroupLaws.
+ *
+ * @param <A> the type for which this is a Semigroup
+ */
+public interface Semigroup<A> {
+  /**
+   * Associative operation taking two values and combining them into one.
+   *
+   * @param x the first value
+   * @param y the second value
+   * @return the combination of x and y
+   */
+  A combine(final A x, final A y);
+
+  /**
+   * Combine a value with itself n times.
+   *
+   * <p>Associativity allows this to be done with O(log n) calls to combine
+   * by repeatedly squaring the value.
+   *
+   * @param a the value to combine with itself
+   * @param n the number of times a appears in the result, must be greater than 0
+   * @return a combined with itself n times
+   */
+  default A combineN(final A a, final int n) {
+    if (n <= 0) {
+      throw new IllegalArgumentException("Repeated combining for semigroups must have n > 0");
+    }
+
+    A base = a;
+    A result = null;
+    int k = n;
+
+    while (true) {
+      if ((k & 1) == 1) {
+        result = result == null ? base : combine(result, base);
+      }
+      k >>>= 1;
+      if (k == 0) {
+        return result;
+      }
+      base = combine(base, base);
+    }
+  }
+
+  /**
+   * Combine all the values in as, in order.
+   *
+   * @param as the values to combine
+   * @return None if as is empty, Some of the combined values otherwise
+   */
+  default Option<A> combineAllOption(final Iterable<A> as) {
+    final Iterator<A> it = as.iterator();
+
+    if (!it.hasNext()) {
+      return Option.none();
+    }
+
+    A result = it.next();
+
+    while (it.hasNext()) {
+      result = combine(result, it.next());
+    }
+
+    return Option.some(result);
+  }
+}